@@ -21,8 +21,12 @@ import java.util.function.Supplier;
 
 import org.springframework.boot.context.properties.PropertyMapper;
 import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.FailurePercentageEjection;
 import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.Health;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.OutlierDetection;
 import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.Ssl;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.SuccessRateEjection;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.WeightedRoundRobin;
 import org.springframework.util.ObjectUtils;
 
 /**
@@ -88,6 +92,9 @@ final class ChannelConfigUtils {
 			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::isKeepAliveWithoutCalls,
 					channel::isKeepAliveWithoutCalls))
 			.to(channel::setKeepAliveWithoutCalls);
+		map.from(channelDefaultsConfig::isLazy)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::isLazy, channel::isLazy))
+			.to(channel::setLazy);
 		map.from(channelDefaultsConfig::getMaxInboundMessageSize)
 			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getMaxInboundMessageSize,
 					channel::getMaxInboundMessageSize))
@@ -99,14 +106,28 @@ final class ChannelConfigUtils {
 		map.from(channelDefaultsConfig::getNegotiationType)
 			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getNegotiationType, channel::getNegotiationType))
 			.to(channel::setNegotiationType);
+		map.from(channelDefaultsConfig::isRefreshable)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::isRefreshable, channel::isRefreshable))
+			.to(channel::setRefreshable);
 		map.from(channelDefaultsConfig::isSecure)
 			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::isSecure, channel::isSecure))
 			.to(channel::setSecure);
 		map.from(channelDefaultsConfig::getUserAgent)
 			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getUserAgent, channel::getUserAgent))
 			.to(channel::setUserAgent);
+		map.from(channelDefaultsConfig::isWarmup)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::isWarmup, channel::isWarmup))
+			.to(channel::setWarmup);
+		map.from(channelDefaultsConfig::getWarmupMethod)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getWarmupMethod, channel::getWarmupMethod))
+			.to(channel::setWarmupMethod);
+		map.from(channelDefaultsConfig::getWarmupTimeout)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getWarmupTimeout, channel::getWarmupTimeout))
+			.to(channel::setWarmupTimeout);
 		this.applyDefaultsIfNecessary(channel.getHealth(), channelDefaultsConfig.getHealth());
 		this.applyDefaultsIfNecessary(channel.getSsl(), channelDefaultsConfig.getSsl());
+		this.applyDefaultsIfNecessary(channel.getOutlierDetection(), channelDefaultsConfig.getOutlierDetection());
+		this.applyDefaultsIfNecessary(channel.getWeightedRoundRobin(), channelDefaultsConfig.getWeightedRoundRobin());
 		map.from(channelDefaultsConfig::getServiceConfig)
 			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getServiceConfig, channel::getServiceConfig))
 			.to((channelDefaultsServiceConfig) -> {
@@ -137,6 +158,115 @@ final class ChannelConfigUtils {
 		map.from(channelDefaultsConfigSsl::getBundle)
 			.when(notModifiedByUserAndDefaultsSpecified(baseConfigSsl::getBundle, channelSsl::getBundle))
 			.to(channelSsl::setBundle);
+		map.from(channelDefaultsConfigSsl::getProvider)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigSsl::getProvider, channelSsl::getProvider))
+			.to(channelSsl::setProvider);
+		map.from(channelDefaultsConfigSsl::getSessionCacheSize)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigSsl::getSessionCacheSize,
+					channelSsl::getSessionCacheSize))
+			.to(channelSsl::setSessionCacheSize);
+		map.from(channelDefaultsConfigSsl::getSessionTimeout)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigSsl::getSessionTimeout,
+					channelSsl::getSessionTimeout))
+			.to(channelSsl::setSessionTimeout);
+	}
+
+	void applyDefaultsIfNecessary(OutlierDetection outlierDetection, OutlierDetection outlierDetectionDefaults) {
+		PropertyMapper map = PropertyMapper.get();
+		OutlierDetection baseConfig = new ChannelConfig().getOutlierDetection();
+		map.from(outlierDetectionDefaults::isEnabled)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::isEnabled, outlierDetection::isEnabled))
+			.to(outlierDetection::setEnabled);
+		map.from(outlierDetectionDefaults::getInterval)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getInterval, outlierDetection::getInterval))
+			.to(outlierDetection::setInterval);
+		map.from(outlierDetectionDefaults::getBaseEjectionTime)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getBaseEjectionTime,
+					outlierDetection::getBaseEjectionTime))
+			.to(outlierDetection::setBaseEjectionTime);
+		map.from(outlierDetectionDefaults::getMaxEjectionTime)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getMaxEjectionTime,
+					outlierDetection::getMaxEjectionTime))
+			.to(outlierDetection::setMaxEjectionTime);
+		map.from(outlierDetectionDefaults::getMaxEjectionPercentage)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getMaxEjectionPercentage,
+					outlierDetection::getMaxEjectionPercentage))
+			.to(outlierDetection::setMaxEjectionPercentage);
+		this.applyDefaultsIfNecessary(outlierDetection.getSuccessRateEjection(),
+				outlierDetectionDefaults.getSuccessRateEjection());
+		this.applyDefaultsIfNecessary(outlierDetection.getFailurePercentageEjection(),
+				outlierDetectionDefaults.getFailurePercentageEjection());
+	}
+
+	void applyDefaultsIfNecessary(SuccessRateEjection ejection, SuccessRateEjection ejectionDefaults) {
+		PropertyMapper map = PropertyMapper.get();
+		SuccessRateEjection baseConfig = new ChannelConfig().getOutlierDetection().getSuccessRateEjection();
+		map.from(ejectionDefaults::isEnabled)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::isEnabled, ejection::isEnabled))
+			.to(ejection::setEnabled);
+		map.from(ejectionDefaults::getStdevFactor)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getStdevFactor, ejection::getStdevFactor))
+			.to(ejection::setStdevFactor);
+		map.from(ejectionDefaults::getEnforcementPercentage)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getEnforcementPercentage,
+					ejection::getEnforcementPercentage))
+			.to(ejection::setEnforcementPercentage);
+		map.from(ejectionDefaults::getMinimumHosts)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getMinimumHosts, ejection::getMinimumHosts))
+			.to(ejection::setMinimumHosts);
+		map.from(ejectionDefaults::getRequestVolume)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getRequestVolume, ejection::getRequestVolume))
+			.to(ejection::setRequestVolume);
+	}
+
+	void applyDefaultsIfNecessary(FailurePercentageEjection ejection, FailurePercentageEjection ejectionDefaults) {
+		PropertyMapper map = PropertyMapper.get();
+		FailurePercentageEjection baseConfig = new ChannelConfig().getOutlierDetection().getFailurePercentageEjection();
+		map.from(ejectionDefaults::isEnabled)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::isEnabled, ejection::isEnabled))
+			.to(ejection::setEnabled);
+		map.from(ejectionDefaults::getThreshold)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getThreshold, ejection::getThreshold))
+			.to(ejection::setThreshold);
+		map.from(ejectionDefaults::getEnforcementPercentage)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getEnforcementPercentage,
+					ejection::getEnforcementPercentage))
+			.to(ejection::setEnforcementPercentage);
+		map.from(ejectionDefaults::getMinimumHosts)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getMinimumHosts, ejection::getMinimumHosts))
+			.to(ejection::setMinimumHosts);
+		map.from(ejectionDefaults::getRequestVolume)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getRequestVolume, ejection::getRequestVolume))
+			.to(ejection::setRequestVolume);
+	}
+
+	void applyDefaultsIfNecessary(WeightedRoundRobin channelWrr, WeightedRoundRobin channelDefaultsConfigWrr) {
+		PropertyMapper map = PropertyMapper.get();
+		WeightedRoundRobin baseConfigWrr = new ChannelConfig().getWeightedRoundRobin();
+		map.from(channelDefaultsConfigWrr::isEnableOobLoadReport)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigWrr::isEnableOobLoadReport,
+					channelWrr::isEnableOobLoadReport))
+			.to(channelWrr::setEnableOobLoadReport);
+		map.from(channelDefaultsConfigWrr::getOobReportingPeriod)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigWrr::getOobReportingPeriod,
+					channelWrr::getOobReportingPeriod))
+			.to(channelWrr::setOobReportingPeriod);
+		map.from(channelDefaultsConfigWrr::getBlackoutPeriod)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigWrr::getBlackoutPeriod,
+					channelWrr::getBlackoutPeriod))
+			.to(channelWrr::setBlackoutPeriod);
+		map.from(channelDefaultsConfigWrr::getWeightExpirationPeriod)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigWrr::getWeightExpirationPeriod,
+					channelWrr::getWeightExpirationPeriod))
+			.to(channelWrr::setWeightExpirationPeriod);
+		map.from(channelDefaultsConfigWrr::getWeightUpdatePeriod)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigWrr::getWeightUpdatePeriod,
+					channelWrr::getWeightUpdatePeriod))
+			.to(channelWrr::setWeightUpdatePeriod);
+		map.from(channelDefaultsConfigWrr::getErrorUtilizationPenalty)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigWrr::getErrorUtilizationPenalty,
+					channelWrr::getErrorUtilizationPenalty))
+			.to(channelWrr::setErrorUtilizationPenalty);
 	}
 
 	private static <T> Predicate<T> notModifiedByUserAndDefaultsSpecified(Supplier<T> baseConfigValueSupplier,
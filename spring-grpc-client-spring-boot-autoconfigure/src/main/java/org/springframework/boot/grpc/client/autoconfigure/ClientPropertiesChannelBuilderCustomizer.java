@@ -16,15 +16,26 @@
 
 package org.springframework.boot.grpc.client.autoconfigure;
 
+import java.math.BigDecimal;
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.boot.context.properties.PropertyMapper;
 import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.FailurePercentageEjection;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.OutlierDetection;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.SuccessRateEjection;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.WeightedRoundRobin;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.DeadlinePropagation;
 import org.springframework.grpc.client.GrpcChannelBuilderCustomizer;
+import org.springframework.grpc.client.interceptor.DeadlinePropagationClientInterceptor;
 import org.springframework.grpc.client.interceptor.DefaultDeadlineSetupClientInterceptor;
 import org.springframework.util.unit.DataSize;
 
@@ -41,6 +52,10 @@ import io.grpc.ManagedChannelBuilder;
 class ClientPropertiesChannelBuilderCustomizer<T extends ManagedChannelBuilder<T>>
 		implements GrpcChannelBuilderCustomizer<T> {
 
+	private static final String WEIGHTED_ROUND_ROBIN = "weighted_round_robin";
+
+	private static final String OUTLIER_DETECTION = "outlier_detection_experimental";
+
 	private final GrpcClientProperties properties;
 
 	ClientPropertiesChannelBuilderCustomizer(GrpcClientProperties properties) {
@@ -52,7 +67,8 @@ class ClientPropertiesChannelBuilderCustomizer<T extends ManagedChannelBuilder<T
 		ChannelConfig channel = this.properties.getChannel(target);
 		PropertyMapper mapper = PropertyMapper.get();
 		mapper.from(channel.getUserAgent()).to(builder::userAgent);
-		if (targetAllowsLoadBalancer(target)) {
+		boolean allowsLoadBalancer = targetAllowsLoadBalancer(target);
+		if (allowsLoadBalancer) {
 			mapper.from(channel.getDefaultLoadBalancingPolicy()).to(builder::defaultLoadBalancingPolicy);
 		}
 		mapper.from(channel.getMaxInboundMessageSize()).asInt(DataSize::toBytes).to(builder::maxInboundMessageSize);
@@ -67,9 +83,21 @@ class ClientPropertiesChannelBuilderCustomizer<T extends ManagedChannelBuilder<T
 					? channel.getHealth().getServiceName() : "";
 			defaultServiceConfig.put("healthCheckConfig", Map.of("serviceName", serviceNameToCheck));
 		}
+		Map<String, Object> loadBalancingConfig = allowsLoadBalancer ? loadBalancingConfig(channel) : null;
+		if (loadBalancingConfig != null) {
+			// the typed settings need the policy in the service config, where a
+			// user-provided load balancing config still wins
+			defaultServiceConfig.putIfAbsent("loadBalancingConfig", List.of(loadBalancingConfig));
+		}
 		if (!defaultServiceConfig.isEmpty()) {
 			builder.defaultServiceConfig(defaultServiceConfig);
 		}
+		DeadlinePropagation deadlinePropagation = this.properties.getDeadlinePropagation();
+		if (deadlinePropagation.getEnabled()) {
+			// added first so that it runs after the default deadline is set
+			builder.intercept(new DeadlinePropagationClientInterceptor(deadlinePropagation.getSafetyMargin(),
+					deadlinePropagation.getMinimumBudgets()));
+		}
 		if (channel.getDefaultDeadline() != null && channel.getDefaultDeadline().toMillis() > 0L) {
 			builder.intercept(new DefaultDeadlineSetupClientInterceptor(channel.getDefaultDeadline()));
 		}
@@ -81,6 +109,61 @@ class ClientPropertiesChannelBuilderCustomizer<T extends ManagedChannelBuilder<T
 				&& !targetUri.startsWith("in-process:");
 	}
 
+	private @Nullable Map<String, Object> loadBalancingConfig(ChannelConfig channel) {
+		String policy = channel.getDefaultLoadBalancingPolicy();
+		Map<String, Object> policyConfig = WEIGHTED_ROUND_ROBIN.equals(policy)
+				? weightedRoundRobinConfig(channel.getWeightedRoundRobin()) : null;
+		if (!channel.getOutlierDetection().isEnabled()) {
+			return (policyConfig != null) ? Map.of(policy, policyConfig) : null;
+		}
+		Map<String, Object> childPolicy = Map.of(policy, (policyConfig != null) ? policyConfig : Map.of());
+		return Map.of(OUTLIER_DETECTION, outlierDetectionConfig(channel.getOutlierDetection(), childPolicy));
+	}
+
+	private Map<String, Object> outlierDetectionConfig(OutlierDetection outlierDetection,
+			Map<String, Object> childPolicy) {
+		Map<String, Object> config = new LinkedHashMap<>();
+		config.put("interval", durationValue(outlierDetection.getInterval()));
+		config.put("baseEjectionTime", durationValue(outlierDetection.getBaseEjectionTime()));
+		config.put("maxEjectionTime", durationValue(outlierDetection.getMaxEjectionTime()));
+		// service config numbers must be doubles
+		config.put("maxEjectionPercentage", (double) outlierDetection.getMaxEjectionPercentage());
+		SuccessRateEjection successRateEjection = outlierDetection.getSuccessRateEjection();
+		if (successRateEjection.isEnabled()) {
+			config.put("successRateEjection",
+					Map.of("stdevFactor", (double) successRateEjection.getStdevFactor(), "enforcementPercentage",
+							(double) successRateEjection.getEnforcementPercentage(), "minimumHosts",
+							(double) successRateEjection.getMinimumHosts(), "requestVolume",
+							(double) successRateEjection.getRequestVolume()));
+		}
+		FailurePercentageEjection failurePercentageEjection = outlierDetection.getFailurePercentageEjection();
+		if (failurePercentageEjection.isEnabled()) {
+			config.put("failurePercentageEjection",
+					Map.of("threshold", (double) failurePercentageEjection.getThreshold(), "enforcementPercentage",
+							(double) failurePercentageEjection.getEnforcementPercentage(), "minimumHosts",
+							(double) failurePercentageEjection.getMinimumHosts(), "requestVolume",
+							(double) failurePercentageEjection.getRequestVolume()));
+		}
+		config.put("childPolicy", List.of(childPolicy));
+		return config;
+	}
+
+	private Map<String, Object> weightedRoundRobinConfig(WeightedRoundRobin weightedRoundRobin) {
+		Map<String, Object> config = new LinkedHashMap<>();
+		config.put("enableOobLoadReport", weightedRoundRobin.isEnableOobLoadReport());
+		config.put("oobReportingPeriod", durationValue(weightedRoundRobin.getOobReportingPeriod()));
+		config.put("blackoutPeriod", durationValue(weightedRoundRobin.getBlackoutPeriod()));
+		config.put("weightExpirationPeriod", durationValue(weightedRoundRobin.getWeightExpirationPeriod()));
+		config.put("weightUpdatePeriod", durationValue(weightedRoundRobin.getWeightUpdatePeriod()));
+		config.put("errorUtilizationPenalty", weightedRoundRobin.getErrorUtilizationPenalty());
+		return config;
+	}
+
+	// Formats a duration as the JSON representation of a protobuf Duration (e.g. '1.5s')
+	private String durationValue(Duration duration) {
+		return BigDecimal.valueOf(duration.toNanos(), 9).stripTrailingZeros().toPlainString() + "s";
+	}
+
 	Consumer<Duration> durationProperty(BiConsumer<Long, TimeUnit> setter) {
 		return (duration) -> setter.accept(duration.toNanos(), TimeUnit.NANOSECONDS);
 	}
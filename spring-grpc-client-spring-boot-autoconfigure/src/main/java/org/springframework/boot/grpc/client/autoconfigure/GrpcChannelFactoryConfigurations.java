@@ -19,20 +19,26 @@ package org.springframework.boot.grpc.client.autoconfigure;
 import java.util.List;
 
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.grpc.client.ChannelCredentialsProvider;
+import org.springframework.grpc.client.ChannelWarmup;
 import org.springframework.grpc.client.ClientInterceptorFilter;
 import org.springframework.grpc.client.ClientInterceptorsConfigurer;
+import org.springframework.grpc.client.DefaultGrpcChannelFactory;
 import org.springframework.grpc.client.GrpcChannelBuilderCustomizer;
 import org.springframework.grpc.client.GrpcChannelFactory;
 import org.springframework.grpc.client.InProcessGrpcChannelFactory;
+import org.springframework.grpc.client.LocalServerGrpcChannelFactory;
 import org.springframework.grpc.client.NettyGrpcChannelFactory;
 import org.springframework.grpc.client.ShadedNettyGrpcChannelFactory;
+import org.springframework.grpc.server.LocalGrpcServer;
 
 import io.grpc.Channel;
 import io.grpc.inprocess.InProcessChannelBuilder;
@@ -45,6 +51,16 @@ import io.grpc.netty.NettyChannelBuilder;
  */
 class GrpcChannelFactoryConfigurations {
 
+	private static void applyChannelProperties(DefaultGrpcChannelFactory<?> factory, GrpcClientProperties properties) {
+		factory.setVirtualTargets(properties);
+		factory.setLazyTargets((target) -> properties.getChannel(target).isLazy());
+		factory.setRefreshableTargets((target) -> properties.getChannel(target).isRefreshable());
+		factory.setWarmups((target) -> {
+			ChannelConfig channel = properties.getChannel(target);
+			return channel.isWarmup() ? new ChannelWarmup(channel.getWarmupTimeout(), channel.getWarmupMethod()) : null;
+		});
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@ConditionalOnClass({ io.grpc.netty.shaded.io.netty.channel.Channel.class,
 			io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder.class })
@@ -64,8 +80,9 @@ class GrpcChannelFactoryConfigurations {
 				.of(channelBuilderCustomizers::customize);
 			ShadedNettyGrpcChannelFactory factory = new ShadedNettyGrpcChannelFactory(builderCustomizers,
 					interceptorsConfigurer);
+			new ShadedNettyChannelFactoryPropertyMapper(properties).customizeChannelFactory(factory);
 			factory.setCredentialsProvider(credentials);
-			factory.setVirtualTargets(properties);
+			applyChannelProperties(factory, properties);
 			channelFactoryCustomizers.orderedStream().forEach((customizer) -> customizer.customize(factory));
 			return factory;
 		}
@@ -89,8 +106,9 @@ class GrpcChannelFactoryConfigurations {
 			List<GrpcChannelBuilderCustomizer<NettyChannelBuilder>> builderCustomizers = List
 				.of(channelBuilderCustomizers::customize);
 			NettyGrpcChannelFactory factory = new NettyGrpcChannelFactory(builderCustomizers, interceptorsConfigurer);
+			new NettyChannelFactoryPropertyMapper(properties).customizeChannelFactory(factory);
 			factory.setCredentialsProvider(credentials);
-			factory.setVirtualTargets(properties);
+			applyChannelProperties(factory, properties);
 			channelFactoryCustomizers.orderedStream().forEach((customizer) -> customizer.customize(factory));
 			return factory;
 		}
@@ -118,7 +136,33 @@ class GrpcChannelFactoryConfigurations {
 			if (interceptorFilter != null) {
 				factory.setInterceptorFilter(interceptorFilter.getIfAvailable(() -> null));
 			}
-			factory.setVirtualTargets(properties);
+			applyChannelProperties(factory, properties);
+			channelFactoryCustomizers.orderedStream().forEach((customizer) -> customizer.customize(factory));
+			return factory;
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(InProcessChannelBuilder.class)
+	@ConditionalOnBean(LocalGrpcServer.class)
+	@EnableConfigurationProperties(GrpcClientProperties.class)
+	static class LocalServerChannelFactoryConfiguration {
+
+		@Bean
+		LocalServerGrpcChannelFactory localServerGrpcChannelFactory(LocalGrpcServer localServer,
+				GrpcClientProperties properties, ChannelBuilderCustomizers channelBuilderCustomizers,
+				ClientInterceptorsConfigurer interceptorsConfigurer,
+				ObjectProvider<ClientInterceptorFilter> interceptorFilter,
+				ObjectProvider<GrpcChannelFactoryCustomizer> channelFactoryCustomizers,
+				ChannelCredentialsProvider credentials) {
+			List<GrpcChannelBuilderCustomizer<InProcessChannelBuilder>> builderCustomizers = List
+				.of(channelBuilderCustomizers::customize);
+			LocalServerGrpcChannelFactory factory = new LocalServerGrpcChannelFactory(localServer, builderCustomizers,
+					interceptorsConfigurer);
+			factory.setInterceptorFilter(interceptorFilter.getIfAvailable());
+			factory.setCredentialsProvider(credentials);
+			applyChannelProperties(factory, properties);
 			channelFactoryCustomizers.orderedStream().forEach((customizer) -> customizer.customize(factory));
 			return factory;
 		}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.client.autoconfigure;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.Environment;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.grpc.client.DefaultGrpcChannelFactory;
+import org.springframework.grpc.client.GrpcChannelFactory;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Binds a fresh instance of the {@link GrpcClientProperties}, switches the shared
+ * properties over to it and then refreshes the
+ * {@link GrpcClientProperties.ChannelConfig#isRefreshable() refreshable} channels of each
+ * {@link DefaultGrpcChannelFactory} when a {@code spring.grpc.client} property of the
+ * environment changes, so that the channels are rebuilt with their new configuration.
+ * Binding a fresh instance, rather than rebinding the shared one in place, means that
+ * concurrent readers never see a partially bound configuration and that removed
+ * properties do not linger.
+ *
+ * @author Chris Bono
+ */
+class GrpcChannelRefreshListener implements GenericApplicationListener {
+
+	/**
+	 * Name of the event published by Spring Cloud when the environment changes.
+	 */
+	static final String ENVIRONMENT_CHANGE_EVENT = "org.springframework.cloud.context.environment.EnvironmentChangeEvent";
+
+	private static final ConfigurationPropertyName PREFIX = ConfigurationPropertyName.of("spring.grpc.client");
+
+	private final LogAccessor log = new LogAccessor(getClass());
+
+	private final String eventType;
+
+	private final GrpcClientProperties properties;
+
+	private final Environment environment;
+
+	private final ObjectProvider<GrpcChannelFactory> channelFactories;
+
+	GrpcChannelRefreshListener(String eventType, GrpcClientProperties properties, Environment environment,
+			ObjectProvider<GrpcChannelFactory> channelFactories) {
+		this.eventType = eventType;
+		this.properties = properties;
+		this.environment = environment;
+		this.channelFactories = channelFactories;
+	}
+
+	@Override
+	public boolean supportsEventType(ResolvableType eventType) {
+		Class<?> type = eventType.resolve();
+		while (type != null) {
+			if (type.getName().equals(this.eventType)) {
+				return true;
+			}
+			type = type.getSuperclass();
+		}
+		return false;
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationEvent event) {
+		if (!hasChangedGrpcClientProperties(event)) {
+			return;
+		}
+		GrpcClientProperties properties = new GrpcClientProperties();
+		properties.setEnvironment(this.environment);
+		Binder.get(this.environment).bind(PREFIX, Bindable.ofInstance(properties));
+		this.properties.refresh(properties);
+		this.channelFactories.orderedStream().forEach((channelFactory) -> {
+			if (channelFactory instanceof DefaultGrpcChannelFactory<?> defaultChannelFactory) {
+				this.log.debug(() -> "Refreshing channels of " + channelFactory);
+				defaultChannelFactory.refreshChannels();
+			}
+		});
+	}
+
+	private boolean hasChangedGrpcClientProperties(ApplicationEvent event) {
+		Method getKeys = ReflectionUtils.findMethod(event.getClass(), "getKeys");
+		if (getKeys == null) {
+			return false;
+		}
+		ReflectionUtils.makeAccessible(getKeys);
+		if (!(ReflectionUtils.invokeMethod(getKeys, event) instanceof Collection<?> changedKeys)) {
+			return false;
+		}
+		return changedKeys.stream()
+			.map((key) -> ConfigurationPropertyName.adapt(key.toString(), '.'))
+			.anyMatch(PREFIX::isAncestorOf);
+	}
+
+}
@@ -21,6 +21,7 @@ import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.grpc.client.autoconfigure.GrpcClientAutoConfiguration.ClientScanConfiguration;
 import org.springframework.boot.ssl.SslBundles;
@@ -29,22 +30,28 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
 import org.springframework.grpc.client.ChannelCredentialsProvider;
 import org.springframework.grpc.client.ClientInterceptorsConfigurer;
 import org.springframework.grpc.client.CoroutineStubFactory;
+import org.springframework.grpc.client.DefaultGrpcChannelFactory;
 import org.springframework.grpc.client.GrpcChannelBuilderCustomizer;
+import org.springframework.grpc.client.GrpcChannelFactory;
 import org.springframework.grpc.client.GrpcClientFactory;
+import org.springframework.grpc.marshaller.ZeroCopyMarshallerDecorator;
 
 import io.grpc.CompressorRegistry;
 import io.grpc.DecompressorRegistry;
 import io.grpc.ManagedChannelBuilder;
 
-@AutoConfiguration(before = CompositeChannelFactoryAutoConfiguration.class)
+@AutoConfiguration(before = CompositeChannelFactoryAutoConfiguration.class,
+		afterName = "org.springframework.boot.grpc.server.autoconfigure.GrpcServerFactoryAutoConfiguration")
 @ConditionalOnGrpcClientEnabled
 @EnableConfigurationProperties(GrpcClientProperties.class)
 @Import({ GrpcCodecConfiguration.class, GrpcChannelFactoryConfigurations.ShadedNettyChannelFactoryConfiguration.class,
 		GrpcChannelFactoryConfigurations.NettyChannelFactoryConfiguration.class,
-		GrpcChannelFactoryConfigurations.InProcessChannelFactoryConfiguration.class, ClientScanConfiguration.class })
+		GrpcChannelFactoryConfigurations.InProcessChannelFactoryConfiguration.class,
+		GrpcChannelFactoryConfigurations.LocalServerChannelFactoryConfiguration.class, ClientScanConfiguration.class })
 public final class GrpcClientAutoConfiguration {
 
 	/**
@@ -79,6 +86,14 @@ public final class GrpcClientAutoConfiguration {
 		return new NamedChannelCredentialsProvider(bundles, properties);
 	}
 
+	@Bean
+	@ConditionalOnClass(name = GrpcChannelRefreshListener.ENVIRONMENT_CHANGE_EVENT)
+	GrpcChannelRefreshListener grpcChannelRefreshListener(GrpcClientProperties properties, Environment environment,
+			ObjectProvider<GrpcChannelFactory> channelFactories) {
+		return new GrpcChannelRefreshListener(GrpcChannelRefreshListener.ENVIRONMENT_CHANGE_EVENT, properties,
+				environment, channelFactories);
+	}
+
 	@Bean
 	@Order(CLIENT_PROPS_CHANNEL_BUILDER_CUSTOMIZER_ORDER)
 	<T extends ManagedChannelBuilder<T>> GrpcChannelBuilderCustomizer<T> clientPropertiesChannelCustomizer(
@@ -115,6 +130,23 @@ public final class GrpcClientAutoConfiguration {
 
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(name = "spring.grpc.client.zero-copy.enabled", havingValue = "true")
+	static class ZeroCopyMarshallingConfiguration {
+
+		@Bean
+		GrpcChannelFactoryCustomizer grpcClientZeroCopyMarshallingCustomizer(GrpcClientProperties properties) {
+			ZeroCopyMarshallerDecorator decorator = new ZeroCopyMarshallerDecorator(
+					properties.getZeroCopy().getMinMessageSize().toBytes());
+			return (factory) -> {
+				if (factory instanceof DefaultGrpcChannelFactory<?> channelFactory) {
+					channelFactory.addMarshallerDecorator(decorator);
+				}
+			};
+		}
+
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@ConditionalOnClass(name = "io.grpc.kotlin.AbstractCoroutineStub")
 	static class GrpcClientCoroutineStubConfiguration {
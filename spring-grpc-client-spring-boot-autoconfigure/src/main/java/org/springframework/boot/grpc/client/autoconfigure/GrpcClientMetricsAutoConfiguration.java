@@ -0,0 +1,151 @@
+/*
+ * Copyright 2012-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.client.autoconfigure;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.grpc.client.DefaultGrpcChannelFactory;
+import org.springframework.grpc.client.GrpcChannelBuilderCustomizer;
+import org.springframework.grpc.client.NettyGrpcChannelFactory;
+import org.springframework.grpc.client.ShadedNettyGrpcChannelFactory;
+import org.springframework.grpc.compression.AdaptiveCompressionMetrics;
+import org.springframework.grpc.compression.AdaptiveCompressionPolicy;
+import org.springframework.grpc.compression.CompressionPolicyClientInterceptor;
+import org.springframework.grpc.marshaller.InstrumentedMarshallerDecorator;
+import org.springframework.grpc.marshaller.MicrometerMarshallerMetricsRecorder;
+import org.springframework.grpc.netty.InstrumentedEventLoopGroup;
+import org.springframework.grpc.netty.ShadedNettyAllocatorMetrics;
+
+import io.grpc.netty.NettyChannelBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.netty4.NettyAllocatorMetrics;
+import io.netty.buffer.ByteBufAllocatorMetricProvider;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for gRPC client-side metrics.
+ *
+ * @author Chris Bono
+ * @since 1.1.0
+ */
+@AutoConfiguration(after = GrpcClientAutoConfiguration.class,
+		afterName = { "org.springframework.boot.micrometer.metrics.autoconfigure.MetricsAutoConfiguration",
+				"org.springframework.boot.micrometer.metrics.autoconfigure.CompositeMeterRegistryAutoConfiguration" })
+@ConditionalOnGrpcClientEnabled
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+public final class GrpcClientMetricsAutoConfiguration {
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(name = "spring.grpc.client.compression.adaptive.enabled", havingValue = "true")
+	@ConditionalOnBean(CompressionPolicyClientInterceptor.class)
+	static class AdaptiveCompressionMetricsConfiguration {
+
+		@Bean
+		MeterBinder grpcClientAdaptiveCompressionMetrics(CompressionPolicyClientInterceptor interceptor) {
+			return (registry) -> {
+				AdaptiveCompressionPolicy policy = interceptor.getAdaptivePolicy();
+				if (policy != null) {
+					new AdaptiveCompressionMetrics(policy, "grpc.client").bindTo(registry);
+				}
+			};
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(name = "spring.grpc.client.metrics.messages.enabled", havingValue = "true")
+	static class MessageMetricsConfiguration {
+
+		@Bean
+		GrpcChannelFactoryCustomizer grpcClientMessageMetricsCustomizer(MeterRegistry meterRegistry) {
+			InstrumentedMarshallerDecorator decorator = new InstrumentedMarshallerDecorator(
+					new MicrometerMarshallerMetricsRecorder(meterRegistry, "grpc.client"));
+			return (factory) -> {
+				if (factory instanceof DefaultGrpcChannelFactory<?> channelFactory) {
+					channelFactory.addMarshallerDecorator(decorator);
+				}
+			};
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(NettyChannelBuilder.class)
+	@ConditionalOnBean(NettyGrpcChannelFactory.class)
+	static class NettyAllocatorMetricsConfiguration {
+
+		@Bean
+		MeterBinder grpcClientNettyAllocatorMetrics(NettyGrpcChannelFactory factory) {
+			return (registry) -> {
+				if (factory.getAllocator() instanceof ByteBufAllocatorMetricProvider allocator) {
+					new NettyAllocatorMetrics(allocator).bindTo(registry);
+				}
+			};
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder.class)
+	@ConditionalOnBean(ShadedNettyGrpcChannelFactory.class)
+	static class ShadedNettyAllocatorMetricsConfiguration {
+
+		@Bean
+		MeterBinder grpcClientShadedNettyAllocatorMetrics(ShadedNettyGrpcChannelFactory factory) {
+			return (registry) -> {
+				if (factory
+					.getAllocator() instanceof io.grpc.netty.shaded.io.netty.buffer.ByteBufAllocatorMetricProvider allocator) {
+					new ShadedNettyAllocatorMetrics(allocator).bindTo(registry);
+				}
+			};
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(name = "spring.grpc.client.metrics.transport.enabled", havingValue = "true")
+	@ConditionalOnClass(NettyChannelBuilder.class)
+	@ConditionalOnBean(NettyGrpcChannelFactory.class)
+	static class TransportMetricsConfiguration {
+
+		@Bean
+		InstrumentedEventLoopGroup grpcClientEventLoopGroup(MeterRegistry meterRegistry) {
+			return new InstrumentedEventLoopGroup(meterRegistry, "grpc.client", "grpc-client", 0);
+		}
+
+		@Bean
+		GrpcChannelBuilderCustomizer<NettyChannelBuilder> grpcClientEventLoopMetricsCustomizer(
+				InstrumentedEventLoopGroup grpcClientEventLoopGroup, GrpcClientProperties properties) {
+			return (target, builder) -> {
+				// Domain socket channels, including named channels with a 'unix:'
+				// address, already use their own epoll event loop
+				if (!properties.getTarget(target).startsWith("unix:")) {
+					builder.eventLoopGroup(grpcClientEventLoopGroup.getGroup())
+						.channelType(grpcClientEventLoopGroup.getChannelType());
+				}
+			};
+		}
+
+	}
+
+}
@@ -19,12 +19,15 @@ package org.springframework.boot.grpc.client.autoconfigure;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.convert.DataSizeUnit;
 import org.springframework.boot.convert.DurationUnit;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.core.env.Environment;
@@ -33,7 +36,9 @@ import org.springframework.grpc.client.BlockingStubFactory;
 import org.springframework.grpc.client.NegotiationType;
 import org.springframework.grpc.client.StubFactory;
 import org.springframework.grpc.client.VirtualTargets;
+import org.springframework.grpc.netty.TlsProvider;
 import org.springframework.util.unit.DataSize;
+import org.springframework.util.unit.DataUnit;
 
 import io.grpc.ManagedChannel;
 
@@ -52,6 +57,10 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 	 */
 	private final Map<String, ChannelConfig> channels = new HashMap<>();
 
+	private final Compression compression = new Compression();
+
+	private final DeadlinePropagation deadlinePropagation = new DeadlinePropagation();
+
 	/**
 	 * The default channel configuration which is used as a template when creating new
 	 * channels and as the default channel for automatic client configuration.
@@ -66,6 +75,10 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 	 */
 	private final ChannelConfig channelDefaults = new ChannelConfig();
 
+	private final Netty netty = new Netty();
+
+	private final ZeroCopy zeroCopy = new ZeroCopy();
+
 	/**
 	 * Default stub factory to use for all channels.
 	 */
@@ -75,6 +88,8 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 
 	private ChannelConfigUtils channelConfigUtils;
 
+	private volatile ResolvedChannels resolvedChannels = new ResolvedChannels(this);
+
 	GrpcClientProperties() {
 		this.defaultChannel.setAddress("static://localhost:9090");
 		this.environment = new StandardEnvironment();
@@ -82,19 +97,35 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 	}
 
 	public Map<String, ChannelConfig> getChannels() {
-		return this.channels;
+		return this.resolvedChannels.source.channels;
+	}
+
+	public Compression getCompression() {
+		return this.resolvedChannels.source.compression;
+	}
+
+	public DeadlinePropagation getDeadlinePropagation() {
+		return this.resolvedChannels.source.deadlinePropagation;
 	}
 
 	public ChannelConfig getChannelDefaults() {
-		return this.channelDefaults;
+		return this.resolvedChannels.source.channelDefaults;
 	}
 
 	public ChannelConfig getDefaultChannel() {
-		return this.defaultChannel;
+		return this.resolvedChannels.source.defaultChannel;
+	}
+
+	public Netty getNetty() {
+		return this.resolvedChannels.source.netty;
+	}
+
+	public ZeroCopy getZeroCopy() {
+		return this.resolvedChannels.source.zeroCopy;
 	}
 
 	public Class<? extends StubFactory<?>> getDefaultStubFactory() {
-		return this.defaultStubFactory;
+		return this.resolvedChannels.source.defaultStubFactory;
 	}
 
 	public void setDefaultStubFactory(Class<? extends StubFactory<?>> defaultStubFactory) {
@@ -104,11 +135,33 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 	@Override
 	public void setEnvironment(Environment environment) {
 		this.environment = environment;
+		clearResolvedChannels();
 	}
 
 	// VisibleForTesting
 	void setChannelConfigUtils(ChannelConfigUtils channelConfigUtils) {
 		this.channelConfigUtils = channelConfigUtils;
+		clearResolvedChannels();
+	}
+
+	/**
+	 * Clears the channels and targets resolved by {@link #getChannel(String)} and
+	 * {@link #getTarget(String)} so that they are resolved again from the current
+	 * properties and environment on next access.
+	 */
+	void clearResolvedChannels() {
+		this.resolvedChannels = new ResolvedChannels(this.resolvedChannels.source);
+	}
+
+	/**
+	 * Serves all the properties, including the channels and targets returned by
+	 * {@link #getChannel(String)} and {@link #getTarget(String)}, from the given freshly
+	 * bound properties from now on. The switch is atomic, so that concurrent callers see
+	 * either the previous or the new configuration, never a partially bound one.
+	 * @param source the freshly bound properties
+	 */
+	void refresh(GrpcClientProperties source) {
+		this.resolvedChannels = new ResolvedChannels(source);
 	}
 
 	/**
@@ -125,22 +178,38 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 	 * default channel as a template with channel defaults applied when the channel
 	 * {@link ChannelConfig#inheritDefaults inheritDefaults} property is set to
 	 * {@code true}
+	 * <p>
+	 * The returned channel is a copy that is detached from the bound properties and must
+	 * be treated as read-only. The channels that are configured by name (and the default
+	 * channel) are resolved once and cached until the properties are rebound or the
+	 * environment changes, any other name is resolved on each call.
 	 */
 	public ChannelConfig getChannel(String name) {
+		return getChannel(this.resolvedChannels, name);
+	}
+
+	private ChannelConfig getChannel(ResolvedChannels resolved, String name) {
+		if (!resolved.isConfigured(name)) {
+			return resolveChannel(resolved.source, name);
+		}
+		return resolved.channels.computeIfAbsent(name, (key) -> resolveChannel(resolved.source, key));
+	}
+
+	private ChannelConfig resolveChannel(GrpcClientProperties source, String name) {
 		if ("default".equals(name)) {
-			return this.defaultChannel.isInheritDefaults()
-					? this.channelConfigUtils.applyDefaultsIfNecessary(this.defaultChannel, this.channelDefaults)
-					: this.defaultChannel;
+			ChannelConfig channel = source.defaultChannel.copy();
+			return channel.isInheritDefaults()
+					? this.channelConfigUtils.applyDefaultsIfNecessary(channel, source.channelDefaults) : channel;
 		}
-		ChannelConfig namedChannel = this.channels.get(name);
+		ChannelConfig namedChannel = source.channels.get(name);
 		if (namedChannel != null) {
-			return namedChannel.isInheritDefaults()
-					? this.channelConfigUtils.applyDefaultsIfNecessary(namedChannel, this.channelDefaults)
-					: namedChannel;
+			ChannelConfig channel = namedChannel.copy();
+			return channel.isInheritDefaults()
+					? this.channelConfigUtils.applyDefaultsIfNecessary(channel, source.channelDefaults) : channel;
 		}
-		ChannelConfig newChannel = this.defaultChannel.copy();
+		ChannelConfig newChannel = source.defaultChannel.copy();
 		newChannel = newChannel.isInheritDefaults()
-				? this.channelConfigUtils.applyDefaultsIfNecessary(newChannel, this.channelDefaults) : newChannel;
+				? this.channelConfigUtils.applyDefaultsIfNecessary(newChannel, source.channelDefaults) : newChannel;
 
 		String address = name;
 		if (!name.contains(":/") && !name.startsWith("unix:")) {
@@ -160,7 +229,15 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 
 	@Override
 	public String getTarget(String authority) {
-		ChannelConfig channel = this.getChannel(authority);
+		ResolvedChannels resolved = this.resolvedChannels;
+		if (!resolved.isConfigured(authority)) {
+			return resolveTarget(resolved, authority);
+		}
+		return resolved.targets.computeIfAbsent(authority, (key) -> resolveTarget(resolved, key));
+	}
+
+	private String resolveTarget(ResolvedChannels resolved, String authority) {
+		ChannelConfig channel = getChannel(resolved, authority);
 		String address = channel.getAddress();
 		if (address.startsWith("static:") || address.startsWith("tcp:")) {
 			address = address.substring(address.indexOf(":") + 1).replaceFirst("/*", "");
@@ -168,6 +245,218 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 		return this.environment.resolvePlaceholders(address);
 	}
 
+	/**
+	 * The channels and targets resolved from a bound instance of the properties. Only the
+	 * configured channels are cached, so that the cache is bounded by the configuration
+	 * rather than by the names that are looked up.
+	 */
+	private static final class ResolvedChannels {
+
+		private final GrpcClientProperties source;
+
+		private final Map<String, ChannelConfig> channels = new ConcurrentHashMap<>();
+
+		private final Map<String, String> targets = new ConcurrentHashMap<>();
+
+		ResolvedChannels(GrpcClientProperties source) {
+			this.source = source;
+		}
+
+		boolean isConfigured(String name) {
+			return "default".equals(name) || this.source.channels.containsKey(name);
+		}
+
+	}
+
+	public static class DeadlinePropagation {
+
+		/**
+		 * Whether to propagate the deadline of the incoming server call being handled to
+		 * the outgoing calls of the channels, and to fail those calls locally when the
+		 * remaining budget is below the minimum for the method.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Time subtracted from the deadline of the incoming call, to leave the server
+		 * time to handle the response of the outgoing call.
+		 */
+		private Duration safetyMargin = Duration.ZERO;
+
+		/**
+		 * Map of the minimum remaining deadline budget for a call to be started keyed by
+		 * full method name ('[package.Service/Method]'), service ('[package.Service/*]')
+		 * or '[*]' for all methods.
+		 */
+		private final Map<String, Duration> minimumBudgets = new LinkedHashMap<>();
+
+		public boolean getEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getSafetyMargin() {
+			return this.safetyMargin;
+		}
+
+		public void setSafetyMargin(Duration safetyMargin) {
+			this.safetyMargin = safetyMargin;
+		}
+
+		public Map<String, Duration> getMinimumBudgets() {
+			return this.minimumBudgets;
+		}
+
+	}
+
+	public static class Compression {
+
+		private final Adaptive adaptive = new Adaptive();
+
+		/**
+		 * Whether to advertise the registered decompressors in the 'grpc-accept-encoding'
+		 * header so that peers can compress the responses they send.
+		 */
+		private boolean advertiseDecompressors;
+
+		/**
+		 * Map of request compression encodings (e.g. 'gzip' or 'zstd') keyed by full
+		 * method name ('[package.Service/Method]'), service ('[package.Service/*]') or
+		 * '[*]' for all methods.
+		 */
+		private final Map<String, String> methods = new LinkedHashMap<>();
+
+		/**
+		 * Minimum size of a request message for it to be compressed.
+		 */
+		@DataSizeUnit(DataUnit.BYTES)
+		private DataSize minMessageSize = DataSize.ofKilobytes(1);
+
+		private final Zstd zstd = new Zstd();
+
+		public Adaptive getAdaptive() {
+			return this.adaptive;
+		}
+
+		public boolean isAdvertiseDecompressors() {
+			return this.advertiseDecompressors;
+		}
+
+		public void setAdvertiseDecompressors(boolean advertiseDecompressors) {
+			this.advertiseDecompressors = advertiseDecompressors;
+		}
+
+		public Map<String, String> getMethods() {
+			return this.methods;
+		}
+
+		public DataSize getMinMessageSize() {
+			return this.minMessageSize;
+		}
+
+		public void setMinMessageSize(DataSize minMessageSize) {
+			this.minMessageSize = minMessageSize;
+		}
+
+		public Zstd getZstd() {
+			return this.zstd;
+		}
+
+	}
+
+	public static class Adaptive {
+
+		/**
+		 * Whether to switch compression off for the methods and peers where it does not
+		 * pay off, based on the measured compression ratio and CPU time.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Highest compression ratio (compressed size divided by uncompressed size) for
+		 * which compression stays enabled.
+		 */
+		private double maxRatio = 0.9;
+
+		/**
+		 * Highest CPU time in nanoseconds spent per saved byte for which compression
+		 * stays enabled, or 0 for no limit.
+		 */
+		private long maxNanosPerSavedByte;
+
+		/**
+		 * How often a message is compressed anyway while compression is switched off, to
+		 * notice when it pays off again.
+		 */
+		private int probeInterval = 100;
+
+		public boolean getEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public double getMaxRatio() {
+			return this.maxRatio;
+		}
+
+		public void setMaxRatio(double maxRatio) {
+			this.maxRatio = maxRatio;
+		}
+
+		public long getMaxNanosPerSavedByte() {
+			return this.maxNanosPerSavedByte;
+		}
+
+		public void setMaxNanosPerSavedByte(long maxNanosPerSavedByte) {
+			this.maxNanosPerSavedByte = maxNanosPerSavedByte;
+		}
+
+		public int getProbeInterval() {
+			return this.probeInterval;
+		}
+
+		public void setProbeInterval(int probeInterval) {
+			this.probeInterval = probeInterval;
+		}
+
+	}
+
+	public static class Zstd {
+
+		/**
+		 * Whether to register the zstd codec. Requires zstd-jni on the classpath.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Compression level of the zstd codec.
+		 */
+		private int level = 3;
+
+		public boolean getEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getLevel() {
+			return this.level;
+		}
+
+		public void setLevel(int level) {
+			this.level = level;
+		}
+
+	}
+
 	/**
 	 * Represents the configuration for a {@link ManagedChannel gRPC channel}.
 	 */
@@ -226,6 +515,12 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 		 */
 		private boolean keepAliveWithoutCalls;
 
+		/**
+		 * Whether to defer building and connecting the channel until the first call is
+		 * made on it.
+		 */
+		private boolean lazy;
+
 		/**
 		 * Maximum message size allowed to be received by the channel (default 4MiB). Set
 		 * to '-1' to use the highest possible limit (not recommended).
@@ -243,6 +538,16 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 		 */
 		private NegotiationType negotiationType = NegotiationType.PLAINTEXT;
 
+		private final OutlierDetection outlierDetection = new OutlierDetection();
+
+		/**
+		 * Whether the channel is rebuilt with its current configuration when the channels
+		 * are refreshed, for example after an environment change. Calls in progress
+		 * complete on the previous channel, which is shut down within the shutdown grace
+		 * period.
+		 */
+		private boolean refreshable;
+
 		/**
 		 * Flag to say that strict SSL checks are not enabled (so the remote certificate
 		 * could be anonymous).
@@ -261,6 +566,27 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 		 */
 		private @Nullable String userAgent;
 
+		/**
+		 * Whether to connect the channel when it is created and wait until it is ready,
+		 * so that the first call does not pay for the connection handshakes.
+		 */
+		private boolean warmup;
+
+		/**
+		 * Full name of a unary method to call with an empty request once the channel is
+		 * ready, to prime it further (e.g. 'grpc.health.v1.Health/Check'). The response
+		 * is ignored.
+		 */
+		private @Nullable String warmupMethod;
+
+		/**
+		 * Maximum time to wait for the channel to be ready, and for the warm-up call to
+		 * complete, when warming it up.
+		 */
+		private Duration warmupTimeout = Duration.ofSeconds(10);
+
+		private final WeightedRoundRobin weightedRoundRobin = new WeightedRoundRobin();
+
 		public String getAddress() {
 			return this.address;
 		}
@@ -337,6 +663,14 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 			this.keepAliveWithoutCalls = keepAliveWithoutCalls;
 		}
 
+		public boolean isLazy() {
+			return this.lazy;
+		}
+
+		public void setLazy(boolean lazy) {
+			this.lazy = lazy;
+		}
+
 		public DataSize getMaxInboundMessageSize() {
 			return this.maxInboundMessageSize;
 		}
@@ -375,6 +709,18 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 			this.negotiationType = negotiationType;
 		}
 
+		public OutlierDetection getOutlierDetection() {
+			return this.outlierDetection;
+		}
+
+		public boolean isRefreshable() {
+			return this.refreshable;
+		}
+
+		public void setRefreshable(boolean refreshable) {
+			this.refreshable = refreshable;
+		}
+
 		public boolean isSecure() {
 			return this.secure;
 		}
@@ -399,6 +745,34 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 			this.userAgent = userAgent;
 		}
 
+		public boolean isWarmup() {
+			return this.warmup;
+		}
+
+		public void setWarmup(boolean warmup) {
+			this.warmup = warmup;
+		}
+
+		public @Nullable String getWarmupMethod() {
+			return this.warmupMethod;
+		}
+
+		public void setWarmupMethod(@Nullable String warmupMethod) {
+			this.warmupMethod = warmupMethod;
+		}
+
+		public Duration getWarmupTimeout() {
+			return this.warmupTimeout;
+		}
+
+		public void setWarmupTimeout(Duration warmupTimeout) {
+			this.warmupTimeout = warmupTimeout;
+		}
+
+		public WeightedRoundRobin getWeightedRoundRobin() {
+			return this.weightedRoundRobin;
+		}
+
 		/**
 		 * Provide a copy of the channel instance.
 		 * @return a copy of the channel instance.
@@ -414,14 +788,21 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 			copy.keepAliveTime = this.keepAliveTime;
 			copy.keepAliveTimeout = this.keepAliveTimeout;
 			copy.keepAliveWithoutCalls = this.keepAliveWithoutCalls;
+			copy.lazy = this.lazy;
+			copy.refreshable = this.refreshable;
 			copy.maxInboundMessageSize = this.maxInboundMessageSize;
 			copy.maxInboundMetadataSize = this.maxInboundMetadataSize;
 			copy.userAgent = this.userAgent;
+			copy.warmup = this.warmup;
+			copy.warmupMethod = this.warmupMethod;
+			copy.warmupTimeout = this.warmupTimeout;
 			copy.defaultDeadline = this.defaultDeadline;
 			copy.health.copyValuesFrom(this.getHealth());
 			copy.secure = this.secure;
 			copy.ssl.copyValuesFrom(this.getSsl());
 			copy.serviceConfig.putAll(this.serviceConfig);
+			copy.outlierDetection.copyValuesFrom(this.getOutlierDetection());
+			copy.weightedRoundRobin.copyValuesFrom(this.getWeightedRoundRobin());
 			return copy;
 		}
 
@@ -482,6 +863,26 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 			 */
 			private @Nullable String bundle;
 
+			/**
+			 * TLS implementation to use for Netty channels. When not set, or when none of
+			 * the session properties are set, the generic TLS credentials of gRPC are
+			 * used.
+			 */
+			private @Nullable TlsProvider provider;
+
+			/**
+			 * Size of the TLS session cache. Uses the default of the TLS provider when
+			 * not set.
+			 */
+			private @Nullable Integer sessionCacheSize;
+
+			/**
+			 * How long TLS sessions can be resumed. Uses the default of the TLS provider
+			 * when not set.
+			 */
+			@DurationUnit(ChronoUnit.SECONDS)
+			private @Nullable Duration sessionTimeout;
+
 			public @Nullable Boolean isEnabled() {
 				return this.enabled;
 			}
@@ -502,6 +903,30 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 				this.bundle = bundle;
 			}
 
+			public @Nullable TlsProvider getProvider() {
+				return this.provider;
+			}
+
+			public void setProvider(@Nullable TlsProvider provider) {
+				this.provider = provider;
+			}
+
+			public @Nullable Integer getSessionCacheSize() {
+				return this.sessionCacheSize;
+			}
+
+			public void setSessionCacheSize(@Nullable Integer sessionCacheSize) {
+				this.sessionCacheSize = sessionCacheSize;
+			}
+
+			public @Nullable Duration getSessionTimeout() {
+				return this.sessionTimeout;
+			}
+
+			public void setSessionTimeout(@Nullable Duration sessionTimeout) {
+				this.sessionTimeout = sessionTimeout;
+			}
+
 			/**
 			 * Copies the values from another instance.
 			 * @param other instance to copy values from
@@ -509,10 +934,560 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 			void copyValuesFrom(Ssl other) {
 				this.enabled = other.enabled;
 				this.bundle = other.bundle;
+				this.provider = other.provider;
+				this.sessionCacheSize = other.sessionCacheSize;
+				this.sessionTimeout = other.sessionTimeout;
+			}
+
+		}
+
+		/**
+		 * Settings of the outlier detection of the channel, which temporarily ejects the
+		 * backends whose calls fail more than the others from the load balancing.
+		 */
+		public static class OutlierDetection {
+
+			/**
+			 * Whether to enable outlier detection on top of the default load balancing
+			 * policy of the channel.
+			 */
+			private boolean enabled;
+
+			/**
+			 * Interval between two ejection analyses.
+			 */
+			private Duration interval = Duration.ofSeconds(10);
+
+			/**
+			 * Base time a backend is ejected for, multiplied by the number of times it
+			 * has been ejected in a row.
+			 */
+			private Duration baseEjectionTime = Duration.ofSeconds(30);
+
+			/**
+			 * Maximum time a backend is ejected for.
+			 */
+			private Duration maxEjectionTime = Duration.ofMinutes(5);
+
+			/**
+			 * Maximum percentage of the backends that can be ejected at the same time.
+			 */
+			private int maxEjectionPercentage = 10;
+
+			private final SuccessRateEjection successRateEjection = new SuccessRateEjection();
+
+			private final FailurePercentageEjection failurePercentageEjection = new FailurePercentageEjection();
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public Duration getInterval() {
+				return this.interval;
+			}
+
+			public void setInterval(Duration interval) {
+				this.interval = interval;
+			}
+
+			public Duration getBaseEjectionTime() {
+				return this.baseEjectionTime;
+			}
+
+			public void setBaseEjectionTime(Duration baseEjectionTime) {
+				this.baseEjectionTime = baseEjectionTime;
+			}
+
+			public Duration getMaxEjectionTime() {
+				return this.maxEjectionTime;
+			}
+
+			public void setMaxEjectionTime(Duration maxEjectionTime) {
+				this.maxEjectionTime = maxEjectionTime;
+			}
+
+			public int getMaxEjectionPercentage() {
+				return this.maxEjectionPercentage;
+			}
+
+			public void setMaxEjectionPercentage(int maxEjectionPercentage) {
+				this.maxEjectionPercentage = maxEjectionPercentage;
+			}
+
+			public SuccessRateEjection getSuccessRateEjection() {
+				return this.successRateEjection;
+			}
+
+			public FailurePercentageEjection getFailurePercentageEjection() {
+				return this.failurePercentageEjection;
+			}
+
+			/**
+			 * Copies the values from another instance.
+			 * @param other instance to copy values from
+			 */
+			void copyValuesFrom(OutlierDetection other) {
+				this.enabled = other.enabled;
+				this.interval = other.interval;
+				this.baseEjectionTime = other.baseEjectionTime;
+				this.maxEjectionTime = other.maxEjectionTime;
+				this.maxEjectionPercentage = other.maxEjectionPercentage;
+				this.successRateEjection.copyValuesFrom(other.successRateEjection);
+				this.failurePercentageEjection.copyValuesFrom(other.failurePercentageEjection);
+			}
+
+		}
+
+		/**
+		 * Ejection of the backends whose success rate is too far below the mean success
+		 * rate of all the backends.
+		 */
+		public static class SuccessRateEjection {
+
+			/**
+			 * Whether to eject backends based on their success rate.
+			 */
+			private boolean enabled;
+
+			/**
+			 * Number of standard deviations, divided by 1000, below the mean success rate
+			 * at which a backend is ejected (e.g. 1900 for 1.9).
+			 */
+			private int stdevFactor = 1900;
+
+			/**
+			 * Percentage chance that a backend detected as an outlier is ejected.
+			 */
+			private int enforcementPercentage = 100;
+
+			/**
+			 * Minimum number of backends with enough calls for the analysis to run.
+			 */
+			private int minimumHosts = 5;
+
+			/**
+			 * Minimum number of calls in an interval for a backend to be included in the
+			 * analysis.
+			 */
+			private int requestVolume = 100;
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public int getStdevFactor() {
+				return this.stdevFactor;
+			}
+
+			public void setStdevFactor(int stdevFactor) {
+				this.stdevFactor = stdevFactor;
+			}
+
+			public int getEnforcementPercentage() {
+				return this.enforcementPercentage;
+			}
+
+			public void setEnforcementPercentage(int enforcementPercentage) {
+				this.enforcementPercentage = enforcementPercentage;
+			}
+
+			public int getMinimumHosts() {
+				return this.minimumHosts;
+			}
+
+			public void setMinimumHosts(int minimumHosts) {
+				this.minimumHosts = minimumHosts;
+			}
+
+			public int getRequestVolume() {
+				return this.requestVolume;
+			}
+
+			public void setRequestVolume(int requestVolume) {
+				this.requestVolume = requestVolume;
+			}
+
+			/**
+			 * Copies the values from another instance.
+			 * @param other instance to copy values from
+			 */
+			void copyValuesFrom(SuccessRateEjection other) {
+				this.enabled = other.enabled;
+				this.stdevFactor = other.stdevFactor;
+				this.enforcementPercentage = other.enforcementPercentage;
+				this.minimumHosts = other.minimumHosts;
+				this.requestVolume = other.requestVolume;
+			}
+
+		}
+
+		/**
+		 * Ejection of the backends whose percentage of failed calls is above a threshold.
+		 */
+		public static class FailurePercentageEjection {
+
+			/**
+			 * Whether to eject backends based on their percentage of failed calls.
+			 */
+			private boolean enabled;
+
+			/**
+			 * Percentage of failed calls at which a backend is ejected.
+			 */
+			private int threshold = 85;
+
+			/**
+			 * Percentage chance that a backend detected as an outlier is ejected.
+			 */
+			private int enforcementPercentage = 100;
+
+			/**
+			 * Minimum number of backends with enough calls for the analysis to run.
+			 */
+			private int minimumHosts = 5;
+
+			/**
+			 * Minimum number of calls in an interval for a backend to be included in the
+			 * analysis.
+			 */
+			private int requestVolume = 50;
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public int getThreshold() {
+				return this.threshold;
+			}
+
+			public void setThreshold(int threshold) {
+				this.threshold = threshold;
+			}
+
+			public int getEnforcementPercentage() {
+				return this.enforcementPercentage;
+			}
+
+			public void setEnforcementPercentage(int enforcementPercentage) {
+				this.enforcementPercentage = enforcementPercentage;
+			}
+
+			public int getMinimumHosts() {
+				return this.minimumHosts;
+			}
+
+			public void setMinimumHosts(int minimumHosts) {
+				this.minimumHosts = minimumHosts;
+			}
+
+			public int getRequestVolume() {
+				return this.requestVolume;
+			}
+
+			public void setRequestVolume(int requestVolume) {
+				this.requestVolume = requestVolume;
+			}
+
+			/**
+			 * Copies the values from another instance.
+			 * @param other instance to copy values from
+			 */
+			void copyValuesFrom(FailurePercentageEjection other) {
+				this.enabled = other.enabled;
+				this.threshold = other.threshold;
+				this.enforcementPercentage = other.enforcementPercentage;
+				this.minimumHosts = other.minimumHosts;
+				this.requestVolume = other.requestVolume;
+			}
+
+		}
+
+		/**
+		 * Settings of the 'weighted_round_robin' load balancing policy, which weights the
+		 * backends by the load they report (ORCA). Only applied when the default load
+		 * balancing policy of the channel is 'weighted_round_robin', which requires
+		 * 'io.grpc:grpc-xds' on the classpath.
+		 */
+		public static class WeightedRoundRobin {
+
+			/**
+			 * Whether to request the backend load periodically on a separate stream
+			 * (out-of-band) instead of reading it from the trailers of each call.
+			 */
+			private boolean enableOobLoadReport;
+
+			/**
+			 * Interval at which the backends report their load when out-of-band reporting
+			 * is enabled.
+			 */
+			private Duration oobReportingPeriod = Duration.ofSeconds(10);
+
+			/**
+			 * Time a backend must have been reporting load before its weight is used,
+			 * which stops a backend that just connected from receiving a burst of calls.
+			 */
+			private Duration blackoutPeriod = Duration.ofSeconds(10);
+
+			/**
+			 * Time after which the weight of a backend that stopped reporting load
+			 * expires and the backend is weighted as the average of the others.
+			 */
+			private Duration weightExpirationPeriod = Duration.ofMinutes(3);
+
+			/**
+			 * Interval at which the weights of the backends are recomputed.
+			 */
+			private Duration weightUpdatePeriod = Duration.ofSeconds(1);
+
+			/**
+			 * Multiplier of the error rate added to the reported utilization of a
+			 * backend, so that a backend that fails fast is not favored.
+			 */
+			private double errorUtilizationPenalty = 1.0;
+
+			public boolean isEnableOobLoadReport() {
+				return this.enableOobLoadReport;
+			}
+
+			public void setEnableOobLoadReport(boolean enableOobLoadReport) {
+				this.enableOobLoadReport = enableOobLoadReport;
+			}
+
+			public Duration getOobReportingPeriod() {
+				return this.oobReportingPeriod;
+			}
+
+			public void setOobReportingPeriod(Duration oobReportingPeriod) {
+				this.oobReportingPeriod = oobReportingPeriod;
+			}
+
+			public Duration getBlackoutPeriod() {
+				return this.blackoutPeriod;
+			}
+
+			public void setBlackoutPeriod(Duration blackoutPeriod) {
+				this.blackoutPeriod = blackoutPeriod;
+			}
+
+			public Duration getWeightExpirationPeriod() {
+				return this.weightExpirationPeriod;
+			}
+
+			public void setWeightExpirationPeriod(Duration weightExpirationPeriod) {
+				this.weightExpirationPeriod = weightExpirationPeriod;
+			}
+
+			public Duration getWeightUpdatePeriod() {
+				return this.weightUpdatePeriod;
+			}
+
+			public void setWeightUpdatePeriod(Duration weightUpdatePeriod) {
+				this.weightUpdatePeriod = weightUpdatePeriod;
+			}
+
+			public double getErrorUtilizationPenalty() {
+				return this.errorUtilizationPenalty;
+			}
+
+			public void setErrorUtilizationPenalty(double errorUtilizationPenalty) {
+				this.errorUtilizationPenalty = errorUtilizationPenalty;
+			}
+
+			/**
+			 * Copies the values from another instance.
+			 * @param other instance to copy values from
+			 */
+			void copyValuesFrom(WeightedRoundRobin other) {
+				this.enableOobLoadReport = other.enableOobLoadReport;
+				this.oobReportingPeriod = other.oobReportingPeriod;
+				this.blackoutPeriod = other.blackoutPeriod;
+				this.weightExpirationPeriod = other.weightExpirationPeriod;
+				this.weightUpdatePeriod = other.weightUpdatePeriod;
+				this.errorUtilizationPenalty = other.errorUtilizationPenalty;
 			}
 
 		}
 
 	}
 
+	public static class Netty {
+
+		private final Allocator allocator = new Allocator();
+
+		public Allocator getAllocator() {
+			return this.allocator;
+		}
+
+	}
+
+	public static class Allocator {
+
+		/**
+		 * Type of Netty buffer allocator to use. When not set, the default allocator of
+		 * gRPC is used and the other allocator properties are ignored.
+		 */
+		private @Nullable Type type;
+
+		/**
+		 * Whether the allocator should prefer direct buffers over heap buffers. When not
+		 * set, Netty's platform default is used.
+		 */
+		private @Nullable Boolean preferDirect;
+
+		/**
+		 * Number of direct memory arenas of the pooled allocator. Each arena reserves
+		 * direct memory in chunks, so fewer arenas lower the direct memory footprint at
+		 * the cost of more contention.
+		 */
+		private @Nullable Integer directArenas;
+
+		/**
+		 * Number of heap memory arenas of the pooled allocator.
+		 */
+		private @Nullable Integer heapArenas;
+
+		/**
+		 * Netty buffer leak detection level. Applies to every Netty buffer in the JVM (of
+		 * the shaded or non-shaded Netty in use).
+		 */
+		private @Nullable LeakDetection leakDetection;
+
+		public @Nullable Type getType() {
+			return this.type;
+		}
+
+		public void setType(@Nullable Type type) {
+			this.type = type;
+		}
+
+		public @Nullable Boolean getPreferDirect() {
+			return this.preferDirect;
+		}
+
+		public void setPreferDirect(@Nullable Boolean preferDirect) {
+			this.preferDirect = preferDirect;
+		}
+
+		public @Nullable Integer getDirectArenas() {
+			return this.directArenas;
+		}
+
+		public void setDirectArenas(@Nullable Integer directArenas) {
+			this.directArenas = directArenas;
+		}
+
+		public @Nullable Integer getHeapArenas() {
+			return this.heapArenas;
+		}
+
+		public void setHeapArenas(@Nullable Integer heapArenas) {
+			this.heapArenas = heapArenas;
+		}
+
+		public @Nullable LeakDetection getLeakDetection() {
+			return this.leakDetection;
+		}
+
+		public void setLeakDetection(@Nullable LeakDetection leakDetection) {
+			this.leakDetection = leakDetection;
+		}
+
+		/**
+		 * Types of Netty buffer allocator.
+		 */
+		public enum Type {
+
+			/**
+			 * Allocator that sizes its buffers and caches to the observed usage.
+			 */
+			ADAPTIVE,
+
+			/**
+			 * Allocator that pools buffers in arenas.
+			 */
+			POOLED,
+
+			/**
+			 * Allocator that allocates a new buffer for each request.
+			 */
+			UNPOOLED
+
+		}
+
+		/**
+		 * Netty buffer leak detection levels.
+		 */
+		public enum LeakDetection {
+
+			/**
+			 * No leak detection.
+			 */
+			DISABLED,
+
+			/**
+			 * Sampled leak detection reporting whether a buffer leaked.
+			 */
+			SIMPLE,
+
+			/**
+			 * Sampled leak detection reporting where a leaked buffer was accessed.
+			 */
+			ADVANCED,
+
+			/**
+			 * Leak detection of every buffer reporting where it was accessed. For testing
+			 * only.
+			 */
+			PARANOID
+
+		}
+
+	}
+
+	public static class ZeroCopy {
+
+		/**
+		 * Whether to parse protobuf messages received in responses straight from the
+		 * transport buffers instead of copying them. The 'bytes' fields of such messages
+		 * share memory with the transport and must not be used after the message is no
+		 * longer referenced.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Minimum size of a message for it to be parsed without copying.
+		 */
+		@DataSizeUnit(DataUnit.BYTES)
+		private DataSize minMessageSize = DataSize.ofKilobytes(64);
+
+		public boolean getEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public DataSize getMinMessageSize() {
+			return this.minMessageSize;
+		}
+
+		public void setMinMessageSize(DataSize minMessageSize) {
+			this.minMessageSize = minMessageSize;
+		}
+
+	}
+
 }
@@ -16,11 +16,35 @@
 
 package org.springframework.boot.grpc.client.autoconfigure;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.Adaptive;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.Compression;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.grpc.client.GlobalClientInterceptor;
+import org.springframework.grpc.compression.AdaptiveCompressionPolicy;
+import org.springframework.grpc.compression.CompressionPolicyClientInterceptor;
+import org.springframework.grpc.compression.MeasuringCompressor;
+import org.springframework.grpc.compression.MethodCompressionPolicy;
+import org.springframework.grpc.compression.ZstdCodec;
+import org.springframework.util.Assert;
 
 import io.grpc.Codec;
 import io.grpc.Compressor;
@@ -42,27 +66,49 @@ class GrpcCodecConfiguration {
 	 * The compressor registry that is set on the
 	 * {@link ManagedChannelBuilder#compressorRegistry(CompressorRegistry) channel
 	 * builder}.
+	 * <p>
+	 * When adaptive compression is enabled for configured compression methods the
+	 * compressors are wrapped in a {@link MeasuringCompressor} so that their outcome can
+	 * be measured.
 	 * @param compressors the compressors to use on the registry
+	 * @param environment the environment used to check whether adaptive compression is
+	 * active
 	 * @return a new {@link CompressorRegistry#newEmptyInstance() registry} with the
 	 * specified compressors or the {@link CompressorRegistry#getDefaultInstance() default
 	 * registry} if no custom compressors are available in the application context.
 	 */
 	@Bean
 	@ConditionalOnMissingBean
-	CompressorRegistry compressorRegistry(ObjectProvider<Compressor> compressors) {
-		if (compressors.stream().count() == 0) {
+	CompressorRegistry compressorRegistry(ObjectProvider<Compressor> compressors, Environment environment) {
+		Binder binder = Binder.get(environment);
+		boolean adaptive = binder.bind("spring.grpc.client.compression.adaptive.enabled", Boolean.class).orElse(false)
+				&& !compressionMethods(binder).isEmpty();
+		if (compressors.stream().count() == 0 && !adaptive) {
 			return CompressorRegistry.getDefaultInstance();
 		}
 		CompressorRegistry registry = CompressorRegistry.newEmptyInstance();
-		compressors.orderedStream().forEachOrdered(registry::register);
+		List<Compressor> registered = (compressors.stream().count() != 0) ? compressors.orderedStream().toList()
+				: List.of(new Codec.Gzip(), Codec.Identity.NONE);
+		registered.stream()
+			.map((compressor) -> adaptive ? measuring(compressor) : compressor)
+			.forEachOrdered(registry::register);
 		return registry;
 	}
 
+	private static Compressor measuring(Compressor compressor) {
+		return (compressor != Codec.Identity.NONE) ? new MeasuringCompressor(compressor) : compressor;
+	}
+
 	/**
 	 * The decompressor registry that is set on the
 	 * {@link ManagedChannelBuilder#decompressorRegistry(DecompressorRegistry) channel
 	 * builder}.
+	 * <p>
+	 * The decompressors are only advertised to peers when
+	 * {@code spring.grpc.client.compression.advertise-decompressors} is enabled.
 	 * @param decompressors the decompressors to use on the registry
+	 * @param environment the environment used to check whether decompressors are
+	 * advertised
 	 * @return a new {@link DecompressorRegistry#emptyInstance() registry} with the
 	 * specified decompressors or the {@link DecompressorRegistry#getDefaultInstance()
 	 * default registry} if no custom decompressors are available in the application
@@ -70,15 +116,89 @@ class GrpcCodecConfiguration {
 	 */
 	@Bean
 	@ConditionalOnMissingBean
-	DecompressorRegistry decompressorRegistry(ObjectProvider<Decompressor> decompressors) {
+	DecompressorRegistry decompressorRegistry(ObjectProvider<Decompressor> decompressors, Environment environment) {
 		if (decompressors.stream().count() == 0) {
 			return DecompressorRegistry.getDefaultInstance();
 		}
+		boolean advertise = Binder.get(environment)
+			.bind("spring.grpc.client.compression.advertise-decompressors", Boolean.class)
+			.orElse(false);
 		DecompressorRegistry registry = DecompressorRegistry.emptyInstance();
 		for (Decompressor decompressor : decompressors.orderedStream().toList()) {
-			registry = registry.with(decompressor, false);
+			registry = registry.with(decompressor, advertise && isAdvertised(decompressor));
 		}
 		return registry;
 	}
 
+	private static boolean isAdvertised(Decompressor decompressor) {
+		return !Codec.Identity.NONE.getMessageEncoding().equals(decompressor.getMessageEncoding());
+	}
+
+	private static Map<String, String> compressionMethods(Binder binder) {
+		return binder.bind("spring.grpc.client.compression.methods", Bindable.mapOf(String.class, String.class))
+			.orElse(Collections.emptyMap());
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "com.github.luben.zstd.ZstdOutputStream")
+	@ConditionalOnProperty(name = "spring.grpc.client.compression.zstd.enabled", havingValue = "true")
+	@EnableConfigurationProperties(GrpcClientProperties.class)
+	static class ZstdCodecConfiguration {
+
+		@Bean
+		ZstdCodec grpcZstdCodec(GrpcClientProperties properties) {
+			return new ZstdCodec(properties.getCompression().getZstd().getLevel());
+		}
+
+		// The registries only hold the codec beans once there are any, so keep the
+		// codecs that gRPC registers by default
+		@Bean
+		Codec.Gzip grpcGzipCodec() {
+			return new Codec.Gzip();
+		}
+
+		@Bean
+		Codec grpcIdentityCodec() {
+			return Codec.Identity.NONE;
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Conditional(OnCompressionMethodsCondition.class)
+	@EnableConfigurationProperties(GrpcClientProperties.class)
+	static class CompressionPolicyConfiguration {
+
+		@Bean
+		@GlobalClientInterceptor
+		CompressionPolicyClientInterceptor grpcCompressionPolicyClientInterceptor(GrpcClientProperties properties,
+				CompressorRegistry compressorRegistry) {
+			Compression compression = properties.getCompression();
+			Map<String, String> methods = compression.getMethods();
+			methods.forEach((method, encoding) -> Assert.notNull(compressorRegistry.lookupCompressor(encoding),
+					() -> "No compressor registered for encoding '%s' of method '%s'".formatted(encoding, method)));
+			CompressionPolicyClientInterceptor interceptor = new CompressionPolicyClientInterceptor(
+					new MethodCompressionPolicy(methods, compression.getMinMessageSize().toBytes()));
+			Adaptive adaptive = compression.getAdaptive();
+			if (adaptive.getEnabled()) {
+				interceptor.setAdaptivePolicy(new AdaptiveCompressionPolicy(adaptive.getMaxRatio(),
+						adaptive.getMaxNanosPerSavedByte(), adaptive.getProbeInterval()));
+			}
+			return interceptor;
+		}
+
+	}
+
+	static class OnCompressionMethodsCondition extends SpringBootCondition {
+
+		@Override
+		public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+			ConditionMessage.Builder message = ConditionMessage.forCondition("gRPC client compression methods");
+			Map<String, String> methods = compressionMethods(Binder.get(context.getEnvironment()));
+			return methods.isEmpty() ? ConditionOutcome.noMatch(message.because("none are configured"))
+					: ConditionOutcome.match(message.found("method", "methods").items(methods.keySet()));
+		}
+
+	}
+
 }
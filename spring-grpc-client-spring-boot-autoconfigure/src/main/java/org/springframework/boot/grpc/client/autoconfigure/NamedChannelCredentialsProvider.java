@@ -16,14 +16,26 @@
 
 package org.springframework.boot.grpc.client.autoconfigure;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.TrustManagerFactory;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig;
 import org.springframework.boot.ssl.SslBundle;
 import org.springframework.boot.ssl.SslBundles;
 import org.springframework.grpc.client.ChannelCredentialsProvider;
 import org.springframework.grpc.client.NegotiationType;
 import org.springframework.grpc.internal.InsecureTrustManagerFactory;
+import org.springframework.grpc.internal.ReloadableKeyManagerFactory;
+import org.springframework.grpc.internal.ReloadableTrustManagerFactory;
+import org.springframework.grpc.netty.NettyTlsChannelCredentials;
+import org.springframework.grpc.netty.TlsOptions;
+import org.springframework.grpc.netty.TlsProvider;
 import org.springframework.util.Assert;
 
 import io.grpc.ChannelCredentials;
@@ -41,6 +53,8 @@ class NamedChannelCredentialsProvider implements ChannelCredentialsProvider {
 
 	private final GrpcClientProperties properties;
 
+	private final Map<String, BundleManagers> bundleManagers = new ConcurrentHashMap<>();
+
 	NamedChannelCredentialsProvider(SslBundles bundles, GrpcClientProperties properties) {
 		this.bundles = bundles;
 		this.properties = properties;
@@ -56,24 +70,66 @@ class NamedChannelCredentialsProvider implements ChannelCredentialsProvider {
 		if (sslEnabled) {
 			String bundleName = channel.getSsl().getBundle();
 			Assert.notNull(bundleName, "Bundle name must not be null when SSL is enabled");
-			SslBundle bundle = this.bundles.getBundle(bundleName);
-			TrustManagerFactory trustManagers = channel.isSecure() ? bundle.getManagers().getTrustManagerFactory()
+			BundleManagers managers = getBundleManagers(bundleName);
+			TrustManagerFactory trustManagers = channel.isSecure() ? managers.trustManager()
 					: InsecureTrustManagerFactory.INSTANCE;
-			return TlsChannelCredentials.newBuilder()
-				.keyManager(bundle.getManagers().getKeyManagerFactory().getKeyManagers())
-				.trustManager(trustManagers.getTrustManagers())
-				.build();
+			return tlsCredentials(channel.getSsl(), managers.keyManager(), trustManagers);
 		}
 		else {
 			if (channel.isSecure()) {
-				return TlsChannelCredentials.create();
+				return tlsCredentials(channel.getSsl(), null, null);
 			}
 			else {
-				return TlsChannelCredentials.newBuilder()
-					.trustManager(InsecureTrustManagerFactory.INSTANCE.getTrustManagers())
-					.build();
+				return tlsCredentials(channel.getSsl(), null, InsecureTrustManagerFactory.INSTANCE);
 			}
 		}
 	}
 
+	private BundleManagers getBundleManagers(String bundleName) {
+		return this.bundleManagers.computeIfAbsent(bundleName, (name) -> {
+			SslBundle bundle = this.bundles.getBundle(name);
+			BundleManagers managers = new BundleManagers(
+					new ReloadableKeyManagerFactory(bundle.getManagers().getKeyManagerFactory()),
+					new ReloadableTrustManagerFactory(bundle.getManagers().getTrustManagerFactory()));
+			// Channels keep their credentials, so rotate the key material underneath them
+			this.bundles.addBundleUpdateHandler(name, managers::reload);
+			return managers;
+		});
+	}
+
+	private ChannelCredentials tlsCredentials(ChannelConfig.Ssl ssl, @Nullable KeyManagerFactory keyManagers,
+			@Nullable TrustManagerFactory trustManagers) {
+		TlsOptions tlsOptions = determineTlsOptions(ssl);
+		if (tlsOptions != null) {
+			// The channel factory builds the SslContext for its own Netty flavour
+			return NettyTlsChannelCredentials.create(keyManagers, trustManagers, tlsOptions);
+		}
+		TlsChannelCredentials.Builder builder = TlsChannelCredentials.newBuilder();
+		if (keyManagers != null) {
+			builder.keyManager(keyManagers.getKeyManagers());
+		}
+		if (trustManagers != null) {
+			builder.trustManager(trustManagers.getTrustManagers());
+		}
+		return builder.build();
+	}
+
+	private static @Nullable TlsOptions determineTlsOptions(ChannelConfig.Ssl ssl) {
+		if (ssl.getProvider() == null && ssl.getSessionCacheSize() == null && ssl.getSessionTimeout() == null) {
+			return null;
+		}
+		TlsProvider provider = (ssl.getProvider() != null) ? ssl.getProvider() : TlsProvider.JDK;
+		int sessionCacheSize = (ssl.getSessionCacheSize() != null) ? ssl.getSessionCacheSize() : 0;
+		return new TlsOptions(provider, sessionCacheSize, ssl.getSessionTimeout(), List.of());
+	}
+
+	private record BundleManagers(ReloadableKeyManagerFactory keyManager, ReloadableTrustManagerFactory trustManager) {
+
+		void reload(SslBundle bundle) {
+			this.keyManager.reload(bundle.getManagers().getKeyManagerFactory());
+			this.trustManager.reload(bundle.getManagers().getTrustManagerFactory());
+		}
+
+	}
+
 }
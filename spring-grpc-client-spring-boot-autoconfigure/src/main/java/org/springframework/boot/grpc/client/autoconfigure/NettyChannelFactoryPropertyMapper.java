@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.client.autoconfigure;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.Allocator;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.Allocator.LeakDetection;
+import org.springframework.grpc.client.NettyGrpcChannelFactory;
+import org.springframework.grpc.netty.NettyAllocators;
+
+import io.netty.buffer.ByteBufAllocator;
+
+/**
+ * Helper class used to map {@link GrpcClientProperties} to
+ * {@link NettyGrpcChannelFactory}.
+ *
+ * @author Chris Bono
+ */
+class NettyChannelFactoryPropertyMapper {
+
+	private final GrpcClientProperties properties;
+
+	NettyChannelFactoryPropertyMapper(GrpcClientProperties properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * Map the allocator properties to the channel factory.
+	 * @param factory the channel factory
+	 */
+	void customizeChannelFactory(NettyGrpcChannelFactory factory) {
+		Allocator allocator = this.properties.getNetty().getAllocator();
+		LeakDetection leakDetection = allocator.getLeakDetection();
+		if (leakDetection != null) {
+			NettyAllocators.setLeakDetectionLevel("client", leakDetection.name());
+		}
+		factory.setAllocator(createAllocator(allocator));
+	}
+
+	private @Nullable ByteBufAllocator createAllocator(Allocator allocator) {
+		Allocator.Type type = allocator.getType();
+		return (type != null) ? NettyAllocators.create(type.name(), allocator.getPreferDirect(),
+				allocator.getHeapArenas(), allocator.getDirectArenas()) : null;
+	}
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.client.autoconfigure;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.Allocator;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.Allocator.LeakDetection;
+import org.springframework.grpc.client.ShadedNettyGrpcChannelFactory;
+import org.springframework.grpc.netty.ShadedNettyAllocators;
+
+import io.grpc.netty.shaded.io.netty.buffer.ByteBufAllocator;
+
+/**
+ * Helper class used to map {@link GrpcClientProperties} to
+ * {@link ShadedNettyGrpcChannelFactory}.
+ *
+ * @author Chris Bono
+ */
+class ShadedNettyChannelFactoryPropertyMapper {
+
+	private final GrpcClientProperties properties;
+
+	ShadedNettyChannelFactoryPropertyMapper(GrpcClientProperties properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * Map the allocator properties to the channel factory.
+	 * @param factory the channel factory
+	 */
+	void customizeChannelFactory(ShadedNettyGrpcChannelFactory factory) {
+		Allocator allocator = this.properties.getNetty().getAllocator();
+		LeakDetection leakDetection = allocator.getLeakDetection();
+		if (leakDetection != null) {
+			ShadedNettyAllocators.setLeakDetectionLevel("client", leakDetection.name());
+		}
+		factory.setAllocator(createAllocator(allocator));
+	}
+
+	private @Nullable ByteBufAllocator createAllocator(Allocator allocator) {
+		Allocator.Type type = allocator.getType();
+		return (type != null) ? ShadedNettyAllocators.create(type.name(), allocator.getPreferDirect(),
+				allocator.getHeapArenas(), allocator.getDirectArenas()) : null;
+	}
+
+}
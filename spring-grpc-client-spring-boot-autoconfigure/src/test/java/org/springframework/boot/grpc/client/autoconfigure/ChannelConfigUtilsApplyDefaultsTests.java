@@ -24,6 +24,10 @@ import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.FailurePercentageEjection;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.OutlierDetection;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.SuccessRateEjection;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.WeightedRoundRobin;
 import org.springframework.grpc.client.NegotiationType;
 import org.springframework.util.unit.DataSize;
 
@@ -51,6 +55,7 @@ class ChannelConfigUtilsApplyDefaultsTests {
 		channel.setKeepAliveTime(channel.getKeepAliveTime().plusSeconds(60));
 		channel.setKeepAliveTimeout(channel.getKeepAliveTimeout().plusSeconds(60));
 		channel.setKeepAliveWithoutCalls(!channel.isKeepAliveWithoutCalls());
+		channel.setLazy(!channel.isLazy());
 		channel.setMaxInboundMessageSize(DataSize.ofBytes(channel.getMaxInboundMessageSize().toBytes() + 1000L));
 		channel.setMaxInboundMetadataSize(DataSize.ofBytes(channel.getMaxInboundMetadataSize().toBytes() + 1000L));
 		int nextIdx = channel.getNegotiationType().ordinal() % NegotiationType.values().length;
@@ -60,6 +65,34 @@ class ChannelConfigUtilsApplyDefaultsTests {
 		channel.getSsl().setBundle(Optional.ofNullable(channel.getSsl().getBundle()).orElse("somebundle") + "1");
 		channel.getServiceConfig().put("some", "entry");
 		channel.setUserAgent(Optional.ofNullable(channel.getUserAgent()).orElse("someguy") + "1");
+		channel.setWarmup(!channel.isWarmup());
+		channel.setWarmupMethod(Optional.ofNullable(channel.getWarmupMethod()).orElse("some.Service/Method") + "1");
+		channel.setWarmupTimeout(channel.getWarmupTimeout().plusSeconds(60));
+		OutlierDetection outlierDetection = channel.getOutlierDetection();
+		outlierDetection.setEnabled(!outlierDetection.isEnabled());
+		outlierDetection.setInterval(outlierDetection.getInterval().plusSeconds(60));
+		outlierDetection.setBaseEjectionTime(outlierDetection.getBaseEjectionTime().plusSeconds(60));
+		outlierDetection.setMaxEjectionTime(outlierDetection.getMaxEjectionTime().plusSeconds(60));
+		outlierDetection.setMaxEjectionPercentage(outlierDetection.getMaxEjectionPercentage() + 1);
+		SuccessRateEjection successRateEjection = outlierDetection.getSuccessRateEjection();
+		successRateEjection.setEnabled(!successRateEjection.isEnabled());
+		successRateEjection.setStdevFactor(successRateEjection.getStdevFactor() + 1);
+		successRateEjection.setEnforcementPercentage(successRateEjection.getEnforcementPercentage() - 1);
+		successRateEjection.setMinimumHosts(successRateEjection.getMinimumHosts() + 1);
+		successRateEjection.setRequestVolume(successRateEjection.getRequestVolume() + 1);
+		FailurePercentageEjection failurePercentageEjection = outlierDetection.getFailurePercentageEjection();
+		failurePercentageEjection.setEnabled(!failurePercentageEjection.isEnabled());
+		failurePercentageEjection.setThreshold(failurePercentageEjection.getThreshold() + 1);
+		failurePercentageEjection.setEnforcementPercentage(failurePercentageEjection.getEnforcementPercentage() - 1);
+		failurePercentageEjection.setMinimumHosts(failurePercentageEjection.getMinimumHosts() + 1);
+		failurePercentageEjection.setRequestVolume(failurePercentageEjection.getRequestVolume() + 1);
+		WeightedRoundRobin weightedRoundRobin = channel.getWeightedRoundRobin();
+		weightedRoundRobin.setEnableOobLoadReport(!weightedRoundRobin.isEnableOobLoadReport());
+		weightedRoundRobin.setOobReportingPeriod(weightedRoundRobin.getOobReportingPeriod().plusSeconds(60));
+		weightedRoundRobin.setBlackoutPeriod(weightedRoundRobin.getBlackoutPeriod().plusSeconds(60));
+		weightedRoundRobin.setWeightExpirationPeriod(weightedRoundRobin.getWeightExpirationPeriod().plusSeconds(60));
+		weightedRoundRobin.setWeightUpdatePeriod(weightedRoundRobin.getWeightUpdatePeriod().plusSeconds(60));
+		weightedRoundRobin.setErrorUtilizationPenalty(weightedRoundRobin.getErrorUtilizationPenalty() + 1);
 		return channel;
 	}
 
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.client.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.grpc.client.DefaultGrpcChannelFactory;
+import org.springframework.grpc.client.GrpcChannelFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.env.MockPropertySource;
+
+/**
+ * Tests for {@link GrpcChannelRefreshListener}.
+ */
+class GrpcChannelRefreshListenerTests {
+
+	@Test
+	void supportsConfiguredEventTypeAndSubclasses() {
+		GrpcChannelRefreshListener listener = new GrpcChannelRefreshListener(TestEvent.class.getName(),
+				new GrpcClientProperties(), new MockEnvironment(),
+				new StaticListableBeanFactory().getBeanProvider(GrpcChannelFactory.class));
+		assertThat(listener.supportsEventType(ResolvableType.forClass(TestEvent.class))).isTrue();
+		assertThat(listener.supportsEventType(ResolvableType.forClass(SubTestEvent.class))).isTrue();
+		assertThat(listener.supportsEventType(ResolvableType.forClass(ContextRefreshedEvent.class))).isFalse();
+	}
+
+	@Test
+	void bindsFreshPropertiesAndRefreshesChannels() {
+		GrpcClientProperties properties = new GrpcClientProperties();
+		MockEnvironment environment = new MockEnvironment();
+		properties.setEnvironment(environment);
+		DefaultGrpcChannelFactory<?> channelFactory = mock();
+		GrpcChannelFactory otherChannelFactory = mock();
+		StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(
+				Map.of("channelFactory", channelFactory, "otherChannelFactory", otherChannelFactory));
+		GrpcChannelRefreshListener listener = new GrpcChannelRefreshListener(TestEvent.class.getName(), properties,
+				environment, beanFactory.getBeanProvider(GrpcChannelFactory.class));
+		assertThat(properties.getTarget("c1")).isEqualTo("localhost:9090");
+		environment.setProperty("spring.grpc.client.channels.c1.address", "static://other:9090");
+		environment.setProperty("spring.grpc.client.channels.c1.refreshable", "true");
+		listener.onApplicationEvent(
+				new TestEvent("spring.grpc.client.channels.c1.address", "spring.grpc.client.channels.c1.refreshable"));
+		assertThat(properties.getChannel("c1").getAddress()).isEqualTo("static://other:9090");
+		assertThat(properties.getChannel("c1").isRefreshable()).isTrue();
+		assertThat(properties.getTarget("c1")).isEqualTo("other:9090");
+		then(channelFactory).should().refreshChannels();
+	}
+
+	@Test
+	void removedPropertiesDoNotLinger() {
+		MockEnvironment environment = new MockEnvironment();
+		environment.setProperty("spring.grpc.client.channels.c1.address", "static://other:9090");
+		GrpcClientProperties properties = Binder.get(environment)
+			.bind("spring.grpc.client", Bindable.ofInstance(new GrpcClientProperties()))
+			.get();
+		properties.setEnvironment(environment);
+		GrpcChannelRefreshListener listener = new GrpcChannelRefreshListener(TestEvent.class.getName(), properties,
+				environment, new StaticListableBeanFactory().getBeanProvider(GrpcChannelFactory.class));
+		assertThat(properties.getTarget("c1")).isEqualTo("other:9090");
+		environment.getPropertySources().remove(MockPropertySource.MOCK_PROPERTIES_PROPERTY_SOURCE_NAME);
+		listener.onApplicationEvent(new TestEvent("spring.grpc.client.channels.c1.address"));
+		assertThat(properties.getTarget("c1")).isEqualTo("localhost:9090");
+	}
+
+	@Test
+	void ignoresChangesOfOtherProperties() {
+		GrpcClientProperties properties = new GrpcClientProperties();
+		MockEnvironment environment = new MockEnvironment();
+		properties.setEnvironment(environment);
+		DefaultGrpcChannelFactory<?> channelFactory = mock();
+		StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("channelFactory", channelFactory));
+		GrpcChannelRefreshListener listener = new GrpcChannelRefreshListener(TestEvent.class.getName(), properties,
+				environment, beanFactory.getBeanProvider(GrpcChannelFactory.class));
+		environment.setProperty("spring.grpc.client.channels.c1.address", "static://other:9090");
+		listener.onApplicationEvent(new TestEvent("spring.grpc.server.port", "spring.grpc.clients"));
+		assertThat(properties.getTarget("c1")).isEqualTo("localhost:9090");
+		then(channelFactory).shouldHaveNoInteractions();
+	}
+
+	static class TestEvent extends ApplicationEvent {
+
+		private final Set<String> keys;
+
+		TestEvent(String... keys) {
+			super("test");
+			this.keys = Set.of(keys);
+		}
+
+		public Set<String> getKeys() {
+			return this.keys;
+		}
+
+	}
+
+	static class SubTestEvent extends TestEvent {
+
+	}
+
+}
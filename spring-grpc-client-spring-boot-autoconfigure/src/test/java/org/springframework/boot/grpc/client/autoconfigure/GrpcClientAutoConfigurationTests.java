@@ -17,6 +17,7 @@
 package org.springframework.boot.grpc.client.autoconfigure;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.inOrder;
@@ -29,6 +30,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
@@ -42,22 +44,33 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 import org.springframework.grpc.client.ChannelCredentialsProvider;
+import org.springframework.grpc.client.DefaultGrpcChannelFactory;
 import org.springframework.grpc.client.GrpcChannelBuilderCustomizer;
 import org.springframework.grpc.client.GrpcChannelFactory;
 import org.springframework.grpc.client.GrpcClientFactory;
 import org.springframework.grpc.client.InProcessGrpcChannelFactory;
+import org.springframework.grpc.client.LocalServerGrpcChannelFactory;
 import org.springframework.grpc.client.NettyGrpcChannelFactory;
 import org.springframework.grpc.client.ShadedNettyGrpcChannelFactory;
+import org.springframework.grpc.client.interceptor.DeadlinePropagationClientInterceptor;
+import org.springframework.grpc.client.interceptor.DefaultDeadlineSetupClientInterceptor;
+import org.springframework.grpc.marshaller.ZeroCopyMarshallerDecorator;
+import org.springframework.grpc.netty.NettyTlsChannelCredentials;
+import org.springframework.grpc.server.LocalGrpcServer;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import io.grpc.Codec;
 import io.grpc.CompressorRegistry;
 import io.grpc.DecompressorRegistry;
+import io.grpc.LoadBalancerRegistry;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.NameResolver.ConfigOrError;
+import io.grpc.TlsChannelCredentials;
 import io.grpc.inprocess.InProcessChannelBuilder;
 import io.grpc.kotlin.AbstractCoroutineStub;
 import io.grpc.netty.NettyChannelBuilder;
 import io.grpc.stub.AbstractStub;
+import io.netty.buffer.PooledByteBufAllocator;
 
 /**
  * Tests for {@link GrpcClientAutoConfiguration}.
@@ -128,6 +141,21 @@ class GrpcClientAutoConfigurationTests {
 				.isInstanceOf(SslBundles.class));
 	}
 
+	@Test
+	void credentialsProviderUsesNettySslContextWhenSessionSettingsSet() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.c1.ssl.session-cache-size=256",
+					"spring.grpc.client.channels.c1.negotiation-type=tls",
+					"spring.grpc.client.channels.c2.negotiation-type=tls")
+			.run((context) -> {
+				NamedChannelCredentialsProvider provider = context.getBean(NamedChannelCredentialsProvider.class);
+				assertThat(provider.getChannelCredentials("c1")).isInstanceOfSatisfying(
+						NettyTlsChannelCredentials.class,
+						(credentials) -> assertThat(credentials.getOptions().sessionCacheSize()).isEqualTo(256));
+				assertThat(provider.getChannelCredentials("c2")).isInstanceOf(TlsChannelCredentials.class);
+			});
+	}
+
 	@Test
 	void clientPropertiesAutoConfiguredResolvesPlaceholders() {
 		this.contextRunner()
@@ -166,6 +194,145 @@ class GrpcClientAutoConfigurationTests {
 		});
 	}
 
+	@Test
+	void clientPropertiesChannelCustomizerAutoConfiguredWithDeadlinePropagationAsExpected() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.deadline-propagation.enabled=true",
+					"spring.grpc.client.deadline-propagation.safety-margin=50ms",
+					"spring.grpc.client.deadline-propagation.minimum-budgets[*]=10ms",
+					"spring.grpc.client.channels.test.default-deadline=5s")
+			.run((context) -> {
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				customizer.customize("test", builder);
+				InOrder ordered = inOrder(builder);
+				ordered.verify(builder).intercept(any(DeadlinePropagationClientInterceptor.class));
+				ordered.verify(builder).intercept(any(DefaultDeadlineSetupClientInterceptor.class));
+			});
+	}
+
+	@Test
+	void clientPropertiesChannelCustomizerAutoConfiguredWithoutDeadlinePropagationAsExpected() {
+		this.contextRunner().run((context) -> {
+			var customizer = context.getBean("clientPropertiesChannelCustomizer", GrpcChannelBuilderCustomizer.class);
+			ManagedChannelBuilder<?> builder = Mockito.mock();
+			customizer.customize("test", builder);
+			then(builder).should(never()).intercept(any(DeadlinePropagationClientInterceptor.class));
+		});
+	}
+
+	@Test
+	void clientPropertiesChannelCustomizerAutoConfiguredWithWeightedRoundRobinAsExpected() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.default-load-balancing-policy=weighted_round_robin",
+					"spring.grpc.client.channels.test.weighted-round-robin.enable-oob-load-report=true",
+					"spring.grpc.client.channels.test.weighted-round-robin.blackout-period=500ms",
+					"spring.grpc.client.channels.test.weighted-round-robin.error-utilization-penalty=2")
+			.run((context) -> {
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				customizer.customize("test", builder);
+				Map<String, ?> weightedRoundRobinConfig = Map.of("enableOobLoadReport", true, "oobReportingPeriod",
+						"10s", "blackoutPeriod", "0.5s", "weightExpirationPeriod", "180s", "weightUpdatePeriod", "1s",
+						"errorUtilizationPenalty", 2.0);
+				then(builder).should()
+					.defaultServiceConfig(Map.of("loadBalancingConfig",
+							List.of(Map.of("weighted_round_robin", weightedRoundRobinConfig))));
+			});
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void clientPropertiesChannelCustomizerAutoConfiguredWithOutlierDetectionAsExpected() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.outlier-detection.enabled=true",
+					"spring.grpc.client.channels.test.outlier-detection.interval=5s",
+					"spring.grpc.client.channels.test.outlier-detection.max-ejection-percentage=20",
+					"spring.grpc.client.channels.test.outlier-detection.failure-percentage-ejection.enabled=true",
+					"spring.grpc.client.channels.test.outlier-detection.failure-percentage-ejection.threshold=50")
+			.run((context) -> {
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				customizer.customize("test", builder);
+				ArgumentCaptor<Map<String, ?>> serviceConfig = ArgumentCaptor.forClass(Map.class);
+				then(builder).should().defaultServiceConfig(serviceConfig.capture());
+				Map<String, ?> loadBalancingConfig = ((List<Map<String, ?>>) serviceConfig.getValue()
+					.get("loadBalancingConfig")).get(0);
+				Map<String, Object> outlierDetectionConfig = (Map<String, Object>) loadBalancingConfig
+					.get("outlier_detection_experimental");
+				assertThat(outlierDetectionConfig).containsEntry("interval", "5s")
+					.containsEntry("baseEjectionTime", "30s")
+					.containsEntry("maxEjectionPercentage", 20.0)
+					.containsEntry("failurePercentageEjection",
+							Map.of("threshold", 50.0, "enforcementPercentage", 100.0, "minimumHosts", 5.0,
+									"requestVolume", 50.0))
+					.containsEntry("childPolicy", List.of(Map.of("round_robin", Map.of())))
+					.doesNotContainKey("successRateEjection");
+				ConfigOrError parsed = LoadBalancerRegistry.getDefaultRegistry()
+					.getProvider("outlier_detection_experimental")
+					.parseLoadBalancingPolicyConfig(outlierDetectionConfig);
+				assertThat(parsed.getError()).isNull();
+			});
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void clientPropertiesChannelCustomizerAutoConfiguredWithOutlierDetectionAroundWeightedRoundRobin() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.default-load-balancing-policy=weighted_round_robin",
+					"spring.grpc.client.channels.test.outlier-detection.enabled=true")
+			.run((context) -> {
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				customizer.customize("test", builder);
+				ArgumentCaptor<Map<String, ?>> serviceConfig = ArgumentCaptor.forClass(Map.class);
+				then(builder).should().defaultServiceConfig(serviceConfig.capture());
+				Map<String, ?> loadBalancingConfig = ((List<Map<String, ?>>) serviceConfig.getValue()
+					.get("loadBalancingConfig")).get(0);
+				Map<String, Object> outlierDetectionConfig = (Map<String, Object>) loadBalancingConfig
+					.get("outlier_detection_experimental");
+				List<Map<String, ?>> childPolicy = (List<Map<String, ?>>) outlierDetectionConfig.get("childPolicy");
+				assertThat(childPolicy).singleElement()
+					.satisfies((child) -> assertThat(child).containsOnlyKeys("weighted_round_robin"));
+			});
+	}
+
+	@Test
+	void clientPropertiesChannelCustomizerAutoConfiguredWithUserLoadBalancingConfigAsExpected() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.default-load-balancing-policy=weighted_round_robin",
+					"spring.grpc.client.channels.test.service-config.loadBalancingConfig[0].pick_first.shuffleAddressList=true")
+			.run((context) -> {
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				customizer.customize("test", builder);
+				then(builder).should()
+					.defaultServiceConfig(Map.of("loadBalancingConfig",
+							List.of(Map.of("pick_first", Map.of("shuffleAddressList", "true")))));
+			});
+	}
+
+	@Test
+	void zeroCopyMarshallingIsDisabledByDefault() {
+		this.contextRunner()
+			.run((context) -> assertThat(context).doesNotHaveBean("grpcClientZeroCopyMarshallingCustomizer"));
+	}
+
+	@Test
+	void whenZeroCopyMarshallingEnabledThenDecoratorIsAddedToChannelFactory() {
+		this.contextRunner().withPropertyValues("spring.grpc.client.zero-copy.enabled=true").run((context) -> {
+			DefaultGrpcChannelFactory<?> factory = Mockito.mock();
+			context.getBean("grpcClientZeroCopyMarshallingCustomizer", GrpcChannelFactoryCustomizer.class)
+				.customize(factory);
+			then(factory).should().addMarshallerDecorator(any(ZeroCopyMarshallerDecorator.class));
+		});
+	}
+
 	@Test
 	void compressionCustomizerAutoConfiguredAsExpected() {
 		this.contextRunner().run((context) -> {
@@ -324,6 +491,32 @@ class GrpcClientAutoConfigurationTests {
 				.isInstanceOf(ShadedNettyGrpcChannelFactory.class));
 	}
 
+	@Test
+	void whenNettyAllocatorTypeSetThenShadedNettyChannelFactoryUsesAllocator() {
+		this.contextRunnerWithoutInProcessChannelFactory()
+			.withPropertyValues("spring.grpc.client.netty.allocator.type=unpooled",
+					"spring.grpc.client.netty.allocator.prefer-direct=false")
+			.run((context) -> assertThat(context.getBean(ShadedNettyGrpcChannelFactory.class).getAllocator())
+				.isInstanceOf(io.grpc.netty.shaded.io.netty.buffer.UnpooledByteBufAllocator.class));
+	}
+
+	@Test
+	void whenNettyAllocatorTypeSetThenNettyChannelFactoryUsesAllocator() {
+		this.contextRunnerWithoutInProcessChannelFactory()
+			.withClassLoader(new FilteredClassLoader(io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder.class))
+			.withPropertyValues("spring.grpc.client.netty.allocator.type=pooled",
+					"spring.grpc.client.netty.allocator.direct-arenas=1")
+			.run((context) -> assertThat(context.getBean(NettyGrpcChannelFactory.class).getAllocator())
+				.isInstanceOfSatisfying(PooledByteBufAllocator.class,
+						(allocator) -> assertThat(allocator.metric().numDirectArenas()).isEqualTo(1)));
+	}
+
+	@Test
+	void whenNettyAllocatorTypeNotSetThenChannelFactoryUsesDefaultAllocator() {
+		this.contextRunnerWithoutInProcessChannelFactory()
+			.run((context) -> assertThat(context.getBean(ShadedNettyGrpcChannelFactory.class).getAllocator()).isNull());
+	}
+
 	@Test
 	void shadedNettyWithInProcessChannelFactory() {
 		this.contextRunner()
@@ -331,6 +524,44 @@ class GrpcClientAutoConfigurationTests {
 				.containsOnlyKeys("shadedNettyGrpcChannelFactory", "inProcessGrpcChannelFactory"));
 	}
 
+	@Test
+	void whenLocalServerPresentThenLocalServerChannelFactoryIsConsultedFirst() {
+		this.contextRunner()
+			.withBean(LocalGrpcServer.class, () -> new LocalGrpcServer("local", List.of("*:9090")))
+			.withPropertyValues("spring.grpc.client.channels.secure.address=localhost:9090",
+					"spring.grpc.client.channels.secure.negotiation-type=tls")
+			.run((context) -> {
+				assertThat(context).getBeans(GrpcChannelFactory.class)
+					.containsOnlyKeys("shadedNettyGrpcChannelFactory", "inProcessGrpcChannelFactory",
+							"localServerGrpcChannelFactory");
+				assertThat(context.getBeanProvider(GrpcChannelFactory.class).orderedStream().findFirst())
+					.containsInstanceOf(LocalServerGrpcChannelFactory.class);
+				LocalServerGrpcChannelFactory factory = context.getBean(LocalServerGrpcChannelFactory.class);
+				assertThat(factory.supports("localhost:9090")).isTrue();
+				assertThat(factory.supports("remote:9090")).isFalse();
+				assertThat(factory.supports("secure")).isFalse();
+			});
+	}
+
+	@Test
+	void whenChannelIsLazyThenChannelIsCreatedOnFirstUse() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.lazy-channel.address=static://localhost:9090",
+					"spring.grpc.client.channels.lazy-channel.lazy=true")
+			.run((context) -> {
+				ShadedNettyGrpcChannelFactory factory = context.getBean(ShadedNettyGrpcChannelFactory.class);
+				assertThat(factory.createChannel("lazy-channel").getClass().getSimpleName())
+					.isEqualTo("LazyManagedChannel");
+				assertThat(factory.createChannel("localhost:9090").getClass().getSimpleName())
+					.isNotEqualTo("LazyManagedChannel");
+			});
+	}
+
+	@Test
+	void whenNoLocalServerThenLocalServerChannelFactoryIsNotAutoConfigured() {
+		this.contextRunner().run((context) -> assertThat(context).doesNotHaveBean(LocalServerGrpcChannelFactory.class));
+	}
+
 	@Test
 	void whenOnlyNonShadedNettyOnClasspathNonShadedNettyFactoryIsAutoConfigured() {
 		this.contextRunnerWithoutInProcessChannelFactory()
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.client.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.ssl.SslAutoConfiguration;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.grpc.client.GrpcChannelBuilderCustomizer;
+import org.springframework.grpc.netty.InstrumentedEventLoopGroup;
+
+import io.grpc.netty.NettyChannelBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for the {@link GrpcClientMetricsAutoConfiguration}.
+ */
+class GrpcClientMetricsAutoConfigurationTests {
+
+	private ApplicationContextRunner contextRunner() {
+		return new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(GrpcClientAutoConfiguration.class,
+					GrpcClientMetricsAutoConfiguration.class, SslAutoConfiguration.class))
+			.withClassLoader(new FilteredClassLoader(io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder.class))
+			.withBean("meterRegistry", MeterRegistry.class, SimpleMeterRegistry::new);
+	}
+
+	@Test
+	void transportMetricsAreDisabledByDefault() {
+		this.contextRunner()
+			.run((context) -> assertThat(context).hasSingleBean(GrpcClientMetricsAutoConfiguration.class)
+				.doesNotHaveBean(InstrumentedEventLoopGroup.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void whenTransportMetricsEnabledThenTcpChannelsUseInstrumentedEventLoopGroup() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.metrics.transport.enabled=true",
+					"spring.grpc.client.channels.tcp.address=static://localhost:9090")
+			.run((context) -> {
+				InstrumentedEventLoopGroup group = context.getBean(InstrumentedEventLoopGroup.class);
+				GrpcChannelBuilderCustomizer<NettyChannelBuilder> customizer = context
+					.getBean("grpcClientEventLoopMetricsCustomizer", GrpcChannelBuilderCustomizer.class);
+				NettyChannelBuilder builder = mock(RETURNS_SELF);
+				customizer.customize("tcp", builder);
+				then(builder).should().eventLoopGroup(group.getGroup());
+			});
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void whenTransportMetricsEnabledThenNamedDomainSocketChannelsKeepTheirEventLoopGroup() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.metrics.transport.enabled=true",
+					"spring.grpc.client.channels.uds.address=unix:/tmp/grpc.sock")
+			.run((context) -> {
+				GrpcChannelBuilderCustomizer<NettyChannelBuilder> customizer = context
+					.getBean("grpcClientEventLoopMetricsCustomizer", GrpcChannelBuilderCustomizer.class);
+				NettyChannelBuilder builder = mock();
+				customizer.customize("uds", builder);
+				customizer.customize("unix:/tmp/other.sock", builder);
+				then(builder).should(never()).eventLoopGroup(any());
+				then(builder).should(never()).channelType(any());
+			});
+	}
+
+}
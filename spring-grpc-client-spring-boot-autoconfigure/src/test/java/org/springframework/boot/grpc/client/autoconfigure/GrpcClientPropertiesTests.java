@@ -44,6 +44,7 @@ import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
 import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig;
 import org.springframework.grpc.client.NegotiationType;
+import org.springframework.grpc.netty.TlsProvider;
 import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.unit.DataSize;
@@ -106,6 +107,10 @@ class GrpcClientPropertiesTests {
 			assertThat(channel.getKeepAliveTimeout()).isEqualTo(Duration.ofSeconds(20));
 			assertThat(channel.isEnableKeepAlive()).isFalse();
 			assertThat(channel.isKeepAliveWithoutCalls()).isFalse();
+			assertThat(channel.isLazy()).isFalse();
+			assertThat(channel.isWarmup()).isFalse();
+			assertThat(channel.getWarmupMethod()).isNull();
+			assertThat(channel.getWarmupTimeout()).isEqualTo(Duration.ofSeconds(10));
 			assertThat(channel.getMaxInboundMessageSize()).isEqualTo(DataSize.ofBytes(4194304));
 			assertThat(channel.getMaxInboundMetadataSize()).isEqualTo(DataSize.ofBytes(8192));
 			assertThat(channel.getUserAgent()).isNull();
@@ -145,12 +150,20 @@ class GrpcClientPropertiesTests {
 			map.put("%s.keep-alive-time".formatted(propPrefix), "200s");
 			map.put("%s.keep-alive-timeout".formatted(propPrefix), "60000ms");
 			map.put("%s.keep-alive-without-calls".formatted(propPrefix), "true");
+			map.put("%s.lazy".formatted(propPrefix), "true");
+			map.put("%s.refreshable".formatted(propPrefix), "true");
+			map.put("%s.warmup".formatted(propPrefix), "true");
+			map.put("%s.warmup-method".formatted(propPrefix), "grpc.health.v1.Health/Check");
+			map.put("%s.warmup-timeout".formatted(propPrefix), "3s");
 			map.put("%s.max-inbound-message-size".formatted(propPrefix), "200MB");
 			map.put("%s.max-inbound-metadata-size".formatted(propPrefix), "1GB");
 			map.put("%s.user-agent".formatted(propPrefix), "me");
 			map.put("%s.secure".formatted(propPrefix), "false");
 			map.put("%s.ssl.enabled".formatted(propPrefix), "true");
 			map.put("%s.ssl.bundle".formatted(propPrefix), "my-bundle");
+			map.put("%s.ssl.provider".formatted(propPrefix), "openssl");
+			map.put("%s.ssl.session-cache-size".formatted(propPrefix), "512");
+			map.put("%s.ssl.session-timeout".formatted(propPrefix), "5m");
 			GrpcClientProperties properties = bindProperties(map);
 			var channel = channelFromProperties.apply(properties);
 			assertThat(channel.getAddress()).isEqualTo("static://my-server:8888");
@@ -165,6 +178,11 @@ class GrpcClientPropertiesTests {
 			assertThat(channel.getKeepAliveTimeout()).isEqualTo(Duration.ofMillis(60000));
 			assertThat(channel.isEnableKeepAlive()).isTrue();
 			assertThat(channel.isKeepAliveWithoutCalls()).isTrue();
+			assertThat(channel.isLazy()).isTrue();
+			assertThat(channel.isRefreshable()).isTrue();
+			assertThat(channel.isWarmup()).isTrue();
+			assertThat(channel.getWarmupMethod()).isEqualTo("grpc.health.v1.Health/Check");
+			assertThat(channel.getWarmupTimeout()).isEqualTo(Duration.ofSeconds(3));
 			assertThat(channel.getMaxInboundMessageSize()).isEqualTo(DataSize.ofMegabytes(200));
 			assertThat(channel.getMaxInboundMetadataSize()).isEqualTo(DataSize.ofGigabytes(1));
 			assertThat(channel.getUserAgent()).isEqualTo("me");
@@ -172,6 +190,9 @@ class GrpcClientPropertiesTests {
 			assertThat(channel.getSsl().isEnabled()).isTrue();
 			assertThat(channel.getSsl().determineEnabled()).isTrue();
 			assertThat(channel.getSsl().getBundle()).isEqualTo("my-bundle");
+			assertThat(channel.getSsl().getProvider()).isEqualTo(TlsProvider.OPENSSL);
+			assertThat(channel.getSsl().getSessionCacheSize()).isEqualTo(512);
+			assertThat(channel.getSsl().getSessionTimeout()).isEqualTo(Duration.ofMinutes(5));
 		}
 
 		@Test
@@ -228,7 +249,8 @@ class GrpcClientPropertiesTests {
 		void withDefaultNameReturnsDefaultChannel() {
 			var properties = new GrpcClientProperties();
 			var defaultChannel = properties.getChannel("default");
-			assertThat(properties).extracting("defaultChannel").isSameAs(defaultChannel);
+			assertThat(defaultChannel).isNotSameAs(properties.getDefaultChannel());
+			assertThat(defaultChannel).usingRecursiveComparison().isEqualTo(properties.getDefaultChannel());
 			assertThat(properties).extracting("channels", InstanceOfAssertFactories.MAP).isEmpty();
 		}
 
@@ -271,8 +293,18 @@ class GrpcClientPropertiesTests {
 			map.put("spring.grpc.client.channels.c1.enable-keep-alive", "false");
 			GrpcClientProperties properties = bindProperties(map);
 			var channel = properties.getChannel("c1");
-			assertThat(properties).extracting("channels", InstanceOfAssertFactories.MAP)
-				.containsExactly(entry("c1", channel));
+			assertThat(channel).isNotSameAs(properties.getChannels().get("c1"));
+			assertThat(channel).usingRecursiveComparison().isEqualTo(properties.getChannels().get("c1"));
+		}
+
+		@Test
+		void withKnownNameDoesNotModifyBoundChannelWhenDefaultsApplied() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.client.channel-defaults.address", "base-default-service:9090");
+			map.put("spring.grpc.client.channels.c1.inherit-defaults", "true");
+			GrpcClientProperties properties = bindProperties(map);
+			assertThat(properties.getChannel("c1").getAddress()).isEqualTo("base-default-service:9090");
+			assertThat(properties.getChannels().get("c1").getAddress()).isNotEqualTo("base-default-service:9090");
 		}
 
 		@ParameterizedTest
@@ -321,6 +353,10 @@ class GrpcClientPropertiesTests {
 			defaultChannel.setKeepAliveTime(Duration.ofMinutes(4));
 			defaultChannel.setKeepAliveTimeout(Duration.ofMinutes(6));
 			defaultChannel.setKeepAliveWithoutCalls(true);
+			defaultChannel.setLazy(true);
+			defaultChannel.setWarmup(true);
+			defaultChannel.setWarmupMethod("grpc.health.v1.Health/Check");
+			defaultChannel.setWarmupTimeout(Duration.ofSeconds(3));
 			defaultChannel.setMaxInboundMessageSize(DataSize.ofMegabytes(100));
 			defaultChannel.setMaxInboundMetadataSize(DataSize.ofMegabytes(200));
 			defaultChannel.setUserAgent("me");
@@ -378,6 +414,55 @@ class GrpcClientPropertiesTests {
 					argumentSet("doesApplyDefaultsWhenInheritDefaultsTrue", Boolean.TRUE, true));
 		}
 
+		@Test
+		void resolvesConfiguredChannelOnlyOnce() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.client.channels.foo-channel.inherit-defaults", "true");
+			GrpcClientProperties properties = bindProperties(map);
+			ChannelConfigUtils configUtilsSpy = spy(new ChannelConfigUtils());
+			properties.setChannelConfigUtils(configUtilsSpy);
+			var channel = properties.getChannel("foo-channel");
+			assertThat(properties.getChannel("foo-channel")).isSameAs(channel);
+			verify(configUtilsSpy, times(1)).applyDefaultsIfNecessary(channel, properties.getChannelDefaults());
+		}
+
+		@Test
+		void resolvesUnconfiguredChannelOnEachCall() {
+			var properties = new GrpcClientProperties();
+			var channel = properties.getChannel("foo-channel");
+			assertThat(properties.getChannel("foo-channel")).isNotSameAs(channel);
+			assertThat(properties).extracting("resolvedChannels.channels", InstanceOfAssertFactories.MAP).isEmpty();
+			assertThat(properties.getTarget("foo-channel")).isEqualTo("localhost:9090");
+			assertThat(properties).extracting("resolvedChannels.targets", InstanceOfAssertFactories.MAP).isEmpty();
+		}
+
+		@Test
+		void resolvesChannelAgainWhenCleared() {
+			var properties = new GrpcClientProperties();
+			var channel = properties.getChannel("default");
+			assertThat(properties.getChannel("default")).isSameAs(channel);
+			properties.clearResolvedChannels();
+			assertThat(properties.getChannel("default")).isNotSameAs(channel);
+		}
+
+		@Test
+		void servesAllPropertiesFromRefreshedSource() {
+			GrpcClientProperties properties = bindProperties(
+					Map.of("spring.grpc.client.channels.c1.address", "static://old:9090"));
+			GrpcClientProperties source = bindProperties(
+					Map.of("spring.grpc.client.channels.c1.address", "static://new:9090"));
+			properties.refresh(source);
+			assertThat(properties.getChannels()).isSameAs(source.getChannels());
+			assertThat(properties.getChannelDefaults()).isSameAs(source.getChannelDefaults());
+			assertThat(properties.getDefaultChannel()).isSameAs(source.getDefaultChannel());
+			assertThat(properties.getCompression()).isSameAs(source.getCompression());
+			assertThat(properties.getDeadlinePropagation()).isSameAs(source.getDeadlinePropagation());
+			assertThat(properties.getNetty()).isSameAs(source.getNetty());
+			assertThat(properties.getZeroCopy()).isSameAs(source.getZeroCopy());
+			assertThat(properties.getChannel("c1").getAddress()).isEqualTo("static://new:9090");
+			assertThat(properties.getTarget("c1")).isEqualTo("new:9090");
+		}
+
 	}
 
 	@Nested
@@ -417,6 +502,22 @@ class GrpcClientPropertiesTests {
 			assertThat(properties.getTarget("c1")).isEqualTo("my-server-foo:8888");
 		}
 
+		@Test
+		void channelWithAddressPropertyPlaceholdersIsResolvedAgainWhenEnvironmentChanges() {
+			var defaultChannel = new ChannelConfig();
+			var channel1 = new ChannelConfig();
+			channel1.setAddress("my-server-${channelName}:8888");
+			var properties = newProperties(defaultChannel, Map.of("c1", channel1));
+			var env = new MockEnvironment();
+			env.setProperty("channelName", "foo");
+			properties.setEnvironment(env);
+			assertThat(properties.getTarget("c1")).isEqualTo("my-server-foo:8888");
+			var otherEnv = new MockEnvironment();
+			otherEnv.setProperty("channelName", "bar");
+			properties.setEnvironment(otherEnv);
+			assertThat(properties.getTarget("c1")).isEqualTo("my-server-bar:8888");
+		}
+
 	}
 
 	@Nested
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.client.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.security.KeyStore;
+import java.util.List;
+
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.ssl.DefaultSslBundleRegistry;
+import org.springframework.boot.ssl.SslBundle;
+import org.springframework.boot.ssl.SslStoreBundle;
+import org.springframework.grpc.client.NegotiationType;
+import org.springframework.grpc.client.NettyGrpcChannelFactory;
+import org.springframework.grpc.netty.NettyTlsChannelCredentials;
+import org.springframework.grpc.netty.TlsProvider;
+
+import io.grpc.ManagedChannel;
+import io.grpc.TlsChannelCredentials;
+
+/**
+ * Tests for {@link NamedChannelCredentialsProvider}.
+ */
+class NamedChannelCredentialsProviderTests {
+
+	@Test
+	void credentialsUseUpdatedSslBundle() throws Exception {
+		DefaultSslBundleRegistry bundles = new DefaultSslBundleRegistry("test", SslBundle.of(SslStoreBundle.NONE));
+		GrpcClientProperties properties = new GrpcClientProperties();
+		GrpcClientProperties.ChannelConfig channel = new GrpcClientProperties.ChannelConfig();
+		channel.setNegotiationType(NegotiationType.TLS);
+		channel.getSsl().setBundle("test");
+		properties.getChannels().put("c1", channel);
+		NamedChannelCredentialsProvider provider = new NamedChannelCredentialsProvider(bundles, properties);
+		X509TrustManager trustManager = trustManager((TlsChannelCredentials) provider.getChannelCredentials("c1"));
+		assertThat(trustManager.getAcceptedIssuers()).isNotEmpty();
+		assertThat(trustManager((TlsChannelCredentials) provider.getChannelCredentials("c1"))).isSameAs(trustManager);
+		KeyStore emptyTrustStore = KeyStore.getInstance(KeyStore.getDefaultType());
+		emptyTrustStore.load(null, null);
+		bundles.updateBundle("test", SslBundle.of(SslStoreBundle.of(null, null, emptyTrustStore)));
+		assertThat(trustManager.getAcceptedIssuers()).isEmpty();
+	}
+
+	@Test
+	void credentialsWithTlsOptionsDoNotDependOnNettyFlavour() {
+		DefaultSslBundleRegistry bundles = new DefaultSslBundleRegistry("test", SslBundle.of(SslStoreBundle.NONE));
+		GrpcClientProperties properties = new GrpcClientProperties();
+		GrpcClientProperties.ChannelConfig channel = new GrpcClientProperties.ChannelConfig();
+		channel.setNegotiationType(NegotiationType.TLS);
+		channel.getSsl().setBundle("test");
+		channel.getSsl().setProvider(TlsProvider.JDK);
+		properties.getChannels().put("c1", channel);
+		NamedChannelCredentialsProvider provider = new NamedChannelCredentialsProvider(bundles, properties);
+		assertThat(provider.getChannelCredentials("c1")).isInstanceOfSatisfying(NettyTlsChannelCredentials.class,
+				(credentials) -> assertThat(credentials.getOptions().provider()).isEqualTo(TlsProvider.JDK));
+	}
+
+	@Test
+	void credentialsWithTlsOptionsWorkWithUnshadedNettyChannelFactory() {
+		DefaultSslBundleRegistry bundles = new DefaultSslBundleRegistry("test", SslBundle.of(SslStoreBundle.NONE));
+		GrpcClientProperties properties = new GrpcClientProperties();
+		GrpcClientProperties.ChannelConfig channel = new GrpcClientProperties.ChannelConfig();
+		channel.setAddress("static://localhost:9090");
+		channel.setNegotiationType(NegotiationType.TLS);
+		channel.getSsl().setBundle("test");
+		channel.getSsl().setSessionCacheSize(16);
+		properties.getChannels().put("c1", channel);
+		NettyGrpcChannelFactory factory = new NettyGrpcChannelFactory(List.of(), mock());
+		factory.setVirtualTargets(properties);
+		factory.setCredentialsProvider(new NamedChannelCredentialsProvider(bundles, properties));
+		ManagedChannel managedChannel = factory.createChannel("c1");
+		try {
+			assertThat(managedChannel.authority()).isEqualTo("localhost:9090");
+		}
+		finally {
+			managedChannel.shutdownNow();
+		}
+	}
+
+	private static X509TrustManager trustManager(TlsChannelCredentials credentials) {
+		TrustManager trustManager = credentials.getTrustManagers().get(0);
+		assertThat(trustManager).isInstanceOf(X509TrustManager.class);
+		return (X509TrustManager) trustManager;
+	}
+
+}
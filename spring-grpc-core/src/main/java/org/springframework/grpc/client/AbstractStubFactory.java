@@ -16,14 +16,27 @@
 
 package org.springframework.grpc.client;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.function.Supplier;
 
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
 import io.grpc.Channel;
 import io.grpc.ManagedChannel;
 import io.grpc.stub.AbstractStub;
 
 public abstract class AbstractStubFactory<T extends AbstractStub<?>> implements StubFactory<T> {
 
+	private static final MethodType STUB_METHOD_TYPE = MethodType.methodType(Object.class, Channel.class);
+
+	// Resolved once per service class as stubs may be created per request
+	private final Map<Class<?>, MethodHandle> stubMethods = new ConcurrentReferenceHashMap<>();
+
 	protected static <S extends AbstractStub<?>> boolean supports(Class<S> baseType, Class<?> type) {
 		return baseType.isAssignableFrom(type);
 	}
@@ -38,11 +51,23 @@ public abstract class AbstractStubFactory<T extends AbstractStub<?>> implements
 	}
 
 	private Object createStub(Supplier<ManagedChannel> channel, Class<?> factory, String method) {
+		MethodHandle stubMethod = this.stubMethods.computeIfAbsent(factory, (key) -> findStubMethod(key, method));
+		try {
+			return stubMethod.invokeExact((Channel) channel.get());
+		}
+		catch (Throwable ex) {
+			throw new IllegalStateException("Failed to create stub", ex);
+		}
+	}
+
+	private static MethodHandle findStubMethod(Class<?> factory, String method) {
 		try {
-			return factory.getMethod(method, Channel.class).invoke(null, channel.get());
+			Method stubMethod = factory.getMethod(method, Channel.class);
+			ReflectionUtils.makeAccessible(stubMethod);
+			return MethodHandles.lookup().unreflect(stubMethod).asType(STUB_METHOD_TYPE);
 		}
-		catch (Exception e) {
-			throw new IllegalStateException("Failed to create stub", e);
+		catch (Exception ex) {
+			throw new IllegalStateException("Failed to create stub", ex);
 		}
 	}
 
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.log.LogAccessor;
+import org.springframework.util.Assert;
+
+import io.grpc.CallOptions;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCalls;
+
+/**
+ * Warms up a channel so that its first real call does not pay for name resolution and the
+ * TCP, TLS and HTTP/2 handshakes. The channel is asked to connect and is awaited until it
+ * is ready, after which an optional call primes it further. The response of the call,
+ * including any error status, is ignored.
+ *
+ * @author Chris Bono
+ */
+public class ChannelWarmup {
+
+	private static final LogAccessor log = new LogAccessor(ChannelWarmup.class);
+
+	private final Duration timeout;
+
+	private final @Nullable String fullMethodName;
+
+	/**
+	 * Creates a new warm-up.
+	 * @param timeout the maximum time to wait for the channel to be ready and for the
+	 * call to complete
+	 * @param fullMethodName the full name of a unary method to call with an empty request
+	 * once the channel is ready (e.g. 'grpc.health.v1.Health/Check') or {@code null} to
+	 * not make a call
+	 */
+	public ChannelWarmup(Duration timeout, @Nullable String fullMethodName) {
+		Assert.notNull(timeout, "timeout must not be null");
+		this.timeout = timeout;
+		this.fullMethodName = fullMethodName;
+	}
+
+	/**
+	 * Warms up the given channel, blocking until it is ready or the timeout elapses.
+	 * @param channel the channel to warm up
+	 * @return whether the channel became ready within the timeout
+	 */
+	public boolean warmUp(ManagedChannel channel) {
+		long deadline = System.nanoTime() + this.timeout.toNanos();
+		try {
+			if (!awaitReady(channel, deadline)) {
+				return false;
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		if (this.fullMethodName != null) {
+			call(channel, this.fullMethodName, deadline);
+		}
+		return true;
+	}
+
+	private boolean awaitReady(ManagedChannel channel, long deadline) throws InterruptedException {
+		ConnectivityState state = channel.getState(true);
+		while (state != ConnectivityState.READY) {
+			long remaining = deadline - System.nanoTime();
+			if (state == ConnectivityState.SHUTDOWN || remaining <= 0) {
+				return false;
+			}
+			CountDownLatch changed = new CountDownLatch(1);
+			channel.notifyWhenStateChanged(state, changed::countDown);
+			if (!changed.await(remaining, TimeUnit.NANOSECONDS)) {
+				return false;
+			}
+			state = channel.getState(true);
+		}
+		return true;
+	}
+
+	private void call(ManagedChannel channel, String fullMethodName, long deadline) {
+		MethodDescriptor<byte[], byte[]> method = MethodDescriptor.<byte[], byte[]>newBuilder()
+			.setType(MethodType.UNARY)
+			.setFullMethodName(fullMethodName)
+			.setRequestMarshaller(ByteArrayMarshaller.INSTANCE)
+			.setResponseMarshaller(ByteArrayMarshaller.INSTANCE)
+			.build();
+		CallOptions options = CallOptions.DEFAULT.withDeadlineAfter(Math.max(deadline - System.nanoTime(), 0),
+				TimeUnit.NANOSECONDS);
+		try {
+			ClientCalls.blockingUnaryCall(channel, method, options, new byte[0]);
+		}
+		catch (StatusRuntimeException ex) {
+			log.debug(() -> "Warm-up call to " + fullMethodName + " completed with " + ex.getStatus());
+		}
+	}
+
+	private static final class ByteArrayMarshaller implements MethodDescriptor.Marshaller<byte[]> {
+
+		static final ByteArrayMarshaller INSTANCE = new ByteArrayMarshaller();
+
+		@Override
+		public InputStream stream(byte[] value) {
+			return new ByteArrayInputStream(value);
+		}
+
+		@Override
+		public byte[] parse(InputStream stream) {
+			try {
+				return stream.readAllBytes();
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+	}
+
+}
@@ -20,12 +20,23 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.log.LogAccessor;
+import org.springframework.grpc.client.interceptor.MarshallerDecoratingClientInterceptor;
+import org.springframework.grpc.marshaller.MarshallerDecorator;
+import org.springframework.grpc.netty.NettyTlsChannelCredentials;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 
 import io.grpc.ChannelCredentials;
@@ -49,10 +60,14 @@ public class DefaultGrpcChannelFactory<T extends ManagedChannelBuilder<T>>
 
 	private final LogAccessor log = new LogAccessor(getClass());
 
-	private final List<ManagedChannelWithShutdown> channels = new ArrayList<>();
+	private final List<ManagedChannelWithShutdown> channels = new CopyOnWriteArrayList<>();
+
+	private final List<RefreshableChannel> refreshableChannels = new CopyOnWriteArrayList<>();
 
 	private final List<GrpcChannelBuilderCustomizer<T>> globalCustomizers = new ArrayList<>();
 
+	private final List<MarshallerDecorator> marshallerDecorators = new ArrayList<>();
+
 	private final ClientInterceptorsConfigurer interceptorsConfigurer;
 
 	private @Nullable ClientInterceptorFilter interceptorFilter;
@@ -61,6 +76,14 @@ public class DefaultGrpcChannelFactory<T extends ManagedChannelBuilder<T>>
 
 	protected VirtualTargets targets = VirtualTargets.DEFAULT;
 
+	private Predicate<String> lazyTargets = (target) -> false;
+
+	private Function<String, @Nullable ChannelWarmup> warmups = (target) -> null;
+
+	private Predicate<String> refreshableTargets = (target) -> false;
+
+	private @Nullable ScheduledExecutorService drainScheduler;
+
 	public void setInterceptorFilter(@Nullable ClientInterceptorFilter interceptorFilter) {
 		this.interceptorFilter = interceptorFilter;
 	}
@@ -102,14 +125,138 @@ public class DefaultGrpcChannelFactory<T extends ManagedChannelBuilder<T>>
 		this.targets = targets;
 	}
 
+	/**
+	 * Set which channels are created lazily. The builder of a lazy channel is only
+	 * created and customized, and the channel only connects, when the first call is made
+	 * on the channel.
+	 * @param lazyTargets tests the target passed to {@link #createChannel} for whether to
+	 * create the channel lazily
+	 */
+	public void setLazyTargets(Predicate<String> lazyTargets) {
+		Assert.notNull(lazyTargets, () -> "lazyTargets must not be null");
+		this.lazyTargets = lazyTargets;
+	}
+
+	/**
+	 * Set which channels are warmed up when they are created, in which case creating the
+	 * channel blocks until it is ready or the warm-up times out. Lazy channels are never
+	 * warmed up.
+	 * @param warmups returns the warm-up for the target passed to {@link #createChannel}
+	 * or {@code null} to not warm up the channel
+	 */
+	public void setWarmups(Function<String, @Nullable ChannelWarmup> warmups) {
+		Assert.notNull(warmups, () -> "warmups must not be null");
+		this.warmups = warmups;
+	}
+
+	/**
+	 * Set which channels can be rebuilt by {@link #refreshChannels()}. Stubs are given a
+	 * channel that delegates to the current underlying channel, so they do not need to be
+	 * recreated when the channel is rebuilt.
+	 * @param refreshableTargets tests the target passed to {@link #createChannel} for
+	 * whether the channel can be refreshed
+	 */
+	public void setRefreshableTargets(Predicate<String> refreshableTargets) {
+		Assert.notNull(refreshableTargets, () -> "refreshableTargets must not be null");
+		this.refreshableTargets = refreshableTargets;
+	}
+
 	public void setCredentialsProvider(ChannelCredentialsProvider credentials) {
 		this.credentials = credentials;
 	}
 
+	/**
+	 * Add a decorator to apply to the request and response marshallers of each call made
+	 * on the created channels. Decorators are applied according to their
+	 * {@link org.springframework.core.Ordered order}.
+	 * @param marshallerDecorator the marshaller decorator to add
+	 */
+	public void addMarshallerDecorator(MarshallerDecorator marshallerDecorator) {
+		Assert.notNull(marshallerDecorator, () -> "marshallerDecorator must not be null");
+		this.marshallerDecorators.add(marshallerDecorator);
+		AnnotationAwareOrderComparator.sort(this.marshallerDecorators);
+	}
+
 	@Override
 	public ManagedChannel createChannel(String target, ChannelBuilderOptions options) {
+		boolean lazy = this.lazyTargets.test(target);
+		Supplier<ManagedChannel> channelSupplier = lazy
+				? () -> new LazyManagedChannel(() -> buildChannel(target, options))
+				: () -> buildChannel(target, options);
+		ManagedChannel channel = channelSupplier.get();
+		var shutdownGracePeriod = options.shutdownGracePeriod();
+		if (this.refreshableTargets.test(target)) {
+			RefreshableManagedChannel refreshableChannel = new RefreshableManagedChannel(channel);
+			this.refreshableChannels
+				.add(new RefreshableChannel(target, lazy, channelSupplier, refreshableChannel, shutdownGracePeriod));
+			channel = refreshableChannel;
+		}
+		this.channels.add(new ManagedChannelWithShutdown(channel, shutdownGracePeriod));
+		if (!lazy) {
+			warmUp(target, channel);
+		}
+		return channel;
+	}
+
+	/**
+	 * Rebuild the {@link #setRefreshableTargets refreshable} channels, so that they pick
+	 * up any change to their configuration. Each new channel is warmed up, if configured,
+	 * before it replaces the previous one. Calls in progress complete on the previous
+	 * channel, which is shut down and then forcefully shut down once its shutdown grace
+	 * period has passed.
+	 */
+	public synchronized void refreshChannels() {
+		for (RefreshableChannel refreshable : this.refreshableChannels) {
+			ManagedChannel channel = refreshable.channelSupplier().get();
+			if (!refreshable.lazy()) {
+				warmUp(refreshable.target(), channel);
+			}
+			ManagedChannel previous = refreshable.channel().swap(channel);
+			if (previous != null) {
+				this.log.debug(() -> "Refreshed channel: " + refreshable.target());
+				drain(previous, refreshable.shutdownGracePeriod());
+			}
+		}
+	}
+
+	private void warmUp(String target, ManagedChannel channel) {
+		ChannelWarmup warmup = this.warmups.apply(target);
+		if (warmup != null && !warmup.warmUp(channel)) {
+			this.log.warn(() -> "Channel '" + target + "' was not ready before its warm-up timed out");
+		}
+	}
+
+	private void drain(ManagedChannel channel, Duration shutdownGracePeriod) {
+		ManagedChannelWithShutdown draining = new ManagedChannelWithShutdown(channel, shutdownGracePeriod);
+		this.channels.add(draining);
+		channel.shutdown();
+		getDrainScheduler().schedule(() -> {
+			if (!channel.isTerminated()) {
+				this.log.debug(() -> "Refreshed channel not terminated yet - forcing shutdown: " + channel);
+				channel.shutdownNow();
+			}
+			this.channels.remove(draining);
+		}, shutdownGracePeriod.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	private ScheduledExecutorService getDrainScheduler() {
+		ScheduledExecutorService drainScheduler = this.drainScheduler;
+		if (drainScheduler == null) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("grpc-channel-drain-");
+			threadFactory.setDaemon(true);
+			drainScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+			this.drainScheduler = drainScheduler;
+		}
+		return drainScheduler;
+	}
+
+	private ManagedChannel buildChannel(String target, ChannelBuilderOptions options) {
 		var targetUri = this.targets.getTarget(target);
 		T builder = newChannelBuilder(targetUri, this.credentials.getChannelCredentials(target));
+		// Handle marshaller decorators (added first so that they are the innermost)
+		if (!this.marshallerDecorators.isEmpty()) {
+			builder.intercept(new MarshallerDecoratingClientInterceptor(this.marshallerDecorators));
+		}
 		// Handle interceptors
 		this.interceptorsConfigurer.configureInterceptors(builder, options.interceptors(),
 				options.mergeWithGlobalInterceptors(), this);
@@ -119,23 +266,23 @@ public class DefaultGrpcChannelFactory<T extends ManagedChannelBuilder<T>>
 		if (customizer != null) {
 			customizer.customize(target, builder);
 		}
-		var channel = builder.build();
-		var shutdownGracePeriod = options.shutdownGracePeriod();
-		this.channels.add(new ManagedChannelWithShutdown(channel, shutdownGracePeriod));
-		return channel;
+		return builder.build();
 	}
 
 	/**
 	 * Creates a new {@link ManagedChannelBuilder} instance for the given target and
 	 * credentials. The {@code target} is a valid nameresolver-compliant URI or an
 	 * authority string as described in {@link Grpc#newChannelBuilder}.
+	 * {@link NettyTlsChannelCredentials} are replaced by their plain TLS credentials as
+	 * the builder may not be backed by Netty.
 	 * @param target the target of the channel
 	 * @param credentials the credentials for the channel
 	 * @return a new builder for the given target and credentials
 	 */
 	@SuppressWarnings("unchecked")
 	protected T newChannelBuilder(String target, ChannelCredentials credentials) {
-		return (T) Grpc.newChannelBuilder(target, credentials);
+		return (T) Grpc.newChannelBuilder(target,
+				(credentials instanceof NettyTlsChannelCredentials tls) ? tls.toTlsChannelCredentials() : credentials);
 	}
 
 	/**
@@ -175,6 +322,11 @@ public class DefaultGrpcChannelFactory<T extends ManagedChannelBuilder<T>>
 					channel.shutdownNow();
 				}
 			});
+			synchronized (this) {
+				if (this.drainScheduler != null) {
+					this.drainScheduler.shutdownNow();
+				}
+			}
 		}
 	}
 
@@ -193,4 +345,8 @@ public class DefaultGrpcChannelFactory<T extends ManagedChannelBuilder<T>>
 	record ManagedChannelWithShutdown(ManagedChannel channel, Duration shutdownGracePeriod) {
 	}
 
+	private record RefreshableChannel(String target, boolean lazy, Supplier<ManagedChannel> channelSupplier,
+			RefreshableManagedChannel channel, Duration shutdownGracePeriod) {
+	}
+
 }
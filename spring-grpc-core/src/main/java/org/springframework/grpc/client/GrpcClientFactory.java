@@ -17,7 +17,11 @@
 package org.springframework.grpc.client;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -25,10 +29,13 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
@@ -40,13 +47,17 @@ import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.filter.AssignableTypeFilter;
 import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.grpc.index.StubIndex;
 import org.springframework.grpc.internal.ClasspathScanner;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
+import io.grpc.Channel;
 import io.grpc.stub.AbstractStub;
 
 /**
@@ -61,6 +72,14 @@ public class GrpcClientFactory implements ApplicationContextAware {
 
 	private static final String FACTORIES_BEAN_DEFINITION_NAME = GrpcClientFactory.class.getName() + ".factories";
 
+	private static final MethodType SUPPORTS_METHOD_TYPE = MethodType.methodType(boolean.class, Class.class);
+
+	// Resolved once as supports() is checked for each factory and stub type, including
+	// while scanning the classpath
+	private static final Map<Class<?>, Optional<MethodHandle>> SUPPORTS_METHODS = new ConcurrentReferenceHashMap<>();
+
+	private static final Map<FactoryAndType, Boolean> SUPPORTS_CACHE = new ConcurrentReferenceHashMap<>();
+
 	private Map<Class<?>, StubFactory<?>> factories = new LinkedHashMap<>();
 
 	private @Nullable ApplicationContext context;
@@ -89,6 +108,65 @@ public class GrpcClientFactory implements ApplicationContextAware {
 		return client;
 	}
 
+	/**
+	 * Create a client for the given target by calling the stub method directly instead of
+	 * going through a {@link StubFactory}. Used by ahead-of-time generated bean
+	 * definitions for stubs with a
+	 * {@link #findStubMethod(BeanDefinitionRegistry, Class, Class) known stub method}.
+	 * @param <T> the type of the stub
+	 * @param target the target of the channel
+	 * @param stub the function that creates the stub from a channel
+	 * @return the client stub
+	 */
+	public <T> T getClient(String target, Function<Channel, T> stub) {
+		return stub.apply(channels().createChannel(target, ChannelBuilderOptions.defaults()));
+	}
+
+	/**
+	 * Find the static method on the enclosing service class that a default stub factory
+	 * would call to create the given stub type. Stubs created by other factories, or
+	 * where the choice of factory is not clear until runtime, have no such method.
+	 * @param registry the bean definition registry
+	 * @param factory the requested stub factory type (may be
+	 * {@link UnspecifiedStubFactory})
+	 * @param type the stub type
+	 * @return the stub method or {@code null}
+	 */
+	public static @Nullable Method findStubMethod(BeanDefinitionRegistry registry, @Nullable Class<?> factory,
+			Class<?> type) {
+		Class<?> factoryType = null;
+		if (factory != null && factory != UnspecifiedStubFactory.class) {
+			factoryType = factory;
+		}
+		else {
+			Set<Class<?>> factories = locateFactoryTypes(registry);
+			if (!DEFAULT_FACTORIES.containsAll(factories)) {
+				// Custom factories take precedence at runtime
+				return null;
+			}
+			for (Class<?> candidate : factories) {
+				if (supports(candidate, type)) {
+					if (factoryType != null) {
+						return null;
+					}
+					factoryType = candidate;
+				}
+			}
+		}
+		Class<?> service = type.getEnclosingClass();
+		if (factoryType == null || service == null || !DEFAULT_FACTORIES.contains(factoryType)
+				|| !supports(factoryType, type)) {
+			return null;
+		}
+		AbstractStubFactory<?> stubs = (AbstractStubFactory<?>) BeanUtils.instantiateClass(factoryType);
+		Method method = ReflectionUtils.findMethod(service, stubs.methodName(), Channel.class);
+		if (method == null || !Modifier.isStatic(method.getModifiers())
+				|| !type.isAssignableFrom(method.getReturnType())) {
+			return null;
+		}
+		return method;
+	}
+
 	private StubFactory<?> findFactory(Class<?> factoryType, Class<?> type) {
 		if (this.factories.isEmpty()) {
 			List<StubFactory<?>> factories = new ArrayList<>();
@@ -174,30 +252,49 @@ public class GrpcClientFactory implements ApplicationContextAware {
 		return null;
 	}
 
-	@SuppressWarnings("NullAway")
-	private static boolean supports(Class<?> factory, Class<?> type) {
-		// To avoid needing to instantiate the factory we use reflection to check for a
-		// static supports() method. If it exists we call it.
+	private static boolean supports(@Nullable Class<?> factory, Class<?> type) {
 		if (factory == null) {
 			return false;
 		}
+		return SUPPORTS_CACHE.computeIfAbsent(new FactoryAndType(factory, type),
+				(key) -> resolveSupports(key.factory(), key.type()));
+	}
+
+	private static boolean resolveSupports(Class<?> factory, Class<?> type) {
+		// To avoid needing to instantiate the factory we check for a static supports()
+		// method. If it exists we call it.
+		Optional<MethodHandle> method = SUPPORTS_METHODS.computeIfAbsent(factory,
+				GrpcClientFactory::findSupportsMethod);
+		if (method.isEmpty()) {
+			// If the factory is not one of the default factories, and doesn't have a
+			// supports() method we assume it supports the supplied type
+			return !DEFAULT_FACTORIES.contains(factory);
+		}
+		try {
+			return (boolean) method.get().invokeExact(type);
+		}
+		catch (Throwable ex) {
+			// Ignore
+			return false;
+		}
+	}
+
+	private static Optional<MethodHandle> findSupportsMethod(Class<?> factory) {
 		Method method = ReflectionUtils.findMethod(factory, "supports", Class.class);
-		boolean supports = false;
-		if (method != null) {
+		if (method == null) {
+			return Optional.empty();
+		}
+		if (Modifier.isStatic(method.getModifiers())) {
 			ReflectionUtils.makeAccessible(method);
 			try {
-				supports = (boolean) ReflectionUtils.invokeMethod(method, null, type);
+				return Optional.of(MethodHandles.lookup().unreflect(method).asType(SUPPORTS_METHOD_TYPE));
 			}
-			catch (Exception e) {
-				// Ignore
+			catch (Exception ex) {
+				// Fall through
 			}
 		}
-		else {
-			// If the factory is not one of the default factories, and doesn't have a
-			// supports() method we assume it supports the supplied type
-			supports = !DEFAULT_FACTORIES.contains(factory);
-		}
-		return supports;
+		// A supports() method that cannot be called never matches
+		return Optional.of(MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, Class.class));
 	}
 
 	private static @Nullable StubFactory<?> findFactory(Map<Class<?>, StubFactory<?>> values, Class<?> factoryType,
@@ -256,18 +353,11 @@ public class GrpcClientFactory implements ApplicationContextAware {
 		private GrpcClientRegistrationSpec prepare(BeanDefinitionRegistry registry) {
 			Set<Class<?>> allTypes = new HashSet<>();
 			allTypes.addAll(Set.of(this.types));
+			StubIndex index = (this.packages.length > 0) ? StubIndex.load(ClasspathScanner.class.getClassLoader())
+					: null;
 			for (String basePackage : this.packages) {
 				Class<?> factoryToUse = this.factory == null ? BlockingStubFactory.class : this.factory;
-				TypeFilter filter = new TypeFilter() {
-					@Override
-					public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory)
-							throws IOException {
-						Class<?> type = ClassUtils.resolveClassName(metadataReader.getClassMetadata().getClassName(),
-								ClasspathScanner.class.getClassLoader());
-						return supports(factoryToUse, type);
-					}
-				};
-				for (Class<?> type : SCANNER.scan(basePackage, filter)) {
+				for (Class<?> type : findCandidateStubs(index, basePackage, factoryToUse)) {
 					if (findDefaultFactory(registry, factoryToUse, type) != null) {
 						allTypes.add(type);
 					}
@@ -278,6 +368,54 @@ public class GrpcClientFactory implements ApplicationContextAware {
 			return new GrpcClientRegistrationSpec(this.prefix, this.factory, this.target, newTypes, new String[0]);
 		}
 
+		private static Set<Class<?>> findCandidateStubs(@Nullable StubIndex index, String basePackage,
+				Class<?> factory) {
+			if (index != null) {
+				Set<Class<?>> candidates = new LinkedHashSet<>();
+				for (String name : index.getCandidateTypes(basePackage)) {
+					// Stubs indexed by an earlier build may have been removed since
+					if (ClassUtils.isPresent(name, ClasspathScanner.class.getClassLoader())) {
+						Class<?> type = ClassUtils.resolveClassName(name, ClasspathScanner.class.getClassLoader());
+						if (supports(factory, type)) {
+							candidates.add(type);
+						}
+					}
+				}
+				// The index is only a hint, packages it does not cover are scanned
+				if (!candidates.isEmpty()) {
+					return candidates;
+				}
+			}
+			TypeFilter stubFilter = new AssignableTypeFilter(AbstractStub.class);
+			TypeFilter filter = new TypeFilter() {
+				@Override
+				public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory)
+						throws IOException {
+					// Check the metadata first so that only possible stubs are loaded
+					if (!isCandidateStub(metadataReader, metadataReaderFactory, factory, stubFilter)) {
+						return false;
+					}
+					Class<?> type = ClassUtils.resolveClassName(metadataReader.getClassMetadata().getClassName(),
+							ClasspathScanner.class.getClassLoader());
+					return supports(factory, type);
+				}
+			};
+			return SCANNER.scan(basePackage, filter);
+		}
+
+		private static boolean isCandidateStub(MetadataReader metadataReader,
+				MetadataReaderFactory metadataReaderFactory, Class<?> factory, TypeFilter stubFilter)
+				throws IOException {
+			if (!DEFAULT_FACTORIES.contains(factory)) {
+				// Other factories may support any type
+				return true;
+			}
+			// The default factories only support stubs, or types named like blocking
+			// stubs
+			return stubFilter.match(metadataReader, metadataReaderFactory) || (factory == BlockingStubFactory.class
+					&& metadataReader.getClassMetadata().getClassName().endsWith("BlockingStub"));
+		}
+
 		public static GrpcClientRegistrationSpec of(String target) {
 			return new GrpcClientRegistrationSpec(target, new Class[0]);
 		}
@@ -335,6 +473,9 @@ public class GrpcClientFactory implements ApplicationContextAware {
 		}
 	}
 
+	private record FactoryAndType(Class<?> factory, Class<?> type) {
+	}
+
 	static class StubFactoryProvider {
 
 	}
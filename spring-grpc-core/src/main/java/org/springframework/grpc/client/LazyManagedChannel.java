@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+
+/**
+ * A {@link ManagedChannel} that defers creating its delegate channel, and so building it
+ * and connecting, until the first call is made.
+ *
+ * @author Chris Bono
+ */
+final class LazyManagedChannel extends ManagedChannel {
+
+	private final Supplier<ManagedChannel> channelSupplier;
+
+	private volatile @Nullable ManagedChannel channel;
+
+	private volatile boolean shutdown;
+
+	LazyManagedChannel(Supplier<ManagedChannel> channelSupplier) {
+		this.channelSupplier = channelSupplier;
+	}
+
+	private ManagedChannel channel() {
+		ManagedChannel channel = this.channel;
+		if (channel == null) {
+			synchronized (this) {
+				channel = this.channel;
+				if (channel == null) {
+					channel = this.channelSupplier.get();
+					if (this.shutdown) {
+						// Lets the channel fail the calls as any shut down channel does
+						channel.shutdown();
+					}
+					this.channel = channel;
+				}
+			}
+		}
+		return channel;
+	}
+
+	/**
+	 * Whether the delegate channel has been created.
+	 * @return whether the delegate channel has been created
+	 */
+	boolean isCreated() {
+		return this.channel != null;
+	}
+
+	@Override
+	public <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(
+			MethodDescriptor<RequestT, ResponseT> methodDescriptor, CallOptions callOptions) {
+		return channel().newCall(methodDescriptor, callOptions);
+	}
+
+	@Override
+	public String authority() {
+		return channel().authority();
+	}
+
+	@Override
+	public ConnectivityState getState(boolean requestConnection) {
+		ManagedChannel channel = this.channel;
+		if (channel == null && !requestConnection) {
+			return this.shutdown ? ConnectivityState.SHUTDOWN : ConnectivityState.IDLE;
+		}
+		return channel().getState(requestConnection);
+	}
+
+	@Override
+	public void notifyWhenStateChanged(ConnectivityState source, Runnable callback) {
+		channel().notifyWhenStateChanged(source, callback);
+	}
+
+	@Override
+	public void resetConnectBackoff() {
+		ManagedChannel channel = this.channel;
+		if (channel != null) {
+			channel.resetConnectBackoff();
+		}
+	}
+
+	@Override
+	public void enterIdle() {
+		ManagedChannel channel = this.channel;
+		if (channel != null) {
+			channel.enterIdle();
+		}
+	}
+
+	@Override
+	public synchronized ManagedChannel shutdown() {
+		this.shutdown = true;
+		ManagedChannel channel = this.channel;
+		if (channel != null) {
+			channel.shutdown();
+		}
+		return this;
+	}
+
+	@Override
+	public synchronized ManagedChannel shutdownNow() {
+		this.shutdown = true;
+		ManagedChannel channel = this.channel;
+		if (channel != null) {
+			channel.shutdownNow();
+		}
+		return this;
+	}
+
+	@Override
+	public boolean isShutdown() {
+		ManagedChannel channel = this.channel;
+		return (channel != null) ? channel.isShutdown() : this.shutdown;
+	}
+
+	@Override
+	public boolean isTerminated() {
+		ManagedChannel channel = this.channel;
+		return (channel != null) ? channel.isTerminated() : this.shutdown;
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		ManagedChannel channel = this.channel;
+		return (channel != null) ? channel.awaitTermination(timeout, unit) : this.shutdown;
+	}
+
+	@Override
+	public String toString() {
+		ManagedChannel channel = this.channel;
+		return "LazyManagedChannel[" + ((channel != null) ? channel : "not created") + "]";
+	}
+
+}
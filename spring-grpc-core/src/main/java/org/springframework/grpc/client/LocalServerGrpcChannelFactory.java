@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+
+import org.springframework.core.Ordered;
+import org.springframework.grpc.server.LocalGrpcServer;
+
+import io.grpc.ChannelCredentials;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.inprocess.InProcessChannelBuilder;
+
+/**
+ * {@link GrpcChannelFactory} that short-circuits channels to the gRPC server of this
+ * application, creating in-process channels to a {@link LocalGrpcServer local server}
+ * with the same services instead of network channels.
+ * <p>
+ * Supports the targets that resolve to a loopback or configured host and a port of the
+ * local server. Servers bound to an ephemeral port are never matched as channels are
+ * usually created before the server has started. Targets whose
+ * {@link #setCredentialsProvider(ChannelCredentialsProvider) credentials} are not
+ * insecure are never matched either, since an in-process call has no TLS session and so
+ * cannot be authenticated by a client certificate. The factory has the highest precedence
+ * so that a {@link CompositeGrpcChannelFactory} consults it first.
+ *
+ * @author Chris Bono
+ */
+public class LocalServerGrpcChannelFactory extends InProcessGrpcChannelFactory implements Ordered {
+
+	private static final List<String> LOOPBACK_HOSTS = List.of("localhost", "127.0.0.1", "[::1]", "::1");
+
+	private static final List<String> WILDCARD_HOSTS = List.of("*", "0.0.0.0");
+
+	private final String inProcessName;
+
+	private final Set<String> localAuthorities;
+
+	private ChannelCredentialsProvider credentials = ChannelCredentialsProvider.INSECURE;
+
+	/**
+	 * Construct a channel factory for the given local server.
+	 * @param localServer the local server to short-circuit channels to
+	 * @param globalCustomizers the global customizers to apply to all created channels
+	 * @param interceptorsConfigurer configures the client interceptors on the created
+	 * channels
+	 */
+	public LocalServerGrpcChannelFactory(LocalGrpcServer localServer,
+			List<GrpcChannelBuilderCustomizer<InProcessChannelBuilder>> globalCustomizers,
+			ClientInterceptorsConfigurer interceptorsConfigurer) {
+		super(globalCustomizers, interceptorsConfigurer);
+		this.inProcessName = localServer.getInProcessName();
+		this.localAuthorities = localAuthorities(localServer.getAddresses());
+	}
+
+	private static Set<String> localAuthorities(List<String> addresses) {
+		Set<String> authorities = new HashSet<>();
+		for (String address : addresses) {
+			Matcher matcher = VirtualTargets.AUTHORITY_PATTERN.matcher(address);
+			if (matcher.matches() && matcher.group(2) != null && Integer.parseInt(matcher.group(2)) > 0) {
+				String host = matcher.group(1);
+				String port = matcher.group(2);
+				LOOPBACK_HOSTS.forEach((loopback) -> authorities.add(loopback + ":" + port));
+				if (!WILDCARD_HOSTS.contains(host)) {
+					authorities.add(host + ":" + port);
+				}
+			}
+		}
+		return authorities;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Only the targets with insecure credentials are short-circuited.
+	 * @param credentials the credentials provider
+	 */
+	@Override
+	public void setCredentialsProvider(ChannelCredentialsProvider credentials) {
+		super.setCredentialsProvider(credentials);
+		this.credentials = credentials;
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @param target the target string
+	 * @return true if the target resolves to an address of the local server and has
+	 * insecure credentials
+	 */
+	@Override
+	public boolean supports(String target) {
+		return this.localAuthorities.contains(authority(this.targets.getTarget(target)))
+				&& this.credentials.getChannelCredentials(target) instanceof InsecureChannelCredentials;
+	}
+
+	private static String authority(String target) {
+		int schemeEnd = target.indexOf("://");
+		String authority = (schemeEnd != -1) ? target.substring(schemeEnd + 3) : target;
+		return authority.startsWith("/") ? authority.substring(1) : authority;
+	}
+
+	@Override
+	protected InProcessChannelBuilder newChannelBuilder(String target, ChannelCredentials creds) {
+		return InProcessChannelBuilder.forName(this.inProcessName);
+	}
+
+}
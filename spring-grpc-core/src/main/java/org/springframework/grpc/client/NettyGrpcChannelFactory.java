@@ -18,8 +18,16 @@ package org.springframework.grpc.client;
 
 import java.util.List;
 
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.grpc.netty.NettySslContexts;
+import org.springframework.grpc.netty.NettyTlsChannelCredentials;
+
 import io.grpc.ChannelCredentials;
 import io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.NettySslContextChannelCredentials;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.MultiThreadIoEventLoopGroup;
 import io.netty.channel.epoll.EpollDomainSocketChannel;
 import io.netty.channel.epoll.EpollIoHandler;
@@ -33,6 +41,8 @@ import io.netty.channel.unix.DomainSocketAddress;
  */
 public class NettyGrpcChannelFactory extends DefaultGrpcChannelFactory<NettyChannelBuilder> {
 
+	private @Nullable ByteBufAllocator allocator;
+
 	/**
 	 * Construct a channel factory instance.
 	 * @param globalCustomizers the global customizers to apply to all created channels
@@ -44,15 +54,47 @@ public class NettyGrpcChannelFactory extends DefaultGrpcChannelFactory<NettyChan
 		super(globalCustomizers, interceptorsConfigurer);
 	}
 
+	/**
+	 * Set the allocator to use for the buffers of the created channels.
+	 * @param allocator the allocator or {@code null} to use the default allocator of gRPC
+	 */
+	public void setAllocator(@Nullable ByteBufAllocator allocator) {
+		this.allocator = allocator;
+	}
+
+	/**
+	 * Gets the allocator used for the buffers of the created channels.
+	 * @return the allocator or {@code null} if the default allocator of gRPC is used
+	 */
+	public @Nullable ByteBufAllocator getAllocator() {
+		return this.allocator;
+	}
+
 	@Override
 	protected NettyChannelBuilder newChannelBuilder(String target, ChannelCredentials credentials) {
+		NettyChannelBuilder builder = createChannelBuilder(target, credentials);
+		if (this.allocator != null) {
+			builder.withOption(ChannelOption.ALLOCATOR, this.allocator);
+		}
+		return builder;
+	}
+
+	private NettyChannelBuilder createChannelBuilder(String target, ChannelCredentials credentials) {
 		if (target.startsWith("unix:")) {
 			target = target.substring(5);
 			return NettyChannelBuilder.forAddress(new DomainSocketAddress(target))
 				.channelType(EpollDomainSocketChannel.class)
 				.eventLoopGroup(new MultiThreadIoEventLoopGroup(EpollIoHandler.newFactory()));
 		}
-		return NettyChannelBuilder.forTarget(target, credentials);
+		return NettyChannelBuilder.forTarget(target, nettyCredentials(credentials));
+	}
+
+	private static ChannelCredentials nettyCredentials(ChannelCredentials credentials) {
+		if (credentials instanceof NettyTlsChannelCredentials tls) {
+			return NettySslContextChannelCredentials
+				.create(NettySslContexts.forClient(tls.getKeyManager(), tls.getTrustManager(), tls.getOptions()));
+		}
+		return credentials;
 	}
 
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+
+/**
+ * A {@link ManagedChannel} that delegates to a channel that can be swapped at runtime, so
+ * that the channel can be rebuilt with a new configuration while the stubs using it keep
+ * working. New calls use the current delegate while calls in progress complete on the
+ * delegate they were started on.
+ *
+ * @author Chris Bono
+ */
+final class RefreshableManagedChannel extends ManagedChannel {
+
+	private volatile ManagedChannel channel;
+
+	private boolean shutdown;
+
+	RefreshableManagedChannel(ManagedChannel channel) {
+		this.channel = channel;
+	}
+
+	/**
+	 * Replace the delegate channel. If this channel has already been shut down, the given
+	 * channel is shut down instead.
+	 * @param channel the new delegate channel
+	 * @return the previous delegate channel, which the caller is responsible for shutting
+	 * down, or {@code null} if this channel has been shut down
+	 */
+	synchronized @Nullable ManagedChannel swap(ManagedChannel channel) {
+		if (this.shutdown) {
+			channel.shutdownNow();
+			return null;
+		}
+		ManagedChannel previous = this.channel;
+		this.channel = channel;
+		return previous;
+	}
+
+	/**
+	 * Return the current delegate channel.
+	 * @return the current delegate channel
+	 */
+	ManagedChannel getChannel() {
+		return this.channel;
+	}
+
+	@Override
+	public <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(
+			MethodDescriptor<RequestT, ResponseT> methodDescriptor, CallOptions callOptions) {
+		return this.channel.newCall(methodDescriptor, callOptions);
+	}
+
+	@Override
+	public String authority() {
+		return this.channel.authority();
+	}
+
+	@Override
+	public ConnectivityState getState(boolean requestConnection) {
+		return this.channel.getState(requestConnection);
+	}
+
+	@Override
+	public void notifyWhenStateChanged(ConnectivityState source, Runnable callback) {
+		this.channel.notifyWhenStateChanged(source, callback);
+	}
+
+	@Override
+	public void resetConnectBackoff() {
+		this.channel.resetConnectBackoff();
+	}
+
+	@Override
+	public void enterIdle() {
+		this.channel.enterIdle();
+	}
+
+	@Override
+	public synchronized ManagedChannel shutdown() {
+		this.shutdown = true;
+		this.channel.shutdown();
+		return this;
+	}
+
+	@Override
+	public synchronized ManagedChannel shutdownNow() {
+		this.shutdown = true;
+		this.channel.shutdownNow();
+		return this;
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return this.channel.isShutdown();
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return this.channel.isTerminated();
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		return this.channel.awaitTermination(timeout, unit);
+	}
+
+	@Override
+	public String toString() {
+		return "RefreshableManagedChannel[" + this.channel + "]";
+	}
+
+}
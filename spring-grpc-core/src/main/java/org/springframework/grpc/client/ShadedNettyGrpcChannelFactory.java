@@ -18,8 +18,16 @@ package org.springframework.grpc.client;
 
 import java.util.List;
 
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.grpc.netty.NettyTlsChannelCredentials;
+import org.springframework.grpc.netty.ShadedNettySslContexts;
+
 import io.grpc.ChannelCredentials;
 import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettySslContextChannelCredentials;
+import io.grpc.netty.shaded.io.netty.buffer.ByteBufAllocator;
+import io.grpc.netty.shaded.io.netty.channel.ChannelOption;
 import io.grpc.netty.shaded.io.netty.channel.epoll.EpollDomainSocketChannel;
 import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
 import io.grpc.netty.shaded.io.netty.channel.unix.DomainSocketAddress;
@@ -31,6 +39,8 @@ import io.grpc.netty.shaded.io.netty.channel.unix.DomainSocketAddress;
  */
 public class ShadedNettyGrpcChannelFactory extends DefaultGrpcChannelFactory<NettyChannelBuilder> {
 
+	private @Nullable ByteBufAllocator allocator;
+
 	/**
 	 * Construct a channel factory instance.
 	 * @param globalCustomizers the global customizers to apply to all created channels
@@ -42,15 +52,47 @@ public class ShadedNettyGrpcChannelFactory extends DefaultGrpcChannelFactory<Net
 		super(globalCustomizers, interceptorsConfigurer);
 	}
 
+	/**
+	 * Set the allocator to use for the buffers of the created channels.
+	 * @param allocator the allocator or {@code null} to use the default allocator of gRPC
+	 */
+	public void setAllocator(@Nullable ByteBufAllocator allocator) {
+		this.allocator = allocator;
+	}
+
+	/**
+	 * Gets the allocator used for the buffers of the created channels.
+	 * @return the allocator or {@code null} if the default allocator of gRPC is used
+	 */
+	public @Nullable ByteBufAllocator getAllocator() {
+		return this.allocator;
+	}
+
 	@Override
 	protected NettyChannelBuilder newChannelBuilder(String path, ChannelCredentials credentials) {
+		NettyChannelBuilder builder = createChannelBuilder(path, credentials);
+		if (this.allocator != null) {
+			builder.withOption(ChannelOption.ALLOCATOR, this.allocator);
+		}
+		return builder;
+	}
+
+	private NettyChannelBuilder createChannelBuilder(String path, ChannelCredentials credentials) {
 		if (path.startsWith("unix:")) {
 			path = path.substring(5);
 			return NettyChannelBuilder.forAddress(new DomainSocketAddress(path))
 				.channelType(EpollDomainSocketChannel.class)
 				.eventLoopGroup(new EpollEventLoopGroup());
 		}
-		return NettyChannelBuilder.forTarget(path, credentials);
+		return NettyChannelBuilder.forTarget(path, nettyCredentials(credentials));
+	}
+
+	private static ChannelCredentials nettyCredentials(ChannelCredentials credentials) {
+		if (credentials instanceof NettyTlsChannelCredentials tls) {
+			return NettySslContextChannelCredentials
+				.create(ShadedNettySslContexts.forClient(tls.getKeyManager(), tls.getTrustManager(), tls.getOptions()));
+		}
+		return credentials;
 	}
 
 }
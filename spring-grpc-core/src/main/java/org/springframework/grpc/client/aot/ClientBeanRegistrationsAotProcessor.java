@@ -51,14 +51,19 @@ public class ClientBeanRegistrationsAotProcessor implements BeanFactoryInitializ
 	public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
 		Set<Type> registrations = new HashSet<>();
 		Set<Class<?>> resources = new HashSet<>();
+		boolean factoriesRequired = false;
 
 		for (String beanName : beanFactory.getBeanDefinitionNames()) {
 			RegisteredBean registeredBean = RegisteredBean.of(beanFactory, beanName);
 			if (AbstractStub.class.isAssignableFrom(registeredBean.getBeanClass())) {
 				Class<?> type = registeredBean.getBeanClass().getEnclosingClass();
-				if (type != null) {
-					registrations.add(type);
-					resources.add(registeredBean.getBeanClass());
+				// Stubs created by generated code need no reflection or scanning
+				if (ClientStubBeanRegistrationAotProcessor.findStubMethod(registeredBean) == null) {
+					factoriesRequired = true;
+					if (type != null) {
+						registrations.add(type);
+						resources.add(registeredBean.getBeanClass());
+					}
 				}
 				registrations.addAll(findMessageTypes(registeredBean.getBeanClass()));
 			}
@@ -69,7 +74,7 @@ public class ClientBeanRegistrationsAotProcessor implements BeanFactoryInitializ
 		}
 
 		Set<Type> factories = new HashSet<>();
-		if (beanFactory instanceof DefaultListableBeanFactory listable) {
+		if (factoriesRequired && beanFactory instanceof DefaultListableBeanFactory listable) {
 			HashSet<Class<?>> types = GrpcClientFactory.findStubFactoryTypes(listable);
 			factories.addAll(types);
 		}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.aot;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.aot.generate.AccessControl;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.aot.BeanRegistrationCode;
+import org.springframework.beans.factory.aot.BeanRegistrationCodeFragments;
+import org.springframework.beans.factory.aot.BeanRegistrationCodeFragmentsDecorator;
+import org.springframework.beans.factory.config.ConstructorArgumentValues.ValueHolder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.InstanceSupplier;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.grpc.client.GrpcClientFactory;
+import org.springframework.javapoet.CodeBlock;
+
+import io.grpc.stub.AbstractStub;
+
+/**
+ * {@link BeanRegistrationAotProcessor} that generates code to create client stubs
+ * registered by the {@link GrpcClientFactory} directly, calling the static stub method of
+ * the generated service class instead of looking it up reflectively at runtime.
+ *
+ * @author Chris Bono
+ */
+public class ClientStubBeanRegistrationAotProcessor implements BeanRegistrationAotProcessor {
+
+	@Override
+	public @Nullable BeanRegistrationAotContribution processAheadOfTime(RegisteredBean registeredBean) {
+		Method method = findStubMethod(registeredBean);
+		if (method == null) {
+			return null;
+		}
+		String target = (String) Objects.requireNonNull(getArgument(registeredBean, 0));
+		return BeanRegistrationAotContribution
+			.withCustomCodeFragments((codeFragments) -> new StubCodeFragments(codeFragments, target, method));
+	}
+
+	/**
+	 * Find the public static stub method that generated code can call to create the given
+	 * client stub bean.
+	 * @param registeredBean the registered bean
+	 * @return the stub method or {@code null} if the bean is not a client stub or the
+	 * stub has to be created at runtime by its factory
+	 */
+	static @Nullable Method findStubMethod(RegisteredBean registeredBean) {
+		Class<?> type = registeredBean.getBeanClass();
+		if (!AbstractStub.class.isAssignableFrom(type)
+				|| !(registeredBean.getBeanFactory() instanceof BeanDefinitionRegistry registry)) {
+			return null;
+		}
+		RootBeanDefinition beanDefinition = registeredBean.getMergedBeanDefinition();
+		if (!GrpcClientFactory.class.getName().equals(beanDefinition.getFactoryBeanName())
+				|| !"getClient".equals(beanDefinition.getFactoryMethodName())
+				|| !(getArgument(registeredBean, 0) instanceof String)) {
+			return null;
+		}
+		Class<?> factory = (getArgument(registeredBean, 2) instanceof Class<?> value) ? value : null;
+		Method method = GrpcClientFactory.findStubMethod(registry, factory, type);
+		return (method != null && isPublic(method)) ? method : null;
+	}
+
+	private static @Nullable Object getArgument(RegisteredBean registeredBean, int index) {
+		ValueHolder holder = registeredBean.getMergedBeanDefinition()
+			.getConstructorArgumentValues()
+			.getIndexedArgumentValue(index, null);
+		return (holder != null) ? holder.getValue() : null;
+	}
+
+	private static boolean isPublic(Method method) {
+		// The generated code can live in a different package
+		return AccessControl.forMember(method).isPublic() && AccessControl.forClass(method.getReturnType()).isPublic();
+	}
+
+	static class StubCodeFragments extends BeanRegistrationCodeFragmentsDecorator {
+
+		private final String target;
+
+		private final Method method;
+
+		StubCodeFragments(BeanRegistrationCodeFragments delegate, String target, Method method) {
+			super(delegate);
+			this.target = target;
+			this.method = method;
+		}
+
+		@Override
+		public CodeBlock generateInstanceSupplierCode(GenerationContext generationContext,
+				BeanRegistrationCode beanRegistrationCode, boolean allowDirectSupplierShortcut) {
+			return CodeBlock.of(
+					"$T.<$T>of((registeredBean) -> registeredBean.getBeanFactory().getBean($S, $T.class)"
+							+ ".getClient($S, $T::$L))",
+					InstanceSupplier.class, this.method.getReturnType(), GrpcClientFactory.class.getName(),
+					GrpcClientFactory.class, this.target, this.method.getDeclaringClass(), this.method.getName());
+		}
+
+	}
+
+}
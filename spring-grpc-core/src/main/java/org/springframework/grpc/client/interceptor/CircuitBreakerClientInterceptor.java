@@ -0,0 +1,384 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.interceptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall.SimpleForwardingClientCall;
+import io.grpc.ForwardingClientCallListener.SimpleForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * A client interceptor that stops sending calls to a channel whose recent calls mostly
+ * failed, so that callers fail fast instead of waiting on a backend that is down. The
+ * outcome of the last {@code slidingWindowSize} calls is recorded, and once at least
+ * {@code minimumNumberOfCalls} were recorded and the rate of those that closed with one
+ * of the failure status codes reaches the threshold, the circuit breaker opens.
+ * <p>
+ * While open, calls are closed immediately with {@link Status#UNAVAILABLE}. After the
+ * open duration a single trial call is let through (half-open): the circuit breaker
+ * closes again when it succeeds and opens again when it fails. A trial call that has not
+ * completed within the open duration is given up on and another trial call is let
+ * through. Each call is tagged with the state it was admitted under, so that the outcome
+ * of a call admitted before a state change is ignored.
+ * <p>
+ * Calls are admitted and their outcome recorded without locking while the circuit breaker
+ * is closed, only the state changes and the half-open trial calls are synchronized.
+ * <p>
+ * The interceptor is meant to be applied to a single channel, for example through
+ * {@link org.springframework.grpc.client.ChannelBuilderOptions#withInterceptors}, and its
+ * state can be exposed with {@link CircuitBreakerMetrics}.
+ *
+ * @author Chris Bono
+ */
+public class CircuitBreakerClientInterceptor implements ClientInterceptor {
+
+	/**
+	 * The status codes counted as failures by default.
+	 */
+	public static final Set<Status.Code> DEFAULT_FAILURE_CODES = Set.of(Status.Code.UNAVAILABLE,
+			Status.Code.DEADLINE_EXCEEDED);
+
+	private final String name;
+
+	private final double failureRateThreshold;
+
+	private final int minimumNumberOfCalls;
+
+	private final Duration openDuration;
+
+	private final Set<Status.Code> failureCodes;
+
+	private final int slidingWindowSize;
+
+	private final LongAdder notPermittedCalls = new LongAdder();
+
+	private Clock clock = Clock.systemUTC();
+
+	private volatile Phase phase;
+
+	private boolean trialCallInFlight;
+
+	private long trialCallStartedAt;
+
+	/**
+	 * Construct a circuit breaker that opens for 30 seconds when at least half of the
+	 * last 20 calls (and at least 10 calls) failed with one of the
+	 * {@link #DEFAULT_FAILURE_CODES default failure codes}.
+	 * @param name the name of the circuit breaker
+	 */
+	public CircuitBreakerClientInterceptor(String name) {
+		this(name, 0.5, 20, 10, Duration.ofSeconds(30), DEFAULT_FAILURE_CODES);
+	}
+
+	/**
+	 * Construct a circuit breaker.
+	 * @param name the name of the circuit breaker
+	 * @param failureRateThreshold the rate of failed calls (between 0 exclusive and 1
+	 * inclusive) at which the circuit breaker opens
+	 * @param slidingWindowSize the number of most recent calls the failure rate is
+	 * computed from
+	 * @param minimumNumberOfCalls the number of calls that must be recorded before the
+	 * failure rate is considered
+	 * @param openDuration how long the circuit breaker stays open before letting a trial
+	 * call through
+	 * @param failureCodes the status codes counted as failures
+	 */
+	public CircuitBreakerClientInterceptor(String name, double failureRateThreshold, int slidingWindowSize,
+			int minimumNumberOfCalls, Duration openDuration, Set<Status.Code> failureCodes) {
+		Assert.hasText(name, "name must not be empty");
+		Assert.isTrue(failureRateThreshold > 0 && failureRateThreshold <= 1,
+				"failureRateThreshold must be greater than 0 and at most 1");
+		Assert.isTrue(slidingWindowSize > 0, "slidingWindowSize must be positive");
+		Assert.isTrue(minimumNumberOfCalls > 0 && minimumNumberOfCalls <= slidingWindowSize,
+				"minimumNumberOfCalls must be positive and at most slidingWindowSize");
+		Assert.isTrue(openDuration.toMillis() > 0, "openDuration must be at least one millisecond");
+		Assert.notEmpty(failureCodes, "failureCodes must not be empty");
+		this.name = name;
+		this.failureRateThreshold = failureRateThreshold;
+		this.minimumNumberOfCalls = minimumNumberOfCalls;
+		this.openDuration = openDuration;
+		this.failureCodes = Set.copyOf(failureCodes);
+		this.slidingWindowSize = slidingWindowSize;
+		this.phase = new Phase(State.CLOSED, new Window(slidingWindowSize), 0);
+	}
+
+	// VisibleForTesting
+	void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	/**
+	 * Gets the name of the circuit breaker.
+	 * @return the name of the circuit breaker
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Gets the current state of the circuit breaker.
+	 * @return the current state
+	 */
+	public State getState() {
+		return this.phase.state;
+	}
+
+	/**
+	 * Gets the rate of failed calls among the calls recorded while closed.
+	 * @return the failure rate between 0 and 1
+	 */
+	public double getFailureRate() {
+		return this.phase.window.getFailureRate();
+	}
+
+	/**
+	 * Gets the number of calls rejected because the circuit breaker was open.
+	 * @return the number of rejected calls
+	 */
+	public long getNotPermittedCalls() {
+		return this.notPermittedCalls.sum();
+	}
+
+	@Override
+	public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+			CallOptions callOptions, Channel next) {
+		Phase admittedPhase = tryAcquirePermission();
+		if (admittedPhase == null) {
+			this.notPermittedCalls.increment();
+			return new FailedClientCall<>(
+					Status.UNAVAILABLE.withDescription("Circuit breaker '" + this.name + "' is open"));
+		}
+		ClientCall<ReqT, RespT> call;
+		try {
+			call = next.newCall(method, callOptions);
+		}
+		catch (RuntimeException | Error ex) {
+			releasePermission(admittedPhase);
+			throw ex;
+		}
+		return new SimpleForwardingClientCall<>(call) {
+
+			private boolean started;
+
+			@Override
+			public void start(Listener<RespT> responseListener, Metadata headers) {
+				this.started = true;
+				super.start(new SimpleForwardingClientCallListener<>(responseListener) {
+
+					@Override
+					public void onClose(Status status, Metadata trailers) {
+						onResult(admittedPhase,
+								CircuitBreakerClientInterceptor.this.failureCodes.contains(status.getCode()));
+						super.onClose(status, trailers);
+					}
+
+				}, headers);
+			}
+
+			@Override
+			public void cancel(@Nullable String message, @Nullable Throwable cause) {
+				if (!this.started) {
+					// the listener is never closed, so give the permission back
+					releasePermission(admittedPhase);
+				}
+				super.cancel(message, cause);
+			}
+
+		};
+	}
+
+	/**
+	 * Try to admit a call.
+	 * @return the phase the call is admitted under, or {@code null} if it is rejected
+	 */
+	private @Nullable Phase tryAcquirePermission() {
+		Phase phase = this.phase;
+		return (phase.state == State.CLOSED) ? phase : tryAcquireTrialPermission();
+	}
+
+	private synchronized @Nullable Phase tryAcquireTrialPermission() {
+		long now = this.clock.millis();
+		Phase phase = this.phase;
+		if (phase.state == State.OPEN && now - phase.openedAt >= this.openDuration.toMillis()) {
+			phase = transitionTo(State.HALF_OPEN);
+		}
+		if (phase.state == State.HALF_OPEN) {
+			if (this.trialCallInFlight) {
+				if (now - this.trialCallStartedAt < this.openDuration.toMillis()) {
+					return null;
+				}
+				// the trial call is taking too long, ignore its outcome and try again
+				phase = transitionTo(State.HALF_OPEN);
+			}
+			this.trialCallInFlight = true;
+			this.trialCallStartedAt = now;
+			return phase;
+		}
+		return (phase.state == State.CLOSED) ? phase : null;
+	}
+
+	private void releasePermission(Phase admittedPhase) {
+		if (admittedPhase.state == State.HALF_OPEN) {
+			synchronized (this) {
+				if (admittedPhase == this.phase) {
+					this.trialCallInFlight = false;
+				}
+			}
+		}
+	}
+
+	private void onResult(Phase admittedPhase, boolean failure) {
+		if (admittedPhase.state == State.CLOSED) {
+			// a call admitted before the state changed records into a discarded window
+			Window window = admittedPhase.window;
+			window.record(failure);
+			if (window.getRecordedCalls() >= this.minimumNumberOfCalls
+					&& window.getFailureRate() >= this.failureRateThreshold) {
+				transitionIfCurrent(admittedPhase, State.OPEN);
+			}
+		}
+		else if (admittedPhase.state == State.HALF_OPEN) {
+			transitionIfCurrent(admittedPhase, failure ? State.OPEN : State.CLOSED);
+		}
+	}
+
+	private synchronized void transitionIfCurrent(Phase admittedPhase, State state) {
+		if (admittedPhase == this.phase) {
+			transitionTo(state);
+		}
+	}
+
+	private Phase transitionTo(State state) {
+		Phase current = this.phase;
+		Window window = (state == State.CLOSED) ? new Window(this.slidingWindowSize) : current.window;
+		long openedAt = (state == State.OPEN) ? this.clock.millis() : current.openedAt;
+		Phase phase = new Phase(state, window, openedAt);
+		this.phase = phase;
+		this.trialCallInFlight = false;
+		return phase;
+	}
+
+	/**
+	 * A state the circuit breaker was in. A new instance is used for every state change,
+	 * so that calls can tell whether the state they were admitted under is still current.
+	 */
+	private static final class Phase {
+
+		private final State state;
+
+		private final Window window;
+
+		private final long openedAt;
+
+		Phase(State state, Window window, long openedAt) {
+			this.state = state;
+			this.window = window;
+			this.openedAt = openedAt;
+		}
+
+	}
+
+	/**
+	 * The outcome of the most recent calls recorded while closed, in a ring that is
+	 * updated without locking. The failed and recorded calls are counted per slot
+	 * replacement, so that they add up to the content of the ring once concurrent updates
+	 * are done.
+	 */
+	private static final class Window {
+
+		private static final int EMPTY = 0;
+
+		private static final int SUCCESS = 1;
+
+		private static final int FAILURE = 2;
+
+		private final AtomicIntegerArray outcomes;
+
+		private final AtomicLong nextOutcome = new AtomicLong();
+
+		private final AtomicInteger recordedCalls = new AtomicInteger();
+
+		private final AtomicInteger failedCalls = new AtomicInteger();
+
+		Window(int size) {
+			this.outcomes = new AtomicIntegerArray(size);
+		}
+
+		void record(boolean failure) {
+			int slot = (int) (this.nextOutcome.getAndIncrement() % this.outcomes.length());
+			int previous = this.outcomes.getAndSet(slot, failure ? FAILURE : SUCCESS);
+			if (previous == EMPTY) {
+				this.recordedCalls.incrementAndGet();
+			}
+			int failedDelta = (failure ? 1 : 0) - ((previous == FAILURE) ? 1 : 0);
+			if (failedDelta != 0) {
+				this.failedCalls.addAndGet(failedDelta);
+			}
+		}
+
+		int getRecordedCalls() {
+			return this.recordedCalls.get();
+		}
+
+		double getFailureRate() {
+			int recorded = this.recordedCalls.get();
+			// concurrent updates of a slot can briefly push the count out of range
+			return (recorded > 0) ? Math.min(1, Math.max(0, (double) this.failedCalls.get() / recorded)) : 0;
+		}
+
+	}
+
+	/**
+	 * The states of a circuit breaker.
+	 */
+	public enum State {
+
+		/**
+		 * Calls are let through and their outcome is recorded.
+		 */
+		CLOSED,
+
+		/**
+		 * Calls are rejected.
+		 */
+		OPEN,
+
+		/**
+		 * A single trial call is let through to decide whether to close again.
+		 */
+		HALF_OPEN
+
+	}
+
+}
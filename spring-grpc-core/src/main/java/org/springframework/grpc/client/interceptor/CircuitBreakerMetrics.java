@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.interceptor;
+
+import java.util.Locale;
+
+import org.springframework.grpc.client.interceptor.CircuitBreakerClientInterceptor.State;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link MeterBinder} exposing the state of a {@link CircuitBreakerClientInterceptor}.
+ * For each state, a gauge named {@code <prefix>.circuit.breaker.state} reports whether
+ * the circuit breaker is in that state ({@code 1}) or not ({@code 0}). A gauge named
+ * {@code <prefix>.circuit.breaker.failure.rate} reports the recent failure rate and a
+ * counter named {@code <prefix>.circuit.breaker.not.permitted.calls} the calls rejected
+ * while open, all tagged with the name of the circuit breaker.
+ *
+ * @author Chris Bono
+ */
+public class CircuitBreakerMetrics implements MeterBinder {
+
+	private final CircuitBreakerClientInterceptor circuitBreaker;
+
+	private final String prefix;
+
+	/**
+	 * Construct an instance.
+	 * @param circuitBreaker the circuit breaker to expose the state of
+	 * @param prefix the prefix for the meter names (e.g. {@code grpc.client})
+	 */
+	public CircuitBreakerMetrics(CircuitBreakerClientInterceptor circuitBreaker, String prefix) {
+		Assert.notNull(circuitBreaker, "circuitBreaker must not be null");
+		Assert.hasText(prefix, "prefix must not be empty");
+		this.circuitBreaker = circuitBreaker;
+		this.prefix = prefix;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Tags tags = Tags.of("name", this.circuitBreaker.getName());
+		for (State state : State.values()) {
+			Gauge
+				.builder(this.prefix + ".circuit.breaker.state", this.circuitBreaker,
+						(circuitBreaker) -> (circuitBreaker.getState() == state) ? 1 : 0)
+				.description("Whether the circuit breaker is in the state")
+				.tags(tags.and("state", state.name().toLowerCase(Locale.ROOT)))
+				.strongReference(true)
+				.register(registry);
+		}
+		Gauge
+			.builder(this.prefix + ".circuit.breaker.failure.rate", this.circuitBreaker,
+					CircuitBreakerClientInterceptor::getFailureRate)
+			.description("The rate of failed calls among the most recent calls")
+			.tags(tags)
+			.strongReference(true)
+			.register(registry);
+		FunctionCounter
+			.builder(this.prefix + ".circuit.breaker.not.permitted.calls", this.circuitBreaker,
+					CircuitBreakerClientInterceptor::getNotPermittedCalls)
+			.description("The number of calls rejected because the circuit breaker was open")
+			.tags(tags)
+			.register(registry);
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.interceptor;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * A client interceptor that propagates the deadline of the incoming server call being
+ * handled to the outgoing calls it makes, minus a safety margin that leaves the server
+ * time to handle the response. gRPC already caps an outgoing call at the deadline of the
+ * current {@link Context}, this interceptor additionally reserves the safety margin and
+ * fails the call locally with {@link Status#DEADLINE_EXCEEDED} when the remaining budget
+ * is below the minimum configured for the method, so that no work is started for a caller
+ * that will have given up before it completes.
+ * <p>
+ * Minimum budgets are keyed by the full method name ({@code package.Service/Method}), by
+ * service ({@code package.Service/*}) or by {@code *} for all methods, the most specific
+ * key winning.
+ *
+ * @author Chris Bono
+ */
+public class DeadlinePropagationClientInterceptor implements ClientInterceptor {
+
+	/**
+	 * The key matching all methods.
+	 */
+	public static final String ALL_METHODS = "*";
+
+	private final Duration safetyMargin;
+
+	private final Map<String, Duration> minimumBudgets;
+
+	/**
+	 * Construct an interceptor.
+	 * @param safetyMargin the time subtracted from the deadline of the incoming call
+	 * @param minimumBudgets the minimum remaining time for a call to be started, keyed by
+	 * method name, service wildcard or {@link #ALL_METHODS}
+	 */
+	public DeadlinePropagationClientInterceptor(Duration safetyMargin, Map<String, Duration> minimumBudgets) {
+		Assert.notNull(safetyMargin, "safetyMargin must not be null");
+		Assert.isTrue(!safetyMargin.isNegative(), "safetyMargin must not be negative");
+		Assert.notNull(minimumBudgets, "minimumBudgets must not be null");
+		this.safetyMargin = safetyMargin;
+		this.minimumBudgets = new LinkedHashMap<>(minimumBudgets);
+	}
+
+	@Override
+	public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+			CallOptions callOptions, Channel next) {
+		Deadline deadline = callOptions.getDeadline();
+		Deadline inboundDeadline = Context.current().getDeadline();
+		if (inboundDeadline != null) {
+			Deadline propagatedDeadline = inboundDeadline.offset(-this.safetyMargin.toNanos(), TimeUnit.NANOSECONDS);
+			deadline = (deadline != null) ? deadline.minimum(propagatedDeadline) : propagatedDeadline;
+		}
+		if (deadline == null) {
+			return next.newCall(method, callOptions);
+		}
+		long remainingNanos = deadline.timeRemaining(TimeUnit.NANOSECONDS);
+		Duration minimumBudget = getMinimumBudget(method);
+		if (remainingNanos <= 0 || (minimumBudget != null && remainingNanos < minimumBudget.toNanos())) {
+			return new FailedClientCall<>(Status.DEADLINE_EXCEEDED.withDescription("Remaining deadline budget of "
+					+ TimeUnit.NANOSECONDS.toMillis(remainingNanos) + "ms for " + method.getFullMethodName()
+					+ " is below the minimum of " + ((minimumBudget != null) ? minimumBudget.toMillis() : 0) + "ms"));
+		}
+		return next.newCall(method, callOptions.withDeadline(deadline));
+	}
+
+	private @Nullable Duration getMinimumBudget(MethodDescriptor<?, ?> method) {
+		Duration minimumBudget = this.minimumBudgets.get(method.getFullMethodName());
+		if (minimumBudget == null && method.getServiceName() != null) {
+			minimumBudget = this.minimumBudgets.get(method.getServiceName() + "/*");
+		}
+		return (minimumBudget != null) ? minimumBudget : this.minimumBudgets.get(ALL_METHODS);
+	}
+
+}
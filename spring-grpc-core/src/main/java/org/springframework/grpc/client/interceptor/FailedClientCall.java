@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.interceptor;
+
+import org.jspecify.annotations.Nullable;
+
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.Status;
+
+/**
+ * A call that is closed with a status as soon as it is started, without reaching the
+ * channel. Used by interceptors that fail calls locally.
+ *
+ * @param <ReqT> the type of the request messages
+ * @param <RespT> the type of the response messages
+ * @author Chris Bono
+ */
+final class FailedClientCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+
+	private final Status status;
+
+	FailedClientCall(Status status) {
+		this.status = status;
+	}
+
+	@Override
+	public void start(Listener<RespT> responseListener, Metadata headers) {
+		responseListener.onClose(this.status, new Metadata());
+	}
+
+	@Override
+	public void request(int numMessages) {
+	}
+
+	@Override
+	public void cancel(@Nullable String message, @Nullable Throwable cause) {
+	}
+
+	@Override
+	public void halfClose() {
+	}
+
+	@Override
+	public void sendMessage(ReqT message) {
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.interceptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.grpc.marshaller.MarshallerDecorator;
+import org.springframework.grpc.marshaller.MarshallerDecorators;
+import org.springframework.util.Assert;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.MethodDescriptor;
+
+/**
+ * {@link ClientInterceptor} that replaces the method descriptor of each call with a copy
+ * whose marshallers have been decorated by a list of {@link MarshallerDecorator
+ * marshaller decorators}. The decorated method descriptors are cached per method.
+ * <p>
+ * To have the decorated marshallers see the messages exactly as they are sent to and
+ * received from the transport, this interceptor should be the innermost interceptor on
+ * the channel.
+ *
+ * @author Chris Bono
+ */
+public class MarshallerDecoratingClientInterceptor implements ClientInterceptor {
+
+	private final Map<MethodDescriptor<?, ?>, MethodDescriptor<?, ?>> decoratedMethods = new ConcurrentHashMap<>();
+
+	private final List<MarshallerDecorator> decorators;
+
+	public MarshallerDecoratingClientInterceptor(List<MarshallerDecorator> decorators) {
+		Assert.notNull(decorators, "decorators must not be null");
+		this.decorators = List.copyOf(decorators);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+			CallOptions callOptions, Channel next) {
+		MethodDescriptor<ReqT, RespT> decoratedMethod = (MethodDescriptor<ReqT, RespT>) this.decoratedMethods
+			.computeIfAbsent(method, (m) -> MarshallerDecorators.decorate(method, this.decorators));
+		return next.newCall(decoratedMethod, callOptions);
+	}
+
+}
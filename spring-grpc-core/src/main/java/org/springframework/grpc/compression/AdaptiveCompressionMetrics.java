@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.compression;
+
+import org.springframework.grpc.compression.AdaptiveCompressionPolicy.CompressionState;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link MeterBinder} exposing the decisions of an {@link AdaptiveCompressionPolicy}. For
+ * each method, a gauge named {@code <prefix>.compression.adaptive.ratio} reports the
+ * rolling compression ratio and a gauge named
+ * {@code <prefix>.compression.adaptive.enabled} reports whether compression is enabled
+ * ({@code 1}) or not ({@code 0}), both aggregated over all peers and tagged with the
+ * service and method name.
+ *
+ * @author Chris Bono
+ */
+public class AdaptiveCompressionMetrics implements MeterBinder {
+
+	private final AdaptiveCompressionPolicy policy;
+
+	private final String prefix;
+
+	/**
+	 * Construct an instance.
+	 * @param policy the policy to expose the decisions of
+	 * @param prefix the prefix for the meter names (e.g. {@code grpc.server})
+	 */
+	public AdaptiveCompressionMetrics(AdaptiveCompressionPolicy policy, String prefix) {
+		Assert.notNull(policy, "policy must not be null");
+		Assert.hasText(prefix, "prefix must not be empty");
+		this.policy = policy;
+		this.prefix = prefix;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		this.policy.setMethodStateListener((method, state) -> bind(registry, method, state));
+		this.policy.getMethodStates().forEach((method, state) -> bind(registry, method, state));
+	}
+
+	private void bind(MeterRegistry registry, String method, CompressionState state) {
+		int separator = method.lastIndexOf('/');
+		Tags tags = Tags.of("grpc.service", (separator != -1) ? method.substring(0, separator) : "", "grpc.method",
+				method.substring(separator + 1));
+		Gauge.builder(this.prefix + ".compression.adaptive.ratio", state, CompressionState::getRatio)
+			.description("The rolling ratio of compressed to uncompressed message size")
+			.tags(tags)
+			.strongReference(true)
+			.register(registry);
+		Gauge.builder(this.prefix + ".compression.adaptive.enabled", state, (s) -> s.isEnabled() ? 1 : 0)
+			.description("Whether messages are currently compressed")
+			.tags(tags)
+			.strongReference(true)
+			.register(registry);
+	}
+
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.compression;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Tracks how well the messages of each gRPC method compress and switches compression off
+ * where it does not pay off. The outcome of every compressed message is measured by a
+ * {@link MeasuringCompressor} and folded into a rolling average of the compression ratio
+ * (compressed size divided by uncompressed size) and of the CPU time per uncompressed
+ * byte, kept per method and peer. Compression stays enabled while the ratio is at most
+ * the configured maximum and, when a cost limit is set, while compressing costs at most
+ * the configured time per saved byte.
+ * <p>
+ * Once compression is disabled for a method and peer, every {@code probeInterval}-th
+ * message is still compressed so that a change in the payloads can turn it back on.
+ *
+ * @author Chris Bono
+ */
+public class AdaptiveCompressionPolicy {
+
+	private static final int MAX_TRACKED_PEERS = 10_000;
+
+	private static final double SMOOTHING = 0.2;
+
+	private final Map<String, CompressionState> methodStates = new ConcurrentHashMap<>();
+
+	private final Map<String, CompressionState> peerStates = new ConcurrentHashMap<>();
+
+	private final double maxRatio;
+
+	private final long maxNanosPerSavedByte;
+
+	private final int probeInterval;
+
+	private @Nullable BiConsumer<String, CompressionState> methodStateListener;
+
+	/**
+	 * Construct a policy.
+	 * @param maxRatio the highest compression ratio (compressed / uncompressed) for which
+	 * compression is kept enabled
+	 * @param maxNanosPerSavedByte the highest CPU time in nanoseconds spent per saved
+	 * byte for which compression is kept enabled, or {@code 0} for no limit
+	 * @param probeInterval how often a message is compressed anyway while compression is
+	 * disabled
+	 */
+	public AdaptiveCompressionPolicy(double maxRatio, long maxNanosPerSavedByte, int probeInterval) {
+		Assert.isTrue(maxRatio > 0, "maxRatio must be positive");
+		Assert.isTrue(maxNanosPerSavedByte >= 0, "maxNanosPerSavedByte must not be negative");
+		Assert.isTrue(probeInterval > 0, "probeInterval must be positive");
+		this.maxRatio = maxRatio;
+		this.maxNanosPerSavedByte = maxNanosPerSavedByte;
+		this.probeInterval = probeInterval;
+	}
+
+	/**
+	 * Set a listener notified with the method name and the state aggregated over all
+	 * peers whenever a method is first seen, for example to bind metrics to it.
+	 * @param methodStateListener the listener
+	 */
+	public void setMethodStateListener(BiConsumer<String, CompressionState> methodStateListener) {
+		this.methodStateListener = methodStateListener;
+	}
+
+	/**
+	 * Return the state of each method seen so far, aggregated over all peers.
+	 * @return the states keyed by full method name
+	 */
+	public Map<String, CompressionState> getMethodStates() {
+		return Collections.unmodifiableMap(this.methodStates);
+	}
+
+	/**
+	 * Return a tracker for the messages a call sends.
+	 * @param method the full method name of the call
+	 * @param peer the peer of the call or {@code null} if unknown
+	 * @return the tracker for the call
+	 */
+	public CallTracker track(String method, @Nullable String peer) {
+		CompressionState methodState = this.methodStates.computeIfAbsent(method, this::createMethodState);
+		CompressionState peerState = methodState;
+		if (peer != null) {
+			String key = method + "@" + peer;
+			peerState = this.peerStates.get(key);
+			if (peerState == null) {
+				peerState = (this.peerStates.size() < MAX_TRACKED_PEERS)
+						? this.peerStates.computeIfAbsent(key, (k) -> new CompressionState()) : methodState;
+			}
+		}
+		return new CallTracker(methodState, peerState);
+	}
+
+	private CompressionState createMethodState(String method) {
+		CompressionState state = new CompressionState();
+		if (this.methodStateListener != null) {
+			this.methodStateListener.accept(method, state);
+		}
+		return state;
+	}
+
+	/**
+	 * Tracks the messages sent by a single call.
+	 */
+	public static final class CallTracker {
+
+		private final CompressionState methodState;
+
+		private final CompressionState peerState;
+
+		private CallTracker(CompressionState methodState, CompressionState peerState) {
+			this.methodState = methodState;
+			this.peerState = peerState;
+		}
+
+		/**
+		 * Return whether the next message should be compressed.
+		 * @return whether to compress the next message
+		 */
+		public boolean shouldCompress() {
+			return this.peerState.shouldCompress();
+		}
+
+		/**
+		 * Run the given action, which sends a compressed message, while measuring the
+		 * compression it triggers.
+		 * @param action the action that sends the message
+		 */
+		public void measure(Runnable action) {
+			MeasuringCompressor.measure(this::record, action);
+		}
+
+		private void record(long uncompressed, long compressed, long nanos) {
+			this.peerState.record(uncompressed, compressed, nanos);
+			if (this.methodState != this.peerState) {
+				this.methodState.record(uncompressed, compressed, nanos);
+			}
+		}
+
+	}
+
+	/**
+	 * The rolling compression statistics and the resulting decision for a method or a
+	 * method and peer.
+	 */
+	public final class CompressionState {
+
+		private final AtomicLong skipped = new AtomicLong();
+
+		private double ratio = Double.NaN;
+
+		private double nanosPerByte = Double.NaN;
+
+		private volatile boolean enabled = true;
+
+		boolean shouldCompress() {
+			return this.enabled || this.skipped.incrementAndGet() % AdaptiveCompressionPolicy.this.probeInterval == 0;
+		}
+
+		synchronized void record(long uncompressed, long compressed, long nanos) {
+			if (uncompressed <= 0) {
+				return;
+			}
+			this.ratio = smooth(this.ratio, (double) compressed / uncompressed);
+			this.nanosPerByte = smooth(this.nanosPerByte, (double) nanos / uncompressed);
+			this.enabled = isWorthwhile();
+		}
+
+		private double smooth(double average, double sample) {
+			return Double.isNaN(average) ? sample : average + SMOOTHING * (sample - average);
+		}
+
+		private boolean isWorthwhile() {
+			if (this.ratio > AdaptiveCompressionPolicy.this.maxRatio) {
+				return false;
+			}
+			if (AdaptiveCompressionPolicy.this.maxNanosPerSavedByte == 0) {
+				return true;
+			}
+			double savedPerByte = 1 - this.ratio;
+			return savedPerByte > 0
+					&& this.nanosPerByte / savedPerByte <= AdaptiveCompressionPolicy.this.maxNanosPerSavedByte;
+		}
+
+		/**
+		 * Return the rolling average compression ratio.
+		 * @return the ratio or {@code NaN} before any message was compressed
+		 */
+		public synchronized double getRatio() {
+			return this.ratio;
+		}
+
+		/**
+		 * Return the rolling average CPU time spent compressing per uncompressed byte.
+		 * @return the time in nanoseconds or {@code NaN} before any message was
+		 * compressed
+		 */
+		public synchronized double getNanosPerByte() {
+			return this.nanosPerByte;
+		}
+
+		/**
+		 * Return whether compression is currently enabled.
+		 * @return whether compression is enabled
+		 */
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.compression;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.grpc.compression.AdaptiveCompressionPolicy.CallTracker;
+import org.springframework.util.Assert;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall.SimpleForwardingClientCall;
+import io.grpc.MethodDescriptor;
+
+/**
+ * {@link ClientInterceptor} that compresses requests according to a
+ * {@link MethodCompressionPolicy}. With an
+ * {@link #setAdaptivePolicy(AdaptiveCompressionPolicy) adaptive policy}, compression is
+ * also switched off for the methods and servers where it does not pay off.
+ *
+ * @author Chris Bono
+ */
+public class CompressionPolicyClientInterceptor implements ClientInterceptor {
+
+	private final MethodCompressionPolicy policy;
+
+	private @Nullable AdaptiveCompressionPolicy adaptivePolicy;
+
+	public CompressionPolicyClientInterceptor(MethodCompressionPolicy policy) {
+		Assert.notNull(policy, "policy must not be null");
+		this.policy = policy;
+	}
+
+	/**
+	 * Set the policy that switches compression off where it does not pay off.
+	 * @param adaptivePolicy the adaptive policy or {@code null} to always compress
+	 */
+	public void setAdaptivePolicy(@Nullable AdaptiveCompressionPolicy adaptivePolicy) {
+		this.adaptivePolicy = adaptivePolicy;
+	}
+
+	/**
+	 * Return the policy that switches compression off where it does not pay off.
+	 * @return the adaptive policy or {@code null} if compression is never switched off
+	 */
+	public @Nullable AdaptiveCompressionPolicy getAdaptivePolicy() {
+		return this.adaptivePolicy;
+	}
+
+	@Override
+	public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+			CallOptions callOptions, Channel next) {
+		String encoding = this.policy.getEncoding(method);
+		if (encoding == null) {
+			return next.newCall(method, callOptions);
+		}
+		CallTracker tracker = (this.adaptivePolicy != null)
+				? this.adaptivePolicy.track(method.getFullMethodName(), next.authority()) : null;
+		return new SimpleForwardingClientCall<>(next.newCall(method, callOptions.withCompression(encoding))) {
+
+			@Override
+			public void sendMessage(ReqT message) {
+				boolean compress = CompressionPolicyClientInterceptor.this.policy.shouldCompress(message);
+				if (compress && tracker != null && tracker.shouldCompress()) {
+					setMessageCompression(true);
+					tracker.measure(() -> super.sendMessage(message));
+					return;
+				}
+				setMessageCompression(compress && tracker == null);
+				super.sendMessage(message);
+			}
+
+		};
+	}
+
+}
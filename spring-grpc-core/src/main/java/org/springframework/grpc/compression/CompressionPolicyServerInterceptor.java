@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.compression;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.grpc.compression.AdaptiveCompressionPolicy.CallTracker;
+import org.springframework.util.Assert;
+
+import io.grpc.ForwardingServerCall.SimpleForwardingServerCall;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+/**
+ * {@link ServerInterceptor} that compresses responses according to a
+ * {@link MethodCompressionPolicy}. The response encoding is only used when the client
+ * advertises it, otherwise gRPC sends the responses uncompressed. With an
+ * {@link #setAdaptivePolicy(AdaptiveCompressionPolicy) adaptive policy}, compression is
+ * also switched off for the methods and clients where it does not pay off.
+ *
+ * @author Chris Bono
+ */
+public class CompressionPolicyServerInterceptor implements ServerInterceptor {
+
+	private final MethodCompressionPolicy policy;
+
+	private @Nullable AdaptiveCompressionPolicy adaptivePolicy;
+
+	public CompressionPolicyServerInterceptor(MethodCompressionPolicy policy) {
+		Assert.notNull(policy, "policy must not be null");
+		this.policy = policy;
+	}
+
+	/**
+	 * Set the policy that switches compression off where it does not pay off.
+	 * @param adaptivePolicy the adaptive policy or {@code null} to always compress
+	 */
+	public void setAdaptivePolicy(@Nullable AdaptiveCompressionPolicy adaptivePolicy) {
+		this.adaptivePolicy = adaptivePolicy;
+	}
+
+	/**
+	 * Return the policy that switches compression off where it does not pay off.
+	 * @return the adaptive policy or {@code null} if compression is never switched off
+	 */
+	public @Nullable AdaptiveCompressionPolicy getAdaptivePolicy() {
+		return this.adaptivePolicy;
+	}
+
+	@Override
+	public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+			ServerCallHandler<ReqT, RespT> next) {
+		String encoding = this.policy.getEncoding(call.getMethodDescriptor());
+		if (encoding == null) {
+			return next.startCall(call, headers);
+		}
+		call.setCompression(encoding);
+		CallTracker tracker = (this.adaptivePolicy != null)
+				? this.adaptivePolicy.track(call.getMethodDescriptor().getFullMethodName(), peer(call)) : null;
+		return next.startCall(new SimpleForwardingServerCall<>(call) {
+
+			@Override
+			public void sendMessage(RespT message) {
+				boolean compress = CompressionPolicyServerInterceptor.this.policy.shouldCompress(message);
+				if (compress && tracker != null && tracker.shouldCompress()) {
+					setMessageCompression(true);
+					tracker.measure(() -> super.sendMessage(message));
+					return;
+				}
+				setMessageCompression(compress && tracker == null);
+				super.sendMessage(message);
+			}
+
+		}, headers);
+	}
+
+	private static @Nullable String peer(ServerCall<?, ?> call) {
+		SocketAddress address = call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
+		if (address instanceof InetSocketAddress inetAddress && inetAddress.getAddress() != null) {
+			return inetAddress.getAddress().getHostAddress();
+		}
+		return (address != null) ? address.toString() : null;
+	}
+
+}
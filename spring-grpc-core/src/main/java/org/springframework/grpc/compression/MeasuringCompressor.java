@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.compression;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+import io.grpc.Compressor;
+
+/**
+ * {@link Compressor} decorator that measures the uncompressed and compressed size of a
+ * message and the time spent compressing it. gRPC compresses a message on the thread that
+ * sends it, so measurements are only taken while a {@link #measure(Recorder, Runnable)
+ * measuring action} runs on the current thread; otherwise the delegate is used as is.
+ *
+ * @author Chris Bono
+ */
+public class MeasuringCompressor implements Compressor {
+
+	private static final ThreadLocal<Recorder> recorder = new ThreadLocal<>();
+
+	private final Compressor delegate;
+
+	public MeasuringCompressor(Compressor delegate) {
+		Assert.notNull(delegate, "delegate must not be null");
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Return the compressor this compressor delegates to.
+	 * @return the delegate compressor
+	 */
+	public Compressor getDelegate() {
+		return this.delegate;
+	}
+
+	@Override
+	public String getMessageEncoding() {
+		return this.delegate.getMessageEncoding();
+	}
+
+	@Override
+	public OutputStream compress(OutputStream os) throws IOException {
+		Recorder current = recorder.get();
+		if (current == null) {
+			return this.delegate.compress(os);
+		}
+		long start = System.nanoTime();
+		CountingOutputStream compressed = new CountingOutputStream(os);
+		OutputStream compressing = this.delegate.compress(compressed);
+		return new CountingOutputStream(compressing) {
+
+			private boolean closed;
+
+			@Override
+			public void close() throws IOException {
+				super.close();
+				if (!this.closed) {
+					this.closed = true;
+					current.record(getCount(), compressed.getCount(), System.nanoTime() - start);
+				}
+			}
+
+		};
+	}
+
+	/**
+	 * Run an action on the current thread, reporting every message compressed by a
+	 * {@link MeasuringCompressor} while it runs to the given recorder.
+	 * @param recorder the recorder to report to
+	 * @param action the action to run
+	 */
+	public static void measure(Recorder recorder, Runnable action) {
+		@Nullable
+		Recorder previous = MeasuringCompressor.recorder.get();
+		MeasuringCompressor.recorder.set(recorder);
+		try {
+			action.run();
+		}
+		finally {
+			if (previous != null) {
+				MeasuringCompressor.recorder.set(previous);
+			}
+			else {
+				MeasuringCompressor.recorder.remove();
+			}
+		}
+	}
+
+	/**
+	 * Receives the measurements of a compressed message.
+	 */
+	@FunctionalInterface
+	public interface Recorder {
+
+		/**
+		 * Record the compression of a message.
+		 * @param uncompressed the uncompressed size in bytes
+		 * @param compressed the compressed size in bytes
+		 * @param nanos the time spent compressing in nanoseconds
+		 */
+		void record(long uncompressed, long compressed, long nanos);
+
+	}
+
+	private static class CountingOutputStream extends FilterOutputStream {
+
+		private long count;
+
+		CountingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			this.out.write(b);
+			this.count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			this.out.write(b, off, len);
+			this.count += len;
+		}
+
+		long getCount() {
+			return this.count;
+		}
+
+	}
+
+}
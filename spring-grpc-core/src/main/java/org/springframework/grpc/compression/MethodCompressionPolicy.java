@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.compression;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+import com.google.protobuf.MessageLite;
+import io.grpc.MethodDescriptor;
+
+/**
+ * Decides which compression encoding to use for the messages of a gRPC method and whether
+ * an individual message is large enough to be worth compressing.
+ * <p>
+ * Encodings are keyed by the full method name ({@code package.Service/Method}), by
+ * service ({@code package.Service/*}) or by {@code *} for all methods, the most specific
+ * key winning. Messages smaller than the minimum message size are sent uncompressed. Only
+ * protobuf messages have a known size, so any other message is always compressed.
+ *
+ * @author Chris Bono
+ */
+public class MethodCompressionPolicy {
+
+	/**
+	 * The key matching all methods.
+	 */
+	public static final String ALL_METHODS = "*";
+
+	private final Map<String, String> encodings;
+
+	private final long minMessageSize;
+
+	/**
+	 * Construct a policy.
+	 * @param encodings the encodings to use keyed by method name, service wildcard or
+	 * {@link #ALL_METHODS}
+	 * @param minMessageSize the size in bytes below which messages are not compressed
+	 */
+	public MethodCompressionPolicy(Map<String, String> encodings, long minMessageSize) {
+		Assert.notNull(encodings, "encodings must not be null");
+		Assert.isTrue(minMessageSize >= 0, "minMessageSize must not be negative");
+		this.encodings = new LinkedHashMap<>(encodings);
+		this.minMessageSize = minMessageSize;
+	}
+
+	/**
+	 * Return the encodings of the policy, keyed as they were configured.
+	 * @return the encodings
+	 */
+	public Map<String, String> getEncodings() {
+		return this.encodings;
+	}
+
+	/**
+	 * Return the encoding to use for the given method.
+	 * @param method the method
+	 * @return the encoding or {@code null} if the policy does not apply to the method
+	 */
+	public @Nullable String getEncoding(MethodDescriptor<?, ?> method) {
+		String encoding = this.encodings.get(method.getFullMethodName());
+		if (encoding == null && method.getServiceName() != null) {
+			encoding = this.encodings.get(method.getServiceName() + "/*");
+		}
+		return (encoding != null) ? encoding : this.encodings.get(ALL_METHODS);
+	}
+
+	/**
+	 * Return whether the given message should be compressed.
+	 * @param message the message about to be sent
+	 * @return {@code true} unless the message is known to be smaller than the minimum
+	 * message size
+	 */
+	public boolean shouldCompress(@Nullable Object message) {
+		if (this.minMessageSize == 0 || !(message instanceof MessageLite messageLite)) {
+			return true;
+		}
+		return messageLite.getSerializedSize() >= this.minMessageSize;
+	}
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.SpringProperties;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Index of the generated gRPC stub classes available on the classpath. The index is read
+ * from all {@value #INDEX_LOCATION} resources, which are typically written at build time
+ * by the {@link StubIndexProcessor}. Each line holds the binary name of a stub class and
+ * lines starting with {@code #} are ignored.
+ * <p>
+ * The index is a hint: the stubs it lists in a package are used instead of scanning that
+ * package, and packages it lists no stubs in are still scanned. Stubs that can no longer
+ * be loaded are skipped. Set the {@value #IGNORE_INDEX} Spring property to {@code true}
+ * to ignore the index and always scan the classpath.
+ *
+ * @author Chris Bono
+ */
+public final class StubIndex {
+
+	/**
+	 * The location of the index resources.
+	 */
+	public static final String INDEX_LOCATION = "META-INF/spring-grpc.stubs";
+
+	/**
+	 * The Spring property that, when set to {@code true}, ignores any index.
+	 */
+	public static final String IGNORE_INDEX = "spring.grpc.index.ignore";
+
+	private static final Log logger = LogFactory.getLog(StubIndex.class);
+
+	private static final StubIndex EMPTY = new StubIndex(Collections.emptySet());
+
+	private static final Map<ClassLoader, StubIndex> cache = new ConcurrentReferenceHashMap<>();
+
+	private final Set<String> types;
+
+	StubIndex(Set<String> types) {
+		this.types = types;
+	}
+
+	/**
+	 * Load the index from the given class loader.
+	 * @param classLoader the class loader to load the index from (or {@code null} to use
+	 * the default class loader)
+	 * @return the index, or {@code null} if there is no index or it is being ignored
+	 */
+	public static @Nullable StubIndex load(@Nullable ClassLoader classLoader) {
+		if (SpringProperties.getFlag(IGNORE_INDEX)) {
+			return null;
+		}
+		ClassLoader classLoaderToUse = (classLoader != null) ? classLoader : StubIndex.class.getClassLoader();
+		StubIndex index = cache.computeIfAbsent(classLoaderToUse, StubIndex::doLoad);
+		return (index != EMPTY) ? index : null;
+	}
+
+	private static StubIndex doLoad(ClassLoader classLoader) {
+		try {
+			Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+			if (!urls.hasMoreElements()) {
+				return EMPTY;
+			}
+			Set<String> types = new LinkedHashSet<>();
+			while (urls.hasMoreElements()) {
+				URL url = urls.nextElement();
+				try (BufferedReader reader = new BufferedReader(
+						new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+					reader.lines()
+						.map(String::trim)
+						.filter((line) -> !line.isEmpty() && !line.startsWith("#"))
+						.forEach(types::add);
+				}
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Loaded " + types.size() + " gRPC stub(s) from " + INDEX_LOCATION);
+			}
+			return new StubIndex(Collections.unmodifiableSet(types));
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Unable to load gRPC stub index from " + INDEX_LOCATION, ex);
+		}
+	}
+
+	/**
+	 * Return the names of the indexed stub classes in the given package or any of its
+	 * sub-packages.
+	 * @param basePackage the package to search
+	 * @return the binary names of the matching stub classes
+	 */
+	public Set<String> getCandidateTypes(String basePackage) {
+		String prefix = basePackage.isEmpty() ? "" : basePackage + ".";
+		Set<String> candidates = new LinkedHashSet<>();
+		for (String type : this.types) {
+			if (type.startsWith(prefix)) {
+				candidates.add(type);
+			}
+		}
+		return candidates;
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that writes the {@link StubIndex} for the gRPC services generated
+ * in a project. Every concrete stub class nested in a type annotated with
+ * {@code @GrpcGenerated} is listed in {@value StubIndex#INDEX_LOCATION}.
+ * <p>
+ * The processor is not registered automatically, since an index replaces classpath
+ * scanning of the packages it lists stubs in. Enable it explicitly, for example with the
+ * {@code annotationProcessors} option of the Maven compiler plugin.
+ *
+ * @author Chris Bono
+ */
+public class StubIndexProcessor extends AbstractProcessor {
+
+	static final String GRPC_GENERATED = "io.grpc.stub.annotations.GrpcGenerated";
+
+	static final String ABSTRACT_STUB = "io.grpc.stub.AbstractStub";
+
+	private final Set<String> stubs = new TreeSet<>();
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Set.of(GRPC_GENERATED);
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				for (Element enclosed : element.getEnclosedElements()) {
+					if (enclosed instanceof TypeElement type && isStub(type)) {
+						this.stubs.add(this.processingEnv.getElementUtils().getBinaryName(type).toString());
+					}
+				}
+			}
+		}
+		if (roundEnv.processingOver()) {
+			writeIndex();
+		}
+		return false;
+	}
+
+	private boolean isStub(TypeElement type) {
+		if (type.getKind() != ElementKind.CLASS || !type.getModifiers().contains(Modifier.STATIC)
+				|| type.getModifiers().contains(Modifier.ABSTRACT)) {
+			return false;
+		}
+		TypeMirror superclass = type.getSuperclass();
+		while (superclass.getKind() == TypeKind.DECLARED) {
+			TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+			if (element.getQualifiedName().contentEquals(ABSTRACT_STUB)) {
+				return true;
+			}
+			superclass = element.getSuperclass();
+		}
+		return false;
+	}
+
+	private void writeIndex() {
+		if (this.stubs.isEmpty()) {
+			return;
+		}
+		// Keep stubs indexed by earlier incremental compilations
+		readExistingIndex();
+		try {
+			FileObject file = this.processingEnv.getFiler()
+				.createResource(StandardLocation.CLASS_OUTPUT, "", StubIndex.INDEX_LOCATION);
+			try (Writer writer = file.openWriter()) {
+				for (String stub : this.stubs) {
+					writer.write(stub);
+					writer.write('\n');
+				}
+			}
+		}
+		catch (IOException ex) {
+			this.processingEnv.getMessager()
+				.printMessage(Diagnostic.Kind.ERROR, "Unable to write gRPC stub index: " + ex.getMessage());
+		}
+	}
+
+	private void readExistingIndex() {
+		try {
+			FileObject file = this.processingEnv.getFiler()
+				.getResource(StandardLocation.CLASS_OUTPUT, "", StubIndex.INDEX_LOCATION);
+			try (BufferedReader reader = new BufferedReader(
+					new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8))) {
+				reader.lines()
+					.map(String::trim)
+					.filter((line) -> !line.isEmpty() && !line.startsWith("#"))
+					.filter(this::isExistingStub)
+					.forEach(this.stubs::add);
+			}
+		}
+		catch (IOException ex) {
+			// No existing index
+		}
+	}
+
+	private boolean isExistingStub(String binaryName) {
+		// Drop stubs that were deleted or renamed since the index was written
+		TypeElement type = this.processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.'));
+		return type != null && isStub(type);
+	}
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.internal;
+
+import java.net.Socket;
+import java.security.KeyStore;
+import java.security.Principal;
+import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.KeyManagerFactorySpi;
+import javax.net.ssl.ManagerFactoryParameters;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.X509ExtendedKeyManager;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link KeyManagerFactory} whose key manager delegates to the key manager of another
+ * factory that can be replaced at runtime, for example when an SSL bundle is updated. New
+ * TLS handshakes use the current delegate, while established connections are not
+ * affected. The aliases chosen by the key manager are prefixed with the generation of the
+ * delegate that chose them, so that a handshake that spans a reload looks up the key and
+ * certificates of its alias in the same delegate.
+ *
+ * @author Chris Bono
+ */
+public class ReloadableKeyManagerFactory extends KeyManagerFactory {
+
+	private static final Provider provider = new Provider("", "0.0", "") {
+		private static final long serialVersionUID = 6286151012741574432L;
+
+	};
+
+	private final ReloadableKeyManager keyManager;
+
+	/**
+	 * Create a new instance that initially delegates to the given factory.
+	 * @param delegate the factory to delegate to
+	 */
+	public ReloadableKeyManagerFactory(KeyManagerFactory delegate) {
+		this(new ReloadableKeyManager(keyManager(delegate)));
+	}
+
+	private ReloadableKeyManagerFactory(ReloadableKeyManager keyManager) {
+		super(new SimpleKeyManagerFactorySpi(keyManager), provider, "");
+		this.keyManager = keyManager;
+	}
+
+	/**
+	 * Replace the factory to delegate to.
+	 * @param delegate the new factory to delegate to
+	 */
+	public void reload(KeyManagerFactory delegate) {
+		this.keyManager.reload(keyManager(delegate));
+	}
+
+	private static X509ExtendedKeyManager keyManager(KeyManagerFactory factory) {
+		X509ExtendedKeyManager keyManager = (X509ExtendedKeyManager) Arrays.stream(factory.getKeyManagers())
+			.filter(X509ExtendedKeyManager.class::isInstance)
+			.findFirst()
+			.orElse(null);
+		Assert.notNull(keyManager, "KeyManagerFactory must provide an X509ExtendedKeyManager");
+		return keyManager;
+	}
+
+	private static final class ReloadableKeyManager extends X509ExtendedKeyManager {
+
+		private volatile Generation current;
+
+		private volatile @Nullable Generation previous;
+
+		ReloadableKeyManager(X509ExtendedKeyManager delegate) {
+			this.current = new Generation(0, delegate);
+		}
+
+		synchronized void reload(X509ExtendedKeyManager delegate) {
+			Generation current = this.current;
+			// Written before the new generation, so that a reader seeing it sees this too
+			this.previous = current;
+			this.current = new Generation(current.number + 1, delegate);
+		}
+
+		@Override
+		public String @Nullable [] getClientAliases(String keyType, Principal @Nullable [] issuers) {
+			Generation generation = this.current;
+			return generation.aliases(generation.delegate.getClientAliases(keyType, issuers));
+		}
+
+		@Override
+		public @Nullable String chooseClientAlias(String[] keyType, Principal @Nullable [] issuers,
+				@Nullable Socket socket) {
+			Generation generation = this.current;
+			return generation.alias(generation.delegate.chooseClientAlias(keyType, issuers, socket));
+		}
+
+		@Override
+		public String @Nullable [] getServerAliases(String keyType, Principal @Nullable [] issuers) {
+			Generation generation = this.current;
+			return generation.aliases(generation.delegate.getServerAliases(keyType, issuers));
+		}
+
+		@Override
+		public @Nullable String chooseServerAlias(String keyType, Principal @Nullable [] issuers,
+				@Nullable Socket socket) {
+			Generation generation = this.current;
+			return generation.alias(generation.delegate.chooseServerAlias(keyType, issuers, socket));
+		}
+
+		@Override
+		public X509Certificate @Nullable [] getCertificateChain(String alias) {
+			Generation generation = generation(alias);
+			return generation.delegate.getCertificateChain(generation.delegateAlias(alias));
+		}
+
+		@Override
+		public @Nullable PrivateKey getPrivateKey(String alias) {
+			Generation generation = generation(alias);
+			return generation.delegate.getPrivateKey(generation.delegateAlias(alias));
+		}
+
+		@Override
+		public @Nullable String chooseEngineClientAlias(String[] keyType, Principal @Nullable [] issuers,
+				@Nullable SSLEngine engine) {
+			Generation generation = this.current;
+			return generation.alias(generation.delegate.chooseEngineClientAlias(keyType, issuers, engine));
+		}
+
+		@Override
+		public @Nullable String chooseEngineServerAlias(String keyType, Principal @Nullable [] issuers,
+				@Nullable SSLEngine engine) {
+			Generation generation = this.current;
+			return generation.alias(generation.delegate.chooseEngineServerAlias(keyType, issuers, engine));
+		}
+
+		private Generation generation(String alias) {
+			Generation current = this.current;
+			Generation previous = this.previous;
+			if (previous != null && !current.owns(alias) && previous.owns(alias)) {
+				return previous;
+			}
+			return current;
+		}
+
+	}
+
+	/**
+	 * A delegate key manager and the prefix of the aliases it chooses.
+	 */
+	private static final class Generation {
+
+		private final int number;
+
+		private final String prefix;
+
+		private final X509ExtendedKeyManager delegate;
+
+		Generation(int number, X509ExtendedKeyManager delegate) {
+			this.number = number;
+			this.prefix = number + ".";
+			this.delegate = delegate;
+		}
+
+		@Nullable
+		String alias(@Nullable String alias) {
+			return (alias != null) ? this.prefix + alias : null;
+		}
+
+		String @Nullable [] aliases(String @Nullable [] aliases) {
+			return (aliases != null) ? Arrays.stream(aliases).map(this.prefix::concat).toArray(String[]::new) : null;
+		}
+
+		boolean owns(String alias) {
+			return alias.startsWith(this.prefix);
+		}
+
+		String delegateAlias(String alias) {
+			return owns(alias) ? alias.substring(this.prefix.length()) : alias;
+		}
+
+	}
+
+	private static final class SimpleKeyManagerFactorySpi extends KeyManagerFactorySpi {
+
+		private final KeyManager[] keyManagers;
+
+		SimpleKeyManagerFactorySpi(KeyManager keyManager) {
+			this.keyManagers = new KeyManager[] { keyManager };
+		}
+
+		@Override
+		protected void engineInit(@Nullable KeyStore keyStore, char @Nullable [] password) {
+		}
+
+		@Override
+		protected void engineInit(@Nullable ManagerFactoryParameters managerFactoryParameters) {
+		}
+
+		@Override
+		protected KeyManager[] engineGetKeyManagers() {
+			return this.keyManagers;
+		}
+
+	}
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.internal;
+
+import java.net.Socket;
+import java.security.KeyStore;
+import java.security.Provider;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+
+import javax.net.ssl.ManagerFactoryParameters;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.TrustManagerFactorySpi;
+import javax.net.ssl.X509ExtendedTrustManager;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link TrustManagerFactory} whose trust manager delegates to the trust manager of
+ * another factory that can be replaced at runtime, for example when an SSL bundle is
+ * updated. New TLS handshakes use the current delegate, while established connections are
+ * not affected.
+ *
+ * @author Chris Bono
+ */
+public class ReloadableTrustManagerFactory extends TrustManagerFactory {
+
+	private static final Provider provider = new Provider("", "0.0", "") {
+		private static final long serialVersionUID = -3120981226536719402L;
+
+	};
+
+	private final ReloadableTrustManager trustManager;
+
+	/**
+	 * Create a new instance that initially delegates to the given factory.
+	 * @param delegate the factory to delegate to
+	 */
+	public ReloadableTrustManagerFactory(TrustManagerFactory delegate) {
+		this(new ReloadableTrustManager(trustManager(delegate)));
+	}
+
+	private ReloadableTrustManagerFactory(ReloadableTrustManager trustManager) {
+		super(new SimpleTrustManagerFactorySpi(trustManager), provider, "");
+		this.trustManager = trustManager;
+	}
+
+	/**
+	 * Replace the factory to delegate to.
+	 * @param delegate the new factory to delegate to
+	 */
+	public void reload(TrustManagerFactory delegate) {
+		this.trustManager.delegate = trustManager(delegate);
+	}
+
+	private static X509ExtendedTrustManager trustManager(TrustManagerFactory factory) {
+		X509ExtendedTrustManager trustManager = (X509ExtendedTrustManager) Arrays.stream(factory.getTrustManagers())
+			.filter(X509ExtendedTrustManager.class::isInstance)
+			.findFirst()
+			.orElse(null);
+		Assert.notNull(trustManager, "TrustManagerFactory must provide an X509ExtendedTrustManager");
+		return trustManager;
+	}
+
+	private static final class ReloadableTrustManager extends X509ExtendedTrustManager {
+
+		private volatile X509ExtendedTrustManager delegate;
+
+		ReloadableTrustManager(X509ExtendedTrustManager delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+			this.delegate.checkClientTrusted(chain, authType);
+		}
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+			this.delegate.checkServerTrusted(chain, authType);
+		}
+
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType, @Nullable Socket socket)
+				throws CertificateException {
+			this.delegate.checkClientTrusted(chain, authType, socket);
+		}
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType, @Nullable Socket socket)
+				throws CertificateException {
+			this.delegate.checkServerTrusted(chain, authType, socket);
+		}
+
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType, @Nullable SSLEngine engine)
+				throws CertificateException {
+			this.delegate.checkClientTrusted(chain, authType, engine);
+		}
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType, @Nullable SSLEngine engine)
+				throws CertificateException {
+			this.delegate.checkServerTrusted(chain, authType, engine);
+		}
+
+		@Override
+		public X509Certificate[] getAcceptedIssuers() {
+			return this.delegate.getAcceptedIssuers();
+		}
+
+	}
+
+	private static final class SimpleTrustManagerFactorySpi extends TrustManagerFactorySpi {
+
+		private final TrustManager[] trustManagers;
+
+		SimpleTrustManagerFactorySpi(TrustManager trustManager) {
+			this.trustManagers = new TrustManager[] { trustManager };
+		}
+
+		@Override
+		protected void engineInit(@Nullable KeyStore keyStore) {
+		}
+
+		@Override
+		protected void engineInit(@Nullable ManagerFactoryParameters managerFactoryParameters) {
+		}
+
+		@Override
+		protected TrustManager[] engineGetTrustManagers() {
+			return this.trustManagers;
+		}
+
+	}
+
+}
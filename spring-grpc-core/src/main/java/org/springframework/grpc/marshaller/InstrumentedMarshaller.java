@@ -0,0 +1,287 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.springframework.grpc.marshaller.MarshallerDecorator.MessageType;
+import org.springframework.grpc.marshaller.MarshallerMetricsRecorder.Operation;
+import org.springframework.util.Assert;
+
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+import io.grpc.MethodDescriptor.PrototypeMarshaller;
+
+/**
+ * {@link Marshaller} that delegates to another marshaller and reports the size of each
+ * message and the time taken to serialize or parse it to a
+ * {@link MarshallerMetricsRecorder}.
+ * <p>
+ * Marshallers such as the protobuf marshallers serialize lazily, when the transport
+ * drains the returned stream. For these the serialization time is recorded once the
+ * stream has been drained (or closed). The size of a parsed message is taken from the
+ * stream when it is of {@link KnownLength known length}, otherwise the bytes read by the
+ * delegate are counted.
+ *
+ * @param <T> the type of message handled by the marshaller
+ * @author Chris Bono
+ */
+public class InstrumentedMarshaller<T> implements Marshaller<T> {
+
+	private final MethodDescriptor<?, ?> method;
+
+	private final MessageType messageType;
+
+	private final Marshaller<T> delegate;
+
+	private final MarshallerMetricsRecorder recorder;
+
+	protected InstrumentedMarshaller(MethodDescriptor<?, ?> method, MessageType messageType, Marshaller<T> delegate,
+			MarshallerMetricsRecorder recorder) {
+		Assert.notNull(method, "method must not be null");
+		Assert.notNull(messageType, "messageType must not be null");
+		Assert.notNull(delegate, "delegate must not be null");
+		Assert.notNull(recorder, "recorder must not be null");
+		this.method = method;
+		this.messageType = messageType;
+		this.delegate = delegate;
+		this.recorder = recorder;
+	}
+
+	/**
+	 * Create an instrumented marshaller for the given delegate. When the delegate is a
+	 * {@link PrototypeMarshaller} the returned marshaller is also a prototype marshaller.
+	 * @param <T> the type of message handled by the marshaller
+	 * @param method the method the marshaller belongs to
+	 * @param messageType whether the marshaller handles request or response messages
+	 * @param delegate the marshaller to instrument
+	 * @param recorder the recorder to report the measurements to
+	 * @return the instrumented marshaller
+	 */
+	public static <T> InstrumentedMarshaller<T> of(MethodDescriptor<?, ?> method, MessageType messageType,
+			Marshaller<T> delegate, MarshallerMetricsRecorder recorder) {
+		if (delegate instanceof PrototypeMarshaller<T> prototypeMarshaller) {
+			return new InstrumentedPrototypeMarshaller<>(method, messageType, prototypeMarshaller, recorder);
+		}
+		return new InstrumentedMarshaller<>(method, messageType, delegate, recorder);
+	}
+
+	/**
+	 * Gets the marshaller being instrumented.
+	 * @return the marshaller being instrumented
+	 */
+	public Marshaller<T> getDelegate() {
+		return this.delegate;
+	}
+
+	@Override
+	public InputStream stream(T value) {
+		long start = System.nanoTime();
+		InputStream stream = this.delegate.stream(value);
+		long elapsed = System.nanoTime() - start;
+		if (stream instanceof Drainable && stream instanceof KnownLength) {
+			return new TimedDrainableInputStream(stream, elapsed);
+		}
+		record(Operation.SERIALIZE, knownLength(stream), elapsed);
+		return stream;
+	}
+
+	@Override
+	public T parse(InputStream stream) {
+		long bytes = knownLength(stream);
+		CountingInputStream countingStream = null;
+		if (bytes < 0) {
+			countingStream = new CountingInputStream(stream);
+			stream = countingStream;
+		}
+		long start = System.nanoTime();
+		T message = this.delegate.parse(stream);
+		long elapsed = System.nanoTime() - start;
+		record(Operation.PARSE, (countingStream != null) ? countingStream.count : bytes, elapsed);
+		return message;
+	}
+
+	private void record(Operation operation, long bytes, long nanos) {
+		this.recorder.record(this.method, this.messageType, operation, bytes, nanos);
+	}
+
+	private static long knownLength(InputStream stream) {
+		if (stream instanceof KnownLength) {
+			try {
+				return stream.available();
+			}
+			catch (IOException ex) {
+				// Fall through and report an unknown size
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * An {@link InstrumentedMarshaller} for a {@link PrototypeMarshaller}.
+	 *
+	 * @param <T> the type of message handled by the marshaller
+	 */
+	static class InstrumentedPrototypeMarshaller<T> extends InstrumentedMarshaller<T>
+			implements PrototypeMarshaller<T> {
+
+		private final PrototypeMarshaller<T> prototypeDelegate;
+
+		InstrumentedPrototypeMarshaller(MethodDescriptor<?, ?> method, MessageType messageType,
+				PrototypeMarshaller<T> delegate, MarshallerMetricsRecorder recorder) {
+			super(method, messageType, delegate, recorder);
+			this.prototypeDelegate = delegate;
+		}
+
+		@Override
+		public T getMessagePrototype() {
+			return this.prototypeDelegate.getMessagePrototype();
+		}
+
+		@Override
+		public Class<T> getMessageClass() {
+			return this.prototypeDelegate.getMessageClass();
+		}
+
+	}
+
+	/**
+	 * Wraps a lazily serializing stream and records the serialization once the stream has
+	 * been consumed. Keeps the {@link Drainable} and {@link KnownLength} contracts so the
+	 * transport can still use its fast paths.
+	 */
+	private final class TimedDrainableInputStream extends InputStream implements Drainable, KnownLength {
+
+		private final InputStream delegate;
+
+		private long nanos;
+
+		private long bytes;
+
+		private boolean recorded;
+
+		TimedDrainableInputStream(InputStream delegate, long nanos) {
+			this.delegate = delegate;
+			this.nanos = nanos;
+		}
+
+		@Override
+		public int drainTo(OutputStream target) throws IOException {
+			long start = System.nanoTime();
+			int drained = ((Drainable) this.delegate).drainTo(target);
+			this.nanos += System.nanoTime() - start;
+			this.bytes += drained;
+			complete();
+			return drained;
+		}
+
+		@Override
+		public int read() throws IOException {
+			long start = System.nanoTime();
+			int read = this.delegate.read();
+			this.nanos += System.nanoTime() - start;
+			if (read == -1) {
+				complete();
+			}
+			else {
+				this.bytes++;
+			}
+			return read;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			long start = System.nanoTime();
+			int read = this.delegate.read(b, off, len);
+			this.nanos += System.nanoTime() - start;
+			if (read == -1) {
+				complete();
+			}
+			else {
+				this.bytes += read;
+			}
+			return read;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return this.delegate.available();
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				this.delegate.close();
+			}
+			finally {
+				complete();
+			}
+		}
+
+		private void complete() {
+			if (!this.recorded) {
+				this.recorded = true;
+				record(Operation.SERIALIZE, this.bytes, this.nanos);
+			}
+		}
+
+	}
+
+	/**
+	 * Counts the bytes read from a stream whose length is not known upfront.
+	 */
+	private static final class CountingInputStream extends FilterInputStream {
+
+		private long count;
+
+		CountingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int read = super.read();
+			if (read != -1) {
+				this.count++;
+			}
+			return read;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			if (read != -1) {
+				this.count += read;
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			this.count += skipped;
+			return skipped;
+		}
+
+	}
+
+}
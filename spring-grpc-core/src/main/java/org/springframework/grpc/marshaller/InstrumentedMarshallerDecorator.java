@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import org.springframework.util.Assert;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+
+/**
+ * {@link MarshallerDecorator} that wraps each marshaller in an
+ * {@link InstrumentedMarshaller}.
+ *
+ * @author Chris Bono
+ */
+public class InstrumentedMarshallerDecorator implements MarshallerDecorator {
+
+	private final MarshallerMetricsRecorder recorder;
+
+	public InstrumentedMarshallerDecorator(MarshallerMetricsRecorder recorder) {
+		Assert.notNull(recorder, "recorder must not be null");
+		this.recorder = recorder;
+	}
+
+	@Override
+	public <T> Marshaller<T> decorate(MethodDescriptor<?, ?> method, MessageType messageType,
+			Marshaller<T> marshaller) {
+		if (marshaller instanceof InstrumentedMarshaller) {
+			return marshaller;
+		}
+		return InstrumentedMarshaller.of(method, messageType, marshaller, this.recorder);
+	}
+
+}
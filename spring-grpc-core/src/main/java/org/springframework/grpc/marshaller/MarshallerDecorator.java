@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+
+/**
+ * Strategy to decorate the request and response {@link Marshaller marshallers} of a
+ * {@link MethodDescriptor method descriptor} (e.g. to add instrumentation).
+ *
+ * @author Chris Bono
+ * @see MarshallerDecorators
+ */
+public interface MarshallerDecorator {
+
+	/**
+	 * Decorate the given marshaller.
+	 * @param <T> the type of message handled by the marshaller
+	 * @param method the method the marshaller belongs to
+	 * @param messageType whether the marshaller handles the request or response messages
+	 * @param marshaller the marshaller to decorate
+	 * @return the decorated marshaller or the passed in marshaller if no decoration is
+	 * required
+	 */
+	<T> Marshaller<T> decorate(MethodDescriptor<?, ?> method, MessageType messageType, Marshaller<T> marshaller);
+
+	/**
+	 * The type of message handled by a marshaller.
+	 */
+	enum MessageType {
+
+		/**
+		 * The marshaller handles request messages.
+		 */
+		REQUEST,
+
+		/**
+		 * The marshaller handles response messages.
+		 */
+		RESPONSE
+
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.grpc.marshaller.MarshallerDecorator.MessageType;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+
+/**
+ * Utility methods to apply {@link MarshallerDecorator marshaller decorators} to method
+ * descriptors and service definitions.
+ *
+ * @author Chris Bono
+ */
+public final class MarshallerDecorators {
+
+	private MarshallerDecorators() {
+	}
+
+	/**
+	 * Apply the decorators to the marshallers of the given method descriptor.
+	 * @param <ReqT> the request type
+	 * @param <RespT> the response type
+	 * @param method the method descriptor
+	 * @param decorators the decorators to apply in order
+	 * @return a copy of the method descriptor using the decorated marshallers or the same
+	 * method descriptor if none of the decorators decorated the marshallers
+	 */
+	public static <ReqT, RespT> MethodDescriptor<ReqT, RespT> decorate(MethodDescriptor<ReqT, RespT> method,
+			List<MarshallerDecorator> decorators) {
+		Marshaller<ReqT> requestMarshaller = method.getRequestMarshaller();
+		Marshaller<RespT> responseMarshaller = method.getResponseMarshaller();
+		for (MarshallerDecorator decorator : decorators) {
+			requestMarshaller = decorator.decorate(method, MessageType.REQUEST, requestMarshaller);
+			responseMarshaller = decorator.decorate(method, MessageType.RESPONSE, responseMarshaller);
+		}
+		if (requestMarshaller == method.getRequestMarshaller()
+				&& responseMarshaller == method.getResponseMarshaller()) {
+			return method;
+		}
+		return method.toBuilder(requestMarshaller, responseMarshaller).build();
+	}
+
+	/**
+	 * Apply the decorators to the marshallers of each method in the given service
+	 * definition.
+	 * @param service the service definition
+	 * @param decorators the decorators to apply in order
+	 * @return a copy of the service definition whose methods use the decorated
+	 * marshallers or the same service definition if there are no decorators
+	 */
+	public static ServerServiceDefinition decorate(ServerServiceDefinition service,
+			List<MarshallerDecorator> decorators) {
+		if (decorators.isEmpty()) {
+			return service;
+		}
+		ServiceDescriptor serviceDescriptor = service.getServiceDescriptor();
+		ServiceDescriptor.Builder serviceDescriptorBuilder = ServiceDescriptor.newBuilder(serviceDescriptor.getName())
+			.setSchemaDescriptor(serviceDescriptor.getSchemaDescriptor());
+		List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+		for (ServerMethodDefinition<?, ?> method : service.getMethods()) {
+			ServerMethodDefinition<?, ?> decoratedMethod = decorate(method, decorators);
+			serviceDescriptorBuilder.addMethod(decoratedMethod.getMethodDescriptor());
+			methods.add(decoratedMethod);
+		}
+		// The service descriptor must reference the exact same method descriptors
+		ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(serviceDescriptorBuilder.build());
+		methods.forEach(builder::addMethod);
+		return builder.build();
+	}
+
+	private static <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> decorate(
+			ServerMethodDefinition<ReqT, RespT> method, List<MarshallerDecorator> decorators) {
+		return ServerMethodDefinition.create(decorate(method.getMethodDescriptor(), decorators),
+				method.getServerCallHandler());
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import org.springframework.grpc.marshaller.MarshallerDecorator.MessageType;
+
+import io.grpc.MethodDescriptor;
+
+/**
+ * Records the size and the time taken to serialize or parse each message handled by an
+ * {@link InstrumentedMarshaller}.
+ *
+ * @author Chris Bono
+ */
+@FunctionalInterface
+public interface MarshallerMetricsRecorder {
+
+	/**
+	 * Record the serialization or parsing of a single message.
+	 * @param method the method the message belongs to
+	 * @param messageType whether the message is a request or a response
+	 * @param operation whether the message was serialized or parsed
+	 * @param bytes the size of the serialized message in bytes or {@code -1} if the size
+	 * could not be determined
+	 * @param nanos the time taken in nanoseconds
+	 */
+	void record(MethodDescriptor<?, ?> method, MessageType messageType, Operation operation, long bytes, long nanos);
+
+	/**
+	 * The marshaller operation being recorded.
+	 */
+	enum Operation {
+
+		/**
+		 * A message was serialized into bytes.
+		 */
+		SERIALIZE,
+
+		/**
+		 * A message was parsed from bytes.
+		 */
+		PARSE
+
+	}
+
+}
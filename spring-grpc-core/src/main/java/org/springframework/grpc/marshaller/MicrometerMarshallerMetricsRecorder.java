@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.grpc.marshaller.MarshallerDecorator.MessageType;
+import org.springframework.util.Assert;
+
+import io.grpc.MethodDescriptor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link MarshallerMetricsRecorder} that records message sizes as a
+ * {@link DistributionSummary} named {@code <prefix>.message.size} and marshalling times
+ * as a {@link Timer} named {@code <prefix>.message.marshalling}.
+ * <p>
+ * Both meters are tagged with the service and method name, the message type (request or
+ * response) and the operation (serialize or parse).
+ *
+ * @author Chris Bono
+ */
+public class MicrometerMarshallerMetricsRecorder implements MarshallerMetricsRecorder {
+
+	private final Map<MeterKey, MessageMeters> meters = new ConcurrentHashMap<>();
+
+	private final MeterRegistry registry;
+
+	private final String prefix;
+
+	/**
+	 * Construct a recorder that registers its meters in the given registry.
+	 * @param registry the registry to register the meters in
+	 * @param prefix the prefix for the meter names (e.g. {@code grpc.server})
+	 */
+	public MicrometerMarshallerMetricsRecorder(MeterRegistry registry, String prefix) {
+		Assert.notNull(registry, "registry must not be null");
+		Assert.hasText(prefix, "prefix must not be empty");
+		this.registry = registry;
+		this.prefix = prefix;
+	}
+
+	@Override
+	public void record(MethodDescriptor<?, ?> method, MessageType messageType, Operation operation, long bytes,
+			long nanos) {
+		MessageMeters messageMeters = this.meters.computeIfAbsent(new MeterKey(method, messageType, operation),
+				this::createMeters);
+		if (bytes >= 0) {
+			messageMeters.size().record(bytes);
+		}
+		messageMeters.marshalling().record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	private MessageMeters createMeters(MeterKey key) {
+		Tags tags = Tags.of("grpc.service", Objects.toString(key.method().getServiceName(), ""))
+			.and("grpc.method", Objects.toString(key.method().getBareMethodName(), ""))
+			.and("grpc.message", key.messageType().name().toLowerCase(Locale.ROOT))
+			.and("grpc.operation", key.operation().name().toLowerCase(Locale.ROOT));
+		DistributionSummary size = DistributionSummary.builder(this.prefix + ".message.size")
+			.description("The size of the gRPC messages")
+			.baseUnit("bytes")
+			.tags(tags)
+			.register(this.registry);
+		Timer marshalling = Timer.builder(this.prefix + ".message.marshalling")
+			.description("The time taken to serialize or parse the gRPC messages")
+			.tags(tags)
+			.register(this.registry);
+		return new MessageMeters(size, marshalling);
+	}
+
+	private record MeterKey(MethodDescriptor<?, ?> method, MessageType messageType, Operation operation) {
+	}
+
+	private record MessageMeters(DistributionSummary size, Timer marshalling) {
+	}
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import java.lang.ref.Cleaner.Cleanable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.Ordered;
+
+import com.google.protobuf.MessageLite;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+import io.grpc.MethodDescriptor.PrototypeMarshaller;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+/**
+ * {@link MarshallerDecorator} that replaces protobuf marshallers with marshallers that
+ * parse messages without copying them out of the transport buffers. Worth enabling for
+ * services whose messages carry large {@code bytes} fields.
+ * <p>
+ * The {@code bytes} fields of a message parsed this way share memory with the transport
+ * and must not be used once the message itself is no longer referenced. The buffers are
+ * released when the message is garbage collected. On the server the buffers of request
+ * messages can be released as soon as the call completes by also registering the
+ * {@link #getServerInterceptor() server interceptor}, in which case the request messages
+ * must not be used after the call has completed.
+ * <p>
+ * The decorator is ordered first so that other decorators (e.g. instrumentation) wrap the
+ * zero-copy marshallers rather than the other way around.
+ *
+ * @author Chris Bono
+ */
+public class ZeroCopyMarshallerDecorator implements MarshallerDecorator, Ordered {
+
+	private final long minMessageSize;
+
+	/**
+	 * Create a decorator that parses every message it can without copying.
+	 */
+	public ZeroCopyMarshallerDecorator() {
+		this(0);
+	}
+
+	/**
+	 * Create a decorator that parses messages of at least the given size without copying.
+	 * Smaller messages are cheaper to copy than to hold on to transport buffers for.
+	 * @param minMessageSize the minimum size in bytes of messages to parse without
+	 * copying
+	 */
+	public ZeroCopyMarshallerDecorator(long minMessageSize) {
+		this.minMessageSize = minMessageSize;
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public <T> Marshaller<T> decorate(MethodDescriptor<?, ?> method, MessageType messageType,
+			Marshaller<T> marshaller) {
+		if (marshaller instanceof PrototypeMarshaller<T> prototypeMarshaller
+				&& !(marshaller instanceof ZeroCopyProtoMarshaller)
+				&& prototypeMarshaller.getMessagePrototype() instanceof MessageLite) {
+			return new ZeroCopyProtoMarshaller(prototypeMarshaller, this.minMessageSize);
+		}
+		return marshaller;
+	}
+
+	/**
+	 * Gets a server interceptor that releases the transport buffers of the request
+	 * messages parsed without copying once the call has completed or been cancelled.
+	 * @return the server interceptor
+	 */
+	public ServerInterceptor getServerInterceptor() {
+		return new ReleasingServerInterceptor();
+	}
+
+	private static final class ReleasingServerInterceptor implements ServerInterceptor {
+
+		@Override
+		public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+				ServerCallHandler<ReqT, RespT> next) {
+			return new ReleasingListener<>(next.startCall(call, headers));
+		}
+
+	}
+
+	private static final class ReleasingListener<ReqT> extends SimpleForwardingServerCallListener<ReqT> {
+
+		private final List<Cleanable> messages = new ArrayList<>(1);
+
+		ReleasingListener(ServerCall.Listener<ReqT> delegate) {
+			super(delegate);
+		}
+
+		@Override
+		public void onMessage(ReqT message) {
+			Cleanable cleanable = ZeroCopyProtoMarshaller.takeLastParsed(message);
+			if (cleanable != null) {
+				synchronized (this.messages) {
+					this.messages.add(cleanable);
+				}
+			}
+			super.onMessage(message);
+		}
+
+		@Override
+		public void onComplete() {
+			try {
+				super.onComplete();
+			}
+			finally {
+				release();
+			}
+		}
+
+		@Override
+		public void onCancel() {
+			try {
+				super.onCancel();
+			}
+			finally {
+				release();
+			}
+		}
+
+		private void release() {
+			synchronized (this.messages) {
+				this.messages.forEach(Cleanable::clean);
+				this.messages.clear();
+			}
+		}
+
+	}
+
+}
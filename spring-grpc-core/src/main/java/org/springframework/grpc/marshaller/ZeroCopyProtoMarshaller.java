@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.lang.ref.Cleaner.Cleanable;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+
+import org.jspecify.annotations.Nullable;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import com.google.protobuf.UnsafeByteOperations;
+import io.grpc.Detachable;
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor.PrototypeMarshaller;
+import io.grpc.Status;
+
+/**
+ * Protobuf {@link PrototypeMarshaller} that parses messages straight from the buffers of
+ * the transport. The stream is {@link Detachable#detach() detached} from the transport
+ * and its {@link HasByteBuffer byte buffers} are wrapped without copying, so that
+ * {@code bytes} fields of the parsed message alias the received data.
+ * <p>
+ * The detached buffers are released when the message is no longer reachable, or earlier
+ * through {@link #takeLastParsed(Object)}. Streams that do not expose their buffers and
+ * messages smaller than the configured minimum size are parsed by the delegate.
+ *
+ * @param <T> the type of message handled by the marshaller
+ * @author Chris Bono
+ */
+final class ZeroCopyProtoMarshaller<T extends MessageLite> implements PrototypeMarshaller<T> {
+
+	private static final Cleaner cleaner = Cleaner.create();
+
+	private static final ThreadLocal<@Nullable ParsedMessage> lastParsed = new ThreadLocal<>();
+
+	private final PrototypeMarshaller<T> delegate;
+
+	private final Parser<T> parser;
+
+	private final long minMessageSize;
+
+	@SuppressWarnings("unchecked")
+	ZeroCopyProtoMarshaller(PrototypeMarshaller<T> delegate, long minMessageSize) {
+		this.delegate = delegate;
+		this.parser = (Parser<T>) delegate.getMessagePrototype().getParserForType();
+		this.minMessageSize = minMessageSize;
+	}
+
+	PrototypeMarshaller<T> getDelegate() {
+		return this.delegate;
+	}
+
+	@Override
+	public @Nullable T getMessagePrototype() {
+		return this.delegate.getMessagePrototype();
+	}
+
+	@Override
+	public Class<T> getMessageClass() {
+		return this.delegate.getMessageClass();
+	}
+
+	@Override
+	public InputStream stream(T value) {
+		// The protobuf marshallers already write straight into the transport buffers
+		return this.delegate.stream(value);
+	}
+
+	@Override
+	public T parse(InputStream stream) {
+		int size = zeroCopySize(stream);
+		if (size < 0) {
+			return this.delegate.parse(stream);
+		}
+		InputStream detached = ((Detachable) stream).detach();
+		try {
+			T message = parse(detached, size);
+			Cleanable cleanable = cleaner.register(message, new Release(detached));
+			lastParsed.set(new ParsedMessage(message, cleanable));
+			return message;
+		}
+		catch (IOException | RuntimeException ex) {
+			close(detached);
+			throw Status.INTERNAL.withDescription("Invalid protobuf byte sequence").withCause(ex).asRuntimeException();
+		}
+	}
+
+	private int zeroCopySize(InputStream stream) {
+		if (stream instanceof KnownLength && stream instanceof Detachable
+				&& stream instanceof HasByteBuffer hasByteBuffer && hasByteBuffer.byteBufferSupported()) {
+			try {
+				int size = stream.available();
+				return (size > 0 && size >= this.minMessageSize) ? size : -1;
+			}
+			catch (IOException ex) {
+				// Fall through and let the delegate parse the stream
+			}
+		}
+		return -1;
+	}
+
+	private T parse(InputStream detached, int size) throws IOException {
+		if (!(detached instanceof HasByteBuffer hasByteBuffer) || !hasByteBuffer.byteBufferSupported()) {
+			throw new IOException("Detached stream does not support byte buffers");
+		}
+		ByteString data = ByteString.empty();
+		int remaining = size;
+		while (remaining > 0) {
+			ByteBuffer buffer = hasByteBuffer.getByteBuffer();
+			if (buffer == null) {
+				throw new IOException("Unexpected end of stream with " + remaining + " bytes remaining");
+			}
+			int length = Math.min(remaining, buffer.remaining());
+			ByteBuffer chunk = buffer.duplicate();
+			chunk.limit(chunk.position() + length);
+			data = data.concat(UnsafeByteOperations.unsafeWrap(chunk));
+			detached.skip(length);
+			remaining -= length;
+		}
+		CodedInputStream input = data.newCodedInput();
+		input.enableAliasing(true);
+		input.setSizeLimit(Integer.MAX_VALUE);
+		return this.parser.parseFrom(input, ExtensionRegistryLite.getEmptyRegistry());
+	}
+
+	/**
+	 * Take over the release of the buffers of the given message if it is the last message
+	 * parsed with zero copy on the current thread. gRPC hands a parsed message to the
+	 * call listener on the thread that parsed it, so a listener can use this to take over
+	 * the release of the buffers backing the messages it receives.
+	 * @param message the message received by the listener
+	 * @return the handle to release the buffers of the message or {@code null} if the
+	 * message was not parsed with zero copy
+	 */
+	static @Nullable Cleanable takeLastParsed(Object message) {
+		ParsedMessage parsed = lastParsed.get();
+		if (parsed == null || parsed.message.get() != message) {
+			return null;
+		}
+		lastParsed.remove();
+		return parsed.cleanable;
+	}
+
+	private static void close(InputStream stream) {
+		try {
+			stream.close();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private record ParsedMessage(WeakReference<Object> message, Cleanable cleanable) {
+
+		ParsedMessage(Object message, Cleanable cleanable) {
+			this(new WeakReference<>(message), cleanable);
+		}
+
+	}
+
+	private record Release(InputStream stream) implements Runnable {
+
+		@Override
+		public void run() {
+			close(this.stream);
+		}
+
+	}
+
+}
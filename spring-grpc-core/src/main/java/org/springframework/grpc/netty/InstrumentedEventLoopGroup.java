@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.netty;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.netty4.NettyEventExecutorMetrics;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.IoHandlerFactory;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollIoHandler;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * A Netty {@link EventLoopGroup} for gRPC servers and channels that binds metrics for its
+ * event loops. Besides the {@code netty.eventexecutor.tasks.pending} gauge registered by
+ * Micrometer's {@link NettyEventExecutorMetrics}, each event loop is periodically probed
+ * and the time the probe waits before it runs is recorded in a {@link Timer} named
+ * {@code <prefix>.netty.eventloop.latency}, tagged with the {@code name} of the group. A
+ * growing latency means the event loops are lagging behind.
+ * <p>
+ * The group uses the epoll transport when it is available and NIO otherwise, like gRPC
+ * does for its default event loops. Unlike those, it is not shut down by gRPC, so it must
+ * be {@link #close() closed} once the servers or channels using it are.
+ *
+ * @author Chris Bono
+ */
+public class InstrumentedEventLoopGroup implements AutoCloseable {
+
+	private static final boolean EPOLL_PRESENT = ClassUtils.isPresent("io.netty.channel.epoll.Epoll",
+			InstrumentedEventLoopGroup.class.getClassLoader());
+
+	private static final Duration PROBE_INTERVAL = Duration.ofSeconds(1);
+
+	private final MultiThreadIoEventLoopGroup group;
+
+	private final boolean epoll;
+
+	private final List<Future<?>> probes = new ArrayList<>();
+
+	/**
+	 * Construct a group with the given number of threads that registers its metrics in
+	 * the given registry.
+	 * @param registry the registry to register the metrics in
+	 * @param prefix the prefix for the latency meter name (e.g. {@code grpc.server})
+	 * @param name the name of the group, used for its thread names and meter tags
+	 * @param threads the number of threads, or {@code 0} for Netty's default
+	 */
+	public InstrumentedEventLoopGroup(MeterRegistry registry, String prefix, String name, int threads) {
+		Assert.notNull(registry, "registry must not be null");
+		Assert.hasText(prefix, "prefix must not be empty");
+		Assert.hasText(name, "name must not be empty");
+		this.epoll = EPOLL_PRESENT && EpollSupport.isAvailable();
+		IoHandlerFactory ioHandlerFactory = this.epoll ? EpollSupport.ioHandlerFactory() : NioIoHandler.newFactory();
+		this.group = new MultiThreadIoEventLoopGroup(threads, new DefaultThreadFactory(name, true), ioHandlerFactory);
+		new NettyEventExecutorMetrics(this.group).bindTo(registry);
+		Timer latency = Timer.builder(prefix + ".netty.eventloop.latency")
+			.description("The time tasks wait before they run on the Netty event loops")
+			.tags(Tags.of("name", name))
+			.register(registry);
+		for (EventExecutor executor : this.group) {
+			this.probes.add(executor.scheduleAtFixedRate(() -> probe(executor, latency), PROBE_INTERVAL.toNanos(),
+					PROBE_INTERVAL.toNanos(), TimeUnit.NANOSECONDS));
+		}
+	}
+
+	private void probe(EventExecutor executor, Timer latency) {
+		long submitted = System.nanoTime();
+		executor.execute(() -> latency.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS));
+	}
+
+	/**
+	 * Return the underlying event loop group.
+	 * @return the event loop group
+	 */
+	public EventLoopGroup getGroup() {
+		return this.group;
+	}
+
+	/**
+	 * Return the type of server channel to use with this group.
+	 * @return the server channel type
+	 */
+	public Class<? extends ServerChannel> getServerChannelType() {
+		return this.epoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
+	}
+
+	/**
+	 * Return the type of client channel to use with this group.
+	 * @return the client channel type
+	 */
+	public Class<? extends Channel> getChannelType() {
+		return this.epoll ? EpollSocketChannel.class : NioSocketChannel.class;
+	}
+
+	@Override
+	public void close() {
+		this.probes.forEach((probe) -> probe.cancel(false));
+		this.group.shutdownGracefully();
+	}
+
+	/**
+	 * Isolates the references to the optional epoll transport.
+	 */
+	private static final class EpollSupport {
+
+		static boolean isAvailable() {
+			return Epoll.isAvailable();
+		}
+
+		static IoHandlerFactory ioHandlerFactory() {
+			return EpollIoHandler.newFactory();
+		}
+
+	}
+
+}
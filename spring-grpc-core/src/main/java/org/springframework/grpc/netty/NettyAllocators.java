@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.netty;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import io.netty.buffer.AdaptiveByteBufAllocator;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.util.ResourceLeakDetector;
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * Factory for the Netty {@link ByteBufAllocator buffer allocators} of gRPC servers and
+ * channels that use {@code grpc-netty}, and for their resource leak detection level.
+ *
+ * @author Chris Bono
+ * @see ShadedNettyAllocators
+ */
+public final class NettyAllocators {
+
+	private static final Log logger = LogFactory.getLog(NettyAllocators.class);
+
+	private static final Map<String, ResourceLeakDetector.Level> leakDetectionLevels = new ConcurrentHashMap<>();
+
+	private NettyAllocators() {
+	}
+
+	/**
+	 * Create a buffer allocator.
+	 * @param type the type of allocator ({@code ADAPTIVE}, {@code UNPOOLED} or
+	 * {@code POOLED})
+	 * @param preferDirect whether to prefer direct buffers, or {@code null} for the Netty
+	 * default
+	 * @param heapArenas the number of heap arenas of a pooled allocator, or {@code null}
+	 * for the Netty default
+	 * @param directArenas the number of direct arenas of a pooled allocator, or
+	 * {@code null} for the Netty default
+	 * @return the allocator
+	 */
+	public static ByteBufAllocator create(String type, @Nullable Boolean preferDirect, @Nullable Integer heapArenas,
+			@Nullable Integer directArenas) {
+		boolean direct = (preferDirect != null) ? preferDirect : PlatformDependent.directBufferPreferred();
+		return switch (type) {
+			case "ADAPTIVE" -> new AdaptiveByteBufAllocator(direct);
+			case "UNPOOLED" -> new UnpooledByteBufAllocator(direct);
+			case "POOLED" -> new PooledByteBufAllocator(direct,
+					(heapArenas != null) ? heapArenas : PooledByteBufAllocator.defaultNumHeapArena(),
+					(directArenas != null) ? directArenas : PooledByteBufAllocator.defaultNumDirectArena(),
+					PooledByteBufAllocator.defaultPageSize(), PooledByteBufAllocator.defaultMaxOrder(),
+					PooledByteBufAllocator.defaultSmallCacheSize(), PooledByteBufAllocator.defaultNormalCacheSize(),
+					PooledByteBufAllocator.defaultUseCacheForAllThreads());
+			default -> throw new IllegalArgumentException("Unknown allocator type '" + type + "'");
+		};
+	}
+
+	/**
+	 * Request the resource leak detection level of the Netty buffers. The level is global
+	 * to the JVM, so the most thorough level requested by any of the owners (e.g. the
+	 * gRPC client and server) is used, and a warning is logged when they disagree.
+	 * @param owner the owner requesting the level
+	 * @param level the name of the {@link ResourceLeakDetector.Level level}
+	 */
+	public static synchronized void setLeakDetectionLevel(String owner, String level) {
+		leakDetectionLevels.put(owner, ResourceLeakDetector.Level.valueOf(level));
+		Collection<ResourceLeakDetector.Level> levels = leakDetectionLevels.values();
+		ResourceLeakDetector.Level effective = levels.stream().max(Comparator.naturalOrder()).orElseThrow();
+		if (levels.stream().distinct().count() > 1) {
+			logger.warn("Conflicting Netty leak detection levels " + leakDetectionLevels + ", using " + effective);
+		}
+		ResourceLeakDetector.setLevel(effective);
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.netty;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+import io.grpc.ChannelCredentials;
+import io.grpc.TlsChannelCredentials;
+
+/**
+ * TLS {@link ChannelCredentials} with {@link TlsOptions} that need a Netty
+ * {@code SslContext}. The credentials do not depend on a Netty flavour: the Netty channel
+ * factories build the {@code SslContext} for the transport they use, with
+ * {@link NettySslContexts} or {@link ShadedNettySslContexts}. Other channel builders get
+ * the {@link #toTlsChannelCredentials() plain TLS credentials}, without the options.
+ *
+ * @author Chris Bono
+ */
+public final class NettyTlsChannelCredentials extends ChannelCredentials {
+
+	private final @Nullable KeyManagerFactory keyManager;
+
+	private final @Nullable TrustManagerFactory trustManager;
+
+	private final TlsOptions options;
+
+	private NettyTlsChannelCredentials(@Nullable KeyManagerFactory keyManager,
+			@Nullable TrustManagerFactory trustManager, TlsOptions options) {
+		this.keyManager = keyManager;
+		this.trustManager = trustManager;
+		this.options = options;
+	}
+
+	/**
+	 * Create the credentials.
+	 * @param keyManager the key manager of the client, or {@code null} if the client does
+	 * not authenticate
+	 * @param trustManager the trust manager used to verify servers, or {@code null} for
+	 * the default trust manager
+	 * @param options the TLS options
+	 * @return the credentials
+	 */
+	public static NettyTlsChannelCredentials create(@Nullable KeyManagerFactory keyManager,
+			@Nullable TrustManagerFactory trustManager, TlsOptions options) {
+		Assert.notNull(options, "options must not be null");
+		return new NettyTlsChannelCredentials(keyManager, trustManager, options);
+	}
+
+	public @Nullable KeyManagerFactory getKeyManager() {
+		return this.keyManager;
+	}
+
+	public @Nullable TrustManagerFactory getTrustManager() {
+		return this.trustManager;
+	}
+
+	public TlsOptions getOptions() {
+		return this.options;
+	}
+
+	/**
+	 * Return TLS credentials with the same key and trust material for channel builders
+	 * that are not backed by Netty. The {@link TlsOptions} are not applied.
+	 * @return the TLS credentials
+	 */
+	public ChannelCredentials toTlsChannelCredentials() {
+		TlsChannelCredentials.Builder builder = TlsChannelCredentials.newBuilder();
+		if (this.keyManager != null) {
+			builder.keyManager(this.keyManager.getKeyManagers());
+		}
+		if (this.trustManager != null) {
+			builder.trustManager(this.trustManager.getTrustManagers());
+		}
+		return builder.build();
+	}
+
+	@Override
+	public ChannelCredentials withoutBearerTokens() {
+		return this;
+	}
+
+}
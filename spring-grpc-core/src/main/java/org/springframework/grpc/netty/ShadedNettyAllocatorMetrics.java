@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.netty;
+
+import org.springframework.util.Assert;
+
+import io.grpc.netty.shaded.io.netty.buffer.ByteBufAllocatorMetric;
+import io.grpc.netty.shaded.io.netty.buffer.ByteBufAllocatorMetricProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.netty4.NettyAllocatorMetrics;
+
+/**
+ * {@link MeterBinder} for the memory used by a buffer allocator of the Netty shaded into
+ * {@code grpc-netty-shaded}. Uses the meter names and tags of Micrometer's
+ * {@link NettyAllocatorMetrics}, which only supports the non-shaded Netty.
+ *
+ * @author Chris Bono
+ */
+public class ShadedNettyAllocatorMetrics implements MeterBinder {
+
+	private final ByteBufAllocatorMetricProvider allocator;
+
+	public ShadedNettyAllocatorMetrics(ByteBufAllocatorMetricProvider allocator) {
+		Assert.notNull(allocator, "allocator must not be null");
+		this.allocator = allocator;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		ByteBufAllocatorMetric metric = this.allocator.metric();
+		Tags tags = Tags.of("id", String.valueOf(this.allocator.hashCode()), "allocator.type",
+				this.allocator.getClass().getSimpleName());
+		Gauge.builder("netty.allocator.memory.used", metric, ByteBufAllocatorMetric::usedHeapMemory)
+			.tags(tags.and("memory.type", "heap"))
+			.register(registry);
+		Gauge.builder("netty.allocator.memory.used", metric, ByteBufAllocatorMetric::usedDirectMemory)
+			.tags(tags.and("memory.type", "direct"))
+			.register(registry);
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.netty;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import io.grpc.TlsServerCredentials;
+import io.grpc.netty.shaded.io.grpc.netty.GrpcSslContexts;
+import io.grpc.netty.shaded.io.netty.handler.ssl.ClientAuth;
+import io.grpc.netty.shaded.io.netty.handler.ssl.OpenSsl;
+import io.grpc.netty.shaded.io.netty.handler.ssl.OpenSslSessionContext;
+import io.grpc.netty.shaded.io.netty.handler.ssl.OpenSslSessionTicketKey;
+import io.grpc.netty.shaded.io.netty.handler.ssl.SslContext;
+import io.grpc.netty.shaded.io.netty.handler.ssl.SslContextBuilder;
+import io.grpc.netty.shaded.io.netty.handler.ssl.SslProvider;
+
+/**
+ * Factory for the Netty {@link SslContext SSL contexts} of gRPC servers and channels that
+ * use {@code grpc-netty-shaded}, so that the {@link TlsProvider} and session settings can
+ * be chosen.
+ *
+ * @author Chris Bono
+ * @see NettySslContexts
+ */
+public final class ShadedNettySslContexts {
+
+	private static final Log logger = LogFactory.getLog(ShadedNettySslContexts.class);
+
+	private ShadedNettySslContexts() {
+	}
+
+	/**
+	 * Create the SSL context for a server.
+	 * @param keyManager the key manager of the server
+	 * @param trustManager the trust manager used to verify clients, or {@code null} for
+	 * the default trust manager
+	 * @param clientAuth the client authentication mode, or {@code null} for none
+	 * @param options the TLS options
+	 * @return the SSL context
+	 */
+	public static SslContext forServer(KeyManagerFactory keyManager, @Nullable TrustManagerFactory trustManager,
+			TlsServerCredentials.@Nullable ClientAuth clientAuth, TlsOptions options) {
+		SslContextBuilder builder = SslContextBuilder.forServer(keyManager).clientAuth(clientAuth(clientAuth));
+		if (trustManager != null) {
+			builder.trustManager(trustManager);
+		}
+		SslContext context = build(builder, options);
+		if (!options.sessionTicketKeys().isEmpty()) {
+			if (context.sessionContext() instanceof OpenSslSessionContext sessionContext) {
+				sessionContext.setTicketKeys(options.sessionTicketKeys()
+					.stream()
+					.map(ShadedNettySslContexts::ticketKey)
+					.toArray(OpenSslSessionTicketKey[]::new));
+			}
+			else {
+				logger.warn("Ignoring session ticket keys as they are only supported by the OpenSSL provider");
+			}
+		}
+		return context;
+	}
+
+	/**
+	 * Create the SSL context for a channel.
+	 * @param keyManager the key manager of the client, or {@code null} if the client does
+	 * not authenticate
+	 * @param trustManager the trust manager used to verify servers, or {@code null} for
+	 * the default trust manager
+	 * @param options the TLS options
+	 * @return the SSL context
+	 */
+	public static SslContext forClient(@Nullable KeyManagerFactory keyManager,
+			@Nullable TrustManagerFactory trustManager, TlsOptions options) {
+		SslContextBuilder builder = SslContextBuilder.forClient();
+		if (keyManager != null) {
+			builder.keyManager(keyManager);
+		}
+		if (trustManager != null) {
+			builder.trustManager(trustManager);
+		}
+		return build(builder, options);
+	}
+
+	private static SslContext build(SslContextBuilder builder, TlsOptions options) {
+		GrpcSslContexts.configure(builder, provider(options.provider()));
+		if (options.sessionCacheSize() > 0) {
+			builder.sessionCacheSize(options.sessionCacheSize());
+		}
+		Duration sessionTimeout = options.sessionTimeout();
+		if (sessionTimeout != null) {
+			builder.sessionTimeout(sessionTimeout.toSeconds());
+		}
+		try {
+			return builder.build();
+		}
+		catch (SSLException ex) {
+			throw new IllegalStateException("Failed to create SSL context", ex);
+		}
+	}
+
+	private static SslProvider provider(TlsProvider provider) {
+		if (provider == TlsProvider.OPENSSL) {
+			if (OpenSsl.isAvailable()) {
+				return SslProvider.OPENSSL;
+			}
+			logger.warn("OpenSSL is not available, falling back to the JDK TLS provider",
+					OpenSsl.unavailabilityCause());
+		}
+		return SslProvider.JDK;
+	}
+
+	private static ClientAuth clientAuth(TlsServerCredentials.@Nullable ClientAuth clientAuth) {
+		if (clientAuth == null) {
+			return ClientAuth.NONE;
+		}
+		return switch (clientAuth) {
+			case NONE -> ClientAuth.NONE;
+			case OPTIONAL -> ClientAuth.OPTIONAL;
+			case REQUIRE -> ClientAuth.REQUIRE;
+		};
+	}
+
+	private static OpenSslSessionTicketKey ticketKey(byte[] key) {
+		int name = OpenSslSessionTicketKey.NAME_SIZE;
+		int hmac = OpenSslSessionTicketKey.HMAC_KEY_SIZE;
+		return new OpenSslSessionTicketKey(Arrays.copyOfRange(key, 0, name), Arrays.copyOfRange(key, name, name + hmac),
+				Arrays.copyOfRange(key, name + hmac, key.length));
+	}
+
+}
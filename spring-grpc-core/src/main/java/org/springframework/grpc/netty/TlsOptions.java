@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.netty;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for the Netty {@code SslContext} of a gRPC server or channel.
+ *
+ * @param provider the TLS implementation to use
+ * @param sessionCacheSize the size of the TLS session cache, or {@code 0} to use the
+ * default of the provider
+ * @param sessionTimeout how long TLS sessions can be resumed, or {@code null} to use the
+ * default of the provider
+ * @param sessionTicketKeys the 48 byte keys used to encrypt and decrypt TLS session
+ * tickets on a server, where the first key is used for new tickets. Only supported by
+ * {@link TlsProvider#OPENSSL}.
+ * @author Chris Bono
+ */
+public record TlsOptions(TlsProvider provider, int sessionCacheSize, @Nullable Duration sessionTimeout,
+		List<byte[]> sessionTicketKeys) {
+
+	/**
+	 * The size of a session ticket key.
+	 */
+	public static final int SESSION_TICKET_KEY_SIZE = 48;
+
+	public TlsOptions {
+		Assert.notNull(provider, "provider must not be null");
+		Assert.isTrue(sessionCacheSize >= 0, "sessionCacheSize must not be negative");
+		Assert.notNull(sessionTicketKeys, "sessionTicketKeys must not be null");
+		for (byte[] key : sessionTicketKeys) {
+			Assert.isTrue(key.length == SESSION_TICKET_KEY_SIZE,
+					() -> "Session ticket keys must be " + SESSION_TICKET_KEY_SIZE + " bytes");
+		}
+		sessionTicketKeys = List.copyOf(sessionTicketKeys);
+	}
+
+	/**
+	 * Create options for the given provider with the default session settings.
+	 * @param provider the TLS implementation to use
+	 * @return the options
+	 */
+	public static TlsOptions of(TlsProvider provider) {
+		return new TlsOptions(provider, 0, null, List.of());
+	}
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.netty;
+
+/**
+ * The TLS implementation used by the Netty-based gRPC transports.
+ *
+ * @author Chris Bono
+ */
+public enum TlsProvider {
+
+	/**
+	 * The TLS implementation of the JDK.
+	 */
+	JDK,
+
+	/**
+	 * OpenSSL (BoringSSL) through netty-tcnative, when it is available. Falls back to
+	 * {@link #JDK} otherwise.
+	 */
+	OPENSSL
+
+}
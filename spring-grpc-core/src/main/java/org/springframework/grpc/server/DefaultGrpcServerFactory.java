@@ -152,6 +152,30 @@ public class DefaultGrpcServerFactory<T extends ServerBuilder<T>> implements Grp
 		return GrpcUtils.getHostName(address());
 	}
 
+	/**
+	 * Returns the key manager used to secure the server.
+	 * @return the key manager or {@code null} if the server is not secured
+	 */
+	protected @Nullable KeyManagerFactory keyManager() {
+		return this.keyManager;
+	}
+
+	/**
+	 * Returns the trust manager used to verify clients.
+	 * @return the trust manager or {@code null} to use the default
+	 */
+	protected @Nullable TrustManagerFactory trustManager() {
+		return this.trustManager;
+	}
+
+	/**
+	 * Returns the client authentication mode.
+	 * @return the client authentication mode or {@code null} if not set
+	 */
+	protected @Nullable ClientAuth clientAuth() {
+		return this.clientAuth;
+	}
+
 	/**
 	 * Get server credentials.
 	 * @return some server credentials (default is insecure)
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link Executor} that decorates the executor a gRPC server runs its calls on and
+ * records how saturated it is. The following meters are registered, all tagged with the
+ * {@code name} of the server and the {@code address} it listens on:
+ * <ul>
+ * <li>{@code grpc.server.executor.queued} - gauge of tasks submitted but not yet
+ * started</li>
+ * <li>{@code grpc.server.executor.active} - gauge of tasks currently running</li>
+ * <li>{@code grpc.server.executor.wait} - timer of the time tasks spend waiting before
+ * they start</li>
+ * <li>{@code grpc.server.executor.execution} - timer of the time tasks spend running</li>
+ * <li>{@code grpc.server.executor.rejected} - counter of tasks rejected by the
+ * executor</li>
+ * </ul>
+ *
+ * @author Chris Bono
+ */
+public class InstrumentedServerExecutor implements Executor {
+
+	private static final String METER_PREFIX = "grpc.server.executor";
+
+	private final Executor delegate;
+
+	private final AtomicInteger queued = new AtomicInteger();
+
+	private final AtomicInteger active = new AtomicInteger();
+
+	private final Timer waitTimer;
+
+	private final Timer executionTimer;
+
+	private final Counter rejected;
+
+	/**
+	 * Construct an instrumented executor that registers its meters in the given registry.
+	 * @param delegate the executor to decorate
+	 * @param registry the registry to register the meters in
+	 * @param name the name of the server the executor belongs to
+	 * @param address the address the server listens on
+	 */
+	public InstrumentedServerExecutor(Executor delegate, MeterRegistry registry, String name, String address) {
+		Assert.notNull(delegate, "delegate must not be null");
+		Assert.notNull(registry, "registry must not be null");
+		Assert.hasText(name, "name must not be empty");
+		Assert.hasText(address, "address must not be empty");
+		this.delegate = delegate;
+		Tags tags = Tags.of("name", name, "address", address);
+		Gauge.builder(METER_PREFIX + ".queued", this.queued, AtomicInteger::get)
+			.description("The number of tasks submitted to the gRPC server executor that have not started yet")
+			.tags(tags)
+			.register(registry);
+		Gauge.builder(METER_PREFIX + ".active", this.active, AtomicInteger::get)
+			.description("The number of tasks currently running on the gRPC server executor")
+			.tags(tags)
+			.register(registry);
+		this.waitTimer = Timer.builder(METER_PREFIX + ".wait")
+			.description("The time tasks wait in the gRPC server executor before they start")
+			.tags(tags)
+			.register(registry);
+		this.executionTimer = Timer.builder(METER_PREFIX + ".execution")
+			.description("The time tasks spend running on the gRPC server executor")
+			.tags(tags)
+			.register(registry);
+		this.rejected = Counter.builder(METER_PREFIX + ".rejected")
+			.description("The number of tasks rejected by the gRPC server executor")
+			.tags(tags)
+			.register(registry);
+	}
+
+	/**
+	 * Return the executor this executor delegates to.
+	 * @return the delegate executor
+	 */
+	public Executor getDelegate() {
+		return this.delegate;
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		Timer.Sample waiting = Timer.start();
+		this.queued.incrementAndGet();
+		try {
+			this.delegate.execute(() -> run(command, waiting));
+		}
+		catch (RejectedExecutionException ex) {
+			this.queued.decrementAndGet();
+			this.rejected.increment();
+			throw ex;
+		}
+	}
+
+	private void run(Runnable command, Timer.Sample waiting) {
+		this.queued.decrementAndGet();
+		waiting.stop(this.waitTimer);
+		this.active.incrementAndGet();
+		try {
+			this.executionTimer.record(command);
+		}
+		finally {
+			this.active.decrementAndGet();
+		}
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Describes the gRPC server of this application so that clients in the same application
+ * can call it through an in-process server with the same services instead of over the
+ * network.
+ *
+ * @author Chris Bono
+ */
+public class LocalGrpcServer {
+
+	private final String inProcessName;
+
+	private final List<String> addresses;
+
+	/**
+	 * Creates a new local server description.
+	 * @param inProcessName the name of the in-process server serving the same services
+	 * @param addresses the addresses the server listens on
+	 */
+	public LocalGrpcServer(String inProcessName, List<String> addresses) {
+		Assert.hasText(inProcessName, "inProcessName must not be empty");
+		Assert.notNull(addresses, "addresses must not be null");
+		this.inProcessName = inProcessName;
+		this.addresses = List.copyOf(addresses);
+	}
+
+	/**
+	 * Gets the name of the in-process server serving the same services.
+	 * @return the in-process server name
+	 */
+	public String getInProcessName() {
+		return this.inProcessName;
+	}
+
+	/**
+	 * Gets the addresses the server listens on.
+	 * @return the server addresses
+	 */
+	public List<String> getAddresses() {
+		return this.addresses;
+	}
+
+}
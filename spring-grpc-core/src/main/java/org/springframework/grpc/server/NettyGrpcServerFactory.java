@@ -18,6 +18,7 @@ package org.springframework.grpc.server;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.net.ssl.KeyManagerFactory;
@@ -26,13 +27,25 @@ import javax.net.ssl.TrustManagerFactory;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.grpc.internal.GrpcUtils;
+import org.springframework.grpc.netty.NettySslContexts;
+import org.springframework.grpc.netty.TlsOptions;
+import org.springframework.util.Assert;
 
+import io.grpc.Server;
+import io.grpc.ServerCredentials;
 import io.grpc.TlsServerCredentials.ClientAuth;
 import io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.NettySslContextServerCredentials;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollIoHandler;
 import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.channel.unix.UnixChannelOption;
 
 /**
  * {@link GrpcServerFactory} that can be used to create a Netty-based gRPC server.
@@ -43,6 +56,14 @@ import io.netty.channel.unix.DomainSocketAddress;
  */
 public class NettyGrpcServerFactory extends DefaultGrpcServerFactory<NettyServerBuilder> {
 
+	private @Nullable ByteBufAllocator allocator;
+
+	private int reusePortAcceptors = 1;
+
+	private @Nullable TlsOptions tlsOptions;
+
+	private final List<EventLoopGroup> eventLoopGroups = new ArrayList<>();
+
 	public NettyGrpcServerFactory(String address,
 			List<ServerBuilderCustomizer<NettyServerBuilder>> serverBuilderCustomizers,
 			@Nullable KeyManagerFactory keyManager, @Nullable TrustManagerFactory trustManager,
@@ -50,15 +71,116 @@ public class NettyGrpcServerFactory extends DefaultGrpcServerFactory<NettyServer
 		super(address, serverBuilderCustomizers, keyManager, trustManager, clientAuth);
 	}
 
+	/**
+	 * Set the allocator to use for the buffers of the created servers, for both the
+	 * listening and the accepted channels.
+	 * @param allocator the allocator or {@code null} to use the default allocator of gRPC
+	 */
+	public void setAllocator(@Nullable ByteBufAllocator allocator) {
+		this.allocator = allocator;
+	}
+
+	/**
+	 * Gets the allocator used for the buffers of the created servers.
+	 * @return the allocator or {@code null} if the default allocator of gRPC is used
+	 */
+	public @Nullable ByteBufAllocator getAllocator() {
+		return this.allocator;
+	}
+
+	/**
+	 * Set the number of server sockets to bind on the same TCP port with
+	 * {@code SO_REUSEPORT}, each accepting connections on its own event loop thread. This
+	 * spreads accept load across cores but requires native epoll (Linux) and a fixed
+	 * port, otherwise a single acceptor is used.
+	 * @param reusePortAcceptors the number of acceptors (default 1)
+	 */
+	public void setReusePortAcceptors(int reusePortAcceptors) {
+		Assert.isTrue(reusePortAcceptors > 0, "reusePortAcceptors must be greater than zero");
+		this.reusePortAcceptors = reusePortAcceptors;
+	}
+
+	/**
+	 * Gets the number of server sockets bound on the same TCP port.
+	 * @return the number of acceptors
+	 */
+	public int getReusePortAcceptors() {
+		return this.reusePortAcceptors;
+	}
+
+	/**
+	 * Set the TLS options used to create the SSL context of the server when it is
+	 * secured. When not set the generic TLS credentials of gRPC are used.
+	 * @param tlsOptions the TLS options or {@code null} to use the generic credentials
+	 */
+	public void setTlsOptions(@Nullable TlsOptions tlsOptions) {
+		this.tlsOptions = tlsOptions;
+	}
+
+	/**
+	 * Gets the TLS options used to create the SSL context of the server.
+	 * @return the TLS options or {@code null} if the generic credentials are used
+	 */
+	public @Nullable TlsOptions getTlsOptions() {
+		return this.tlsOptions;
+	}
+
+	@Override
+	protected ServerCredentials credentials() {
+		KeyManagerFactory keyManager = keyManager();
+		if (this.tlsOptions == null || keyManager == null || port() == -1) {
+			return super.credentials();
+		}
+		return NettySslContextServerCredentials
+			.create(NettySslContexts.forServer(keyManager, trustManager(), clientAuth(), this.tlsOptions));
+	}
+
+	/**
+	 * Creates the server. The event loop groups created for its domain socket or
+	 * {@code SO_REUSEPORT} acceptors are not owned by gRPC, so they are shut down once
+	 * the server has terminated.
+	 * @return the server
+	 */
+	@Override
+	public synchronized Server createServer() {
+		try {
+			Server server = super.createServer();
+			if (this.eventLoopGroups.isEmpty()) {
+				return server;
+			}
+			List<EventLoopGroup> groups = List.copyOf(this.eventLoopGroups);
+			return new ReleasingServer(server, () -> groups.forEach(EventLoopGroup::shutdownGracefully));
+		}
+		catch (RuntimeException ex) {
+			this.eventLoopGroups.forEach(EventLoopGroup::shutdownGracefully);
+			throw ex;
+		}
+		finally {
+			this.eventLoopGroups.clear();
+		}
+	}
+
 	@Override
 	protected NettyServerBuilder newServerBuilder() {
+		NettyServerBuilder builder = createServerBuilder();
+		if (this.allocator != null) {
+			builder.withOption(ChannelOption.ALLOCATOR, this.allocator)
+				.withChildOption(ChannelOption.ALLOCATOR, this.allocator);
+		}
+		if (!address().startsWith("unix:") && this.reusePortAcceptors > 1) {
+			configureReusePortAcceptors(builder);
+		}
+		return builder;
+	}
+
+	private NettyServerBuilder createServerBuilder() {
 		String address = address();
 		if (address.startsWith("unix:")) {
 			String path = address.substring(5);
 			return NettyServerBuilder.forAddress(new DomainSocketAddress(path))
 				.channelType(EpollServerDomainSocketChannel.class)
-				.bossEventLoopGroup(new MultiThreadIoEventLoopGroup(1, EpollIoHandler.newFactory()))
-				.workerEventLoopGroup(new MultiThreadIoEventLoopGroup(EpollIoHandler.newFactory()));
+				.bossEventLoopGroup(eventLoopGroup(new MultiThreadIoEventLoopGroup(1, EpollIoHandler.newFactory())))
+				.workerEventLoopGroup(eventLoopGroup(new MultiThreadIoEventLoopGroup(EpollIoHandler.newFactory())));
 		}
 		String host = super.hostname();
 		int port = super.port();
@@ -71,4 +193,32 @@ public class NettyGrpcServerFactory extends DefaultGrpcServerFactory<NettyServer
 		return NettyServerBuilder.forAddress(socketAddress, credentials());
 	}
 
+	private void configureReusePortAcceptors(NettyServerBuilder builder) {
+		if (!Epoll.isAvailable()) {
+			logger.warn("Using a single acceptor as SO_REUSEPORT needs native epoll: " + Epoll.unavailabilityCause());
+			return;
+		}
+		int port = super.port();
+		if (port == 0) {
+			logger.warn("Using a single acceptor as SO_REUSEPORT needs a fixed port");
+			return;
+		}
+		String host = super.hostname();
+		SocketAddress socketAddress = (host == null || host.equals(GrpcUtils.ANY_IP_ADDRESS))
+				? new InetSocketAddress(port) : new InetSocketAddress(host, port);
+		for (int i = 1; i < this.reusePortAcceptors; i++) {
+			builder.addListenAddress(socketAddress);
+		}
+		builder.channelType(EpollServerSocketChannel.class)
+			.bossEventLoopGroup(eventLoopGroup(
+					new MultiThreadIoEventLoopGroup(this.reusePortAcceptors, EpollIoHandler.newFactory())))
+			.workerEventLoopGroup(eventLoopGroup(new MultiThreadIoEventLoopGroup(EpollIoHandler.newFactory())))
+			.withOption(UnixChannelOption.SO_REUSEPORT, true);
+	}
+
+	private EventLoopGroup eventLoopGroup(EventLoopGroup group) {
+		this.eventLoopGroups.add(group);
+		return group;
+	}
+
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+
+/**
+ * {@link Server} that releases resources the server does not own, such as event loop
+ * groups passed to its builder, once the server it delegates to has terminated or has
+ * failed to start. Termination is noticed when it is awaited or queried.
+ *
+ * @author Chris Bono
+ */
+final class ReleasingServer extends Server {
+
+	private final Server delegate;
+
+	private final Runnable release;
+
+	private final AtomicBoolean released = new AtomicBoolean();
+
+	ReleasingServer(Server delegate, Runnable release) {
+		this.delegate = delegate;
+		this.release = release;
+	}
+
+	@Override
+	public Server start() throws IOException {
+		try {
+			this.delegate.start();
+		}
+		catch (IOException | RuntimeException ex) {
+			release();
+			throw ex;
+		}
+		return this;
+	}
+
+	@Override
+	public Server shutdown() {
+		this.delegate.shutdown();
+		return this;
+	}
+
+	@Override
+	public Server shutdownNow() {
+		this.delegate.shutdownNow();
+		return this;
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return this.delegate.isShutdown();
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return releaseIf(this.delegate.isTerminated());
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		return releaseIf(this.delegate.awaitTermination(timeout, unit));
+	}
+
+	@Override
+	public void awaitTermination() throws InterruptedException {
+		this.delegate.awaitTermination();
+		release();
+	}
+
+	@Override
+	public int getPort() {
+		return this.delegate.getPort();
+	}
+
+	@Override
+	public List<? extends SocketAddress> getListenSockets() {
+		return this.delegate.getListenSockets();
+	}
+
+	@Override
+	public List<ServerServiceDefinition> getServices() {
+		return this.delegate.getServices();
+	}
+
+	@Override
+	public List<ServerServiceDefinition> getImmutableServices() {
+		return this.delegate.getImmutableServices();
+	}
+
+	@Override
+	public List<ServerServiceDefinition> getMutableServices() {
+		return this.delegate.getMutableServices();
+	}
+
+	@Override
+	public String toString() {
+		return this.delegate.toString();
+	}
+
+	private boolean releaseIf(boolean terminated) {
+		if (terminated) {
+			release();
+		}
+		return terminated;
+	}
+
+	private void release() {
+		if (this.released.compareAndSet(false, true)) {
+			this.release.run();
+		}
+	}
+
+}
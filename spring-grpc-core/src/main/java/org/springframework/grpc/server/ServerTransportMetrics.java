@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.util.Assert;
+
+import io.grpc.Attributes;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerTransportFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Records transport-level metrics of gRPC servers. A
+ * {@link #getTransportFilter(String, String) transport filter} tracks the connections of
+ * a server and the {@link #getStreamInterceptor() stream interceptor} tracks the streams
+ * opened on each of them. The following meters are registered:
+ * <ul>
+ * <li>{@code grpc.server.connections.active} - gauge of open connections, tagged with the
+ * {@code name} of the server and the {@code address} it listens on</li>
+ * <li>{@code grpc.server.connections.opened} - counter of accepted connections, tagged
+ * with the {@code name} of the server and the {@code address} it listens on</li>
+ * <li>{@code grpc.server.streams.active} - gauge of open streams across all
+ * connections</li>
+ * <li>{@code grpc.server.connection.streams} - distribution of the number of streams open
+ * on a connection when a new stream starts</li>
+ * </ul>
+ *
+ * @author Chris Bono
+ */
+public class ServerTransportMetrics {
+
+	private static final Attributes.Key<AtomicInteger> STREAMS_KEY = Attributes.Key
+		.create(ServerTransportMetrics.class.getName() + ".streams");
+
+	private final Map<ServerKey, ServerTransportFilter> transportFilters = new ConcurrentHashMap<>();
+
+	private final AtomicInteger streams = new AtomicInteger();
+
+	private final MeterRegistry registry;
+
+	private final DistributionSummary streamsPerConnection;
+
+	private final ServerInterceptor streamInterceptor = new MetricsStreamInterceptor();
+
+	/**
+	 * Construct an instance that registers its meters in the given registry.
+	 * @param registry the registry to register the meters in
+	 */
+	public ServerTransportMetrics(MeterRegistry registry) {
+		Assert.notNull(registry, "registry must not be null");
+		this.registry = registry;
+		Gauge.builder("grpc.server.streams.active", this.streams, AtomicInteger::get)
+			.description("The number of open streams on the gRPC server")
+			.register(registry);
+		this.streamsPerConnection = DistributionSummary.builder("grpc.server.connection.streams")
+			.description("The number of streams open on a connection when a new stream starts")
+			.register(registry);
+	}
+
+	/**
+	 * Return the filter to add to a server to track its connections. The same filter is
+	 * returned for servers with the same name and address, so a server that is recreated
+	 * keeps reporting to the same meters.
+	 * @param name the name of the server
+	 * @param address the address the server listens on
+	 * @return the transport filter
+	 */
+	public ServerTransportFilter getTransportFilter(String name, String address) {
+		Assert.hasText(name, "name must not be empty");
+		Assert.hasText(address, "address must not be empty");
+		return this.transportFilters.computeIfAbsent(new ServerKey(name, address), MetricsTransportFilter::new);
+	}
+
+	/**
+	 * Return the interceptor to add to the services of the servers to track the streams
+	 * of their connections.
+	 * @return the stream interceptor
+	 */
+	public ServerInterceptor getStreamInterceptor() {
+		return this.streamInterceptor;
+	}
+
+	private final class MetricsTransportFilter extends ServerTransportFilter {
+
+		private final AtomicInteger connections = new AtomicInteger();
+
+		private final Counter opened;
+
+		MetricsTransportFilter(ServerKey key) {
+			Tags tags = Tags.of("name", key.name(), "address", key.address());
+			Gauge.builder("grpc.server.connections.active", this.connections, AtomicInteger::get)
+				.description("The number of open connections to the gRPC server")
+				.tags(tags)
+				.register(ServerTransportMetrics.this.registry);
+			this.opened = Counter.builder("grpc.server.connections.opened")
+				.description("The number of connections accepted by the gRPC server")
+				.tags(tags)
+				.register(ServerTransportMetrics.this.registry);
+		}
+
+		@Override
+		public Attributes transportReady(Attributes transportAttrs) {
+			this.connections.incrementAndGet();
+			this.opened.increment();
+			return transportAttrs.toBuilder().set(STREAMS_KEY, new AtomicInteger()).build();
+		}
+
+		@Override
+		public void transportTerminated(Attributes transportAttrs) {
+			if (transportAttrs.get(STREAMS_KEY) != null) {
+				this.connections.decrementAndGet();
+			}
+		}
+
+	}
+
+	private final class MetricsStreamInterceptor implements ServerInterceptor {
+
+		@Override
+		public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+				ServerCallHandler<ReqT, RespT> next) {
+			AtomicInteger connectionStreams = call.getAttributes().get(STREAMS_KEY);
+			ServerTransportMetrics.this.streams.incrementAndGet();
+			if (connectionStreams != null) {
+				ServerTransportMetrics.this.streamsPerConnection.record(connectionStreams.incrementAndGet());
+			}
+			Runnable release = new Runnable() {
+
+				private boolean released;
+
+				@Override
+				public synchronized void run() {
+					if (!this.released) {
+						this.released = true;
+						ServerTransportMetrics.this.streams.decrementAndGet();
+						if (connectionStreams != null) {
+							connectionStreams.decrementAndGet();
+						}
+					}
+				}
+
+			};
+			ServerCall.Listener<ReqT> listener;
+			try {
+				listener = next.startCall(call, headers);
+			}
+			catch (RuntimeException ex) {
+				release.run();
+				throw ex;
+			}
+			return new SimpleForwardingServerCallListener<>(listener) {
+
+				@Override
+				public void onComplete() {
+					release.run();
+					super.onComplete();
+				}
+
+				@Override
+				public void onCancel() {
+					release.run();
+					super.onCancel();
+				}
+
+			};
+		}
+
+	}
+
+	private record ServerKey(String name, String address) {
+	}
+
+}
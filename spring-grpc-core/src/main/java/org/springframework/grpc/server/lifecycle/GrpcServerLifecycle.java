@@ -53,6 +53,8 @@ public class GrpcServerLifecycle implements SmartLifecycle {
 
 	private @Nullable Server server;
 
+	private boolean listener;
+
 	/**
 	 * Creates a new GrpcServerLifecycle.
 	 * @param factory The server factory to use.
@@ -106,6 +108,24 @@ public class GrpcServerLifecycle implements SmartLifecycle {
 		return this.server == null ? 0 : this.server.getPort();
 	}
 
+	/**
+	 * Sets whether the server is an additional listener of the application's main server
+	 * (e.g. one of {@code spring.grpc.server.listeners}) rather than the main server
+	 * itself.
+	 * @param listener whether the server is an additional listener
+	 */
+	public void setListener(boolean listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Whether the server is an additional listener of the application's main server.
+	 * @return {@code true} if the server is an additional listener
+	 */
+	public boolean isListener() {
+		return this.listener;
+	}
+
 	/**
 	 * Gets the server factory used to create the server.
 	 * @return the server factory to create the server
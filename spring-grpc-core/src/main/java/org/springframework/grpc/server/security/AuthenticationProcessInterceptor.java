@@ -16,6 +16,10 @@
 
 package org.springframework.grpc.server.security;
 
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.core.Ordered;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
@@ -35,6 +39,7 @@ import io.grpc.ServerCall;
 import io.grpc.ServerCall.Listener;
 import io.grpc.ServerCallHandler;
 import io.grpc.ServerInterceptor;
+import io.grpc.Status;
 
 /**
  * An interceptor that extracts the authentication credentials from the gRPC request
@@ -53,6 +58,8 @@ public class AuthenticationProcessInterceptor implements ServerInterceptor, Orde
 
 	private AuthorizationManager<CallContext> authorizationManager;
 
+	private final @Nullable GrpcRateLimiter rateLimiter;
+
 	@Override
 	public int getOrder() {
 		return GrpcSecurity.CONTEXT_FILTER_ORDER - 10;
@@ -60,9 +67,16 @@ public class AuthenticationProcessInterceptor implements ServerInterceptor, Orde
 
 	public AuthenticationProcessInterceptor(AuthenticationManager authenticationManager,
 			GrpcAuthenticationExtractor extractor, AuthorizationManager<CallContext> authorizationManager) {
+		this(authenticationManager, extractor, authorizationManager, null);
+	}
+
+	public AuthenticationProcessInterceptor(AuthenticationManager authenticationManager,
+			GrpcAuthenticationExtractor extractor, AuthorizationManager<CallContext> authorizationManager,
+			@Nullable GrpcRateLimiter rateLimiter) {
 		this.authenticationManager = authenticationManager;
 		this.extractor = extractor;
 		this.authorizationManager = authorizationManager;
+		this.rateLimiter = rateLimiter;
 	}
 
 	@Override
@@ -75,8 +89,8 @@ public class AuthenticationProcessInterceptor implements ServerInterceptor, Orde
 			securityContext.setAuthentication(user);
 		}
 
+		CallContext callContext = new CallContext(headers, call.getAttributes(), call.getMethodDescriptor());
 		if (this.authorizationManager != null) {
-			CallContext context = new CallContext(headers, call.getAttributes(), call.getMethodDescriptor());
 			if (user == null) {
 				// Maybe just throw BadCredentialsException (authentication manager would
 				// have to make the anonymous user)?
@@ -84,7 +98,7 @@ public class AuthenticationProcessInterceptor implements ServerInterceptor, Orde
 						AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
 			}
 			Authentication authentication = user;
-			AuthorizationResult authResult = this.authorizationManager.authorize(() -> authentication, context);
+			AuthorizationResult authResult = this.authorizationManager.authorize(() -> authentication, callContext);
 			if (authResult == null || !authResult.isGranted()) {
 				if (user instanceof AnonymousAuthenticationToken) {
 					throw new BadCredentialsException("not authenticated");
@@ -96,6 +110,18 @@ public class AuthenticationProcessInterceptor implements ServerInterceptor, Orde
 			throw new BadCredentialsException("not authenticated");
 		}
 
+		if (this.rateLimiter != null) {
+			Duration retryAfter = this.rateLimiter.acquire(user, callContext);
+			if (retryAfter != null) {
+				SecurityContextHolder.clearContext();
+				Metadata trailers = new Metadata();
+				trailers.put(GrpcSecurity.RETRY_PUSHBACK_KEY, String.valueOf(Math.max(1, retryAfter.toMillis())));
+				call.close(Status.RESOURCE_EXHAUSTED.withDescription("rate limit exceeded"), trailers);
+				return new Listener<>() {
+				};
+			}
+		}
+
 		SecurityContext currentContext = SecurityContextHolder.getContext();
 		try {
 			Context context = Context.current().withValue(GrpcSecurity.SECURITY_CONTEXT_KEY, currentContext);
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * Decides whether an authenticated call may proceed or is rejected because the caller
+ * exceeded its rate limit.
+ *
+ * @author Chris Bono
+ * @since 1.1.0
+ * @see RateLimitConfigurer
+ */
+@FunctionalInterface
+public interface GrpcRateLimiter {
+
+	/**
+	 * Acquire a permit for the given call.
+	 * @param authentication the authentication of the caller
+	 * @param context the call
+	 * @return {@code null} if the call is permitted, otherwise the time after which the
+	 * caller may retry
+	 */
+	@Nullable
+	Duration acquire(Authentication authentication, CallContext context);
+
+}
@@ -73,6 +73,13 @@ public final class GrpcSecurity
 	public static final Metadata.Key<String> AUTHORIZATION_KEY = Metadata.Key.of("Authorization",
 			Metadata.ASCII_STRING_MARSHALLER);
 
+	/**
+	 * The key of the trailer telling a client that was rate limited how many milliseconds
+	 * to wait before retrying, as understood by the gRPC retry support.
+	 */
+	public static final Metadata.Key<String> RETRY_PUSHBACK_KEY = Metadata.Key.of("grpc-retry-pushback-ms",
+			Metadata.ASCII_STRING_MARSHALLER);
+
 	/**
 	 * The order value for the context filter in the gRPC security framework. This
 	 * constant defines the position of the context filter in the filter chain. A lower
@@ -91,6 +98,8 @@ public final class GrpcSecurity
 
 	private @Nullable AuthorizationManager<CallContext> authorizationManager;
 
+	private @Nullable GrpcRateLimiter rateLimiter;
+
 	public GrpcSecurity(ObjectPostProcessor<Object> objectPostProcessor,
 			AuthenticationManagerBuilder authenticationBuilder, ApplicationContext context) {
 		super(objectPostProcessor);
@@ -129,7 +138,8 @@ public final class GrpcSecurity
 		}
 		this.authenticationExtractors.sort(AnnotationAwareOrderComparator.INSTANCE);
 		return new AuthenticationProcessInterceptor(getSharedObject(AuthenticationManager.class),
-				new CompositeAuthenticationExtractor(this.authenticationExtractors), this.authorizationManager);
+				new CompositeAuthenticationExtractor(this.authenticationExtractors), this.authorizationManager,
+				this.rateLimiter);
 	}
 
 	private AuthenticationManager getAuthenticationManager() {
@@ -163,6 +173,11 @@ public final class GrpcSecurity
 		return this;
 	}
 
+	public GrpcSecurity rateLimit(Customizer<RateLimitConfigurer> customizer) throws Exception {
+		customizer.customize(getOrApply(new RateLimitConfigurer(getContext())));
+		return this;
+	}
+
 	public GrpcSecurity oauth2ResourceServer(Customizer<OAuth2ResourceServerConfigurer> customizer) throws Exception {
 		customizer.customize(getOrApply(new OAuth2ResourceServerConfigurer(getContext())));
 		authenticationExtractor(new BearerTokenAuthenticationExtractor());
@@ -196,6 +211,11 @@ public final class GrpcSecurity
 		return this;
 	}
 
+	public GrpcSecurity rateLimiter(GrpcRateLimiter rateLimiter) {
+		this.rateLimiter = rateLimiter;
+		return this;
+	}
+
 	private AuthenticationManagerBuilder getAuthenticationRegistry() {
 		return getSharedObject(AuthenticationManagerBuilder.class);
 	}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link RateLimitStore} that keeps the token buckets in memory. Each bucket is a
+ * single {@link AtomicLong} holding the time at which it will be full again (the generic
+ * cell rate algorithm), so that taking a token is a lock-free compare-and-set, and the
+ * buckets are spread over the segments of a {@link ConcurrentHashMap} so that callers
+ * with different keys do not contend.
+ * <p>
+ * A full bucket is equivalent to a missing one, so once more than a maximum number of
+ * buckets are held the full ones are evicted.
+ *
+ * @author Chris Bono
+ * @since 1.1.0
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+	/**
+	 * The default number of buckets above which full buckets are evicted.
+	 */
+	public static final int DEFAULT_MAX_BUCKETS = 10_000;
+
+	private static final long EVICTION_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+	private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+	private final AtomicLong lastEviction = new AtomicLong();
+
+	private final int maxBuckets;
+
+	private Clock clock = Clock.systemUTC();
+
+	/**
+	 * Construct a store that evicts full buckets once it holds more than
+	 * {@link #DEFAULT_MAX_BUCKETS} buckets.
+	 */
+	public InMemoryRateLimitStore() {
+		this(DEFAULT_MAX_BUCKETS);
+	}
+
+	/**
+	 * Construct a store that evicts full buckets once it holds more than the given number
+	 * of buckets.
+	 * @param maxBuckets the number of buckets above which full buckets are evicted
+	 */
+	public InMemoryRateLimitStore(int maxBuckets) {
+		Assert.isTrue(maxBuckets > 0, "maxBuckets must be positive");
+		this.maxBuckets = maxBuckets;
+	}
+
+	void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	@Override
+	public @Nullable Duration tryConsume(String key, long capacity, Duration refillPeriod) {
+		Assert.isTrue(capacity > 0, "capacity must be positive");
+		Assert.isTrue(refillPeriod.compareTo(Duration.ZERO) > 0, "refillPeriod must be positive");
+		long now = now();
+		long interval = Math.max(1, refillPeriod.toNanos() / capacity);
+		long tolerance = interval * capacity;
+		if (this.buckets.size() > this.maxBuckets) {
+			evictFullBuckets(now);
+		}
+		AtomicLong bucket = this.buckets.computeIfAbsent(key, (k) -> new AtomicLong(now));
+		while (true) {
+			long fullAt = bucket.get();
+			long next = Math.max(fullAt, now) + interval;
+			long wait = next - now - tolerance;
+			if (wait > 0) {
+				return Duration.ofNanos(wait);
+			}
+			if (bucket.compareAndSet(fullAt, next)) {
+				return null;
+			}
+		}
+	}
+
+	int size() {
+		return this.buckets.size();
+	}
+
+	private void evictFullBuckets(long now) {
+		long last = this.lastEviction.get();
+		if (now - last >= EVICTION_INTERVAL && this.lastEviction.compareAndSet(last, now)) {
+			this.buckets.values().removeIf((bucket) -> bucket.get() <= now);
+		}
+	}
+
+	private long now() {
+		Instant instant = this.clock.instant();
+		return TimeUnit.SECONDS.toNanos(instant.getEpochSecond()) + instant.getNano();
+	}
+
+}
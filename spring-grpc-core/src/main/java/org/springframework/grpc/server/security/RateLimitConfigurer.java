@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.grpc.server.security.RequestMapperConfigurer.MethodCallMatcher;
+import org.springframework.security.config.annotation.SecurityConfigurerAdapter;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.Assert;
+
+import io.grpc.Metadata;
+
+/**
+ * Configures the rate limits applied to calls once they are authenticated and authorized.
+ * Like the rules of {@link RequestMapperConfigurer}, the first rule matching a call
+ * applies, and calls that match no rule are not limited. Every rule needs a
+ * {@link RateLimitedCall#limit(long, Duration) limit}. The token buckets are held in the
+ * unique {@link RateLimitStore} bean of the application context, if any, or in an
+ * {@link InMemoryRateLimitStore} otherwise.
+ *
+ * @author Chris Bono
+ * @since 1.1.0
+ */
+public class RateLimitConfigurer extends SecurityConfigurerAdapter<AuthenticationProcessInterceptor, GrpcSecurity> {
+
+	private final List<RateLimitedCall> rateLimitedCalls = new ArrayList<>();
+
+	private RateLimitStore store;
+
+	public RateLimitConfigurer(ApplicationContext context) {
+		this.store = context.getBeanProvider(RateLimitStore.class).getIfUnique(InMemoryRateLimitStore::new);
+	}
+
+	@Override
+	public void configure(GrpcSecurity builder) {
+		builder.rateLimiter(createRateLimiter());
+	}
+
+	GrpcRateLimiter createRateLimiter() {
+		for (int i = 0; i < this.rateLimitedCalls.size(); i++) {
+			int rule = i;
+			Assert.state(this.rateLimitedCalls.get(i).refillPeriod != null,
+					() -> "Rate limit rule " + rule + " has no limit, call limit(capacity, refillPeriod) on it");
+		}
+		return new RequestMapperRateLimiter(this.rateLimitedCalls, this.store);
+	}
+
+	public RateLimitedCall allRequests() {
+		RateLimitedCall call = new RateLimitedCall(CallMatcher.ALL);
+		this.rateLimitedCalls.add(call);
+		return call;
+	}
+
+	public RateLimitedCall methods(String... patterns) {
+		RateLimitedCall call = new RateLimitedCall(new MethodCallMatcher(patterns));
+		this.rateLimitedCalls.add(call);
+		return call;
+	}
+
+	public RateLimitConfigurer store(RateLimitStore store) {
+		Assert.notNull(store, "store cannot be null");
+		this.store = store;
+		return this;
+	}
+
+	public class RateLimitedCall {
+
+		private final CallMatcher matcher;
+
+		private final List<RateLimitKeyResolver> keyResolvers = new ArrayList<>();
+
+		private long capacity;
+
+		private @Nullable Duration refillPeriod;
+
+		RateLimitedCall(CallMatcher matcher) {
+			this.matcher = matcher;
+		}
+
+		/**
+		 * Give each principal its own limit. This is the default when no key is
+		 * configured.
+		 * @return this rule
+		 */
+		public RateLimitedCall perPrincipal() {
+			return per(RateLimitKeyResolver.principal());
+		}
+
+		/**
+		 * Give each value of a request header, for example a tenant id, its own limit.
+		 * Calls without the header share a single limit.
+		 * @param key the header
+		 * @return this rule
+		 */
+		public RateLimitedCall perMetadata(Metadata.Key<String> key) {
+			return per(RateLimitKeyResolver.metadata(key));
+		}
+
+		/**
+		 * Give each method its own limit.
+		 * @return this rule
+		 */
+		public RateLimitedCall perMethod() {
+			return per(RateLimitKeyResolver.method());
+		}
+
+		/**
+		 * Key the limit with the given resolver, in addition to any key configured
+		 * before, for example a limit per tenant and method.
+		 * @param keyResolver the resolver
+		 * @return this rule
+		 */
+		public RateLimitedCall per(RateLimitKeyResolver keyResolver) {
+			Assert.notNull(keyResolver, "keyResolver cannot be null");
+			this.keyResolvers.add(keyResolver);
+			return this;
+		}
+
+		/**
+		 * Limit the matching calls to bursts of {@code capacity} calls, refilled at a
+		 * rate of {@code capacity} calls every {@code refillPeriod}.
+		 * @param capacity the number of calls
+		 * @param refillPeriod the period
+		 * @return the configurer
+		 */
+		public RateLimitConfigurer limit(long capacity, Duration refillPeriod) {
+			Assert.isTrue(capacity > 0, "capacity must be positive");
+			Assert.notNull(refillPeriod, "refillPeriod cannot be null");
+			Assert.isTrue(refillPeriod.compareTo(Duration.ZERO) > 0, "refillPeriod must be positive");
+			this.capacity = capacity;
+			this.refillPeriod = refillPeriod;
+			return RateLimitConfigurer.this;
+		}
+
+		private String resolveKey(Authentication authentication, CallContext context) {
+			if (this.keyResolvers.isEmpty()) {
+				return Objects.toString(RateLimitKeyResolver.principal().resolve(authentication, context), "");
+			}
+			StringBuilder key = new StringBuilder();
+			for (RateLimitKeyResolver keyResolver : this.keyResolvers) {
+				key.append('|').append(Objects.toString(keyResolver.resolve(authentication, context), ""));
+			}
+			return key.toString();
+		}
+
+	}
+
+	public static class RequestMapperRateLimiter implements GrpcRateLimiter {
+
+		private final List<RateLimitedCall> rateLimitedCalls;
+
+		private final RateLimitStore store;
+
+		public RequestMapperRateLimiter(List<RateLimitedCall> rateLimitedCalls, RateLimitStore store) {
+			this.rateLimitedCalls = rateLimitedCalls;
+			this.store = store;
+		}
+
+		@Override
+		public @Nullable Duration acquire(Authentication authentication, CallContext context) {
+			for (int i = 0; i < this.rateLimitedCalls.size(); i++) {
+				RateLimitedCall rateLimitedCall = this.rateLimitedCalls.get(i);
+				if (rateLimitedCall.matcher.matches(context)) {
+					Duration refillPeriod = Objects.requireNonNull(rateLimitedCall.refillPeriod,
+							"limit must not be null");
+					String key = i + ":" + rateLimitedCall.resolveKey(authentication, context);
+					return this.store.tryConsume(key, rateLimitedCall.capacity, refillPeriod);
+				}
+			}
+			return null;
+		}
+
+	}
+
+}
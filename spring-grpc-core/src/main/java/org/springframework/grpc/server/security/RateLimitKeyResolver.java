@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.util.Assert;
+
+import io.grpc.Metadata;
+
+/**
+ * Resolves the key that the calls sharing a rate limit have in common.
+ *
+ * @author Chris Bono
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface RateLimitKeyResolver {
+
+	/**
+	 * Resolve the rate limit key of a call.
+	 * @param authentication the authentication of the caller
+	 * @param context the call
+	 * @return the key, or {@code null} if the call is not keyed by this resolver
+	 */
+	@Nullable
+	String resolve(Authentication authentication, CallContext context);
+
+	/**
+	 * Return a resolver keyed by the name of the authenticated principal.
+	 * @return the resolver
+	 */
+	static RateLimitKeyResolver principal() {
+		return (authentication, context) -> authentication.getName();
+	}
+
+	/**
+	 * Return a resolver keyed by the value of a request header, for example a tenant id.
+	 * @param key the header
+	 * @return the resolver
+	 */
+	static RateLimitKeyResolver metadata(Metadata.Key<String> key) {
+		Assert.notNull(key, "key must not be null");
+		return (authentication, context) -> context.headers().get(key);
+	}
+
+	/**
+	 * Return a resolver keyed by the full name of the called method.
+	 * @return the resolver
+	 */
+	static RateLimitKeyResolver method() {
+		return (authentication, context) -> context.method().getFullMethodName();
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Storage of the token buckets used to rate limit calls. The default
+ * {@link InMemoryRateLimitStore} limits the calls handled by a single server, an
+ * implementation backed by a shared data store can be provided to apply the limits across
+ * all the instances of a service.
+ *
+ * @author Chris Bono
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface RateLimitStore {
+
+	/**
+	 * Try to take a token from the bucket with the given key. A bucket holds up to
+	 * {@code capacity} tokens and is refilled with {@code capacity} tokens every
+	 * {@code refillPeriod}.
+	 * @param key the key of the bucket
+	 * @param capacity the maximum number of tokens of the bucket
+	 * @param refillPeriod the time it takes to refill an empty bucket
+	 * @return {@code null} if a token was taken, otherwise the time until a token is
+	 * available
+	 */
+	@Nullable
+	Duration tryConsume(String key, long capacity, Duration refillPeriod);
+
+}
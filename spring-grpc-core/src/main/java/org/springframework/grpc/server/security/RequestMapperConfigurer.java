@@ -76,7 +76,7 @@ public class RequestMapperConfigurer extends SecurityConfigurerAdapter<Authentic
 		return call;
 	}
 
-	private static class MethodCallMatcher implements CallMatcher {
+	static class MethodCallMatcher implements CallMatcher {
 
 		private String[] patterns;
 
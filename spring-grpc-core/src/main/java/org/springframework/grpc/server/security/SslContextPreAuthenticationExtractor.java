@@ -21,6 +21,7 @@ import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.net.ssl.SSLSession;
 
@@ -39,12 +40,28 @@ import io.grpc.Grpc;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 
+/**
+ * A {@link GrpcAuthenticationExtractor} that extracts a pre-authenticated principal from
+ * the client certificate of a TLS connection. The principal is cached in the
+ * {@link SSLSession} so that it is only extracted once per session rather than once per
+ * call.
+ *
+ * @author Dave Syer
+ * @author Chris Bono
+ */
 public class SslContextPreAuthenticationExtractor implements GrpcAuthenticationExtractor {
 
 	private static final Log logger = LogFactory.getLog(SslContextPreAuthenticationExtractor.class);
 
+	private static final AtomicInteger instanceCounter = new AtomicInteger();
+
+	private static final PeerIdentity NO_PEER_IDENTITY = new PeerIdentity(null, null);
+
 	private X509PrincipalExtractor principalExtractor;
 
+	private final String sessionValueName = SslContextPreAuthenticationExtractor.class.getName() + ".peerIdentity."
+			+ instanceCounter.incrementAndGet();
+
 	public SslContextPreAuthenticationExtractor() {
 		this(new SubjectX500PrincipalExtractor());
 	}
@@ -57,18 +74,36 @@ public class SslContextPreAuthenticationExtractor implements GrpcAuthenticationE
 	public @Nullable Authentication extract(Metadata headers, Attributes attributes, MethodDescriptor<?, ?> method) {
 		SSLSession session = attributes.get(Grpc.TRANSPORT_ATTR_SSL_SESSION);
 		if (session != null) {
-			@Nullable
-			X509Certificate[] certificates = initCertificates(session);
-			if (certificates != null) {
-				Assert.notEmpty(certificates, "Must contain at least 1 non-null certificate");
-				X509Certificate certificate = Objects.requireNonNull(certificates[0], "certificate must not be null");
-				return new PreAuthenticatedAuthenticationToken(this.principalExtractor.extractPrincipal(certificate),
-						certificate);
+			PeerIdentity peerIdentity = getPeerIdentity(session);
+			if (peerIdentity.certificate() != null) {
+				return new PreAuthenticatedAuthenticationToken(peerIdentity.principal(), peerIdentity.certificate());
 			}
 		}
 		return null;
 	}
 
+	// The peer certificates cannot change for the life of a session, so the result is
+	// bound to the session and discarded with it
+	private PeerIdentity getPeerIdentity(SSLSession session) {
+		if (session.getValue(this.sessionValueName) instanceof PeerIdentity peerIdentity) {
+			return peerIdentity;
+		}
+		PeerIdentity peerIdentity = extractPeerIdentity(session);
+		session.putValue(this.sessionValueName, peerIdentity);
+		return peerIdentity;
+	}
+
+	private PeerIdentity extractPeerIdentity(SSLSession session) {
+		@Nullable
+		X509Certificate[] certificates = initCertificates(session);
+		if (certificates == null) {
+			return NO_PEER_IDENTITY;
+		}
+		Assert.notEmpty(certificates, "Must contain at least 1 non-null certificate");
+		X509Certificate certificate = Objects.requireNonNull(certificates[0], "certificate must not be null");
+		return new PeerIdentity(this.principalExtractor.extractPrincipal(certificate), certificate);
+	}
+
 	@SuppressWarnings("NullAway")
 	@Nullable
 	private static X509Certificate[] initCertificates(SSLSession session) {
@@ -90,4 +125,8 @@ public class SslContextPreAuthenticationExtractor implements GrpcAuthenticationE
 		return (!result.isEmpty() ? result.toArray(new X509Certificate[0]) : null);
 	}
 
+	private record PeerIdentity(@Nullable Object principal, @Nullable X509Certificate certificate) {
+
+	}
+
 }
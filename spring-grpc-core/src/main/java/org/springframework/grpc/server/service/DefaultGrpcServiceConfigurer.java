@@ -25,6 +25,8 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.grpc.internal.ApplicationContextBeanLookupUtils;
+import org.springframework.grpc.marshaller.MarshallerDecorator;
+import org.springframework.grpc.marshaller.MarshallerDecorators;
 import org.springframework.grpc.server.GlobalServerInterceptor;
 import org.springframework.grpc.server.GrpcServerFactory;
 import org.springframework.util.Assert;
@@ -32,6 +34,7 @@ import org.springframework.util.Assert;
 import io.grpc.BindableService;
 import io.grpc.ServerInterceptor;
 import io.grpc.ServerInterceptors;
+import io.grpc.ServerMethodDefinition;
 import io.grpc.ServerServiceDefinition;
 
 /**
@@ -46,10 +49,36 @@ public class DefaultGrpcServiceConfigurer implements GrpcServiceConfigurer, Init
 
 	private List<ServerInterceptor> globalInterceptors = new ArrayList<>();
 
+	private List<MarshallerDecorator> marshallerDecorators = new ArrayList<>();
+
+	private List<ServerInterceptorMethodFilter> methodInterceptorFilters = new ArrayList<>();
+
 	public DefaultGrpcServiceConfigurer(ApplicationContext applicationContext) {
 		this.applicationContext = applicationContext;
 	}
 
+	/**
+	 * Set the decorators to apply to the request and response marshallers of each method
+	 * of the configured services.
+	 * @param marshallerDecorators the marshaller decorators to apply in order
+	 */
+	public void setMarshallerDecorators(List<MarshallerDecorator> marshallerDecorators) {
+		Assert.notNull(marshallerDecorators, () -> "marshallerDecorators must not be null");
+		this.marshallerDecorators = new ArrayList<>(marshallerDecorators);
+	}
+
+	/**
+	 * Set the filters that decide which interceptors apply to each method of the
+	 * configured services. When any filters are set the interceptors are bound per
+	 * method, and an interceptor is only applied to a method if all the filters include
+	 * it.
+	 * @param methodInterceptorFilters the method interceptor filters to apply
+	 */
+	public void setMethodInterceptorFilters(List<ServerInterceptorMethodFilter> methodInterceptorFilters) {
+		Assert.notNull(methodInterceptorFilters, () -> "methodInterceptorFilters must not be null");
+		this.methodInterceptorFilters = new ArrayList<>(methodInterceptorFilters);
+	}
+
 	@Override
 	public void afterPropertiesSet() {
 		this.globalInterceptors.addAll(findGlobalInterceptors());
@@ -58,7 +87,9 @@ public class DefaultGrpcServiceConfigurer implements GrpcServiceConfigurer, Init
 	@Override
 	public ServerServiceDefinition configure(GrpcServiceSpec serviceSpec, @Nullable GrpcServerFactory serverFactory) {
 		Assert.notNull(serviceSpec, () -> "serviceSpec must not be null");
-		return bindInterceptors(serviceSpec.service(), serviceSpec.serviceInfo(), serverFactory);
+		ServerServiceDefinition serviceDef = bindInterceptors(serviceSpec.service(), serviceSpec.serviceInfo(),
+				serverFactory);
+		return MarshallerDecorators.decorate(serviceDef, this.marshallerDecorators);
 	}
 
 	private List<ServerInterceptor> findGlobalInterceptors() {
@@ -76,7 +107,7 @@ public class DefaultGrpcServiceConfigurer implements GrpcServiceConfigurer, Init
 			allInterceptors.removeIf(interceptor -> !serverFactory.supports(interceptor, serviceDef));
 		}
 		if (serviceInfo == null) {
-			return ServerInterceptors.interceptForward(serviceDef, allInterceptors);
+			return intercept(serviceDef, allInterceptors);
 		}
 		// Add interceptors by type
 		Arrays.stream(serviceInfo.interceptors())
@@ -90,7 +121,37 @@ public class DefaultGrpcServiceConfigurer implements GrpcServiceConfigurer, Init
 			ApplicationContextBeanLookupUtils.sortBeansIncludingOrderAnnotation(this.applicationContext,
 					ServerInterceptor.class, allInterceptors);
 		}
-		return ServerInterceptors.interceptForward(serviceDef, allInterceptors);
+		return intercept(serviceDef, allInterceptors);
+	}
+
+	private ServerServiceDefinition intercept(ServerServiceDefinition serviceDef,
+			List<ServerInterceptor> interceptors) {
+		if (this.methodInterceptorFilters.isEmpty() || interceptors.isEmpty()) {
+			return ServerInterceptors.interceptForward(serviceDef, interceptors);
+		}
+		ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(serviceDef.getServiceDescriptor());
+		for (ServerMethodDefinition<?, ?> method : serviceDef.getMethods()) {
+			List<ServerInterceptor> methodInterceptors = interceptors.stream()
+				.filter((interceptor) -> this.methodInterceptorFilters.stream()
+					.allMatch((filter) -> filter.filter(interceptor, method)))
+				.toList();
+			builder.addMethod(interceptMethod(serviceDef, method, methodInterceptors));
+		}
+		return builder.build();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> interceptMethod(ServerServiceDefinition serviceDef,
+			ServerMethodDefinition<ReqT, RespT> method, List<ServerInterceptor> interceptors) {
+		if (interceptors.isEmpty()) {
+			return method;
+		}
+		// Let grpc-java wrap the handler by intercepting a service with just this method
+		ServerServiceDefinition methodDef = ServerServiceDefinition.builder(serviceDef.getServiceDescriptor().getName())
+			.addMethod(method)
+			.build();
+		return (ServerMethodDefinition<ReqT, RespT>) ServerInterceptors.interceptForward(methodDef, interceptors)
+			.getMethod(method.getMethodDescriptor().getFullMethodName());
 	}
 
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.service;
+
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerMethodDefinition;
+
+/**
+ * Strategy to determine whether a {@link ServerInterceptor server interceptor} should be
+ * applied to an individual {@link ServerMethodDefinition method} of a gRPC service. The
+ * filter is applied once when the service is bound, so each method gets its own
+ * interceptor chain and calls to other methods do not pass through the interceptor.
+ *
+ * @author Chris Bono
+ * @see DefaultGrpcServiceConfigurer#setMethodInterceptorFilters
+ */
+@FunctionalInterface
+public interface ServerInterceptorMethodFilter {
+
+	/**
+	 * Determine whether an interceptor should be applied to a method of a service.
+	 * @param interceptor the server interceptor under consideration.
+	 * @param method the method being bound.
+	 * @return {@code true} if the interceptor should be included; {@code false}
+	 * otherwise.
+	 */
+	boolean filter(ServerInterceptor interceptor, ServerMethodDefinition<?, ?> method);
+
+}
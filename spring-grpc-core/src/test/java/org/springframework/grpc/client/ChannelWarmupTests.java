@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCalls;
+
+/**
+ * Unit tests for {@link ChannelWarmup}.
+ */
+class ChannelWarmupTests {
+
+	private final AtomicInteger pings = new AtomicInteger();
+
+	private Server server;
+
+	private ManagedChannel channel;
+
+	@BeforeEach
+	void startServer() throws IOException {
+		MethodDescriptor<byte[], byte[]> ping = MethodDescriptor.<byte[], byte[]>newBuilder()
+			.setType(MethodType.UNARY)
+			.setFullMethodName("test.Warmup/Ping")
+			.setRequestMarshaller(new BytesMarshaller())
+			.setResponseMarshaller(new BytesMarshaller())
+			.build();
+		ServerServiceDefinition service = ServerServiceDefinition.builder("test.Warmup")
+			.addMethod(ping, ServerCalls.asyncUnaryCall((request, observer) -> {
+				this.pings.incrementAndGet();
+				observer.onNext(request);
+				observer.onCompleted();
+			}))
+			.build();
+		this.server = InProcessServerBuilder.forName("warmup-test").addService(service).build().start();
+	}
+
+	@AfterEach
+	void stopServer() {
+		if (this.channel != null) {
+			this.channel.shutdownNow();
+		}
+		this.server.shutdownNow();
+	}
+
+	@Test
+	void warmUpWaitsUntilChannelIsReady() {
+		this.channel = InProcessChannelBuilder.forName("warmup-test").build();
+		assertThat(new ChannelWarmup(Duration.ofSeconds(5), null).warmUp(this.channel)).isTrue();
+		assertThat(this.channel.getState(false)).isEqualTo(ConnectivityState.READY);
+		assertThat(this.pings).hasValue(0);
+	}
+
+	@Test
+	void warmUpCallsMethodWhenChannelIsReady() {
+		this.channel = InProcessChannelBuilder.forName("warmup-test").build();
+		assertThat(new ChannelWarmup(Duration.ofSeconds(5), "test.Warmup/Ping").warmUp(this.channel)).isTrue();
+		assertThat(this.pings).hasValue(1);
+	}
+
+	@Test
+	void warmUpIgnoresErrorOfCall() {
+		this.channel = InProcessChannelBuilder.forName("warmup-test").build();
+		assertThat(new ChannelWarmup(Duration.ofSeconds(5), "test.Unknown/Method").warmUp(this.channel)).isTrue();
+	}
+
+	@Test
+	void warmUpTimesOutWhenChannelIsNotReady() {
+		this.channel = InProcessChannelBuilder.forName("no-such-server").build();
+		assertThat(new ChannelWarmup(Duration.ofMillis(200), null).warmUp(this.channel)).isFalse();
+	}
+
+	@Test
+	void channelFactoryWarmsUpChannelsWhenCreated() {
+		InProcessGrpcChannelFactory factory = new InProcessGrpcChannelFactory(List.of(),
+				mock(ClientInterceptorsConfigurer.class));
+		factory.setWarmups((target) -> new ChannelWarmup(Duration.ofSeconds(5), "test.Warmup/Ping"));
+		this.channel = factory.createChannel("in-process:warmup-test");
+		assertThat(this.channel.getState(false)).isEqualTo(ConnectivityState.READY);
+		assertThat(this.pings).hasValue(1);
+		factory.destroy();
+	}
+
+	static class BytesMarshaller implements MethodDescriptor.Marshaller<byte[]> {
+
+		@Override
+		public InputStream stream(byte[] value) {
+			return new ByteArrayInputStream(value);
+		}
+
+		@Override
+		public byte[] parse(InputStream stream) {
+			try {
+				return stream.readAllBytes();
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+	}
+
+}
@@ -32,6 +32,11 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 
+import org.springframework.grpc.internal.InsecureTrustManagerFactory;
+import org.springframework.grpc.netty.NettyTlsChannelCredentials;
+import org.springframework.grpc.netty.TlsOptions;
+import org.springframework.grpc.netty.TlsProvider;
+
 import io.grpc.ClientInterceptor;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
@@ -162,6 +167,36 @@ class GrpcChannelFactoryTests {
 				.isInstanceOf(io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder.class)));
 		}
 
+		@Test
+		void nettyChannelFactoryBuildsSslContextForNettyTlsCredentials() {
+			var channelFactory = new NettyGrpcChannelFactory(List.of(), mock());
+			channelFactory.setVirtualTargets(path -> path);
+			channelFactory.setCredentialsProvider((path) -> NettyTlsChannelCredentials.create(null,
+					InsecureTrustManagerFactory.INSTANCE, TlsOptions.of(TlsProvider.JDK)));
+			channel = channelFactory.createChannel("localhost:9090");
+			assertThat(channel).isNotNull();
+		}
+
+		@Test
+		void shadedNettyChannelFactoryBuildsSslContextForNettyTlsCredentials() {
+			var channelFactory = new ShadedNettyGrpcChannelFactory(List.of(), mock());
+			channelFactory.setVirtualTargets(path -> path);
+			channelFactory.setCredentialsProvider((path) -> NettyTlsChannelCredentials.create(null,
+					InsecureTrustManagerFactory.INSTANCE, TlsOptions.of(TlsProvider.JDK)));
+			channel = channelFactory.createChannel("localhost:9090");
+			assertThat(channel).isNotNull();
+		}
+
+		@Test
+		void defaultChannelFactoryUsesPlainTlsCredentialsForNettyTlsCredentials() {
+			var channelFactory = new DefaultGrpcChannelFactory(List.of(), mock());
+			channelFactory.setVirtualTargets(path -> path);
+			channelFactory.setCredentialsProvider((path) -> NettyTlsChannelCredentials.create(null,
+					InsecureTrustManagerFactory.INSTANCE, TlsOptions.of(TlsProvider.JDK)));
+			channel = channelFactory.createChannel("localhost:9090");
+			assertThat(channel).isNotNull();
+		}
+
 		@Test
 		void inProcessChannelFactoryUsesInProcessChannelBuilder() {
 			var channelName = "in-process:foo";
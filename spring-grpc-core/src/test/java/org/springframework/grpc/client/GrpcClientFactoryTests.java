@@ -30,6 +30,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.grpc.client.GrpcClientFactory.GrpcClientRegistrationSpec;
 import org.springframework.grpc.client.GrpcClientFactoryTests.MyProto.MyStub;
+import org.springframework.grpc.client.scan.TopLevelBlockingStub;
 
 import io.grpc.CallOptions;
 import io.grpc.Channel;
@@ -59,6 +60,20 @@ public class GrpcClientFactoryTests {
 		assertThat(factory.getClient("local", MyStub.class, null)).isNotNull();
 	}
 
+	@Test
+	void testRepeatedCreateReturnsNewStubs() {
+		GrpcClientFactory.register(context, new GrpcClientRegistrationSpec("local", new Class[] { MyStub.class }));
+		MyStub first = factory.getClient("local", MyStub.class, null);
+		MyStub second = factory.getClient("local", MyStub.class, null);
+		assertThat(first).isNotNull().isNotSameAs(second);
+		assertThat(second).isNotNull();
+	}
+
+	@Test
+	void testCreateWithStubMethod() {
+		assertThat(factory.getClient("local", MyProto::newStub)).isNotNull();
+	}
+
 	@Test
 	void testNoStubFactory() {
 		GrpcClientFactory.register(context, new GrpcClientRegistrationSpec("local", new Class[] { OtherStub.class }));
@@ -80,6 +95,25 @@ public class GrpcClientFactoryTests {
 		assertThat(factory.getClient("local", OtherStub.class, null)).isNotNull();
 	}
 
+	@Test
+	void testScanPackages() {
+		context.registerBean(OtherStubFactory.class, () -> new OtherStubFactory());
+		GrpcClientFactory.register(context,
+				GrpcClientRegistrationSpec.of("local")
+					.factory(OtherStubFactory.class)
+					.packageClasses(GrpcClientFactoryTests.class));
+		assertThat(context.containsBeanDefinition("otherStub")).isTrue();
+		assertThat(context.containsBeanDefinition("myStub")).isFalse();
+		assertThat(factory.getClient("local", OtherStub.class, null)).isNotNull();
+	}
+
+	@Test
+	void testScanPackagesFindsStubsThatAreNotNested() {
+		GrpcClientFactory.register(context,
+				GrpcClientRegistrationSpec.of("local").packageClasses(TopLevelBlockingStub.class));
+		assertThat(context.containsBeanDefinition("topLevelBlockingStub")).isTrue();
+	}
+
 	@Test
 	void testAnnotationConfig() {
 		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
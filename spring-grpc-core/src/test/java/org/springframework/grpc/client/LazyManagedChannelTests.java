@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.grpc.CallOptions;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+
+/**
+ * Unit tests for {@link LazyManagedChannel}.
+ */
+class LazyManagedChannelTests {
+
+	@Test
+	void channelIsCreatedOnFirstCall() {
+		ManagedChannel delegate = mock();
+		AtomicInteger created = new AtomicInteger();
+		LazyManagedChannel channel = new LazyManagedChannel(() -> {
+			created.incrementAndGet();
+			return delegate;
+		});
+		assertThat(channel.getState(false)).isEqualTo(ConnectivityState.IDLE);
+		assertThat(created).hasValue(0);
+		MethodDescriptor<Object, Object> method = mock();
+		channel.newCall(method, CallOptions.DEFAULT);
+		channel.newCall(method, CallOptions.DEFAULT);
+		assertThat(created).hasValue(1);
+		assertThat(channel.isCreated()).isTrue();
+		verify(delegate, times(2)).newCall(method, CallOptions.DEFAULT);
+	}
+
+	@Test
+	void shutdownBeforeFirstCallDoesNotCreateChannel() throws Exception {
+		AtomicInteger created = new AtomicInteger();
+		LazyManagedChannel channel = new LazyManagedChannel(() -> {
+			created.incrementAndGet();
+			return mock();
+		});
+		channel.shutdown();
+		assertThat(channel.isShutdown()).isTrue();
+		assertThat(channel.isTerminated()).isTrue();
+		assertThat(channel.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(channel.getState(false)).isEqualTo(ConnectivityState.SHUTDOWN);
+		assertThat(created).hasValue(0);
+	}
+
+	@Test
+	void callAfterShutdownUsesShutDownChannel() {
+		ManagedChannel delegate = mock();
+		given(delegate.newCall(any(), any())).willReturn(mock());
+		LazyManagedChannel channel = new LazyManagedChannel(() -> delegate);
+		channel.shutdown();
+		channel.newCall(mock(), CallOptions.DEFAULT);
+		verify(delegate).shutdown();
+	}
+
+	@Test
+	void channelFactoryDefersBuildingLazyChannels() {
+		AtomicInteger customized = new AtomicInteger();
+		InProcessGrpcChannelFactory factory = new InProcessGrpcChannelFactory(
+				List.of((target, builder) -> customized.incrementAndGet()), mock(ClientInterceptorsConfigurer.class));
+		factory.setLazyTargets((target) -> target.equals("in-process:lazy"));
+		ManagedChannel lazyChannel = factory.createChannel("in-process:lazy");
+		assertThat(lazyChannel).isInstanceOf(LazyManagedChannel.class);
+		assertThat(customized).hasValue(0);
+		factory.createChannel("in-process:eager");
+		assertThat(customized).hasValue(1);
+		assertThat(lazyChannel.authority()).isNotNull();
+		assertThat(customized).hasValue(2);
+		factory.destroy();
+		assertThat(lazyChannel.isShutdown()).isTrue();
+	}
+
+}
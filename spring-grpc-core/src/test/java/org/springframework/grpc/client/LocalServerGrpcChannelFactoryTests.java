@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.Ordered;
+import org.springframework.grpc.server.LocalGrpcServer;
+
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.TlsChannelCredentials;
+
+/**
+ * Unit tests for {@link LocalServerGrpcChannelFactory}.
+ */
+class LocalServerGrpcChannelFactoryTests {
+
+	private LocalServerGrpcChannelFactory channelFactory(String... addresses) {
+		return new LocalServerGrpcChannelFactory(new LocalGrpcServer("local", List.of(addresses)), List.of(),
+				mock(ClientInterceptorsConfigurer.class));
+	}
+
+	@Test
+	void supportsLoopbackTargetsOnServerPort() {
+		LocalServerGrpcChannelFactory factory = channelFactory("*:9090");
+		assertThat(factory.supports("localhost:9090")).isTrue();
+		assertThat(factory.supports("127.0.0.1:9090")).isTrue();
+		assertThat(factory.supports("[::1]:9090")).isTrue();
+		assertThat(factory.supports("static://localhost:9090")).isTrue();
+		assertThat(factory.supports("dns:///localhost:9090")).isTrue();
+		assertThat(factory.supports("localhost:9091")).isFalse();
+		assertThat(factory.supports("remote:9090")).isFalse();
+		assertThat(factory.supports("in-process:local")).isFalse();
+	}
+
+	@Test
+	void supportsConfiguredHostOnServerPort() {
+		LocalServerGrpcChannelFactory factory = channelFactory("myhost:9191", "unix:/tmp/grpc.sock");
+		assertThat(factory.supports("myhost:9191")).isTrue();
+		assertThat(factory.supports("localhost:9191")).isTrue();
+		assertThat(factory.supports("myhost:9090")).isFalse();
+	}
+
+	@Test
+	void doesNotSupportTargetsOfServerOnEphemeralPort() {
+		assertThat(channelFactory("localhost:0").supports("localhost:0")).isFalse();
+	}
+
+	@Test
+	void supportsTargetsResolvedThroughVirtualTargets() {
+		LocalServerGrpcChannelFactory factory = channelFactory("*:9090");
+		factory.setVirtualTargets((path) -> path.equals("orders") ? "localhost:9090" : path);
+		assertThat(factory.supports("orders")).isTrue();
+	}
+
+	@Test
+	void doesNotSupportTargetsWithSecureCredentials() {
+		LocalServerGrpcChannelFactory factory = channelFactory("*:9090");
+		factory.setCredentialsProvider(
+				(path) -> path.equals("secure") ? TlsChannelCredentials.create() : InsecureChannelCredentials.create());
+		factory.setVirtualTargets((path) -> "localhost:9090");
+		assertThat(factory.supports("plain")).isTrue();
+		assertThat(factory.supports("secure")).isFalse();
+	}
+
+	@Test
+	void hasHighestPrecedence() {
+		assertThat(channelFactory("*:9090").getOrder()).isEqualTo(Ordered.HIGHEST_PRECEDENCE);
+	}
+
+}
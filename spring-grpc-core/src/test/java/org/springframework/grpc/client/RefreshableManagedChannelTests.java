@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.MethodDescriptor;
+
+/**
+ * Unit tests for {@link RefreshableManagedChannel}.
+ */
+class RefreshableManagedChannelTests {
+
+	@Test
+	void callsUseSwappedChannel() {
+		ManagedChannel first = mock();
+		ManagedChannel second = mock();
+		RefreshableManagedChannel channel = new RefreshableManagedChannel(first);
+		MethodDescriptor<Object, Object> method = mock();
+		channel.newCall(method, CallOptions.DEFAULT);
+		assertThat(channel.swap(second)).isSameAs(first);
+		channel.newCall(method, CallOptions.DEFAULT);
+		verify(first).newCall(method, CallOptions.DEFAULT);
+		verify(second).newCall(method, CallOptions.DEFAULT);
+	}
+
+	@Test
+	void swapAfterShutdownShutsDownNewChannel() {
+		ManagedChannel first = mock();
+		ManagedChannel second = mock();
+		RefreshableManagedChannel channel = new RefreshableManagedChannel(first);
+		channel.shutdown();
+		assertThat(channel.swap(second)).isNull();
+		assertThat(channel.getChannel()).isSameAs(first);
+		verify(first).shutdown();
+		verify(second).shutdownNow();
+	}
+
+	@Test
+	<T extends ManagedChannelBuilder<T>> void refreshChannelsRebuildsOnlyRefreshableChannels() {
+		AtomicInteger builds = new AtomicInteger();
+		GrpcChannelBuilderCustomizer<T> customizer = (target, builder) -> builds.incrementAndGet();
+		var channelFactory = new DefaultGrpcChannelFactory<T>(List.of(customizer), mock());
+		channelFactory.setVirtualTargets((path) -> path);
+		channelFactory.setRefreshableTargets("refreshable"::equals);
+		ManagedChannel channel = channelFactory.createChannel("refreshable",
+				ChannelBuilderOptions.defaults().withShutdownGracePeriod(Duration.ZERO));
+		ManagedChannel other = channelFactory.createChannel("other", ChannelBuilderOptions.defaults());
+		assertThat(channel).isInstanceOf(RefreshableManagedChannel.class);
+		assertThat(other).isNotInstanceOf(RefreshableManagedChannel.class);
+		ManagedChannel first = ((RefreshableManagedChannel) channel).getChannel();
+		channelFactory.refreshChannels();
+		ManagedChannel second = ((RefreshableManagedChannel) channel).getChannel();
+		assertThat(second).isNotSameAs(first);
+		assertThat(builds).hasValue(3);
+		assertThat(first.isShutdown()).isTrue();
+		Awaitility.await().until(first::isTerminated);
+		assertThat(channel.isShutdown()).isFalse();
+		assertThat(other.isShutdown()).isFalse();
+		channelFactory.destroy();
+		assertThat(channel.isShutdown()).isTrue();
+		assertThat(second.isShutdown()).isTrue();
+	}
+
+}
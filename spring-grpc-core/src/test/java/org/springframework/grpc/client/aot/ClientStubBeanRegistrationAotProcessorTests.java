@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.aot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedFiles.Kind;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.aot.ApplicationContextAotGenerator;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.grpc.client.GrpcClientFactory;
+import org.springframework.grpc.client.GrpcClientFactory.GrpcClientRegistrationSpec;
+import org.springframework.grpc.client.SimpleStubFactory;
+import org.springframework.javapoet.ClassName;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.stub.AbstractBlockingStub;
+import io.grpc.stub.AbstractStub;
+
+public class ClientStubBeanRegistrationAotProcessorTests {
+
+	@Test
+	void generatesDirectStubCreation() throws IOException {
+		String code = generateCode(GrpcClientRegistrationSpec.of("local").types(TestGrpc.TestBlockingStub.class));
+		assertThat(code)
+			.contains("getClient(\"local\", ClientStubBeanRegistrationAotProcessorTests.TestGrpc::newBlockingStub)");
+	}
+
+	@Test
+	void generatesDirectStubCreationWithExplicitFactory() throws IOException {
+		String code = generateCode(
+				GrpcClientRegistrationSpec.of("local").factory(SimpleStubFactory.class).types(TestGrpc.TestStub.class));
+		assertThat(code)
+			.contains("getClient(\"local\", ClientStubBeanRegistrationAotProcessorTests.TestGrpc::newStub)");
+	}
+
+	@Test
+	void noReflectionHintsForDirectStubs() {
+		GenericApplicationContext context = createContext(
+				GrpcClientRegistrationSpec.of("local").types(TestGrpc.TestBlockingStub.class));
+		DefaultGenerationContext generationContext = process(context);
+		assertThat(generationContext.getRuntimeHints().reflection().getTypeHint(TypeReference.of(TestGrpc.class)))
+			.isNull();
+	}
+
+	private String generateCode(GrpcClientRegistrationSpec spec) throws IOException {
+		DefaultGenerationContext generationContext = process(createContext(spec));
+		InMemoryGeneratedFiles files = (InMemoryGeneratedFiles) generationContext.getGeneratedFiles();
+		StringBuilder code = new StringBuilder();
+		for (Map.Entry<String, InputStreamSource> file : files.getGeneratedFiles(Kind.SOURCE).entrySet()) {
+			try (InputStream stream = file.getValue().getInputStream()) {
+				code.append(new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+			}
+		}
+		return code.toString();
+	}
+
+	private GenericApplicationContext createContext(GrpcClientRegistrationSpec spec) {
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBean(GrpcClientFactory.class.getName(), GrpcClientFactory.class);
+		GrpcClientFactory.register(context, spec);
+		return context;
+	}
+
+	private DefaultGenerationContext process(GenericApplicationContext context) {
+		DefaultGenerationContext generationContext = new DefaultGenerationContext(
+				new ClassNameGenerator(ClassName.get("com.example", "TestApplication")), new InMemoryGeneratedFiles());
+		new ApplicationContextAotGenerator().processAheadOfTime(context, generationContext);
+		generationContext.writeGeneratedContent();
+		return generationContext;
+	}
+
+	public static final class TestGrpc {
+
+		public static TestBlockingStub newBlockingStub(Channel channel) {
+			return new TestBlockingStub(channel, CallOptions.DEFAULT);
+		}
+
+		public static TestStub newStub(Channel channel) {
+			return new TestStub(channel, CallOptions.DEFAULT);
+		}
+
+		public static final class TestBlockingStub extends AbstractBlockingStub<TestBlockingStub> {
+
+			TestBlockingStub(Channel channel, CallOptions callOptions) {
+				super(channel, callOptions);
+			}
+
+			@Override
+			protected TestBlockingStub build(Channel channel, CallOptions callOptions) {
+				return new TestBlockingStub(channel, callOptions);
+			}
+
+		}
+
+		public static final class TestStub extends AbstractStub<TestStub> {
+
+			TestStub(Channel channel, CallOptions callOptions) {
+				super(channel, callOptions);
+			}
+
+			@Override
+			protected TestStub build(Channel channel, CallOptions callOptions) {
+				return new TestStub(channel, callOptions);
+			}
+
+		}
+
+	}
+
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.grpc.client.interceptor.CircuitBreakerClientInterceptor.State;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * Tests for {@link CircuitBreakerClientInterceptor}.
+ */
+class CircuitBreakerClientInterceptorTests {
+
+	private final Channel channel = mock();
+
+	private final List<ClientCall.Listener<Object>> channelListeners = new ArrayList<>();
+
+	private final CircuitBreakerClientInterceptor circuitBreaker = new CircuitBreakerClientInterceptor("test", 0.5, 4,
+			2, Duration.ofSeconds(10), CircuitBreakerClientInterceptor.DEFAULT_FAILURE_CODES);
+
+	private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		given(this.channel.newCall(any(), any())).willAnswer((invocation) -> {
+			ClientCall<Object, Object> call = mock();
+			willAnswer((start) -> {
+				this.channelListeners.add(start.getArgument(0));
+				return null;
+			}).given(call).start(any(), any());
+			return call;
+		});
+		this.circuitBreaker.setClock(Clock.fixed(this.now, ZoneOffset.UTC));
+	}
+
+	@Test
+	void staysClosedWhileFailureRateBelowThreshold() {
+		callAndClose(Status.OK);
+		callAndClose(Status.OK);
+		callAndClose(Status.UNAVAILABLE);
+		assertThat(this.circuitBreaker.getState()).isEqualTo(State.CLOSED);
+		assertThat(this.circuitBreaker.getFailureRate()).isEqualTo(1.0 / 3);
+	}
+
+	@Test
+	void doesNotCountOtherStatusCodesAsFailures() {
+		callAndClose(Status.NOT_FOUND);
+		callAndClose(Status.INVALID_ARGUMENT);
+		assertThat(this.circuitBreaker.getState()).isEqualTo(State.CLOSED);
+		assertThat(this.circuitBreaker.getFailureRate()).isZero();
+	}
+
+	@Test
+	void opensWhenFailureRateReachesThresholdAndFailsFast() {
+		callAndClose(Status.OK);
+		callAndClose(Status.DEADLINE_EXCEEDED);
+		assertThat(this.circuitBreaker.getState()).isEqualTo(State.OPEN);
+		ClientCall.Listener<Object> listener = call();
+		ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+		then(listener).should().onClose(status.capture(), any());
+		assertThat(status.getValue().getCode()).isEqualTo(Status.Code.UNAVAILABLE);
+		assertThat(status.getValue().getDescription()).contains("'test'");
+		assertThat(this.circuitBreaker.getNotPermittedCalls()).isOne();
+		assertThat(this.channelListeners).hasSize(2);
+	}
+
+	@Test
+	void letsSingleTrialCallThroughAfterOpenDurationAndClosesWhenItSucceeds() {
+		callAndClose(Status.UNAVAILABLE);
+		callAndClose(Status.UNAVAILABLE);
+		advance(Duration.ofSeconds(10));
+		call();
+		assertThat(this.circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+		call();
+		assertThat(this.circuitBreaker.getNotPermittedCalls()).isOne();
+		this.channelListeners.get(2).onClose(Status.OK, new Metadata());
+		assertThat(this.circuitBreaker.getState()).isEqualTo(State.CLOSED);
+		assertThat(this.circuitBreaker.getFailureRate()).isZero();
+	}
+
+	@Test
+	void opensAgainWhenTrialCallFails() {
+		callAndClose(Status.UNAVAILABLE);
+		callAndClose(Status.UNAVAILABLE);
+		advance(Duration.ofSeconds(10));
+		callAndClose(Status.UNAVAILABLE);
+		assertThat(this.circuitBreaker.getState()).isEqualTo(State.OPEN);
+		advance(Duration.ofSeconds(5));
+		call();
+		assertThat(this.circuitBreaker.getNotPermittedCalls()).isOne();
+	}
+
+	@Test
+	void trialPermissionReleasedWhenCallCancelledBeforeStart() {
+		callAndClose(Status.UNAVAILABLE);
+		callAndClose(Status.UNAVAILABLE);
+		advance(Duration.ofSeconds(10));
+		ClientCall<Object, Object> call = this.circuitBreaker.interceptCall(method(), CallOptions.DEFAULT,
+				this.channel);
+		call.cancel("test", null);
+		call();
+		assertThat(this.circuitBreaker.getNotPermittedCalls()).isZero();
+	}
+
+	@Test
+	void trialPermissionReleasedWhenNewCallThrows() {
+		callAndClose(Status.UNAVAILABLE);
+		callAndClose(Status.UNAVAILABLE);
+		advance(Duration.ofSeconds(10));
+		Channel failingChannel = mock();
+		given(failingChannel.newCall(any(), any())).willThrow(new IllegalStateException("test"));
+		assertThatIllegalStateException()
+			.isThrownBy(() -> this.circuitBreaker.interceptCall(method(), CallOptions.DEFAULT, failingChannel));
+		call();
+		assertThat(this.circuitBreaker.getNotPermittedCalls()).isZero();
+	}
+
+	@Test
+	void letsAnotherTrialCallThroughWhenTrialCallDoesNotCompleteWithinOpenDuration() {
+		callAndClose(Status.UNAVAILABLE);
+		callAndClose(Status.UNAVAILABLE);
+		advance(Duration.ofSeconds(10));
+		call();
+		advance(Duration.ofSeconds(5));
+		call();
+		assertThat(this.circuitBreaker.getNotPermittedCalls()).isOne();
+		advance(Duration.ofSeconds(5));
+		call();
+		assertThat(this.circuitBreaker.getNotPermittedCalls()).isOne();
+		// the outcome of the abandoned trial call is ignored
+		this.channelListeners.get(2).onClose(Status.UNAVAILABLE, new Metadata());
+		assertThat(this.circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+		this.channelListeners.get(3).onClose(Status.OK, new Metadata());
+		assertThat(this.circuitBreaker.getState()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	void ignoresOutcomeOfCallAdmittedBeforeStateChanged() {
+		call();
+		callAndClose(Status.UNAVAILABLE);
+		callAndClose(Status.UNAVAILABLE);
+		assertThat(this.circuitBreaker.getState()).isEqualTo(State.OPEN);
+		advance(Duration.ofSeconds(10));
+		call();
+		assertThat(this.circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+		this.channelListeners.get(0).onClose(Status.OK, new Metadata());
+		assertThat(this.circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+		this.channelListeners.get(3).onClose(Status.UNAVAILABLE, new Metadata());
+		assertThat(this.circuitBreaker.getState()).isEqualTo(State.OPEN);
+	}
+
+	@Test
+	void rejectedCallDoesNotReachChannel() {
+		callAndClose(Status.UNAVAILABLE);
+		callAndClose(Status.UNAVAILABLE);
+		call();
+		then(this.channel).should(times(2)).newCall(any(), any());
+	}
+
+	@Test
+	void invalidSettingsAreRejected() {
+		Set<Status.Code> codes = CircuitBreakerClientInterceptor.DEFAULT_FAILURE_CODES;
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new CircuitBreakerClientInterceptor("test", 0, 4, 2, Duration.ofSeconds(1), codes));
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new CircuitBreakerClientInterceptor("test", 0.5, 4, 5, Duration.ofSeconds(1), codes));
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new CircuitBreakerClientInterceptor("test", 0.5, 4, 2, Duration.ofSeconds(1), Set.of()));
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new CircuitBreakerClientInterceptor("test", 0.5, 4, 2, Duration.ZERO, codes))
+			.withMessage("openDuration must be at least one millisecond");
+	}
+
+	private void advance(Duration duration) {
+		this.now = this.now.plus(duration);
+		this.circuitBreaker.setClock(Clock.fixed(this.now, ZoneOffset.UTC));
+	}
+
+	private ClientCall.Listener<Object> call() {
+		ClientCall.Listener<Object> listener = mock();
+		this.circuitBreaker.interceptCall(method(), CallOptions.DEFAULT, this.channel).start(listener, new Metadata());
+		return listener;
+	}
+
+	private void callAndClose(Status status) {
+		ClientCall.Listener<Object> listener = call();
+		this.channelListeners.get(this.channelListeners.size() - 1).onClose(status, new Metadata());
+		then(listener).should().onClose(eq(status), any());
+		then(listener).should(never()).onMessage(any());
+	}
+
+	private MethodDescriptor<Object, Object> method() {
+		MethodDescriptor.Marshaller<Object> marshaller = mock();
+		return MethodDescriptor.newBuilder(marshaller, marshaller)
+			.setType(MethodDescriptor.MethodType.UNARY)
+			.setFullMethodName("test.Service/Method")
+			.build();
+	}
+
+}
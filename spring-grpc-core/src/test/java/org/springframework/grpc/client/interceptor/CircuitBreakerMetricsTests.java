@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link CircuitBreakerMetrics}.
+ */
+class CircuitBreakerMetricsTests {
+
+	@Test
+	void exposesStateOfCircuitBreaker() {
+		CircuitBreakerClientInterceptor circuitBreaker = new CircuitBreakerClientInterceptor("test", 0.5, 4, 2,
+				Duration.ofSeconds(10), CircuitBreakerClientInterceptor.DEFAULT_FAILURE_CODES);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new CircuitBreakerMetrics(circuitBreaker, "grpc.client").bindTo(registry);
+		assertThat(registry.get("grpc.client.circuit.breaker.state")
+			.tag("name", "test")
+			.tag("state", "closed")
+			.gauge()
+			.value()).isOne();
+		assertThat(registry.get("grpc.client.circuit.breaker.state").tag("state", "open").gauge().value()).isZero();
+		assertThat(registry.get("grpc.client.circuit.breaker.state").tag("state", "half_open").gauge().value())
+			.isZero();
+		assertThat(registry.get("grpc.client.circuit.breaker.failure.rate").gauge().value()).isZero();
+		assertThat(registry.get("grpc.client.circuit.breaker.not.permitted.calls").functionCounter().count()).isZero();
+	}
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Context;
+import io.grpc.Context.CancellableContext;
+import io.grpc.Deadline;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * Tests for {@link DeadlinePropagationClientInterceptor}.
+ */
+class DeadlinePropagationClientInterceptorTests {
+
+	private final Channel channel = mock();
+
+	private final ClientCall<Object, Object> call = mock();
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+	@BeforeEach
+	void setUp() {
+		given(this.channel.newCall(any(), any())).willReturn(this.call);
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.scheduler.shutdownNow();
+	}
+
+	@Test
+	void callWithoutDeadlineIsPassedThrough() {
+		DeadlinePropagationClientInterceptor interceptor = new DeadlinePropagationClientInterceptor(
+				Duration.ofSeconds(1), Map.of());
+		ClientCall<Object, Object> result = interceptor.interceptCall(method("test.Service/Method"),
+				CallOptions.DEFAULT, this.channel);
+		assertThat(result).isSameAs(this.call);
+		then(this.channel).should().newCall(any(), eq(CallOptions.DEFAULT));
+	}
+
+	@Test
+	void incomingDeadlineIsPropagatedMinusSafetyMargin() throws Exception {
+		DeadlinePropagationClientInterceptor interceptor = new DeadlinePropagationClientInterceptor(
+				Duration.ofSeconds(2), Map.of());
+		ClientCall<Object, Object> result = withDeadlineAfter(Duration.ofSeconds(10),
+				() -> interceptor.interceptCall(method("test.Service/Method"), CallOptions.DEFAULT, this.channel));
+		assertThat(result).isSameAs(this.call);
+		assertThat(propagatedDeadline().timeRemaining(TimeUnit.SECONDS)).isBetween(7L, 8L);
+	}
+
+	@Test
+	void shorterCallDeadlineIsKept() throws Exception {
+		DeadlinePropagationClientInterceptor interceptor = new DeadlinePropagationClientInterceptor(
+				Duration.ofSeconds(2), Map.of());
+		CallOptions callOptions = CallOptions.DEFAULT.withDeadlineAfter(3, TimeUnit.SECONDS);
+		withDeadlineAfter(Duration.ofSeconds(10),
+				() -> interceptor.interceptCall(method("test.Service/Method"), callOptions, this.channel));
+		assertThat(propagatedDeadline().timeRemaining(TimeUnit.SECONDS)).isBetween(2L, 3L);
+	}
+
+	@Test
+	void callFailsWhenSafetyMarginExceedsRemainingTime() throws Exception {
+		DeadlinePropagationClientInterceptor interceptor = new DeadlinePropagationClientInterceptor(
+				Duration.ofSeconds(5), Map.of());
+		ClientCall<Object, Object> result = withDeadlineAfter(Duration.ofSeconds(2),
+				() -> interceptor.interceptCall(method("test.Service/Method"), CallOptions.DEFAULT, this.channel));
+		assertFailsWithDeadlineExceeded(result);
+	}
+
+	@Test
+	void callFailsWhenRemainingTimeBelowMethodMinimum() throws Exception {
+		DeadlinePropagationClientInterceptor interceptor = new DeadlinePropagationClientInterceptor(Duration.ZERO,
+				Map.of("test.Service/Method", Duration.ofSeconds(5), "test.Service/*", Duration.ofSeconds(1)));
+		ClientCall<Object, Object> result = withDeadlineAfter(Duration.ofSeconds(3),
+				() -> interceptor.interceptCall(method("test.Service/Method"), CallOptions.DEFAULT, this.channel));
+		assertFailsWithDeadlineExceeded(result);
+	}
+
+	@Test
+	void callFailsWhenRemainingTimeBelowServiceMinimum() throws Exception {
+		DeadlinePropagationClientInterceptor interceptor = new DeadlinePropagationClientInterceptor(Duration.ZERO,
+				Map.of("test.Service/*", Duration.ofSeconds(5), "*", Duration.ofSeconds(1)));
+		ClientCall<Object, Object> result = withDeadlineAfter(Duration.ofSeconds(3),
+				() -> interceptor.interceptCall(method("test.Service/Other"), CallOptions.DEFAULT, this.channel));
+		assertFailsWithDeadlineExceeded(result);
+	}
+
+	@Test
+	void callStartsWhenRemainingTimeAboveAllMethodsMinimum() throws Exception {
+		DeadlinePropagationClientInterceptor interceptor = new DeadlinePropagationClientInterceptor(Duration.ZERO,
+				Map.of("other.Service/*", Duration.ofSeconds(5), "*", Duration.ofSeconds(1)));
+		ClientCall<Object, Object> result = withDeadlineAfter(Duration.ofSeconds(3),
+				() -> interceptor.interceptCall(method("test.Service/Method"), CallOptions.DEFAULT, this.channel));
+		assertThat(result).isSameAs(this.call);
+	}
+
+	@Test
+	void negativeSafetyMarginIsRejected() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new DeadlinePropagationClientInterceptor(Duration.ofSeconds(-1), Map.of()))
+			.withMessage("safetyMargin must not be negative");
+	}
+
+	private <T> T withDeadlineAfter(Duration timeout, Callable<T> callable) throws Exception {
+		CancellableContext context = Context.current()
+			.withDeadlineAfter(timeout.toMillis(), TimeUnit.MILLISECONDS, this.scheduler);
+		try {
+			return context.call(callable);
+		}
+		finally {
+			context.cancel(null);
+		}
+	}
+
+	private Deadline propagatedDeadline() {
+		ArgumentCaptor<CallOptions> callOptions = ArgumentCaptor.forClass(CallOptions.class);
+		then(this.channel).should().newCall(any(), callOptions.capture());
+		Deadline deadline = callOptions.getValue().getDeadline();
+		assertThat(deadline).isNotNull();
+		return deadline;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void assertFailsWithDeadlineExceeded(ClientCall<Object, Object> result) {
+		then(this.channel).shouldHaveNoInteractions();
+		ClientCall.Listener<Object> listener = mock();
+		result.start(listener, new Metadata());
+		ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+		then(listener).should().onClose(status.capture(), any());
+		assertThat(status.getValue().getCode()).isEqualTo(Status.Code.DEADLINE_EXCEEDED);
+	}
+
+	private MethodDescriptor<Object, Object> method(String fullMethodName) {
+		MethodDescriptor.Marshaller<Object> marshaller = mock();
+		return MethodDescriptor.newBuilder(marshaller, marshaller)
+			.setType(MethodDescriptor.MethodType.UNARY)
+			.setFullMethodName(fullMethodName)
+			.build();
+	}
+
+}
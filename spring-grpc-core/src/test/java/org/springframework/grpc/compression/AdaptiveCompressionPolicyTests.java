@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.grpc.compression.AdaptiveCompressionPolicy.CallTracker;
+import org.springframework.grpc.compression.AdaptiveCompressionPolicy.CompressionState;
+
+import io.grpc.Codec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link AdaptiveCompressionPolicy}.
+ */
+class AdaptiveCompressionPolicyTests {
+
+	private final MeasuringCompressor compressor = new MeasuringCompressor(new Codec.Gzip());
+
+	private final AdaptiveCompressionPolicy policy = new AdaptiveCompressionPolicy(0.9, 0, 5);
+
+	@Test
+	void compressibleMessagesKeepCompressionEnabled() {
+		CallTracker tracker = this.policy.track("test.Service/Echo", "10.0.0.1");
+		for (int i = 0; i < 10; i++) {
+			assertThat(tracker.shouldCompress()).isTrue();
+			tracker.measure(() -> compress(new byte[1024]));
+		}
+		CompressionState state = this.policy.getMethodStates().get("test.Service/Echo");
+		assertThat(state.isEnabled()).isTrue();
+		assertThat(state.getRatio()).isLessThan(0.1);
+		assertThat(state.getNanosPerByte()).isPositive();
+	}
+
+	@Test
+	void incompressibleMessagesDisableCompressionForThePeerButAreStillProbed() {
+		byte[] random = new byte[1024];
+		new Random(42).nextBytes(random);
+		CallTracker tracker = this.policy.track("test.Service/Echo", "10.0.0.1");
+		tracker.measure(() -> compress(random));
+		assertThat(tracker.shouldCompress()).isFalse();
+		assertThat(tracker.shouldCompress()).isFalse();
+		assertThat(tracker.shouldCompress()).isFalse();
+		assertThat(tracker.shouldCompress()).isFalse();
+		assertThat(tracker.shouldCompress()).isTrue();
+		assertThat(this.policy.track("test.Service/Echo", "10.0.0.2").shouldCompress()).isTrue();
+	}
+
+	@Test
+	void compressionOutsideMeasureIsNotRecorded() {
+		this.policy.track("test.Service/Echo", null);
+		compress(new byte[1024]);
+		assertThat(this.policy.getMethodStates().get("test.Service/Echo").getRatio()).isNaN();
+	}
+
+	@Test
+	void metricsExposeMethodDecisions() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		this.policy.track("test.Service/Echo", null).measure(() -> compress(new byte[1024]));
+		new AdaptiveCompressionMetrics(this.policy, "grpc.test").bindTo(registry);
+		this.policy.track("test.Service/Other", null);
+		assertThat(registry.get("grpc.test.compression.adaptive.enabled")
+			.tag("grpc.service", "test.Service")
+			.tag("grpc.method", "Echo")
+			.gauge()
+			.value()).isEqualTo(1);
+		assertThat(registry.get("grpc.test.compression.adaptive.ratio").tag("grpc.method", "Other").gauge().value())
+			.isNaN();
+	}
+
+	private void compress(byte[] data) {
+		try (OutputStream out = this.compressor.compress(new ByteArrayOutputStream())) {
+			out.write(data);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.protobuf.ProtoUtils;
+
+/**
+ * Tests for {@link MethodCompressionPolicy} and the compression interceptors.
+ */
+class MethodCompressionPolicyTests {
+
+	private static final MethodDescriptor<BytesValue, BytesValue> METHOD = MethodDescriptor
+		.<BytesValue, BytesValue>newBuilder()
+		.setType(MethodType.UNARY)
+		.setFullMethodName("test.Service/Echo")
+		.setRequestMarshaller(ProtoUtils.marshaller(BytesValue.getDefaultInstance()))
+		.setResponseMarshaller(ProtoUtils.marshaller(BytesValue.getDefaultInstance()))
+		.build();
+
+	private static final BytesValue SMALL = BytesValue.of(ByteString.copyFrom(new byte[10]));
+
+	private static final BytesValue LARGE = BytesValue.of(ByteString.copyFrom(new byte[2048]));
+
+	@Test
+	void mostSpecificEncodingWins() {
+		Map<String, String> encodings = Map.of("*", "gzip", "test.Service/*", "zstd", "test.Service/Echo", "identity");
+		assertThat(new MethodCompressionPolicy(encodings, 0).getEncoding(METHOD)).isEqualTo("identity");
+		assertThat(new MethodCompressionPolicy(Map.of("*", "gzip", "test.Service/*", "zstd"), 0).getEncoding(METHOD))
+			.isEqualTo("zstd");
+		assertThat(new MethodCompressionPolicy(Map.of("*", "gzip"), 0).getEncoding(METHOD)).isEqualTo("gzip");
+		assertThat(new MethodCompressionPolicy(Map.of("other.Service/*", "gzip"), 0).getEncoding(METHOD)).isNull();
+	}
+
+	@Test
+	void onlyMessagesAboveMinimumSizeAreCompressed() {
+		MethodCompressionPolicy policy = new MethodCompressionPolicy(Map.of("*", "gzip"), 1024);
+		assertThat(policy.shouldCompress(SMALL)).isFalse();
+		assertThat(policy.shouldCompress(LARGE)).isTrue();
+		assertThat(policy.shouldCompress("not protobuf")).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void serverInterceptorSetsCompression() {
+		CompressionPolicyServerInterceptor interceptor = new CompressionPolicyServerInterceptor(
+				new MethodCompressionPolicy(Map.of("*", "gzip"), 1024));
+		ServerCall<BytesValue, BytesValue> call = mock();
+		given(call.getMethodDescriptor()).willReturn(METHOD);
+		ServerCallHandler<BytesValue, BytesValue> handler = mock();
+		interceptor.interceptCall(call, new Metadata(), handler);
+		verify(call).setCompression("gzip");
+		ArgumentCaptor<ServerCall<BytesValue, BytesValue>> captor = ArgumentCaptor.forClass(ServerCall.class);
+		verify(handler).startCall(captor.capture(), any());
+		captor.getValue().sendMessage(SMALL);
+		verify(call).setMessageCompression(false);
+		captor.getValue().sendMessage(LARGE);
+		verify(call).setMessageCompression(true);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void clientInterceptorSetsCompression() {
+		CompressionPolicyClientInterceptor interceptor = new CompressionPolicyClientInterceptor(
+				new MethodCompressionPolicy(Map.of("test.Service/Echo", "gzip"), 1024));
+		Channel channel = mock();
+		ClientCall<BytesValue, BytesValue> call = mock();
+		given(channel.newCall(any(MethodDescriptor.class), any(CallOptions.class))).willReturn(call);
+		ClientCall<BytesValue, BytesValue> intercepted = interceptor.interceptCall(METHOD, CallOptions.DEFAULT,
+				channel);
+		ArgumentCaptor<CallOptions> options = ArgumentCaptor.forClass(CallOptions.class);
+		verify(channel).newCall(any(MethodDescriptor.class), options.capture());
+		assertThat(options.getValue().getCompressor()).isEqualTo("gzip");
+		intercepted.sendMessage(SMALL);
+		verify(call).setMessageCompression(false);
+	}
+
+	@Nested
+	class ZstdCodecTests {
+
+		@Test
+		void roundTrip() throws IOException {
+			ZstdCodec codec = new ZstdCodec();
+			byte[] data = "hello hello hello hello".repeat(100).getBytes(StandardCharsets.UTF_8);
+			ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+			try (OutputStream out = codec.compress(compressed)) {
+				out.write(data);
+			}
+			assertThat(compressed.size()).isLessThan(data.length);
+			try (InputStream in = codec.decompress(new ByteArrayInputStream(compressed.toByteArray()))) {
+				assertThat(in.readAllBytes()).isEqualTo(data);
+			}
+			assertThat(codec.getMessageEncoding()).isEqualTo("zstd");
+		}
+
+	}
+
+}
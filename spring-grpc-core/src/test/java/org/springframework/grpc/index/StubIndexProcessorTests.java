@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StubIndexProcessorTests {
+
+	@TempDir
+	Path root;
+
+	@Test
+	void indexesGeneratedStubs() throws IOException {
+		Path output = compile();
+		assertThat(Files.readAllLines(output.resolve(StubIndex.INDEX_LOCATION)))
+			.containsExactly("com.example.FooGrpc$FooBlockingStub", "com.example.FooGrpc$FooStub");
+	}
+
+	@Test
+	void dropsStubsThatNoLongerExistFromExistingIndex() throws IOException {
+		Path index = this.root.resolve("classes").resolve(StubIndex.INDEX_LOCATION);
+		Files.createDirectories(index.getParent());
+		Files.writeString(index, """
+				com.example.FooGrpc$FooStub
+				com.example.RemovedGrpc$RemovedStub
+				org.springframework.grpc.client.GrpcClientFactoryTests$OtherStub
+				""");
+		Path output = compile();
+		assertThat(Files.readAllLines(output.resolve(StubIndex.INDEX_LOCATION))).containsExactly(
+				"com.example.FooGrpc$FooBlockingStub", "com.example.FooGrpc$FooStub",
+				"org.springframework.grpc.client.GrpcClientFactoryTests$OtherStub");
+	}
+
+	private Path compile() throws IOException {
+		Path source = this.root.resolve("src/com/example/FooGrpc.java");
+		Files.createDirectories(source.getParent());
+		Files.writeString(source, """
+				package com.example;
+
+				import io.grpc.CallOptions;
+				import io.grpc.Channel;
+				import io.grpc.stub.AbstractBlockingStub;
+				import io.grpc.stub.AbstractStub;
+				import io.grpc.stub.annotations.GrpcGenerated;
+
+				@GrpcGenerated
+				public final class FooGrpc {
+
+					public static final class FooStub extends AbstractStub<FooStub> {
+						FooStub(Channel channel, CallOptions callOptions) {
+							super(channel, callOptions);
+						}
+						@Override
+						protected FooStub build(Channel channel, CallOptions callOptions) {
+							return new FooStub(channel, callOptions);
+						}
+					}
+
+					public static final class FooBlockingStub extends AbstractBlockingStub<FooBlockingStub> {
+						FooBlockingStub(Channel channel, CallOptions callOptions) {
+							super(channel, callOptions);
+						}
+						@Override
+						protected FooBlockingStub build(Channel channel, CallOptions callOptions) {
+							return new FooBlockingStub(channel, callOptions);
+						}
+					}
+
+					public abstract static class FooImplBase {
+					}
+
+					public interface AsyncService {
+					}
+
+				}
+				""");
+		Path output = this.root.resolve("classes");
+		Files.createDirectories(output);
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+			Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(source.toFile());
+			List<String> options = List.of("-proc:only", "-classpath", System.getProperty("java.class.path"), "-d",
+					output.toString());
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+			task.setProcessors(List.of(new StubIndexProcessor()));
+			assertThat(task.call()).isTrue();
+		}
+		return output;
+	}
+
+}
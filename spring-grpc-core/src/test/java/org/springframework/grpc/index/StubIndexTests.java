@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StubIndexTests {
+
+	@TempDir
+	Path root;
+
+	@Test
+	void noIndex() throws IOException {
+		try (URLClassLoader classLoader = classLoader()) {
+			assertThat(StubIndex.load(classLoader)).isNull();
+		}
+	}
+
+	@Test
+	void candidateTypesInPackage() throws IOException {
+		Path index = this.root.resolve(StubIndex.INDEX_LOCATION);
+		Files.createDirectories(index.getParent());
+		Files.writeString(index, """
+				# Generated
+				com.example.FooGrpc$FooStub
+				com.example.sub.BarGrpc$BarStub
+				com.examples.BazGrpc$BazStub
+				""");
+		try (URLClassLoader classLoader = classLoader()) {
+			StubIndex stubs = StubIndex.load(classLoader);
+			assertThat(stubs).isNotNull();
+			assertThat(stubs.getCandidateTypes("com.example")).containsExactly("com.example.FooGrpc$FooStub",
+					"com.example.sub.BarGrpc$BarStub");
+			assertThat(stubs.getCandidateTypes("com.example.sub")).containsExactly("com.example.sub.BarGrpc$BarStub");
+			assertThat(stubs.getCandidateTypes("org.example")).isEmpty();
+		}
+	}
+
+	private URLClassLoader classLoader() throws IOException {
+		return new URLClassLoader(new URL[] { this.root.toUri().toURL() }, null);
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.security.PrivateKey;
+import java.security.cert.X509Certificate;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.X509ExtendedKeyManager;
+import javax.net.ssl.X509KeyManager;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ReloadableKeyManagerFactory}.
+ */
+class ReloadableKeyManagerFactoryTests {
+
+	@Test
+	void keyManagerDelegatesToReloadedFactory() {
+		X509ExtendedKeyManager first = keyManager("first");
+		X509ExtendedKeyManager second = keyManager("second");
+		ReloadableKeyManagerFactory factory = new ReloadableKeyManagerFactory(factory(first));
+		KeyManager[] keyManagers = factory.getKeyManagers();
+		assertThat(keyManagers).hasSize(1);
+		X509KeyManager keyManager = (X509KeyManager) keyManagers[0];
+		assertThat(keyManager.getPrivateKey(keyManager.chooseServerAlias("EC", null, null)))
+			.isSameAs(first.getPrivateKey("first"));
+		factory.reload(factory(second));
+		assertThat(factory.getKeyManagers()).containsExactly(keyManager);
+		assertThat(keyManager.getPrivateKey(keyManager.chooseServerAlias("EC", null, null)))
+			.isSameAs(second.getPrivateKey("second"));
+	}
+
+	@Test
+	void aliasChosenBeforeReloadIsLookedUpInSameDelegate() {
+		X509ExtendedKeyManager first = keyManager("key");
+		X509ExtendedKeyManager second = keyManager("key");
+		ReloadableKeyManagerFactory factory = new ReloadableKeyManagerFactory(factory(first));
+		X509KeyManager keyManager = (X509KeyManager) factory.getKeyManagers()[0];
+		String alias = keyManager.chooseServerAlias("EC", null, null);
+		factory.reload(factory(second));
+		assertThat(keyManager.getPrivateKey(alias)).isSameAs(first.getPrivateKey("key"));
+		assertThat(keyManager.getCertificateChain(alias)).isSameAs(first.getCertificateChain("key"));
+		String reloadedAlias = keyManager.chooseServerAlias("EC", null, null);
+		assertThat(reloadedAlias).isNotEqualTo(alias);
+		assertThat(keyManager.getPrivateKey(reloadedAlias)).isSameAs(second.getPrivateKey("key"));
+	}
+
+	@Test
+	void factoryWithoutX509KeyManagerIsRejected() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new ReloadableKeyManagerFactory(factory()))
+			.withMessage("KeyManagerFactory must provide an X509ExtendedKeyManager");
+	}
+
+	private static X509ExtendedKeyManager keyManager(String alias) {
+		X509ExtendedKeyManager keyManager = mock();
+		given(keyManager.chooseServerAlias("EC", null, null)).willReturn(alias);
+		given(keyManager.getPrivateKey(alias)).willReturn(mock(PrivateKey.class));
+		given(keyManager.getCertificateChain(alias)).willReturn(new X509Certificate[] { mock() });
+		return keyManager;
+	}
+
+	private static KeyManagerFactory factory(KeyManager... keyManagers) {
+		KeyManagerFactory factory = mock();
+		given(factory.getKeyManagers()).willReturn(keyManagers);
+		return factory;
+	}
+
+}
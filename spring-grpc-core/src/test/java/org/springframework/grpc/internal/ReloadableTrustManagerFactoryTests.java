@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ReloadableTrustManagerFactory}.
+ */
+class ReloadableTrustManagerFactoryTests {
+
+	@Test
+	void trustManagerDelegatesToReloadedFactory() throws Exception {
+		X509Certificate[] chain = new X509Certificate[0];
+		SSLEngine engine = mock();
+		X509ExtendedTrustManager first = mock();
+		X509ExtendedTrustManager second = mock();
+		willThrow(new CertificateException("untrusted")).given(second).checkClientTrusted(chain, "EC", engine);
+		ReloadableTrustManagerFactory factory = new ReloadableTrustManagerFactory(factory(first));
+		X509ExtendedTrustManager trustManager = (X509ExtendedTrustManager) factory.getTrustManagers()[0];
+		trustManager.checkClientTrusted(chain, "EC", engine);
+		factory.reload(factory(second));
+		assertThat(factory.getTrustManagers()).containsExactly(trustManager);
+		assertThatExceptionOfType(CertificateException.class)
+			.isThrownBy(() -> trustManager.checkClientTrusted(chain, "EC", engine))
+			.withMessage("untrusted");
+	}
+
+	private static TrustManagerFactory factory(X509ExtendedTrustManager trustManager) {
+		TrustManagerFactory factory = mock();
+		given(factory.getTrustManagers()).willReturn(new X509ExtendedTrustManager[] { trustManager });
+		return factory;
+	}
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.stub.ServerCalls;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link MarshallerDecorators} and {@link InstrumentedMarshaller}.
+ */
+class MarshallerDecoratorsTests {
+
+	private static final Marshaller<String> STRING_MARSHALLER = new StringMarshaller();
+
+	private static final MethodDescriptor<String, String> METHOD = MethodDescriptor.<String, String>newBuilder()
+		.setType(MethodType.UNARY)
+		.setFullMethodName("test.Greeter/SayHello")
+		.setRequestMarshaller(STRING_MARSHALLER)
+		.setResponseMarshaller(STRING_MARSHALLER)
+		.build();
+
+	@Test
+	void methodIsReturnedAsIsWhenNotDecorated() {
+		assertThat(MarshallerDecorators.decorate(METHOD, List.of())).isSameAs(METHOD);
+	}
+
+	@Test
+	void serviceDefinitionIsReturnedAsIsWhenNoDecorators() {
+		ServerServiceDefinition service = serviceDefinition();
+		assertThat(MarshallerDecorators.decorate(service, List.of())).isSameAs(service);
+	}
+
+	@Test
+	void serviceDefinitionMethodsAreDecorated() {
+		ServerServiceDefinition service = serviceDefinition();
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		ServerServiceDefinition decorated = MarshallerDecorators.decorate(service, List
+			.of(new InstrumentedMarshallerDecorator(new MicrometerMarshallerMetricsRecorder(registry, "grpc.server"))));
+		assertThat(decorated.getServiceDescriptor().getName()).isEqualTo("test.Greeter");
+		assertThat(decorated.getMethods()).singleElement().satisfies((method) -> {
+			assertThat(method.getMethodDescriptor().getFullMethodName()).isEqualTo(METHOD.getFullMethodName());
+			assertThat(method.getMethodDescriptor().getRequestMarshaller()).isInstanceOf(InstrumentedMarshaller.class);
+			assertThat(method.getMethodDescriptor().getResponseMarshaller()).isInstanceOf(InstrumentedMarshaller.class);
+			assertThat(method.getServerCallHandler())
+				.isSameAs(service.getMethod(METHOD.getFullMethodName()).getServerCallHandler());
+		});
+	}
+
+	private static ServerServiceDefinition serviceDefinition() {
+		ServerCallHandler<String, String> handler = ServerCalls
+			.asyncUnaryCall((request, responseObserver) -> responseObserver.onNext(request));
+		return ServerServiceDefinition.builder(new ServiceDescriptor("test.Greeter", METHOD))
+			.addMethod(METHOD, handler)
+			.build();
+	}
+
+	@Nested
+	class InstrumentedMarshallerTests {
+
+		private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+		private final MethodDescriptor<String, String> method = MarshallerDecorators.decorate(METHOD,
+				List.of(new InstrumentedMarshallerDecorator(
+						new MicrometerMarshallerMetricsRecorder(this.registry, "grpc.client"))));
+
+		@Test
+		void serializedMessagesAreRecorded() throws IOException {
+			try (InputStream stream = this.method.streamRequest("hello")) {
+				assertThat(stream.readAllBytes()).hasSize(5);
+			}
+			assertThat(this.registry.get("grpc.client.message.size")
+				.tag("grpc.service", "test.Greeter")
+				.tag("grpc.method", "SayHello")
+				.tag("grpc.message", "request")
+				.tag("grpc.operation", "serialize")
+				.summary()
+				.totalAmount()).isEqualTo(5);
+			assertThat(this.registry.get("grpc.client.message.marshalling")
+				.tag("grpc.operation", "serialize")
+				.timer()
+				.count()).isEqualTo(1);
+		}
+
+		@Test
+		void drainedMessagesAreRecorded() throws IOException {
+			InputStream stream = this.method.streamRequest("hello");
+			assertThat(stream).isInstanceOf(Drainable.class).isInstanceOf(KnownLength.class);
+			((Drainable) stream).drainTo(new ByteArrayOutputStream());
+			assertThat(this.registry.get("grpc.client.message.size")
+				.tag("grpc.operation", "serialize")
+				.summary()
+				.totalAmount()).isEqualTo(5);
+		}
+
+		@Test
+		void parsedMessagesAreRecorded() {
+			String response = this.method
+				.parseResponse(new ByteArrayInputStream("goodbye".getBytes(StandardCharsets.UTF_8)));
+			assertThat(response).isEqualTo("goodbye");
+			assertThat(this.registry.get("grpc.client.message.size")
+				.tag("grpc.message", "response")
+				.tag("grpc.operation", "parse")
+				.summary()
+				.totalAmount()).isEqualTo(7);
+			assertThat(
+					this.registry.get("grpc.client.message.marshalling").tag("grpc.operation", "parse").timer().count())
+				.isEqualTo(1);
+		}
+
+		@Test
+		void decoratingAnInstrumentedMarshallerIsNoop() {
+			Marshaller<String> marshaller = this.method.getRequestMarshaller();
+			assertThat(new InstrumentedMarshallerDecorator((m, t, o, b, n) -> {
+			}).decorate(this.method, MarshallerDecorator.MessageType.REQUEST, marshaller)).isSameAs(marshaller);
+		}
+
+	}
+
+	static class DrainableInputStream extends ByteArrayInputStream implements Drainable, KnownLength {
+
+		DrainableInputStream(byte[] bytes) {
+			super(bytes);
+		}
+
+		@Override
+		public int drainTo(OutputStream target) throws IOException {
+			int length = available();
+			transferTo(target);
+			return length;
+		}
+
+	}
+
+	static class StringMarshaller implements Marshaller<String> {
+
+		@Override
+		public InputStream stream(String value) {
+			return new DrainableInputStream(value.getBytes(StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public String parse(InputStream stream) {
+			try {
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				stream.transferTo(out);
+				return out.toString(StandardCharsets.UTF_8);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+	}
+
+}
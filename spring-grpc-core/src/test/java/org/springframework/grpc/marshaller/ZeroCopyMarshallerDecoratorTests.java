@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.grpc.marshaller.MarshallerDecorator.MessageType;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+import io.grpc.Detachable;
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerCall;
+import io.grpc.protobuf.ProtoUtils;
+
+/**
+ * Tests for {@link ZeroCopyMarshallerDecorator}.
+ */
+class ZeroCopyMarshallerDecoratorTests {
+
+	private static final Marshaller<BytesValue> MARSHALLER = ProtoUtils.marshaller(BytesValue.getDefaultInstance());
+
+	private static final MethodDescriptor<BytesValue, BytesValue> METHOD = MethodDescriptor
+		.<BytesValue, BytesValue>newBuilder()
+		.setType(MethodType.UNARY)
+		.setFullMethodName("test.Blobs/Put")
+		.setRequestMarshaller(MARSHALLER)
+		.setResponseMarshaller(MARSHALLER)
+		.build();
+
+	private final ZeroCopyMarshallerDecorator decorator = new ZeroCopyMarshallerDecorator();
+
+	@Test
+	void protobufMarshallersAreDecorated() {
+		Marshaller<BytesValue> marshaller = this.decorator.decorate(METHOD, MessageType.REQUEST, MARSHALLER);
+		assertThat(marshaller).isInstanceOf(ZeroCopyProtoMarshaller.class);
+		assertThat(this.decorator.decorate(METHOD, MessageType.REQUEST, marshaller)).isSameAs(marshaller);
+	}
+
+	@Test
+	void otherMarshallersAreNotDecorated() {
+		Marshaller<String> marshaller = new MarshallerDecoratorsTests.StringMarshaller();
+		assertThat(this.decorator.decorate(METHOD, MessageType.REQUEST, marshaller)).isSameAs(marshaller);
+	}
+
+	@Test
+	void messageIsParsedFromDetachedBuffers() throws Exception {
+		BytesValue value = BytesValue.of(ByteString.copyFromUtf8("x".repeat(1000)));
+		BufferStream stream = new BufferStream(value.toByteArray(), 64);
+		BytesValue parsed = this.decorator.decorate(METHOD, MessageType.REQUEST, MARSHALLER).parse(stream);
+		assertThat(parsed).isEqualTo(value);
+		assertThat(stream.detached).isNotNull();
+		assertThat(stream.detached.closed).isFalse();
+	}
+
+	@Test
+	void messageBelowMinimumSizeIsCopied() throws Exception {
+		BytesValue value = BytesValue.of(ByteString.copyFromUtf8("small"));
+		BufferStream stream = new BufferStream(value.toByteArray(), 64);
+		BytesValue parsed = new ZeroCopyMarshallerDecorator(1024).decorate(METHOD, MessageType.REQUEST, MARSHALLER)
+			.parse(stream);
+		assertThat(parsed).isEqualTo(value);
+		assertThat(stream.detached).isNull();
+	}
+
+	@Test
+	void streamWithoutBuffersIsCopied() {
+		BytesValue value = BytesValue.of(ByteString.copyFromUtf8("x".repeat(1000)));
+		BytesValue parsed = this.decorator.decorate(METHOD, MessageType.REQUEST, MARSHALLER)
+			.parse(new ByteArrayInputStream(value.toByteArray()));
+		assertThat(parsed).isEqualTo(value);
+	}
+
+	@Test
+	void serverInterceptorReleasesBuffersWhenCallCompletes() {
+		BytesValue value = BytesValue.of(ByteString.copyFromUtf8("x".repeat(1000)));
+		BufferStream stream = new BufferStream(value.toByteArray(), 100);
+		AtomicBoolean released = new AtomicBoolean();
+		ServerCall.Listener<BytesValue> listener = this.decorator.getServerInterceptor()
+			.interceptCall(null, new Metadata(), (call, headers) -> new ServerCall.Listener<>() {
+				@Override
+				public void onComplete() {
+					released.set(stream.detached.closed);
+				}
+			});
+		listener.onMessage(this.decorator.decorate(METHOD, MessageType.REQUEST, MARSHALLER).parse(stream));
+		assertThat(stream.detached.closed).isFalse();
+		listener.onComplete();
+		assertThat(released).isFalse();
+		assertThat(stream.detached.closed).isTrue();
+	}
+
+	/**
+	 * Stream over chunked byte buffers like the ones provided by the Netty transport.
+	 */
+	static class BufferStream extends InputStream implements KnownLength, HasByteBuffer, Detachable {
+
+		private final List<ByteBuffer> buffers = new ArrayList<>();
+
+		BufferStream detached;
+
+		boolean closed;
+
+		BufferStream(byte[] data, int chunkSize) {
+			for (int i = 0; i < data.length; i += chunkSize) {
+				ByteBuffer buffer = ByteBuffer.allocateDirect(Math.min(chunkSize, data.length - i));
+				buffer.put(data, i, buffer.capacity()).flip();
+				this.buffers.add(buffer);
+			}
+		}
+
+		private BufferStream(List<ByteBuffer> buffers) {
+			this.buffers.addAll(buffers);
+		}
+
+		@Override
+		public int read() {
+			ByteBuffer buffer = getByteBuffer();
+			if (buffer == null) {
+				return -1;
+			}
+			int value = buffer.get() & 0xFF;
+			if (!buffer.hasRemaining()) {
+				this.buffers.remove(0);
+			}
+			return value;
+		}
+
+		@Override
+		public long skip(long n) {
+			long skipped = 0;
+			while (skipped < n && !this.buffers.isEmpty()) {
+				ByteBuffer buffer = this.buffers.get(0);
+				int length = (int) Math.min(n - skipped, buffer.remaining());
+				buffer.position(buffer.position() + length);
+				if (!buffer.hasRemaining()) {
+					this.buffers.remove(0);
+				}
+				skipped += length;
+			}
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			return this.buffers.stream().mapToInt(ByteBuffer::remaining).sum();
+		}
+
+		@Override
+		public boolean byteBufferSupported() {
+			return true;
+		}
+
+		@Override
+		public ByteBuffer getByteBuffer() {
+			return this.buffers.isEmpty() ? null : this.buffers.get(0);
+		}
+
+		@Override
+		public InputStream detach() {
+			this.detached = new BufferStream(this.buffers);
+			this.buffers.clear();
+			return this.detached;
+		}
+
+		@Override
+		public void close() {
+			this.closed = true;
+		}
+
+	}
+
+}
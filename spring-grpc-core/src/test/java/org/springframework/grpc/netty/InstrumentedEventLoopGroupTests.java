@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link InstrumentedEventLoopGroup}.
+ */
+class InstrumentedEventLoopGroupTests {
+
+	@Test
+	void eventLoopMetricsAreRecorded() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		try (InstrumentedEventLoopGroup group = new InstrumentedEventLoopGroup(registry, "grpc.test", "test-loop", 2)) {
+			assertThat(registry.find("netty.eventexecutor.tasks.pending").gauges()).hasSize(2);
+			await().atMost(Duration.ofSeconds(5))
+				.untilAsserted(() -> assertThat(
+						registry.get("grpc.test.netty.eventloop.latency").tag("name", "test-loop").timer().count())
+					.isPositive());
+			assertThat(group.getGroup().isShuttingDown()).isFalse();
+			group.close();
+			assertThat(group.getGroup().isShuttingDown()).isTrue();
+		}
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.AdaptiveByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.util.ResourceLeakDetector;
+
+/**
+ * Tests for {@link NettyAllocators}.
+ */
+class NettyAllocatorsTests {
+
+	@Test
+	void createPooledAllocatorWithArenas() {
+		assertThat(NettyAllocators.create("POOLED", false, 2, 1)).isInstanceOfSatisfying(PooledByteBufAllocator.class,
+				(allocator) -> {
+					assertThat(allocator.metric().numHeapArenas()).isEqualTo(2);
+					assertThat(allocator.metric().numDirectArenas()).isEqualTo(1);
+				});
+	}
+
+	@Test
+	void createAdaptiveAllocator() {
+		assertThat(NettyAllocators.create("ADAPTIVE", null, null, null)).isInstanceOf(AdaptiveByteBufAllocator.class);
+	}
+
+	@Test
+	void createWithUnknownTypeFails() {
+		assertThatIllegalArgumentException().isThrownBy(() -> NettyAllocators.create("OTHER", null, null, null));
+	}
+
+	@Test
+	void leakDetectionLevelUsesMostThoroughRequestedLevel() {
+		ResourceLeakDetector.Level original = ResourceLeakDetector.getLevel();
+		try {
+			NettyAllocators.setLeakDetectionLevel("test-client", "PARANOID");
+			NettyAllocators.setLeakDetectionLevel("test-server", "SIMPLE");
+			assertThat(ResourceLeakDetector.getLevel()).isEqualTo(ResourceLeakDetector.Level.PARANOID);
+			NettyAllocators.setLeakDetectionLevel("test-client", "DISABLED");
+			assertThat(ResourceLeakDetector.getLevel()).isEqualTo(ResourceLeakDetector.Level.SIMPLE);
+		}
+		finally {
+			NettyAllocators.setLeakDetectionLevel("test-client", original.name());
+			NettyAllocators.setLeakDetectionLevel("test-server", original.name());
+		}
+	}
+
+	@Test
+	void shadedLeakDetectionLevelIsIndependentOfUnshaded() {
+		io.grpc.netty.shaded.io.netty.util.ResourceLeakDetector.Level original = io.grpc.netty.shaded.io.netty.util.ResourceLeakDetector
+			.getLevel();
+		try {
+			ShadedNettyAllocators.setLeakDetectionLevel("test-client", "ADVANCED");
+			assertThat(io.grpc.netty.shaded.io.netty.util.ResourceLeakDetector.getLevel())
+				.isEqualTo(io.grpc.netty.shaded.io.netty.util.ResourceLeakDetector.Level.ADVANCED);
+			assertThat(ResourceLeakDetector.getLevel()).isNotEqualTo(ResourceLeakDetector.Level.ADVANCED);
+		}
+		finally {
+			ShadedNettyAllocators.setLeakDetectionLevel("test-client", original.name());
+		}
+	}
+
+}
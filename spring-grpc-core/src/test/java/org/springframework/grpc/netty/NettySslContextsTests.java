@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.grpc.internal.InsecureTrustManagerFactory;
+
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
+
+/**
+ * Tests for {@link NettySslContexts}.
+ */
+class NettySslContextsTests {
+
+	@Test
+	void forClientAppliesSessionSettings() {
+		TlsOptions options = new TlsOptions(TlsProvider.JDK, 128, Duration.ofMinutes(5), List.of());
+		SslContext context = NettySslContexts.forClient(null, InsecureTrustManagerFactory.INSTANCE, options);
+		assertThat(context.isClient()).isTrue();
+		assertThat(context.sessionCacheSize()).isEqualTo(128);
+		assertThat(context.sessionTimeout()).isEqualTo(300);
+		assertThat(context.applicationProtocolNegotiator().protocols()).contains("h2");
+	}
+
+	@Test
+	void forClientWithOpenSslFallsBackToJdkWhenUnavailable() {
+		SslContext context = NettySslContexts.forClient(null, null, TlsOptions.of(TlsProvider.OPENSSL));
+		assertThat(context.getClass().getSimpleName())
+			.startsWith(OpenSsl.isAvailable() ? "ReferenceCountedOpenSsl" : "Jdk");
+	}
+
+	@Test
+	void forClientWithShadedNettyAppliesSessionSettings() {
+		TlsOptions options = new TlsOptions(TlsProvider.JDK, 64, null, List.of());
+		io.grpc.netty.shaded.io.netty.handler.ssl.SslContext context = ShadedNettySslContexts.forClient(null,
+				InsecureTrustManagerFactory.INSTANCE, options);
+		assertThat(context.isClient()).isTrue();
+		assertThat(context.sessionCacheSize()).isEqualTo(64);
+	}
+
+	@Test
+	void tlsOptionsRejectInvalidSessionTicketKey() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new TlsOptions(TlsProvider.OPENSSL, 0, null, List.of(new byte[16])))
+			.withMessage("Session ticket keys must be 48 bytes");
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link InstrumentedServerExecutor}.
+ */
+class InstrumentedServerExecutorTests {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	void queuedAndActiveTasksAreTracked() {
+		List<Runnable> pending = new ArrayList<>();
+		InstrumentedServerExecutor executor = new InstrumentedServerExecutor(pending::add, this.registry, "test",
+				"*:9090");
+		double[] activeWhileRunning = new double[1];
+		executor.execute(() -> activeWhileRunning[0] = gauge("grpc.server.executor.active"));
+		executor.execute(() -> {
+		});
+		assertThat(gauge("grpc.server.executor.queued")).isEqualTo(2);
+		pending.forEach(Runnable::run);
+		assertThat(activeWhileRunning[0]).isEqualTo(1);
+		assertThat(gauge("grpc.server.executor.queued")).isZero();
+		assertThat(gauge("grpc.server.executor.active")).isZero();
+		assertThat(this.registry.get("grpc.server.executor.wait")
+			.tag("name", "test")
+			.tag("address", "*:9090")
+			.timer()
+			.count()).isEqualTo(2);
+		assertThat(this.registry.get("grpc.server.executor.execution").timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	void rejectedTasksAreCounted() {
+		Executor rejecting = (command) -> {
+			throw new RejectedExecutionException("full");
+		};
+		InstrumentedServerExecutor executor = new InstrumentedServerExecutor(rejecting, this.registry, "test",
+				"*:9090");
+		assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(() -> executor.execute(() -> {
+		}));
+		assertThat(this.registry.get("grpc.server.executor.rejected").counter().count()).isEqualTo(1);
+		assertThat(gauge("grpc.server.executor.queued")).isZero();
+	}
+
+	private double gauge(String name) {
+		return this.registry.get(name).gauge().value();
+	}
+
+}
@@ -16,21 +16,29 @@
 
 package org.springframework.grpc.server;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 
 import java.net.InetSocketAddress;
+import java.net.ServerSocket;
 import java.net.SocketAddress;
 import java.util.Collections;
 
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledOnOs;
 import org.junit.jupiter.api.condition.OS;
+import org.mockito.Answers;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import io.grpc.Server;
 import io.grpc.ServerCredentials;
 import io.grpc.netty.NettyServerBuilder;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.epoll.Epoll;
 import io.netty.channel.unix.DomainSocketAddress;
 
 /**
@@ -82,4 +90,45 @@ class NettyGrpcServerFactoryTests {
 		}
 	}
 
+	@Test
+	void newServerBuilderUsesAllocatorWhenSet() {
+		var serverFactory = new NettyGrpcServerFactory("*:9090", Collections.emptyList(), null, null, null);
+		serverFactory.setAllocator(UnpooledByteBufAllocator.DEFAULT);
+		NettyServerBuilder builder = Mockito.mock(Answers.RETURNS_SELF);
+		try (MockedStatic<NettyServerBuilder> serverBuilder = Mockito.mockStatic(NettyServerBuilder.class)) {
+			serverBuilder.when(() -> NettyServerBuilder.forPort(eq(9090), any(ServerCredentials.class)))
+				.thenReturn(builder);
+			serverFactory.newServerBuilder();
+			Mockito.verify(builder).withOption(ChannelOption.ALLOCATOR, UnpooledByteBufAllocator.DEFAULT);
+			Mockito.verify(builder).withChildOption(ChannelOption.ALLOCATOR, UnpooledByteBufAllocator.DEFAULT);
+		}
+	}
+
+	@Test
+	@EnabledOnOs(OS.LINUX)
+	void createServerBindsOneSocketPerReusePortAcceptor() throws Exception {
+		Assumptions.assumeTrue(Epoll.isAvailable());
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		var serverFactory = new NettyGrpcServerFactory("127.0.0.1:" + port, Collections.emptyList(), null, null, null);
+		serverFactory.setReusePortAcceptors(3);
+		Server server = serverFactory.createServer().start();
+		try {
+			assertThat(server.getListenSockets()).hasSize(3);
+			assertThat(server).isInstanceOf(ReleasingServer.class);
+		}
+		finally {
+			server.shutdownNow().awaitTermination();
+		}
+	}
+
+	@Test
+	void createServerDoesNotWrapServerWithoutOwnEventLoopGroups() {
+		var serverFactory = new NettyGrpcServerFactory("127.0.0.1:0", Collections.emptyList(), null, null, null);
+		serverFactory.setReusePortAcceptors(3);
+		assertThat(serverFactory.createServer()).isNotInstanceOf(ReleasingServer.class);
+	}
+
 }
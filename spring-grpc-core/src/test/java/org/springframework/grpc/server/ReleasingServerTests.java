@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.grpc.Server;
+
+/**
+ * Tests for {@link ReleasingServer}.
+ */
+class ReleasingServerTests {
+
+	private final Server delegate = mock();
+
+	private final AtomicInteger released = new AtomicInteger();
+
+	private final ReleasingServer server = new ReleasingServer(this.delegate, this.released::incrementAndGet);
+
+	@Test
+	void releasesOnceWhenTerminationIsAwaited() throws Exception {
+		this.server.start().shutdown();
+		assertThat(this.released).hasValue(0);
+		this.server.awaitTermination();
+		this.server.awaitTermination();
+		assertThat(this.released).hasValue(1);
+	}
+
+	@Test
+	void releasesOnlyWhenTimedAwaitSeesTermination() throws Exception {
+		given(this.delegate.awaitTermination(1, TimeUnit.SECONDS)).willReturn(false, true);
+		assertThat(this.server.awaitTermination(1, TimeUnit.SECONDS)).isFalse();
+		assertThat(this.released).hasValue(0);
+		assertThat(this.server.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(this.released).hasValue(1);
+	}
+
+	@Test
+	void releasesWhenTerminatedIsQueried() {
+		given(this.delegate.isTerminated()).willReturn(false, true);
+		assertThat(this.server.isTerminated()).isFalse();
+		assertThat(this.released).hasValue(0);
+		assertThat(this.server.isTerminated()).isTrue();
+		assertThat(this.released).hasValue(1);
+	}
+
+	@Test
+	void releasesWhenStartFails() throws Exception {
+		given(this.delegate.start()).willThrow(new IOException("Address already in use"));
+		assertThatIOException().isThrownBy(this.server::start);
+		assertThat(this.released).hasValue(1);
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+
+import io.grpc.Attributes;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerTransportFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link ServerTransportMetrics}.
+ */
+class ServerTransportMetricsTests {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private final ServerTransportMetrics metrics = new ServerTransportMetrics(this.registry);
+
+	@Test
+	void connectionsAreTrackedPerServer() {
+		ServerTransportFilter filter = this.metrics.getTransportFilter("netty", "*:9090");
+		assertThat(this.metrics.getTransportFilter("netty", "*:9090")).isSameAs(filter);
+		assertThat(this.metrics.getTransportFilter("netty", "unix:/tmp/grpc.sock")).isNotSameAs(filter);
+		Attributes first = filter.transportReady(Attributes.EMPTY);
+		filter.transportReady(Attributes.EMPTY);
+		assertThat(connections("*:9090")).isEqualTo(2);
+		filter.transportTerminated(first);
+		assertThat(connections("*:9090")).isEqualTo(1);
+		assertThat(connections("unix:/tmp/grpc.sock")).isZero();
+		assertThat(this.registry.get("grpc.server.connections.opened")
+			.tag("name", "netty")
+			.tag("address", "*:9090")
+			.counter()
+			.count()).isEqualTo(2);
+	}
+
+	@Test
+	void streamsAreTrackedPerConnection() {
+		Attributes connection = this.metrics.getTransportFilter("netty", "*:9090").transportReady(Attributes.EMPTY);
+		ServerCall.Listener<Object> first = startCall(connection);
+		ServerCall.Listener<Object> second = startCall(connection);
+		assertThat(gauge("grpc.server.streams.active")).isEqualTo(2);
+		assertThat(this.registry.get("grpc.server.connection.streams").summary().max()).isEqualTo(2);
+		first.onComplete();
+		second.onCancel();
+		second.onComplete();
+		assertThat(gauge("grpc.server.streams.active")).isZero();
+		startCall(connection);
+		assertThat(this.registry.get("grpc.server.connection.streams").summary().count()).isEqualTo(3);
+		assertThat(gauge("grpc.server.streams.active")).isEqualTo(1);
+	}
+
+	@SuppressWarnings("unchecked")
+	private ServerCall.Listener<Object> startCall(Attributes attributes) {
+		ServerCall<Object, Object> call = mock();
+		given(call.getAttributes()).willReturn(attributes);
+		return this.metrics.getStreamInterceptor()
+			.interceptCall(call, new Metadata(), (serverCall, headers) -> mock(ServerCall.Listener.class));
+	}
+
+	private double connections(String address) {
+		return this.registry.get("grpc.server.connections.active").tag("address", address).gauge().value();
+	}
+
+	private double gauge(String name) {
+		return this.registry.get(name).gauge().value();
+	}
+
+}
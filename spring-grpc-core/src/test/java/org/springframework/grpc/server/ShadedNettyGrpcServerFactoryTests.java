@@ -16,21 +16,26 @@
 
 package org.springframework.grpc.server;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 
 import java.net.InetSocketAddress;
+import java.net.ServerSocket;
 import java.net.SocketAddress;
 import java.util.Collections;
 
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledOnOs;
 import org.junit.jupiter.api.condition.OS;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import io.grpc.Server;
 import io.grpc.ServerCredentials;
 import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
 import io.grpc.netty.shaded.io.netty.channel.unix.DomainSocketAddress;
 
 /**
@@ -83,4 +88,32 @@ class ShadedNettyGrpcServerFactoryTests {
 		}
 	}
 
+	@Test
+	@EnabledOnOs(OS.LINUX)
+	void createServerBindsOneSocketPerReusePortAcceptor() throws Exception {
+		Assumptions.assumeTrue(Epoll.isAvailable());
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		var serverFactory = new ShadedNettyGrpcServerFactory("127.0.0.1:" + port, Collections.emptyList(), null, null,
+				null);
+		serverFactory.setReusePortAcceptors(3);
+		Server server = serverFactory.createServer().start();
+		try {
+			assertThat(server.getListenSockets()).hasSize(3);
+			assertThat(server).isInstanceOf(ReleasingServer.class);
+		}
+		finally {
+			server.shutdownNow().awaitTermination();
+		}
+	}
+
+	@Test
+	void createServerDoesNotWrapServerWithoutOwnEventLoopGroups() {
+		var serverFactory = new ShadedNettyGrpcServerFactory("127.0.0.1:0", Collections.emptyList(), null, null, null);
+		serverFactory.setReusePortAcceptors(3);
+		assertThat(serverFactory.createServer()).isNotInstanceOf(ReleasingServer.class);
+	}
+
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+
+import io.grpc.Attributes;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+
+/**
+ * Tests for {@link AuthenticationProcessInterceptor}.
+ */
+class AuthenticationProcessInterceptorTests {
+
+	private final Authentication user = new TestingAuthenticationToken("alice", "password", "ROLE_USER");
+
+	private final AuthenticationManager authenticationManager = (authentication) -> authentication;
+
+	private final GrpcAuthenticationExtractor extractor = (headers, attributes, method) -> this.user;
+
+	private final AuthorizationManager<CallContext> authorizationManager = (authentication,
+			context) -> new AuthorizationDecision(true);
+
+	private final ServerCall<Object, Object> call = mock();
+
+	private final ServerCallHandler<Object, Object> next = mock();
+
+	@Test
+	void callPermittedByRateLimiterProceeds() {
+		AuthenticationProcessInterceptor interceptor = new AuthenticationProcessInterceptor(this.authenticationManager,
+				this.extractor, this.authorizationManager, (authentication, context) -> null);
+		given(this.call.getMethodDescriptor()).willReturn(method());
+		given(this.call.getAttributes()).willReturn(Attributes.EMPTY);
+		given(this.next.startCall(any(), any())).willReturn(new ServerCall.Listener<>() {
+		});
+		interceptor.interceptCall(this.call, new Metadata(), this.next);
+		then(this.next).should().startCall(any(), any());
+		then(this.call).should(never()).close(any(), any());
+	}
+
+	@Test
+	void callRejectedByRateLimiterIsClosedWithRetryPushback() {
+		AuthenticationProcessInterceptor interceptor = new AuthenticationProcessInterceptor(this.authenticationManager,
+				this.extractor, this.authorizationManager, (authentication, context) -> Duration.ofMillis(1500));
+		given(this.call.getMethodDescriptor()).willReturn(method());
+		given(this.call.getAttributes()).willReturn(Attributes.EMPTY);
+		interceptor.interceptCall(this.call, new Metadata(), this.next);
+		ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+		ArgumentCaptor<Metadata> trailers = ArgumentCaptor.forClass(Metadata.class);
+		then(this.call).should().close(status.capture(), trailers.capture());
+		assertThat(status.getValue().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED);
+		assertThat(trailers.getValue().get(GrpcSecurity.RETRY_PUSHBACK_KEY)).isEqualTo("1500");
+		then(this.next).shouldHaveNoInteractions();
+	}
+
+	private MethodDescriptor<Object, Object> method() {
+		MethodDescriptor.Marshaller<Object> marshaller = mock();
+		return MethodDescriptor.newBuilder(marshaller, marshaller)
+			.setType(MethodDescriptor.MethodType.UNARY)
+			.setFullMethodName("test.Service/Method")
+			.build();
+	}
+
+}
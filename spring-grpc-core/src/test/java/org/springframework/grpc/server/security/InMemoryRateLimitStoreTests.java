@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link InMemoryRateLimitStore}.
+ */
+class InMemoryRateLimitStoreTests {
+
+	private final InMemoryRateLimitStore store = new InMemoryRateLimitStore(2);
+
+	private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+	@BeforeEach
+	void setUp() {
+		advance(Duration.ZERO);
+	}
+
+	@Test
+	void permitsBurstUpToCapacity() {
+		for (int i = 0; i < 3; i++) {
+			assertThat(this.store.tryConsume("alice", 3, Duration.ofSeconds(3))).isNull();
+		}
+		assertThat(this.store.tryConsume("alice", 3, Duration.ofSeconds(3))).isEqualTo(Duration.ofSeconds(1));
+	}
+
+	@Test
+	void refillsOverTime() {
+		assertThat(this.store.tryConsume("alice", 2, Duration.ofSeconds(2))).isNull();
+		assertThat(this.store.tryConsume("alice", 2, Duration.ofSeconds(2))).isNull();
+		advance(Duration.ofMillis(400));
+		assertThat(this.store.tryConsume("alice", 2, Duration.ofSeconds(2))).isEqualTo(Duration.ofMillis(600));
+		advance(Duration.ofMillis(600));
+		assertThat(this.store.tryConsume("alice", 2, Duration.ofSeconds(2))).isNull();
+		assertThat(this.store.tryConsume("alice", 2, Duration.ofSeconds(2))).isNotNull();
+	}
+
+	@Test
+	void keysHaveSeparateBuckets() {
+		assertThat(this.store.tryConsume("alice", 1, Duration.ofSeconds(1))).isNull();
+		assertThat(this.store.tryConsume("alice", 1, Duration.ofSeconds(1))).isNotNull();
+		assertThat(this.store.tryConsume("bob", 1, Duration.ofSeconds(1))).isNull();
+	}
+
+	@Test
+	void evictsFullBucketsAboveMaximum() {
+		this.store.tryConsume("alice", 1, Duration.ofSeconds(1));
+		this.store.tryConsume("bob", 1, Duration.ofSeconds(1));
+		this.store.tryConsume("carol", 1, Duration.ofSeconds(1));
+		assertThat(this.store.size()).isEqualTo(3);
+		advance(Duration.ofSeconds(1));
+		this.store.tryConsume("dave", 1, Duration.ofSeconds(1));
+		assertThat(this.store.size()).isEqualTo(1);
+	}
+
+	private void advance(Duration duration) {
+		this.now = this.now.plus(duration);
+		this.store.setClock(Clock.fixed(this.now, ZoneOffset.UTC));
+	}
+
+}
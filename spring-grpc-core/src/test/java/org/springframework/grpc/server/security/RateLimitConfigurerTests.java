@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import io.grpc.Attributes;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+
+/**
+ * Tests for {@link RateLimitConfigurer}.
+ */
+class RateLimitConfigurerTests {
+
+	private static final Metadata.Key<String> TENANT_KEY = Metadata.Key.of("tenant", Metadata.ASCII_STRING_MARSHALLER);
+
+	private final Authentication alice = new TestingAuthenticationToken("alice", "password");
+
+	private final Authentication bob = new TestingAuthenticationToken("bob", "password");
+
+	@Test
+	void limitsPerPrincipalByDefault() {
+		GrpcRateLimiter rateLimiter = new RateLimitConfigurer(new StaticApplicationContext()).allRequests()
+			.limit(1, Duration.ofSeconds(1))
+			.createRateLimiter();
+		CallContext context = context("test.Service/Method", new Metadata());
+		assertThat(rateLimiter.acquire(this.alice, context)).isNull();
+		assertThat(rateLimiter.acquire(this.alice, context)).isNotNull();
+		assertThat(rateLimiter.acquire(this.bob, context)).isNull();
+	}
+
+	@Test
+	void limitsPerMetadata() {
+		GrpcRateLimiter rateLimiter = new RateLimitConfigurer(new StaticApplicationContext()).allRequests()
+			.perMetadata(TENANT_KEY)
+			.limit(1, Duration.ofSeconds(1))
+			.createRateLimiter();
+		assertThat(rateLimiter.acquire(this.alice, context("test.Service/Method", tenant("a")))).isNull();
+		assertThat(rateLimiter.acquire(this.bob, context("test.Service/Method", tenant("a")))).isNotNull();
+		assertThat(rateLimiter.acquire(this.bob, context("test.Service/Method", tenant("b")))).isNull();
+	}
+
+	@Test
+	void limitsPerCombinedKeys() {
+		GrpcRateLimiter rateLimiter = new RateLimitConfigurer(new StaticApplicationContext()).allRequests()
+			.perMetadata(TENANT_KEY)
+			.perMethod()
+			.limit(1, Duration.ofSeconds(1))
+			.createRateLimiter();
+		assertThat(rateLimiter.acquire(this.alice, context("test.Service/One", tenant("a")))).isNull();
+		assertThat(rateLimiter.acquire(this.alice, context("test.Service/Two", tenant("a")))).isNull();
+		assertThat(rateLimiter.acquire(this.alice, context("test.Service/One", tenant("a")))).isNotNull();
+	}
+
+	@Test
+	void firstMatchingRuleApplies() {
+		GrpcRateLimiter rateLimiter = new RateLimitConfigurer(new StaticApplicationContext()).methods("test.Slow/*")
+			.limit(1, Duration.ofSeconds(1))
+			.allRequests()
+			.limit(2, Duration.ofSeconds(1))
+			.createRateLimiter();
+		assertThat(rateLimiter.acquire(this.alice, context("test.Slow/Method", new Metadata()))).isNull();
+		assertThat(rateLimiter.acquire(this.alice, context("test.Slow/Method", new Metadata()))).isNotNull();
+		assertThat(rateLimiter.acquire(this.alice, context("test.Fast/Method", new Metadata()))).isNull();
+		assertThat(rateLimiter.acquire(this.alice, context("test.Fast/Method", new Metadata()))).isNull();
+		assertThat(rateLimiter.acquire(this.alice, context("test.Fast/Method", new Metadata()))).isNotNull();
+	}
+
+	@Test
+	void callsMatchingNoRuleAreNotLimited() {
+		GrpcRateLimiter rateLimiter = new RateLimitConfigurer(new StaticApplicationContext()).methods("test.Slow/*")
+			.limit(1, Duration.ofSeconds(1))
+			.createRateLimiter();
+		for (int i = 0; i < 3; i++) {
+			assertThat(rateLimiter.acquire(this.alice, context("test.Fast/Method", new Metadata()))).isNull();
+		}
+	}
+
+	@Test
+	void usesRateLimitStoreBean() {
+		StaticApplicationContext applicationContext = new StaticApplicationContext();
+		RateLimitStore store = (key, capacity, refillPeriod) -> Duration.ofSeconds(5);
+		applicationContext.getBeanFactory().registerSingleton("rateLimitStore", store);
+		GrpcRateLimiter rateLimiter = new RateLimitConfigurer(applicationContext).allRequests()
+			.limit(1, Duration.ofSeconds(1))
+			.createRateLimiter();
+		assertThat(rateLimiter.acquire(this.alice, context("test.Service/Method", new Metadata())))
+			.isEqualTo(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void usesInMemoryStoreWhenRateLimitStoreBeanIsNotUnique() {
+		StaticApplicationContext applicationContext = new StaticApplicationContext();
+		RateLimitStore store = (key, capacity, refillPeriod) -> Duration.ofSeconds(5);
+		applicationContext.getBeanFactory().registerSingleton("rateLimitStore", store);
+		applicationContext.getBeanFactory().registerSingleton("otherRateLimitStore", store);
+		GrpcRateLimiter rateLimiter = new RateLimitConfigurer(applicationContext).allRequests()
+			.limit(1, Duration.ofSeconds(1))
+			.createRateLimiter();
+		assertThat(rateLimiter.acquire(this.alice, context("test.Service/Method", new Metadata()))).isNull();
+		assertThat(rateLimiter.acquire(this.alice, context("test.Service/Method", new Metadata()))).isNotNull();
+	}
+
+	@Test
+	void ruleWithoutLimitFailsWhenConfigured() {
+		RateLimitConfigurer configurer = new RateLimitConfigurer(new StaticApplicationContext()).allRequests()
+			.limit(1, Duration.ofSeconds(1));
+		configurer.methods("test.Slow/*").perMethod();
+		assertThatIllegalStateException().isThrownBy(configurer::createRateLimiter)
+			.withMessageContaining("Rate limit rule 1 has no limit");
+	}
+
+	private Metadata tenant(String tenant) {
+		Metadata headers = new Metadata();
+		headers.put(TENANT_KEY, tenant);
+		return headers;
+	}
+
+	private CallContext context(String fullMethodName, Metadata headers) {
+		MethodDescriptor.Marshaller<Object> marshaller = mock();
+		MethodDescriptor<Object, Object> method = MethodDescriptor.newBuilder(marshaller, marshaller)
+			.setType(MethodDescriptor.MethodType.UNARY)
+			.setFullMethodName(fullMethodName)
+			.build();
+		return new CallContext(headers, Attributes.EMPTY, method);
+	}
+
+}
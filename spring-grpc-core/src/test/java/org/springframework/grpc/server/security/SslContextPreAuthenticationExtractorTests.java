@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSession;
+import javax.security.auth.x500.X500Principal;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.security.core.Authentication;
+
+import io.grpc.Attributes;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+
+/**
+ * Tests for {@link SslContextPreAuthenticationExtractor}.
+ */
+class SslContextPreAuthenticationExtractorTests {
+
+	private final SslContextPreAuthenticationExtractor extractor = new SslContextPreAuthenticationExtractor();
+
+	private final MethodDescriptor<?, ?> method = mock();
+
+	@Test
+	void principalIsExtractedOncePerSession() throws Exception {
+		X509Certificate certificate = mock();
+		given(certificate.getSubjectX500Principal()).willReturn(new X500Principal("CN=alice, O=Spring"));
+		SSLSession session = session();
+		given(session.getPeerCertificates()).willReturn(new Certificate[] { certificate });
+		Authentication first = this.extractor.extract(new Metadata(), attributes(session), this.method);
+		Authentication second = this.extractor.extract(new Metadata(), attributes(session), this.method);
+		assertThat(first).isNotNull().isNotSameAs(second);
+		assertThat(second).isNotNull();
+		assertThat(first.getPrincipal()).isEqualTo("alice");
+		assertThat(second.getPrincipal()).isEqualTo("alice");
+		assertThat(second.getCredentials()).isSameAs(certificate);
+		then(session).should().getPeerCertificates();
+		then(certificate).should().getSubjectX500Principal();
+	}
+
+	@Test
+	void missingPeerCertificateIsRememberedForSession() throws Exception {
+		SSLSession session = session();
+		given(session.getPeerCertificates()).willThrow(new SSLPeerUnverifiedException("none"));
+		assertThat(this.extractor.extract(new Metadata(), attributes(session), this.method)).isNull();
+		assertThat(this.extractor.extract(new Metadata(), attributes(session), this.method)).isNull();
+		then(session).should().getPeerCertificates();
+	}
+
+	@Test
+	void withoutSessionReturnsNull() {
+		assertThat(this.extractor.extract(new Metadata(), Attributes.EMPTY, this.method)).isNull();
+	}
+
+	private static SSLSession session() {
+		Map<String, Object> values = new HashMap<>();
+		SSLSession session = mock();
+		willAnswer((invocation) -> values.put(invocation.getArgument(0), invocation.getArgument(1))).given(session)
+			.putValue(anyString(), any());
+		willAnswer((invocation) -> values.get(invocation.getArgument(0))).given(session).getValue(anyString());
+		return session;
+	}
+
+	private static Attributes attributes(SSLSession session) {
+		return Attributes.newBuilder().set(Grpc.TRANSPORT_ATTR_SSL_SESSION, session).build();
+	}
+
+}
@@ -47,6 +47,8 @@ import org.springframework.grpc.server.GlobalServerInterceptor;
 import org.springframework.grpc.server.lifecycle.GrpcServerLifecycle;
 
 import io.grpc.BindableService;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCallHandler;
 import io.grpc.ServerInterceptor;
 import io.grpc.ServerInterceptors;
 import io.grpc.ServerServiceDefinition;
@@ -131,6 +133,37 @@ class DefaultGrpcServiceConfigurerTests {
 		}
 	}
 
+	@Test
+	void whenMethodInterceptorFiltersSetThenInterceptorsAreBoundPerMethod() {
+		var context = this.appContextForConfigurations(List.of());
+		var configurer = context.getBean(DefaultGrpcServiceConfigurer.class);
+		ServerInterceptor interceptor = mock();
+		configurer.setMethodInterceptorFilters(List.of((candidate, method) -> candidate == interceptor
+				&& method.getMethodDescriptor().getBareMethodName().equals("Secured")));
+		context.registerBean("interceptor", ServerInterceptor.class, () -> interceptor);
+		ServerCallHandler<String, String> handler = mock();
+		ServerServiceDefinition serviceDef = ServerServiceDefinition.builder("test.Service")
+			.addMethod(methodDescriptor("Secured"), handler)
+			.addMethod(methodDescriptor("Open"), handler)
+			.build();
+		BindableService service = () -> serviceDef;
+		var serviceInfo = new GrpcServiceInfo(new Class[0], new String[] { "interceptor" }, false);
+		ServerServiceDefinition configured = configurer.configure(new GrpcServiceSpec(service, serviceInfo), null);
+		assertThat(configured.getServiceDescriptor()).isSameAs(serviceDef.getServiceDescriptor());
+		assertThat(configured.getMethod("test.Service/Secured").getServerCallHandler()).isNotSameAs(handler);
+		assertThat(configured.getMethod("test.Service/Open").getServerCallHandler()).isSameAs(handler);
+	}
+
+	private static MethodDescriptor<String, String> methodDescriptor(String name) {
+		MethodDescriptor.Marshaller<String> marshaller = mock();
+		return MethodDescriptor.<String, String>newBuilder()
+			.setType(MethodDescriptor.MethodType.UNARY)
+			.setFullMethodName(MethodDescriptor.generateFullMethodName("test.Service", name))
+			.setRequestMarshaller(marshaller)
+			.setResponseMarshaller(marshaller)
+			.build();
+	}
+
 	@Test
 	void whenNoServiceSpecThenThrowsException() {
 		var context = this.appContextForConfigurations(List.of());
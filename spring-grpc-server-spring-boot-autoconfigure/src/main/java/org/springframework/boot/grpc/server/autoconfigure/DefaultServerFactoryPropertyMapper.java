@@ -16,12 +16,19 @@
 
 package org.springframework.boot.grpc.server.autoconfigure;
 
+import java.io.IOException;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.core.io.Resource;
+import org.springframework.grpc.netty.TlsOptions;
+import org.springframework.grpc.netty.TlsProvider;
 import org.springframework.grpc.server.DefaultGrpcServerFactory;
 import org.springframework.util.unit.DataSize;
 
@@ -52,6 +59,32 @@ class DefaultServerFactoryPropertyMapper<T extends ServerBuilder<T>> {
 		customizeInboundLimits(serverBuilder, map);
 	}
 
+	/**
+	 * Determine the TLS options of a Netty server from the SSL properties.
+	 * @return the TLS options or {@code null} to use the generic TLS credentials
+	 */
+	@Nullable
+	TlsOptions determineTlsOptions() {
+		GrpcServerProperties.Ssl ssl = this.properties.getSsl();
+		if (ssl.getProvider() == null && ssl.getSessionCacheSize() == null && ssl.getSessionTimeout() == null
+				&& ssl.getSessionTicketKeys().isEmpty()) {
+			return null;
+		}
+		TlsProvider provider = (ssl.getProvider() != null) ? ssl.getProvider() : TlsProvider.JDK;
+		int sessionCacheSize = (ssl.getSessionCacheSize() != null) ? ssl.getSessionCacheSize() : 0;
+		List<byte[]> sessionTicketKeys = ssl.getSessionTicketKeys().stream().map(this::readKey).toList();
+		return new TlsOptions(provider, sessionCacheSize, ssl.getSessionTimeout(), sessionTicketKeys);
+	}
+
+	private byte[] readKey(Resource resource) {
+		try {
+			return resource.getContentAsByteArray();
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Failed to read session ticket key from " + resource, ex);
+		}
+	}
+
 	/**
 	 * Map the keep-alive properties to the server factory's server builder.
 	 * @param serverBuilder the builder
@@ -16,24 +16,30 @@
 
 package org.springframework.boot.grpc.server.autoconfigure;
 
+import java.util.concurrent.Executor;
+
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.Ordered;
+import org.springframework.grpc.marshaller.MarshallerDecorator;
+import org.springframework.grpc.marshaller.ZeroCopyMarshallerDecorator;
 import org.springframework.grpc.server.ServerBuilderCustomizer;
 import org.springframework.grpc.server.exception.ReactiveStubBeanDefinitionRegistrar;
 import org.springframework.grpc.server.service.DefaultGrpcServiceConfigurer;
 import org.springframework.grpc.server.service.DefaultGrpcServiceDiscoverer;
 import org.springframework.grpc.server.service.GrpcServiceConfigurer;
 import org.springframework.grpc.server.service.GrpcServiceDiscoverer;
+import org.springframework.grpc.server.service.ServerInterceptorMethodFilter;
 
 import io.grpc.BindableService;
 import io.grpc.CompressorRegistry;
@@ -67,8 +73,13 @@ public final class GrpcServerAutoConfiguration {
 
 	@ConditionalOnMissingBean(GrpcServiceConfigurer.class)
 	@Bean
-	DefaultGrpcServiceConfigurer grpcServiceConfigurer(ApplicationContext applicationContext) {
-		return new DefaultGrpcServiceConfigurer(applicationContext);
+	DefaultGrpcServiceConfigurer grpcServiceConfigurer(ApplicationContext applicationContext,
+			ObjectProvider<MarshallerDecorator> marshallerDecorators,
+			ObjectProvider<ServerInterceptorMethodFilter> methodInterceptorFilters) {
+		DefaultGrpcServiceConfigurer configurer = new DefaultGrpcServiceConfigurer(applicationContext);
+		configurer.setMarshallerDecorators(marshallerDecorators.orderedStream().toList());
+		configurer.setMethodInterceptorFilters(methodInterceptorFilters.orderedStream().toList());
+		return configurer;
 	}
 
 	@ConditionalOnMissingBean(GrpcServiceDiscoverer.class)
@@ -93,17 +104,39 @@ public final class GrpcServerAutoConfiguration {
 	@ConditionalOnBean(GrpcServerExecutorProvider.class)
 	@Bean
 	<T extends ServerBuilder<T>> ServerBuilderCustomizer<T> executorServerConfigurer(
-			GrpcServerExecutorProvider provider) {
-		return new ServerBuilderCustomizerImplementation<>(provider);
+			GrpcServerExecutorProvider provider, ObjectProvider<GrpcServerExecutorDecorator> executorDecorators) {
+		return new ServerBuilderCustomizerImplementation<>(provider, executorDecorators);
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(name = "spring.grpc.server.zero-copy.enabled", havingValue = "true")
+	static class ZeroCopyMarshallingConfiguration {
+
+		@Bean
+		ZeroCopyMarshallerDecorator grpcServerZeroCopyMarshallerDecorator(GrpcServerProperties properties) {
+			return new ZeroCopyMarshallerDecorator(properties.getZeroCopy().getMinMessageSize().toBytes());
+		}
+
+		@Bean
+		<T extends ServerBuilder<T>> ServerBuilderCustomizer<T> grpcServerZeroCopyReleaseCustomizer(
+				ZeroCopyMarshallerDecorator decorator) {
+			// Registered on the server so that it applies to every service
+			return (builder) -> builder.intercept(decorator.getServerInterceptor());
+		}
+
 	}
 
 	private final class ServerBuilderCustomizerImplementation<T extends ServerBuilder<T>>
-			implements ServerBuilderCustomizer<T>, Ordered {
+			implements ListenerServerBuilderCustomizer<T>, Ordered {
 
 		private final GrpcServerExecutorProvider provider;
 
-		private ServerBuilderCustomizerImplementation(GrpcServerExecutorProvider provider) {
+		private final ObjectProvider<GrpcServerExecutorDecorator> executorDecorators;
+
+		private ServerBuilderCustomizerImplementation(GrpcServerExecutorProvider provider,
+				ObjectProvider<GrpcServerExecutorDecorator> executorDecorators) {
 			this.provider = provider;
+			this.executorDecorators = executorDecorators;
 		}
 
 		@Override
@@ -112,8 +145,12 @@ public final class GrpcServerAutoConfiguration {
 		}
 
 		@Override
-		public void customize(T builder) {
-			builder.executor(this.provider.getExecutor());
+		public void customize(T builder, String address) {
+			Executor executor = this.provider.getExecutor();
+			for (GrpcServerExecutorDecorator decorator : this.executorDecorators.orderedStream().toList()) {
+				executor = decorator.decorate(builder, address, executor);
+			}
+			builder.executor(executor);
 		}
 
 	}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.server.autoconfigure;
+
+import java.util.concurrent.Executor;
+
+import io.grpc.ServerBuilder;
+
+/**
+ * Decorates the {@link Executor} supplied by the {@link GrpcServerExecutorProvider}
+ * before it is set on the server builder.
+ *
+ * @author Chris Bono
+ */
+@FunctionalInterface
+interface GrpcServerExecutorDecorator {
+
+	/**
+	 * Decorate the executor of the server being built.
+	 * @param builder the server builder
+	 * @param address the address of the listener the server is built for
+	 * @param executor the executor to decorate
+	 * @return the decorated executor
+	 */
+	Executor decorate(ServerBuilder<?> builder, String address, Executor executor);
+
+}
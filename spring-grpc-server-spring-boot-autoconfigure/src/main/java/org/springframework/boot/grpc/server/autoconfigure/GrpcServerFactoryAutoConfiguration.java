@@ -64,7 +64,8 @@ public final class GrpcServerFactoryAutoConfiguration {
 		@Configuration(proxyBeanMethods = false)
 		@Import({ GrpcServerFactoryConfigurations.ShadedNettyServerFactoryConfiguration.class,
 				GrpcServerFactoryConfigurations.NettyServerFactoryConfiguration.class,
-				GrpcServerFactoryConfigurations.InProcessServerFactoryConfiguration.class })
+				GrpcServerFactoryConfigurations.InProcessServerFactoryConfiguration.class,
+				GrpcServerListenerRegistrations.class })
 		static class NettyServerFactoryConfiguration {
 
 		}
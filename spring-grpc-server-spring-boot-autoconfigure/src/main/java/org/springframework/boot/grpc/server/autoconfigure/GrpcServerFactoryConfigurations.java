@@ -22,6 +22,8 @@ import java.util.Objects;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.TrustManagerFactory;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -33,6 +35,8 @@ import org.springframework.boot.ssl.SslBundles;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.grpc.internal.ReloadableKeyManagerFactory;
+import org.springframework.grpc.internal.ReloadableTrustManagerFactory;
 import org.springframework.grpc.server.GrpcServerFactory;
 import org.springframework.grpc.server.InProcessGrpcServerFactory;
 import org.springframework.grpc.server.NettyGrpcServerFactory;
@@ -54,13 +58,36 @@ import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
  *
  * @author Chris Bono
  */
-class GrpcServerFactoryConfigurations {
+final class GrpcServerFactoryConfigurations {
+
+	private GrpcServerFactoryConfigurations() {
+	}
 
 	private static void applyServerFactoryCustomizers(ObjectProvider<GrpcServerFactoryCustomizer> customizers,
 			GrpcServerFactory factory) {
 		customizers.orderedStream().forEach((customizer) -> customizer.customize(factory));
 	}
 
+	/**
+	 * Swap the key and trust material of the server when the SSL bundle is updated, so
+	 * that certificates can be rotated without a restart. Only new TLS handshakes use the
+	 * updated bundle.
+	 * @param bundles the SSL bundles
+	 * @param bundleName the name of the bundle used by the server
+	 * @param keyManager the key manager of the server
+	 * @param trustManager the trust manager of the server or {@code null} if client
+	 * certificates are not verified against the bundle
+	 */
+	private static void reloadOnUpdate(SslBundles bundles, String bundleName, ReloadableKeyManagerFactory keyManager,
+			@Nullable ReloadableTrustManagerFactory trustManager) {
+		bundles.addBundleUpdateHandler(bundleName, (bundle) -> {
+			keyManager.reload(bundle.getManagers().getKeyManagerFactory());
+			if (trustManager != null) {
+				trustManager.reload(bundle.getManagers().getTrustManagerFactory());
+			}
+		});
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@ConditionalOnClass(io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder.class)
 	@ConditionalOnMissingBean(value = GrpcServerFactory.class, ignored = InProcessGrpcServerFactory.class)
@@ -69,26 +96,40 @@ class GrpcServerFactoryConfigurations {
 	@EnableConfigurationProperties(GrpcServerProperties.class)
 	static class ShadedNettyServerFactoryConfiguration {
 
-		@Bean
-		ShadedNettyGrpcServerFactory shadedNettyGrpcServerFactory(GrpcServerProperties properties,
-				GrpcServiceDiscoverer serviceDiscoverer, GrpcServiceConfigurer serviceConfigurer,
-				ServerBuilderCustomizers serverBuilderCustomizers, SslBundles bundles,
-				ObjectProvider<GrpcServerFactoryCustomizer> customizers) {
+		static ShadedNettyGrpcServerFactory createShadedNettyServerFactory(String address,
+				GrpcServerProperties properties, ServerBuilderCustomizers serverBuilderCustomizers,
+				SslBundles bundles) {
 			ShadedNettyServerFactoryPropertyMapper mapper = new ShadedNettyServerFactoryPropertyMapper(properties);
 			List<ServerBuilderCustomizer<io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder>> builderCustomizers = List
-				.of(mapper::customizeServerBuilder, serverBuilderCustomizers::customize);
+				.of(mapper::customizeServerBuilder, (builder) -> serverBuilderCustomizers.customize(builder, address));
 			KeyManagerFactory keyManager = null;
 			TrustManagerFactory trustManager = null;
 			if (properties.getSsl().determineEnabled()) {
 				String bundleName = properties.getSsl().getBundle();
 				Assert.notNull(bundleName, () -> "SSL bundleName must not be null");
 				SslBundle bundle = bundles.getBundle(bundleName);
-				keyManager = bundle.getManagers().getKeyManagerFactory();
-				trustManager = properties.getSsl().isSecure() ? bundle.getManagers().getTrustManagerFactory()
+				ReloadableKeyManagerFactory reloadableKeyManager = new ReloadableKeyManagerFactory(
+						bundle.getManagers().getKeyManagerFactory());
+				ReloadableTrustManagerFactory reloadableTrustManager = properties.getSsl().isSecure()
+						? new ReloadableTrustManagerFactory(bundle.getManagers().getTrustManagerFactory()) : null;
+				reloadOnUpdate(bundles, bundleName, reloadableKeyManager, reloadableTrustManager);
+				keyManager = reloadableKeyManager;
+				trustManager = (reloadableTrustManager != null) ? reloadableTrustManager
 						: io.grpc.netty.shaded.io.netty.handler.ssl.util.InsecureTrustManagerFactory.INSTANCE;
 			}
-			ShadedNettyGrpcServerFactory factory = new ShadedNettyGrpcServerFactory(properties.determineAddress(),
-					builderCustomizers, keyManager, trustManager, properties.getSsl().getClientAuth());
+			ShadedNettyGrpcServerFactory factory = new ShadedNettyGrpcServerFactory(address, builderCustomizers,
+					keyManager, trustManager, properties.getSsl().getClientAuth());
+			mapper.customizeServerFactory(factory);
+			return factory;
+		}
+
+		@Bean
+		ShadedNettyGrpcServerFactory shadedNettyGrpcServerFactory(GrpcServerProperties properties,
+				GrpcServiceDiscoverer serviceDiscoverer, GrpcServiceConfigurer serviceConfigurer,
+				ServerBuilderCustomizers serverBuilderCustomizers, SslBundles bundles,
+				ObjectProvider<GrpcServerFactoryCustomizer> customizers) {
+			ShadedNettyGrpcServerFactory factory = createShadedNettyServerFactory(properties.determineAddress(),
+					properties, serverBuilderCustomizers, bundles);
 			applyServerFactoryCustomizers(customizers, factory);
 			serviceDiscoverer.findServices()
 				.stream()
@@ -115,26 +156,39 @@ class GrpcServerFactoryConfigurations {
 	@EnableConfigurationProperties(GrpcServerProperties.class)
 	static class NettyServerFactoryConfiguration {
 
-		@Bean
-		NettyGrpcServerFactory nettyGrpcServerFactory(GrpcServerProperties properties,
-				GrpcServiceDiscoverer serviceDiscoverer, GrpcServiceConfigurer serviceConfigurer,
-				ServerBuilderCustomizers serverBuilderCustomizers, SslBundles bundles,
-				ObjectProvider<GrpcServerFactoryCustomizer> customizers) {
+		static NettyGrpcServerFactory createNettyServerFactory(String address, GrpcServerProperties properties,
+				ServerBuilderCustomizers serverBuilderCustomizers, SslBundles bundles) {
 			NettyServerFactoryPropertyMapper mapper = new NettyServerFactoryPropertyMapper(properties);
 			List<ServerBuilderCustomizer<NettyServerBuilder>> builderCustomizers = List
-				.of(mapper::customizeServerBuilder, serverBuilderCustomizers::customize);
+				.of(mapper::customizeServerBuilder, (builder) -> serverBuilderCustomizers.customize(builder, address));
 			KeyManagerFactory keyManager = null;
 			TrustManagerFactory trustManager = null;
 			if (properties.getSsl().determineEnabled()) {
 				String bundleName = properties.getSsl().getBundle();
 				Assert.notNull(bundleName, () -> "SSL bundleName must not be null");
 				SslBundle bundle = bundles.getBundle(bundleName);
-				keyManager = bundle.getManagers().getKeyManagerFactory();
-				trustManager = properties.getSsl().isSecure() ? bundle.getManagers().getTrustManagerFactory()
+				ReloadableKeyManagerFactory reloadableKeyManager = new ReloadableKeyManagerFactory(
+						bundle.getManagers().getKeyManagerFactory());
+				ReloadableTrustManagerFactory reloadableTrustManager = properties.getSsl().isSecure()
+						? new ReloadableTrustManagerFactory(bundle.getManagers().getTrustManagerFactory()) : null;
+				reloadOnUpdate(bundles, bundleName, reloadableKeyManager, reloadableTrustManager);
+				keyManager = reloadableKeyManager;
+				trustManager = (reloadableTrustManager != null) ? reloadableTrustManager
 						: InsecureTrustManagerFactory.INSTANCE;
 			}
-			NettyGrpcServerFactory factory = new NettyGrpcServerFactory(properties.determineAddress(),
-					builderCustomizers, keyManager, trustManager, properties.getSsl().getClientAuth());
+			NettyGrpcServerFactory factory = new NettyGrpcServerFactory(address, builderCustomizers, keyManager,
+					trustManager, properties.getSsl().getClientAuth());
+			mapper.customizeServerFactory(factory);
+			return factory;
+		}
+
+		@Bean
+		NettyGrpcServerFactory nettyGrpcServerFactory(GrpcServerProperties properties,
+				GrpcServiceDiscoverer serviceDiscoverer, GrpcServiceConfigurer serviceConfigurer,
+				ServerBuilderCustomizers serverBuilderCustomizers, SslBundles bundles,
+				ObjectProvider<GrpcServerFactoryCustomizer> customizers) {
+			NettyGrpcServerFactory factory = createNettyServerFactory(properties.determineAddress(), properties,
+					serverBuilderCustomizers, bundles);
 			applyServerFactoryCustomizers(customizers, factory);
 			serviceDiscoverer.findServices()
 				.stream()
@@ -160,6 +214,20 @@ class GrpcServerFactoryConfigurations {
 	@EnableConfigurationProperties(GrpcServerProperties.class)
 	static class InProcessServerFactoryConfiguration {
 
+		static InProcessGrpcServerFactory createInProcessServerFactory(String name, GrpcServerProperties properties,
+				ServerBuilderCustomizers serverBuilderCustomizers,
+				ObjectProvider<ServerInterceptorFilter> interceptorFilter,
+				ObjectProvider<ServerServiceDefinitionFilter> serviceFilter) {
+			var mapper = new InProcessServerFactoryPropertyMapper(properties);
+			List<ServerBuilderCustomizer<InProcessServerBuilder>> builderCustomizers = List.of(
+					mapper::customizeServerBuilder,
+					(builder) -> serverBuilderCustomizers.customize(builder, "in-process:" + name));
+			InProcessGrpcServerFactory factory = new InProcessGrpcServerFactory(name, builderCustomizers);
+			factory.setInterceptorFilter(interceptorFilter.getIfAvailable());
+			factory.setServiceFilter(serviceFilter.getIfAvailable());
+			return factory;
+		}
+
 		@Bean
 		InProcessGrpcServerFactory inProcessGrpcServerFactory(GrpcServerProperties properties,
 				GrpcServiceDiscoverer serviceDiscoverer, GrpcServiceConfigurer serviceConfigurer,
@@ -167,14 +235,10 @@ class GrpcServerFactoryConfigurations {
 				ObjectProvider<ServerInterceptorFilter> interceptorFilter,
 				ObjectProvider<ServerServiceDefinitionFilter> serviceFilter,
 				ObjectProvider<GrpcServerFactoryCustomizer> customizers) {
-			var mapper = new InProcessServerFactoryPropertyMapper(properties);
-			List<ServerBuilderCustomizer<InProcessServerBuilder>> builderCustomizers = List
-				.of(mapper::customizeServerBuilder, serverBuilderCustomizers::customize);
 			String inProcessName = Objects.requireNonNull(properties.getInprocess().getName(),
 					"the 'inprocess.name' property must not be null");
-			InProcessGrpcServerFactory factory = new InProcessGrpcServerFactory(inProcessName, builderCustomizers);
-			factory.setInterceptorFilter(interceptorFilter.getIfAvailable());
-			factory.setServiceFilter(serviceFilter.getIfAvailable());
+			InProcessGrpcServerFactory factory = createInProcessServerFactory(inProcessName, properties,
+					serverBuilderCustomizers, interceptorFilter, serviceFilter);
 			applyServerFactoryCustomizers(customizers, factory);
 			serviceDiscoverer.findServices()
 				.stream()
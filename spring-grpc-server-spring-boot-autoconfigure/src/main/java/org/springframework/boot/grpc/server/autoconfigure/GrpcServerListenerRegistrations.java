@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.server.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.grpc.server.autoconfigure.GrpcServerFactoryConfigurations.InProcessServerFactoryConfiguration;
+import org.springframework.boot.grpc.server.autoconfigure.GrpcServerFactoryConfigurations.NettyServerFactoryConfiguration;
+import org.springframework.boot.grpc.server.autoconfigure.GrpcServerFactoryConfigurations.ShadedNettyServerFactoryConfiguration;
+import org.springframework.boot.grpc.server.autoconfigure.GrpcServerProperties.Listener;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.grpc.server.DefaultGrpcServerFactory;
+import org.springframework.grpc.server.GrpcServerFactory;
+import org.springframework.grpc.server.LocalGrpcServer;
+import org.springframework.grpc.server.ServerServiceDefinitionFilter;
+import org.springframework.grpc.server.lifecycle.GrpcServerLifecycle;
+import org.springframework.grpc.server.service.GrpcServiceConfigurer;
+import org.springframework.grpc.server.service.GrpcServiceDiscoverer;
+import org.springframework.grpc.server.service.ServerInterceptorFilter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Registers a {@link GrpcServerLifecycle} for each of the additional listeners configured
+ * with {@code spring.grpc.server.listeners}. Each listener inherits the server settings,
+ * overriding its address, keep-alive and inbound limits, and serves the same services
+ * with the same interceptors as the main server. Also registers the
+ * {@link LocalGrpcServer} when {@code spring.grpc.server.inprocess.short-circuit} is
+ * enabled, listing the addresses that do not use TLS.
+ *
+ * @author Chris Bono
+ */
+class GrpcServerListenerRegistrations implements ImportBeanDefinitionRegistrar {
+
+	private static final String PREFIX = "spring.grpc.server";
+
+	private static final String IN_PROCESS_PREFIX = "in-process:";
+
+	private static final String SHADED_NETTY_SERVER_BUILDER = "io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder";
+
+	private static final String NETTY_SERVER_BUILDER = "io.grpc.netty.NettyServerBuilder";
+
+	private final Environment environment;
+
+	private final BeanFactory beanFactory;
+
+	GrpcServerListenerRegistrations(Environment environment, BeanFactory beanFactory) {
+		this.environment = environment;
+		this.beanFactory = beanFactory;
+	}
+
+	@Override
+	public void registerBeanDefinitions(AnnotationMetadata metadata, BeanDefinitionRegistry registry) {
+		Binder binder = Binder.get(this.environment);
+		List<Listener> listeners = binder.bind(PREFIX + ".listeners", Bindable.listOf(Listener.class))
+			.orElseGet(List::of);
+		List<GrpcServerProperties> servers = new ArrayList<>();
+		servers.add(bindServerProperties(binder));
+		for (int i = 0; i < listeners.size(); i++) {
+			String name = PREFIX + ".listeners[" + i + "]";
+			if (listeners.get(i).getAddress() == null) {
+				throw new IllegalStateException("The '" + name + ".address' property must be set");
+			}
+			GrpcServerProperties properties = bindServerProperties(binder);
+			binder.bind(name, Bindable.ofInstance(properties));
+			registerLifecycle(registry, "grpcServerListener" + i + "Lifecycle", properties);
+			servers.add(properties);
+		}
+		if (servers.get(0).getInprocess().isShortCircuit()) {
+			registerShortCircuit(registry, binder, servers);
+		}
+	}
+
+	private void registerShortCircuit(BeanDefinitionRegistry registry, Binder binder,
+			List<GrpcServerProperties> servers) {
+		GrpcServerProperties serverProperties = servers.get(0);
+		// In-process calls have no TLS session, so clients of a secured address could not
+		// be authenticated by their certificate
+		List<String> addresses = servers.stream()
+			.filter((properties) -> !properties.getSsl().determineEnabled())
+			.map(GrpcServerProperties::determineAddress)
+			.toList();
+		if (addresses.isEmpty()) {
+			return;
+		}
+		// Reuse the in-process server if there is one, otherwise start one with the same
+		// services
+		String inProcessName = serverProperties.getInprocess().getName();
+		if (inProcessName == null) {
+			inProcessName = "grpc-server-short-circuit-" + UUID.randomUUID();
+			GrpcServerProperties properties = bindServerProperties(binder);
+			properties.setAddress(IN_PROCESS_PREFIX + inProcessName);
+			registerLifecycle(registry, "grpcServerShortCircuitLifecycle", properties);
+		}
+		RootBeanDefinition localServer = new RootBeanDefinition(LocalGrpcServer.class);
+		localServer.getConstructorArgumentValues().addIndexedArgumentValue(0, inProcessName);
+		localServer.getConstructorArgumentValues().addIndexedArgumentValue(1, addresses);
+		registry.registerBeanDefinition("grpcLocalServer", localServer);
+	}
+
+	private GrpcServerProperties bindServerProperties(Binder binder) {
+		return binder.bind(PREFIX, GrpcServerProperties.class).orElseGet(GrpcServerProperties::new);
+	}
+
+	private void registerLifecycle(BeanDefinitionRegistry registry, String beanName, GrpcServerProperties properties) {
+		RootBeanDefinition factory = new RootBeanDefinition(GrpcServerFactory.class,
+				() -> createServerFactory(properties));
+		RootBeanDefinition lifecycle = new RootBeanDefinition(GrpcServerLifecycle.class);
+		lifecycle.getConstructorArgumentValues().addIndexedArgumentValue(0, factory);
+		lifecycle.getConstructorArgumentValues().addIndexedArgumentValue(1, properties.getShutdownGracePeriod());
+		lifecycle.setAutowireMode(AutowireCapableBeanFactory.AUTOWIRE_CONSTRUCTOR);
+		lifecycle.getPropertyValues().add("listener", true);
+		registry.registerBeanDefinition(beanName, lifecycle);
+	}
+
+	private GrpcServerFactory createServerFactory(GrpcServerProperties properties) {
+		DefaultGrpcServerFactory<?> factory = newServerFactory(properties.determineAddress(), properties);
+		this.beanFactory.getBeanProvider(GrpcServerFactoryCustomizer.class)
+			.orderedStream()
+			.forEach((customizer) -> customizer.customize(factory));
+		GrpcServiceDiscoverer serviceDiscoverer = this.beanFactory.getBean(GrpcServiceDiscoverer.class);
+		GrpcServiceConfigurer serviceConfigurer = this.beanFactory.getBean(GrpcServiceConfigurer.class);
+		serviceDiscoverer.findServices()
+			.stream()
+			.map((serviceSpec) -> serviceConfigurer.configure(serviceSpec, factory))
+			.forEach(factory::addService);
+		return factory;
+	}
+
+	private DefaultGrpcServerFactory<?> newServerFactory(String address, GrpcServerProperties properties) {
+		ServerBuilderCustomizers serverBuilderCustomizers = this.beanFactory.getBean(ServerBuilderCustomizers.class);
+		if (address.startsWith(IN_PROCESS_PREFIX)) {
+			return InProcessServerFactoryConfiguration.createInProcessServerFactory(
+					address.substring(IN_PROCESS_PREFIX.length()), properties, serverBuilderCustomizers,
+					this.beanFactory.getBeanProvider(ServerInterceptorFilter.class),
+					this.beanFactory.getBeanProvider(ServerServiceDefinitionFilter.class));
+		}
+		if (isPresent(SHADED_NETTY_SERVER_BUILDER)) {
+			return ShadedNettyServerFactoryConfiguration.createShadedNettyServerFactory(address, properties,
+					serverBuilderCustomizers, this.beanFactory.getBean(SslBundles.class));
+		}
+		if (isPresent(NETTY_SERVER_BUILDER)) {
+			return NettyServerFactoryConfiguration.createNettyServerFactory(address, properties,
+					serverBuilderCustomizers, this.beanFactory.getBean(SslBundles.class));
+		}
+		throw new IllegalStateException("No Netty server available for listener address '" + address + "'");
+	}
+
+	private boolean isPresent(String className) {
+		return ClassUtils.isPresent(className, getClass().getClassLoader());
+	}
+
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2012-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.server.autoconfigure;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.grpc.compression.AdaptiveCompressionMetrics;
+import org.springframework.grpc.compression.AdaptiveCompressionPolicy;
+import org.springframework.grpc.compression.CompressionPolicyServerInterceptor;
+import org.springframework.grpc.marshaller.InstrumentedMarshallerDecorator;
+import org.springframework.grpc.marshaller.MicrometerMarshallerMetricsRecorder;
+import org.springframework.grpc.netty.InstrumentedEventLoopGroup;
+import org.springframework.grpc.netty.ShadedNettyAllocatorMetrics;
+import org.springframework.grpc.server.GlobalServerInterceptor;
+import org.springframework.grpc.server.InstrumentedServerExecutor;
+import org.springframework.grpc.server.NettyGrpcServerFactory;
+import org.springframework.grpc.server.ServerBuilderCustomizer;
+import org.springframework.grpc.server.ServerTransportMetrics;
+import org.springframework.grpc.server.ShadedNettyGrpcServerFactory;
+import org.springframework.grpc.server.lifecycle.GrpcServerLifecycleEvent;
+import org.springframework.grpc.server.lifecycle.GrpcServerStartedEvent;
+import org.springframework.grpc.server.lifecycle.GrpcServerTerminatedEvent;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptor;
+import io.grpc.netty.NettyServerBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.netty4.NettyAllocatorMetrics;
+import io.netty.buffer.ByteBufAllocatorMetricProvider;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for gRPC server-side metrics.
+ *
+ * @author Chris Bono
+ * @since 1.1.0
+ */
+@AutoConfiguration(after = { GrpcServerFactoryAutoConfiguration.class, GrpcServerAutoConfiguration.class },
+		afterName = { "org.springframework.boot.micrometer.metrics.autoconfigure.MetricsAutoConfiguration",
+				"org.springframework.boot.micrometer.metrics.autoconfigure.CompositeMeterRegistryAutoConfiguration" })
+@ConditionalOnSpringGrpc
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnGrpcServerEnabled
+@ConditionalOnBean({ MeterRegistry.class, BindableService.class })
+public final class GrpcServerMetricsAutoConfiguration {
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(name = "spring.grpc.server.compression.adaptive.enabled", havingValue = "true")
+	@ConditionalOnBean(CompressionPolicyServerInterceptor.class)
+	static class AdaptiveCompressionMetricsConfiguration {
+
+		@Bean
+		MeterBinder grpcServerAdaptiveCompressionMetrics(CompressionPolicyServerInterceptor interceptor) {
+			return (registry) -> {
+				AdaptiveCompressionPolicy policy = interceptor.getAdaptivePolicy();
+				if (policy != null) {
+					new AdaptiveCompressionMetrics(policy, "grpc.server").bindTo(registry);
+				}
+			};
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(name = "spring.grpc.server.metrics.messages.enabled", havingValue = "true")
+	static class MessageMetricsConfiguration {
+
+		@Bean
+		InstrumentedMarshallerDecorator grpcServerInstrumentedMarshallerDecorator(MeterRegistry meterRegistry) {
+			return new InstrumentedMarshallerDecorator(
+					new MicrometerMarshallerMetricsRecorder(meterRegistry, "grpc.server"));
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(name = "spring.grpc.server.metrics.executor.enabled", havingValue = "true")
+	static class ExecutorMetricsConfiguration {
+
+		@Bean
+		GrpcServerExecutorDecorator grpcServerExecutorMetricsDecorator(MeterRegistry meterRegistry) {
+			return (builder, address, executor) -> new InstrumentedServerExecutor(executor, meterRegistry,
+					ServerNames.of(builder), address);
+		}
+
+		@Bean
+		<T extends ServerBuilder<T>> ServerBuilderCustomizer<T> grpcServerExecutorMetricsCustomizer(
+				MeterRegistry meterRegistry, ObjectProvider<GrpcServerExecutorProvider> executorProvider) {
+			return new InstrumentedDefaultExecutorServerBuilderCustomizer<>(meterRegistry, executorProvider);
+		}
+
+	}
+
+	/**
+	 * Sets an {@link InstrumentedServerExecutor} wrapping an executor of its own on the
+	 * server builder when there is no {@link GrpcServerExecutorProvider} (the executor
+	 * supplied by a provider is instrumented by the {@link GrpcServerExecutorDecorator}
+	 * instead). Each server gets its own executor, which is shut down when that server
+	 * terminates. Runs before the other customizers, so that one setting its own executor
+	 * takes precedence.
+	 *
+	 * @param <T> the type of server builder
+	 */
+	static final class InstrumentedDefaultExecutorServerBuilderCustomizer<T extends ServerBuilder<T>> implements
+			ListenerServerBuilderCustomizer<T>, Ordered, ApplicationListener<GrpcServerLifecycleEvent>, DisposableBean {
+
+		private final MeterRegistry meterRegistry;
+
+		private final ObjectProvider<GrpcServerExecutorProvider> executorProvider;
+
+		// A server is built and started on the same thread, so the executor created for
+		// the builder is handed over to the server when the thread publishes its start
+		private final Map<Thread, ExecutorService> pendingExecutors = new ConcurrentHashMap<>();
+
+		private final Map<Server, ExecutorService> serverExecutors = new ConcurrentHashMap<>();
+
+		InstrumentedDefaultExecutorServerBuilderCustomizer(MeterRegistry meterRegistry,
+				ObjectProvider<GrpcServerExecutorProvider> executorProvider) {
+			this.meterRegistry = meterRegistry;
+			this.executorProvider = executorProvider;
+		}
+
+		@Override
+		public int getOrder() {
+			return Ordered.HIGHEST_PRECEDENCE;
+		}
+
+		@Override
+		public void customize(T builder, String address) {
+			if (this.executorProvider.getIfAvailable() != null) {
+				return;
+			}
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("grpc-server-executor-");
+			threadFactory.setDaemon(true);
+			ExecutorService executor = Executors.newCachedThreadPool(threadFactory);
+			ExecutorService unstarted = this.pendingExecutors.put(Thread.currentThread(), executor);
+			if (unstarted != null) {
+				unstarted.shutdown();
+			}
+			builder.executor(
+					new InstrumentedServerExecutor(executor, this.meterRegistry, ServerNames.of(builder), address));
+		}
+
+		@Override
+		public void onApplicationEvent(GrpcServerLifecycleEvent event) {
+			if (event instanceof GrpcServerStartedEvent) {
+				ExecutorService executor = this.pendingExecutors.remove(Thread.currentThread());
+				if (executor != null) {
+					this.serverExecutors.put(event.getServer(), executor);
+				}
+			}
+			else if (event instanceof GrpcServerTerminatedEvent) {
+				ExecutorService executor = this.serverExecutors.remove(event.getServer());
+				if (executor != null) {
+					executor.shutdown();
+				}
+			}
+		}
+
+		@Override
+		public void destroy() {
+			this.pendingExecutors.values().forEach(ExecutorService::shutdown);
+			this.pendingExecutors.clear();
+			this.serverExecutors.values().forEach(ExecutorService::shutdown);
+			this.serverExecutors.clear();
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(NettyServerBuilder.class)
+	@ConditionalOnBean(NettyGrpcServerFactory.class)
+	static class NettyAllocatorMetricsConfiguration {
+
+		@Bean
+		MeterBinder grpcServerNettyAllocatorMetrics(NettyGrpcServerFactory factory) {
+			return (registry) -> {
+				if (factory.getAllocator() instanceof ByteBufAllocatorMetricProvider allocator) {
+					new NettyAllocatorMetrics(allocator).bindTo(registry);
+				}
+			};
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder.class)
+	@ConditionalOnBean(ShadedNettyGrpcServerFactory.class)
+	static class ShadedNettyAllocatorMetricsConfiguration {
+
+		@Bean
+		MeterBinder grpcServerShadedNettyAllocatorMetrics(ShadedNettyGrpcServerFactory factory) {
+			return (registry) -> {
+				if (factory
+					.getAllocator() instanceof io.grpc.netty.shaded.io.netty.buffer.ByteBufAllocatorMetricProvider allocator) {
+					new ShadedNettyAllocatorMetrics(allocator).bindTo(registry);
+				}
+			};
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(name = "spring.grpc.server.metrics.transport.enabled", havingValue = "true")
+	static class TransportMetricsConfiguration {
+
+		@Bean
+		ServerTransportMetrics grpcServerTransportMetrics(MeterRegistry meterRegistry) {
+			return new ServerTransportMetrics(meterRegistry);
+		}
+
+		@Bean
+		<T extends ServerBuilder<T>> ListenerServerBuilderCustomizer<T> grpcServerTransportMetricsCustomizer(
+				ServerTransportMetrics transportMetrics) {
+			return (builder, address) -> builder
+				.addTransportFilter(transportMetrics.getTransportFilter(ServerNames.of(builder), address));
+		}
+
+		@Bean
+		@GlobalServerInterceptor
+		ServerInterceptor grpcServerStreamMetricsInterceptor(ServerTransportMetrics transportMetrics) {
+			return transportMetrics.getStreamInterceptor();
+		}
+
+		@Configuration(proxyBeanMethods = false)
+		@ConditionalOnClass(NettyServerBuilder.class)
+		@ConditionalOnBean(NettyGrpcServerFactory.class)
+		static class NettyEventLoopMetricsConfiguration {
+
+			// One acceptor thread per SO_REUSEPORT socket, so that replacing the boss
+			// group of the server factory keeps its acceptors
+			@Bean
+			InstrumentedEventLoopGroup grpcServerBossEventLoopGroup(MeterRegistry meterRegistry,
+					GrpcServerProperties properties) {
+				int acceptors = Math.max(1, properties.getNetty().getReusePortAcceptors());
+				return new InstrumentedEventLoopGroup(meterRegistry, "grpc.server", "grpc-server-boss", acceptors);
+			}
+
+			@Bean
+			InstrumentedEventLoopGroup grpcServerWorkerEventLoopGroup(MeterRegistry meterRegistry) {
+				return new InstrumentedEventLoopGroup(meterRegistry, "grpc.server", "grpc-server-worker", 0);
+			}
+
+			@Bean
+			ListenerServerBuilderCustomizer<NettyServerBuilder> grpcServerEventLoopMetricsCustomizer(
+					@Qualifier("grpcServerBossEventLoopGroup") InstrumentedEventLoopGroup bossGroup,
+					@Qualifier("grpcServerWorkerEventLoopGroup") InstrumentedEventLoopGroup workerGroup) {
+				return (builder, address) -> {
+					// Domain socket listeners already use their own epoll event loops
+					if (!address.startsWith("unix:")) {
+						builder.bossEventLoopGroup(bossGroup.getGroup())
+							.workerEventLoopGroup(workerGroup.getGroup())
+							.channelType(workerGroup.getServerChannelType());
+					}
+				};
+			}
+
+		}
+
+	}
+
+	/**
+	 * Names servers after their transport, for tagging their meters.
+	 */
+	static final class ServerNames {
+
+		private ServerNames() {
+		}
+
+		static String of(ServerBuilder<?> builder) {
+			String className = builder.getClass().getName();
+			if (className.startsWith("io.grpc.netty.shaded.")) {
+				return "shaded-netty";
+			}
+			if (className.startsWith("io.grpc.netty.")) {
+				return "netty";
+			}
+			if (className.startsWith("io.grpc.inprocess.")) {
+				return "inprocess";
+			}
+			return builder.getClass().getSimpleName();
+		}
+
+	}
+
+}
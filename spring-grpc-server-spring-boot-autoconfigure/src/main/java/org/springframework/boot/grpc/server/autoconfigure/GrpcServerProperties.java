@@ -19,14 +19,18 @@ package org.springframework.boot.grpc.server.autoconfigure;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.convert.DataSizeUnit;
 import org.springframework.boot.convert.DurationUnit;
+import org.springframework.core.io.Resource;
 import org.springframework.grpc.internal.GrpcUtils;
+import org.springframework.grpc.netty.TlsProvider;
 import org.springframework.util.unit.DataSize;
 import org.springframework.util.unit.DataUnit;
 
@@ -77,14 +81,28 @@ public class GrpcServerProperties {
 	@DurationUnit(ChronoUnit.SECONDS)
 	private Duration shutdownGracePeriod = Duration.ofSeconds(30);
 
+	private final Compression compression = new Compression();
+
 	private final Health health = new Health();
 
 	private final Inprocess inprocess = new Inprocess();
 
 	private final KeepAlive keepAlive = new KeepAlive();
 
+	/**
+	 * Additional listeners serving the same services as the server, each on its own
+	 * address and with its own keep-alive and inbound limits.
+	 */
+	private final List<Listener> listeners = new ArrayList<>();
+
+	private final LoadReporting loadReporting = new LoadReporting();
+
+	private final Netty netty = new Netty();
+
 	private final Ssl ssl = new Ssl();
 
+	private final ZeroCopy zeroCopy = new ZeroCopy();
+
 	public @Nullable String getAddress() {
 		return this.address;
 	}
@@ -142,6 +160,10 @@ public class GrpcServerProperties {
 		this.shutdownGracePeriod = shutdownGracePeriod;
 	}
 
+	public Compression getCompression() {
+		return this.compression;
+	}
+
 	public Health getHealth() {
 		return this.health;
 	}
@@ -154,10 +176,171 @@ public class GrpcServerProperties {
 		return this.keepAlive;
 	}
 
+	public List<Listener> getListeners() {
+		return this.listeners;
+	}
+
+	public LoadReporting getLoadReporting() {
+		return this.loadReporting;
+	}
+
+	public Netty getNetty() {
+		return this.netty;
+	}
+
 	public Ssl getSsl() {
 		return this.ssl;
 	}
 
+	public ZeroCopy getZeroCopy() {
+		return this.zeroCopy;
+	}
+
+	public static class Compression {
+
+		private final Adaptive adaptive = new Adaptive();
+
+		/**
+		 * Whether to advertise the registered decompressors in the 'grpc-accept-encoding'
+		 * header so that peers can compress the requests they send.
+		 */
+		private boolean advertiseDecompressors;
+
+		/**
+		 * Map of response compression encodings (e.g. 'gzip' or 'zstd') keyed by full
+		 * method name ('[package.Service/Method]'), service ('[package.Service/*]') or
+		 * '[*]' for all methods.
+		 */
+		private final Map<String, String> methods = new LinkedHashMap<>();
+
+		/**
+		 * Minimum size of a response message for it to be compressed.
+		 */
+		@DataSizeUnit(DataUnit.BYTES)
+		private DataSize minMessageSize = DataSize.ofKilobytes(1);
+
+		private final Zstd zstd = new Zstd();
+
+		public Adaptive getAdaptive() {
+			return this.adaptive;
+		}
+
+		public boolean isAdvertiseDecompressors() {
+			return this.advertiseDecompressors;
+		}
+
+		public void setAdvertiseDecompressors(boolean advertiseDecompressors) {
+			this.advertiseDecompressors = advertiseDecompressors;
+		}
+
+		public Map<String, String> getMethods() {
+			return this.methods;
+		}
+
+		public DataSize getMinMessageSize() {
+			return this.minMessageSize;
+		}
+
+		public void setMinMessageSize(DataSize minMessageSize) {
+			this.minMessageSize = minMessageSize;
+		}
+
+		public Zstd getZstd() {
+			return this.zstd;
+		}
+
+	}
+
+	public static class Adaptive {
+
+		/**
+		 * Whether to switch compression off for the methods and peers where it does not
+		 * pay off, based on the measured compression ratio and CPU time.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Highest compression ratio (compressed size divided by uncompressed size) for
+		 * which compression stays enabled.
+		 */
+		private double maxRatio = 0.9;
+
+		/**
+		 * Highest CPU time in nanoseconds spent per saved byte for which compression
+		 * stays enabled, or 0 for no limit.
+		 */
+		private long maxNanosPerSavedByte;
+
+		/**
+		 * How often a message is compressed anyway while compression is switched off, to
+		 * notice when it pays off again.
+		 */
+		private int probeInterval = 100;
+
+		public boolean getEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public double getMaxRatio() {
+			return this.maxRatio;
+		}
+
+		public void setMaxRatio(double maxRatio) {
+			this.maxRatio = maxRatio;
+		}
+
+		public long getMaxNanosPerSavedByte() {
+			return this.maxNanosPerSavedByte;
+		}
+
+		public void setMaxNanosPerSavedByte(long maxNanosPerSavedByte) {
+			this.maxNanosPerSavedByte = maxNanosPerSavedByte;
+		}
+
+		public int getProbeInterval() {
+			return this.probeInterval;
+		}
+
+		public void setProbeInterval(int probeInterval) {
+			this.probeInterval = probeInterval;
+		}
+
+	}
+
+	public static class Zstd {
+
+		/**
+		 * Whether to register the zstd codec. Requires zstd-jni on the classpath.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Compression level of the zstd codec.
+		 */
+		private int level = 3;
+
+		public boolean getEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getLevel() {
+			return this.level;
+		}
+
+		public void setLevel(int level) {
+			this.level = level;
+		}
+
+	}
+
 	public static class Health {
 
 		/**
@@ -258,6 +441,15 @@ public class GrpcServerProperties {
 		 */
 		private @Nullable String name;
 
+		/**
+		 * Whether clients in the same application that target this server should call it
+		 * in-process instead of over the network. Uses the in-process server if a name is
+		 * set, otherwise starts one with the same services. In-process calls have no TLS
+		 * session, so addresses secured with SSL and channels with TLS credentials are
+		 * never short-circuited.
+		 */
+		private boolean shortCircuit;
+
 		public @Nullable String getName() {
 			return this.name;
 		}
@@ -266,6 +458,14 @@ public class GrpcServerProperties {
 			this.name = name;
 		}
 
+		public boolean isShortCircuit() {
+			return this.shortCircuit;
+		}
+
+		public void setShortCircuit(boolean shortCircuit) {
+			this.shortCircuit = shortCircuit;
+		}
+
 	}
 
 	public static class KeepAlive {
@@ -397,6 +597,32 @@ public class GrpcServerProperties {
 		 */
 		private boolean secure = true;
 
+		/**
+		 * TLS implementation to use for Netty servers. When not set, or when none of the
+		 * session properties are set, the generic TLS credentials of gRPC are used.
+		 */
+		private @Nullable TlsProvider provider;
+
+		/**
+		 * Size of the TLS session cache. Uses the default of the TLS provider when not
+		 * set.
+		 */
+		private @Nullable Integer sessionCacheSize;
+
+		/**
+		 * How long TLS sessions can be resumed. Uses the default of the TLS provider when
+		 * not set.
+		 */
+		@DurationUnit(ChronoUnit.SECONDS)
+		private @Nullable Duration sessionTimeout;
+
+		/**
+		 * Locations of 48 byte keys used to encrypt and decrypt TLS session tickets. The
+		 * first key is used for new tickets, so keys can be rotated across a fleet.
+		 * Requires the 'openssl' provider.
+		 */
+		private List<Resource> sessionTicketKeys = new ArrayList<>();
+
 		public @Nullable Boolean getEnabled() {
 			return this.enabled;
 		}
@@ -439,6 +665,309 @@ public class GrpcServerProperties {
 			return this.secure;
 		}
 
+		public @Nullable TlsProvider getProvider() {
+			return this.provider;
+		}
+
+		public void setProvider(@Nullable TlsProvider provider) {
+			this.provider = provider;
+		}
+
+		public @Nullable Integer getSessionCacheSize() {
+			return this.sessionCacheSize;
+		}
+
+		public void setSessionCacheSize(@Nullable Integer sessionCacheSize) {
+			this.sessionCacheSize = sessionCacheSize;
+		}
+
+		public @Nullable Duration getSessionTimeout() {
+			return this.sessionTimeout;
+		}
+
+		public void setSessionTimeout(@Nullable Duration sessionTimeout) {
+			this.sessionTimeout = sessionTimeout;
+		}
+
+		public List<Resource> getSessionTicketKeys() {
+			return this.sessionTicketKeys;
+		}
+
+		public void setSessionTicketKeys(List<Resource> sessionTicketKeys) {
+			this.sessionTicketKeys = sessionTicketKeys;
+		}
+
+	}
+
+	/**
+	 * An additional listener of the server. Settings that are not specified for a
+	 * listener are inherited from the server.
+	 */
+	public static class Listener {
+
+		/**
+		 * Address to listen on. Either 'host:port', 'unix:' followed by the path of a
+		 * Unix domain socket or 'in-process:' followed by the name of an in-process
+		 * server. Unix domain socket and in-process listeners never use SSL.
+		 */
+		private @Nullable String address;
+
+		/**
+		 * Maximum message size allowed to be received by the listener.
+		 */
+		@DataSizeUnit(DataUnit.BYTES)
+		private @Nullable DataSize maxInboundMessageSize;
+
+		/**
+		 * Maximum metadata size allowed to be received by the listener.
+		 */
+		@DataSizeUnit(DataUnit.BYTES)
+		private @Nullable DataSize maxInboundMetadataSize;
+
+		private final KeepAlive keepAlive = new KeepAlive();
+
+		public @Nullable String getAddress() {
+			return this.address;
+		}
+
+		public void setAddress(@Nullable String address) {
+			this.address = address;
+		}
+
+		public @Nullable DataSize getMaxInboundMessageSize() {
+			return this.maxInboundMessageSize;
+		}
+
+		public void setMaxInboundMessageSize(@Nullable DataSize maxInboundMessageSize) {
+			this.maxInboundMessageSize = maxInboundMessageSize;
+		}
+
+		public @Nullable DataSize getMaxInboundMetadataSize() {
+			return this.maxInboundMetadataSize;
+		}
+
+		public void setMaxInboundMetadataSize(@Nullable DataSize maxInboundMetadataSize) {
+			this.maxInboundMetadataSize = maxInboundMetadataSize;
+		}
+
+		public KeepAlive getKeepAlive() {
+			return this.keepAlive;
+		}
+
+	}
+
+	public static class LoadReporting {
+
+		/**
+		 * Whether to report the CPU utilization, queries per second and in-flight calls
+		 * of the server to clients as backend metrics (ORCA) for weighted load balancing.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Rate at which the CPU utilization and queries per second are sampled.
+		 */
+		private Duration updateRate = Duration.ofSeconds(1);
+
+		public boolean getEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getUpdateRate() {
+			return this.updateRate;
+		}
+
+		public void setUpdateRate(Duration updateRate) {
+			this.updateRate = updateRate;
+		}
+
+	}
+
+	public static class Netty {
+
+		/**
+		 * Number of server sockets bound on the same port with SO_REUSEPORT, each with
+		 * its own acceptor thread. Only applies to TCP addresses with a fixed port and
+		 * requires native epoll (Linux).
+		 */
+		private int reusePortAcceptors = 1;
+
+		private final Allocator allocator = new Allocator();
+
+		public int getReusePortAcceptors() {
+			return this.reusePortAcceptors;
+		}
+
+		public void setReusePortAcceptors(int reusePortAcceptors) {
+			this.reusePortAcceptors = reusePortAcceptors;
+		}
+
+		public Allocator getAllocator() {
+			return this.allocator;
+		}
+
+	}
+
+	public static class Allocator {
+
+		/**
+		 * Type of Netty buffer allocator to use. When not set, the default allocator of
+		 * gRPC is used and the other allocator properties are ignored.
+		 */
+		private @Nullable Type type;
+
+		/**
+		 * Whether the allocator should prefer direct buffers over heap buffers. When not
+		 * set, Netty's platform default is used.
+		 */
+		private @Nullable Boolean preferDirect;
+
+		/**
+		 * Number of direct memory arenas of the pooled allocator. Each arena reserves
+		 * direct memory in chunks, so fewer arenas lower the direct memory footprint at
+		 * the cost of more contention.
+		 */
+		private @Nullable Integer directArenas;
+
+		/**
+		 * Number of heap memory arenas of the pooled allocator.
+		 */
+		private @Nullable Integer heapArenas;
+
+		/**
+		 * Netty buffer leak detection level. Applies to every Netty buffer in the JVM (of
+		 * the shaded or non-shaded Netty in use).
+		 */
+		private @Nullable LeakDetection leakDetection;
+
+		public @Nullable Type getType() {
+			return this.type;
+		}
+
+		public void setType(@Nullable Type type) {
+			this.type = type;
+		}
+
+		public @Nullable Boolean getPreferDirect() {
+			return this.preferDirect;
+		}
+
+		public void setPreferDirect(@Nullable Boolean preferDirect) {
+			this.preferDirect = preferDirect;
+		}
+
+		public @Nullable Integer getDirectArenas() {
+			return this.directArenas;
+		}
+
+		public void setDirectArenas(@Nullable Integer directArenas) {
+			this.directArenas = directArenas;
+		}
+
+		public @Nullable Integer getHeapArenas() {
+			return this.heapArenas;
+		}
+
+		public void setHeapArenas(@Nullable Integer heapArenas) {
+			this.heapArenas = heapArenas;
+		}
+
+		public @Nullable LeakDetection getLeakDetection() {
+			return this.leakDetection;
+		}
+
+		public void setLeakDetection(@Nullable LeakDetection leakDetection) {
+			this.leakDetection = leakDetection;
+		}
+
+		/**
+		 * Types of Netty buffer allocator.
+		 */
+		public enum Type {
+
+			/**
+			 * Allocator that sizes its buffers and caches to the observed usage.
+			 */
+			ADAPTIVE,
+
+			/**
+			 * Allocator that pools buffers in arenas.
+			 */
+			POOLED,
+
+			/**
+			 * Allocator that allocates a new buffer for each request.
+			 */
+			UNPOOLED
+
+		}
+
+		/**
+		 * Netty buffer leak detection levels.
+		 */
+		public enum LeakDetection {
+
+			/**
+			 * No leak detection.
+			 */
+			DISABLED,
+
+			/**
+			 * Sampled leak detection reporting whether a buffer leaked.
+			 */
+			SIMPLE,
+
+			/**
+			 * Sampled leak detection reporting where a leaked buffer was accessed.
+			 */
+			ADVANCED,
+
+			/**
+			 * Leak detection of every buffer reporting where it was accessed. For testing
+			 * only.
+			 */
+			PARANOID
+
+		}
+
+	}
+
+	public static class ZeroCopy {
+
+		/**
+		 * Whether to parse protobuf messages received in requests straight from the
+		 * transport buffers instead of copying them. The 'bytes' fields of such messages
+		 * share memory with the transport and must not be used after the call has
+		 * completed.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Minimum size of a message for it to be parsed without copying.
+		 */
+		@DataSizeUnit(DataUnit.BYTES)
+		private DataSize minMessageSize = DataSize.ofKilobytes(64);
+
+		public boolean getEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public DataSize getMinMessageSize() {
+			return this.minMessageSize;
+		}
+
+		public void setMinMessageSize(DataSize minMessageSize) {
+			this.minMessageSize = minMessageSize;
+		}
+
 	}
 
 }
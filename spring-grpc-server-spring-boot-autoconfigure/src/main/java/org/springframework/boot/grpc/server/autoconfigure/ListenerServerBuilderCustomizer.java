@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.server.autoconfigure;
+
+import org.springframework.grpc.server.ServerBuilderCustomizer;
+
+import io.grpc.ServerBuilder;
+
+/**
+ * {@link ServerBuilderCustomizer} that is also given the address of the listener whose
+ * {@link ServerBuilder} it customizes, so that it can tell the listeners of a server
+ * apart.
+ *
+ * @param <T> the type of server builder
+ * @author Chris Bono
+ * @see ServerBuilderCustomizers#customize(ServerBuilder, String)
+ */
+@FunctionalInterface
+interface ListenerServerBuilderCustomizer<T extends ServerBuilder<T>> extends ServerBuilderCustomizer<T> {
+
+	/**
+	 * The address used when the customizer is not invoked for a known listener.
+	 */
+	String UNKNOWN_ADDRESS = "unknown";
+
+	/**
+	 * Customize the given server builder of the listener with the given address.
+	 * @param serverBuilder the builder to customize
+	 * @param address the address of the listener
+	 */
+	void customize(T serverBuilder, String address);
+
+	@Override
+	default void customize(T serverBuilder) {
+		customize(serverBuilder, UNKNOWN_ADDRESS);
+	}
+
+}
@@ -16,9 +16,15 @@
 
 package org.springframework.boot.grpc.server.autoconfigure;
 
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.boot.grpc.server.autoconfigure.GrpcServerProperties.Allocator;
+import org.springframework.boot.grpc.server.autoconfigure.GrpcServerProperties.Allocator.LeakDetection;
+import org.springframework.grpc.netty.NettyAllocators;
 import org.springframework.grpc.server.NettyGrpcServerFactory;
 
 import io.grpc.netty.NettyServerBuilder;
+import io.netty.buffer.ByteBufAllocator;
 
 /**
  * Helper class used to map {@link GrpcServerProperties} to
@@ -28,8 +34,11 @@ import io.grpc.netty.NettyServerBuilder;
  */
 class NettyServerFactoryPropertyMapper extends DefaultServerFactoryPropertyMapper<NettyServerBuilder> {
 
+	private final GrpcServerProperties properties;
+
 	NettyServerFactoryPropertyMapper(GrpcServerProperties properties) {
 		super(properties);
+		this.properties = properties;
 	}
 
 	@Override
@@ -37,4 +46,25 @@ class NettyServerFactoryPropertyMapper extends DefaultServerFactoryPropertyMappe
 		super.customizeServerBuilder(nettyServerBuilder);
 	}
 
+	/**
+	 * Map the allocator, acceptor and TLS properties to the server factory.
+	 * @param factory the server factory
+	 */
+	void customizeServerFactory(NettyGrpcServerFactory factory) {
+		Allocator allocator = this.properties.getNetty().getAllocator();
+		LeakDetection leakDetection = allocator.getLeakDetection();
+		if (leakDetection != null) {
+			NettyAllocators.setLeakDetectionLevel("server", leakDetection.name());
+		}
+		factory.setAllocator(createAllocator(allocator));
+		factory.setReusePortAcceptors(this.properties.getNetty().getReusePortAcceptors());
+		factory.setTlsOptions(determineTlsOptions());
+	}
+
+	private @Nullable ByteBufAllocator createAllocator(Allocator allocator) {
+		Allocator.Type type = allocator.getType();
+		return (type != null) ? NettyAllocators.create(type.name(), allocator.getPreferDirect(),
+				allocator.getHeapArenas(), allocator.getDirectArenas()) : null;
+	}
+
 }
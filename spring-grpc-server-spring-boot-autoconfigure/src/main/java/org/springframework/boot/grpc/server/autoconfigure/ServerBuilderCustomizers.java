@@ -55,4 +55,28 @@ class ServerBuilderCustomizers {
 		return serverBuilder;
 	}
 
+	/**
+	 * Customize the specified {@link ServerBuilder} of the listener with the given
+	 * address. Like {@link #customize(ServerBuilder)} but also passes the address to the
+	 * {@link ListenerServerBuilderCustomizer} beans.
+	 * @param <T> the type of server builder
+	 * @param serverBuilder the builder to customize
+	 * @param address the address of the listener
+	 * @return the customized builder
+	 */
+	@SuppressWarnings("unchecked")
+	<T extends ServerBuilder<?>> T customize(T serverBuilder, String address) {
+		LambdaSafe.callbacks(ServerBuilderCustomizer.class, this.customizers, serverBuilder)
+			.withLogger(ServerBuilderCustomizers.class)
+			.invoke((customizer) -> {
+				if (customizer instanceof ListenerServerBuilderCustomizer listenerCustomizer) {
+					listenerCustomizer.customize(serverBuilder, address);
+				}
+				else {
+					customizer.customize(serverBuilder);
+				}
+			});
+		return serverBuilder;
+	}
+
 }
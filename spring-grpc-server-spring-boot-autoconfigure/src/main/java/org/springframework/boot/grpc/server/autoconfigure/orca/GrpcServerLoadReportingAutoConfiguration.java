@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.server.autoconfigure.orca;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.grpc.server.autoconfigure.ConditionalOnGrpcServerEnabled;
+import org.springframework.boot.grpc.server.autoconfigure.ConditionalOnSpringGrpc;
+import org.springframework.boot.grpc.server.autoconfigure.GrpcServerFactoryAutoConfiguration;
+import org.springframework.boot.grpc.server.autoconfigure.GrpcServerProperties;
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.Order;
+import org.springframework.grpc.server.GlobalServerInterceptor;
+
+import io.grpc.BindableService;
+import io.grpc.services.MetricRecorder;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for reporting the load of the gRPC
+ * server to clients as backend metrics (ORCA), so that they can balance their calls with
+ * the {@code weighted_round_robin} policy.
+ * <p>
+ * This auto-configuration is disabled by default. To enable it, set the configuration
+ * flag {@code spring.grpc.server.load-reporting.enabled=true} in your application
+ * properties.
+ *
+ * @author Chris Bono
+ * @since 1.1.0
+ */
+@AutoConfiguration(before = GrpcServerFactoryAutoConfiguration.class, after = TaskSchedulingAutoConfiguration.class)
+@ConditionalOnSpringGrpc
+@ConditionalOnClass(MetricRecorder.class)
+@ConditionalOnGrpcServerEnabled
+@ConditionalOnProperty(name = "spring.grpc.server.load-reporting.enabled", havingValue = "true")
+@ConditionalOnBean(BindableService.class)
+@EnableConfigurationProperties(GrpcServerProperties.class)
+public final class GrpcServerLoadReportingAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	MetricRecorder grpcServerMetricRecorder() {
+		return MetricRecorder.newInstance();
+	}
+
+	@Bean
+	ServerLoadMonitor grpcServerLoadMonitor(MetricRecorder metricRecorder,
+			ObjectProvider<SimpleAsyncTaskSchedulerBuilder> schedulerBuilder, GrpcServerProperties properties) {
+		return new ServerLoadMonitor(metricRecorder,
+				schedulerBuilder.getIfAvailable(SimpleAsyncTaskSchedulerBuilder::new),
+				properties.getLoadReporting().getUpdateRate());
+	}
+
+	@Bean
+	@Order(100)
+	@GlobalServerInterceptor
+	LoadReportingServerInterceptor grpcServerLoadReportingInterceptor(ServerLoadMonitor monitor) {
+		return new LoadReportingServerInterceptor(monitor);
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.server.autoconfigure.orca;
+
+import io.grpc.ForwardingServerCall.SimpleForwardingServerCall;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.grpc.services.CallMetricRecorder;
+
+/**
+ * A {@link ServerInterceptor} that keeps the {@link ServerLoadMonitor} informed of the
+ * calls in flight and records the current load on the {@link CallMetricRecorder} of each
+ * call when it closes. The recorded metrics are only sent to the client as an ORCA load
+ * report when the ORCA server interceptor from {@code io.grpc:grpc-xds} runs before this
+ * one.
+ *
+ * @author Chris Bono
+ */
+class LoadReportingServerInterceptor implements ServerInterceptor {
+
+	private final ServerLoadMonitor monitor;
+
+	LoadReportingServerInterceptor(ServerLoadMonitor monitor) {
+		this.monitor = monitor;
+	}
+
+	@Override
+	public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+			ServerCallHandler<ReqT, RespT> next) {
+		CallMetricRecorder recorder = CallMetricRecorder.getCurrent();
+		this.monitor.callStarted();
+		ServerCall.Listener<ReqT> listener;
+		try {
+			listener = next.startCall(new SimpleForwardingServerCall<>(call) {
+
+				@Override
+				public void close(Status status, Metadata trailers) {
+					LoadReportingServerInterceptor.this.monitor.record(recorder);
+					super.close(status, trailers);
+				}
+
+			}, headers);
+		}
+		catch (RuntimeException ex) {
+			this.monitor.callFinished();
+			throw ex;
+		}
+		return new SimpleForwardingServerCallListener<>(listener) {
+
+			@Override
+			public void onComplete() {
+				try {
+					super.onComplete();
+				}
+				finally {
+					LoadReportingServerInterceptor.this.monitor.callFinished();
+				}
+			}
+
+			@Override
+			public void onCancel() {
+				try {
+					super.onCancel();
+				}
+				finally {
+					LoadReportingServerInterceptor.this.monitor.callFinished();
+				}
+			}
+
+		};
+	}
+
+}
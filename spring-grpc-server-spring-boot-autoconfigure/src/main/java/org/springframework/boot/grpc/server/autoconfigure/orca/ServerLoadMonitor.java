@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.server.autoconfigure.orca;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerBuilder;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+
+import io.grpc.services.CallMetricRecorder;
+import io.grpc.services.MetricRecorder;
+
+/**
+ * Keeps track of the load of the server (CPU utilization, queries per second and calls in
+ * flight) and reports it both per call and, through a {@link MetricRecorder}, out of
+ * band.
+ *
+ * @author Chris Bono
+ */
+class ServerLoadMonitor implements InitializingBean, DisposableBean {
+
+	/**
+	 * Name of the named metric that holds the number of calls in flight.
+	 */
+	static final String IN_FLIGHT_METRIC = "in_flight";
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final LongAdder started = new LongAdder();
+
+	private final MetricRecorder metricRecorder;
+
+	private final DoubleSupplier cpuUtilization;
+
+	private final SimpleAsyncTaskScheduler taskScheduler;
+
+	private final Duration updateRate;
+
+	private long lastSampleTime = System.nanoTime();
+
+	private long lastStarted;
+
+	private volatile double cpu = -1;
+
+	private volatile double qps;
+
+	ServerLoadMonitor(MetricRecorder metricRecorder, SimpleAsyncTaskSchedulerBuilder schedulerBuilder,
+			Duration updateRate) {
+		this(metricRecorder, ServerLoadMonitor::processCpuLoad, schedulerBuilder, updateRate);
+	}
+
+	ServerLoadMonitor(MetricRecorder metricRecorder, DoubleSupplier cpuUtilization,
+			SimpleAsyncTaskSchedulerBuilder schedulerBuilder, Duration updateRate) {
+		this.metricRecorder = metricRecorder;
+		this.cpuUtilization = cpuUtilization;
+		this.taskScheduler = schedulerBuilder.threadNamePrefix("grpc-load-monitor-").build();
+		this.updateRate = updateRate;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		sample();
+		this.taskScheduler.scheduleAtFixedRate(this::sample, Instant.now().plus(this.updateRate), this.updateRate);
+	}
+
+	@Override
+	public void destroy() {
+		this.taskScheduler.close();
+	}
+
+	void callStarted() {
+		this.inFlight.incrementAndGet();
+		this.started.increment();
+	}
+
+	void callFinished() {
+		this.inFlight.decrementAndGet();
+	}
+
+	int getInFlight() {
+		return this.inFlight.get();
+	}
+
+	/**
+	 * Samples the CPU utilization and computes the queries per second since the previous
+	 * sample, then publishes both to the out-of-band {@link MetricRecorder}.
+	 */
+	synchronized void sample() {
+		long now = System.nanoTime();
+		long total = this.started.sum();
+		long elapsed = now - this.lastSampleTime;
+		if (elapsed > 0) {
+			this.qps = (total - this.lastStarted) * 1_000_000_000.0 / elapsed;
+		}
+		this.lastSampleTime = now;
+		this.lastStarted = total;
+		this.metricRecorder.setQpsMetric(this.qps);
+		double cpu = this.cpuUtilization.getAsDouble();
+		if (cpu >= 0) {
+			this.cpu = cpu;
+			this.metricRecorder.setCpuUtilizationMetric(cpu);
+		}
+	}
+
+	/**
+	 * Records the current load on the backend metrics of a call.
+	 * @param recorder the recorder of the call
+	 */
+	void record(CallMetricRecorder recorder) {
+		double cpu = this.cpu;
+		if (cpu >= 0) {
+			recorder.recordCpuUtilizationMetric(cpu);
+		}
+		recorder.recordQpsMetric(this.qps);
+		recorder.recordNamedMetric(IN_FLIGHT_METRIC, this.inFlight.get());
+	}
+
+	// Returns the recent CPU usage of the JVM process in [0, 1] or a negative value when
+	// the platform does not expose it
+	private static double processCpuLoad() {
+		OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+		if (operatingSystem instanceof com.sun.management.OperatingSystemMXBean sunOperatingSystem) {
+			return sunOperatingSystem.getProcessCpuLoad();
+		}
+		return -1;
+	}
+
+}
@@ -25,6 +25,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.grpc.compression.CompressionPolicyServerInterceptor;
+import org.springframework.grpc.compression.MeasuringCompressor;
+import org.springframework.grpc.compression.ZstdCodec;
 
 import io.grpc.Codec;
 import io.grpc.Compressor;
@@ -98,4 +101,74 @@ class GrpcCodecConfigurationTests {
 		});
 	}
 
+	@Test
+	void zstdCodecIsDisabledByDefault() {
+		this.contextRunner.run((context) -> assertThat(context).doesNotHaveBean(ZstdCodec.class));
+	}
+
+	@Test
+	void whenZstdEnabledThenRegistriesContainZstdAndDefaultCodecs() {
+		this.contextRunner.withPropertyValues("spring.grpc.server.compression.zstd.enabled=true").run((context) -> {
+			CompressorRegistry compressors = context.getBean(CompressorRegistry.class);
+			assertThat(compressors.lookupCompressor("zstd")).isInstanceOf(ZstdCodec.class);
+			assertThat(compressors.lookupCompressor("gzip")).isNotNull();
+			assertThat(compressors.lookupCompressor("identity")).isNotNull();
+			DecompressorRegistry decompressors = context.getBean(DecompressorRegistry.class);
+			assertThat(decompressors.lookupDecompressor("zstd")).isInstanceOf(ZstdCodec.class);
+			assertThat(decompressors.getAdvertisedMessageEncodings()).isEmpty();
+		});
+	}
+
+	@Test
+	void whenAdvertiseDecompressorsEnabledThenNonIdentityDecompressorsAreAdvertised() {
+		this.contextRunner
+			.withPropertyValues("spring.grpc.server.compression.zstd.enabled=true",
+					"spring.grpc.server.compression.advertise-decompressors=true")
+			.run((context) -> {
+				DecompressorRegistry decompressors = context.getBean(DecompressorRegistry.class);
+				assertThat(decompressors.getAdvertisedMessageEncodings()).containsExactlyInAnyOrder("zstd", "gzip");
+			});
+	}
+
+	@Test
+	void compressionPolicyIsNotConfiguredByDefault() {
+		this.contextRunner
+			.run((context) -> assertThat(context).doesNotHaveBean(CompressionPolicyServerInterceptor.class));
+	}
+
+	@Test
+	void whenCompressionMethodsConfiguredThenCompressionPolicyIsConfigured() {
+		this.contextRunner.withPropertyValues("spring.grpc.server.compression.methods[test.Service/*]=gzip")
+			.run((context) -> assertThat(context).hasSingleBean(CompressionPolicyServerInterceptor.class));
+	}
+
+	@Test
+	void whenCompressionMethodUsesUnknownEncodingThenContextFails() {
+		this.contextRunner.withPropertyValues("spring.grpc.server.compression.methods[*]=zstd")
+			.run((context) -> assertThat(context).hasFailed()
+				.getFailure()
+				.rootCause()
+				.hasMessageContaining("No compressor registered for encoding 'zstd'"));
+	}
+
+	@Test
+	void whenAdaptiveCompressionEnabledThenCompressorsAreMeasuredAndPolicyIsSet() {
+		this.contextRunner
+			.withPropertyValues("spring.grpc.server.compression.adaptive.enabled=true",
+					"spring.grpc.server.compression.methods[*]=gzip")
+			.run((context) -> {
+				CompressorRegistry registry = context.getBean(CompressorRegistry.class);
+				assertThat(registry.lookupCompressor("gzip")).isInstanceOf(MeasuringCompressor.class);
+				assertThat(registry.lookupCompressor("identity")).isSameAs(Codec.Identity.NONE);
+				assertThat(context.getBean(CompressionPolicyServerInterceptor.class).getAdaptivePolicy()).isNotNull();
+			});
+	}
+
+	@Test
+	void whenAdaptiveCompressionEnabledWithoutCompressionMethodsThenCompressorsAreNotMeasured() {
+		this.contextRunner.withPropertyValues("spring.grpc.server.compression.adaptive.enabled=true")
+			.run((context) -> assertThat(context.getBean(CompressorRegistry.class))
+				.isSameAs(CompressorRegistry.getDefaultInstance()));
+	}
+
 }
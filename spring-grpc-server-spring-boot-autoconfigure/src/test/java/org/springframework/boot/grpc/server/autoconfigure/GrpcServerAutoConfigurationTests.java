@@ -28,6 +28,9 @@ import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.X509KeyManager;
+
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -39,6 +42,9 @@ import org.mockito.stubbing.Answer;
 
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.ssl.SslAutoConfiguration;
+import org.springframework.boot.ssl.SslBundle;
+import org.springframework.boot.ssl.SslBundleRegistry;
+import org.springframework.boot.ssl.SslStoreBundle;
 import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.AbstractApplicationContextRunner;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
@@ -46,8 +52,11 @@ import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.grpc.internal.ReloadableKeyManagerFactory;
+import org.springframework.grpc.marshaller.ZeroCopyMarshallerDecorator;
 import org.springframework.grpc.server.GrpcServerFactory;
 import org.springframework.grpc.server.InProcessGrpcServerFactory;
+import org.springframework.grpc.server.LocalGrpcServer;
 import org.springframework.grpc.server.NettyGrpcServerFactory;
 import org.springframework.grpc.server.ServerBuilderCustomizer;
 import org.springframework.grpc.server.ServerServiceDefinitionFilter;
@@ -58,6 +67,8 @@ import org.springframework.grpc.server.service.DefaultGrpcServiceDiscoverer;
 import org.springframework.grpc.server.service.GrpcServiceConfigurer;
 import org.springframework.grpc.server.service.GrpcServiceDiscoverer;
 import org.springframework.grpc.server.service.ServerInterceptorFilter;
+import org.springframework.grpc.server.service.ServerInterceptorMethodFilter;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import io.grpc.BindableService;
 import io.grpc.Codec;
@@ -65,6 +76,7 @@ import io.grpc.CompressorRegistry;
 import io.grpc.DecompressorRegistry;
 import io.grpc.Grpc;
 import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptor;
 import io.grpc.ServerServiceDefinition;
 import io.grpc.ServiceDescriptor;
 import io.grpc.netty.NettyServerBuilder;
@@ -153,6 +165,34 @@ class GrpcServerAutoConfigurationTests {
 		this.contextRunner().run((context) -> assertThat(context).hasSingleBean(GrpcServerAutoConfiguration.class));
 	}
 
+	@Test
+	void zeroCopyMarshallingIsDisabledByDefault() {
+		this.contextRunner()
+			.run((context) -> assertThat(context).doesNotHaveBean(ZeroCopyMarshallerDecorator.class)
+				.doesNotHaveBean("grpcServerZeroCopyReleaseCustomizer"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void whenZeroCopyMarshallingEnabledThenDecoratorAndReleaseInterceptorAreConfigured() {
+		this.contextRunner().withPropertyValues("spring.grpc.server.zero-copy.enabled=true").run((context) -> {
+			assertThat(context).hasSingleBean(ZeroCopyMarshallerDecorator.class);
+			ServerBuilder<?> builder = mock();
+			context.getBean("grpcServerZeroCopyReleaseCustomizer", ServerBuilderCustomizer.class).customize(builder);
+			then(builder).should().intercept(any(ServerInterceptor.class));
+		});
+	}
+
+	@Test
+	void whenHasMethodInterceptorFilterThenItIsAppliedToServiceConfigurer() {
+		ServerInterceptorMethodFilter filter = (interceptor, method) -> true;
+		this.contextRunner()
+			.withBean(ServerInterceptorMethodFilter.class, () -> filter)
+			.run((context) -> assertThat(context).getBean(DefaultGrpcServiceConfigurer.class)
+				.extracting("methodInterceptorFilters", InstanceOfAssertFactories.LIST)
+				.containsExactly(filter));
+	}
+
 	@Test
 	void whenServerEnabledPropertySetTrueThenAutoConfigurationIsNotSkipped() {
 		this.contextRunner()
@@ -289,6 +329,94 @@ class GrpcServerAutoConfigurationTests {
 			});
 	}
 
+	@Test
+	void whenListenersConfiguredThenEachHasItsOwnLifecycleServingTheSameServices() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.listeners[0].address=in-process:listener-test",
+					"spring.grpc.server.listeners[1].address=localhost:0",
+					"spring.grpc.server.listeners[1].max-inbound-message-size=1KB",
+					"spring.grpc.server.listeners[1].keep-alive.time=30s")
+			.run((context) -> {
+				assertThat(context).getBean(GrpcServerFactory.class).isInstanceOf(ShadedNettyGrpcServerFactory.class);
+				assertThat(context.getBean("grpcServerListener0Lifecycle", GrpcServerLifecycle.class).getFactory())
+					.isInstanceOf(InProcessGrpcServerFactory.class)
+					.extracting("serviceList", InstanceOfAssertFactories.list(ServerServiceDefinition.class))
+					.singleElement()
+					.extracting(ServerServiceDefinition::getServiceDescriptor)
+					.extracting(ServiceDescriptor::getName)
+					.isEqualTo("my-service");
+				assertThat(context.getBean("grpcServerListener1Lifecycle", GrpcServerLifecycle.class).getFactory())
+					.isInstanceOf(ShadedNettyGrpcServerFactory.class)
+					.hasFieldOrPropertyWithValue("address", "localhost:0")
+					.extracting("serviceList", InstanceOfAssertFactories.list(ServerServiceDefinition.class))
+					.singleElement()
+					.extracting(ServerServiceDefinition::getServiceDescriptor)
+					.extracting(ServiceDescriptor::getName)
+					.isEqualTo("my-service");
+				assertThat(context.getBean("grpcServerListener1Lifecycle", GrpcServerLifecycle.class).isListener())
+					.isTrue();
+				assertThat(context.getBean("shadedNettyGrpcServerLifecycle", GrpcServerLifecycle.class).isListener())
+					.isFalse();
+			});
+	}
+
+	@Test
+	void whenShortCircuitEnabledThenInProcessServerWithSameServicesIsStarted() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.port=9191", "spring.grpc.server.inprocess.short-circuit=true")
+			.run((context) -> {
+				LocalGrpcServer localServer = context.getBean(LocalGrpcServer.class);
+				assertThat(localServer.getAddresses()).containsExactly("*:9191");
+				assertThat(context.getBean("grpcServerShortCircuitLifecycle", GrpcServerLifecycle.class).getFactory())
+					.isInstanceOf(InProcessGrpcServerFactory.class)
+					.hasFieldOrPropertyWithValue("address", localServer.getInProcessName())
+					.extracting("serviceList", InstanceOfAssertFactories.list(ServerServiceDefinition.class))
+					.singleElement()
+					.extracting(ServerServiceDefinition::getServiceDescriptor)
+					.extracting(ServiceDescriptor::getName)
+					.isEqualTo("my-service");
+			});
+	}
+
+	@Test
+	void whenShortCircuitEnabledWithInProcessNameThenExistingInProcessServerIsUsed() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.inprocess.name=foo",
+					"spring.grpc.server.inprocess.short-circuit=true")
+			.run((context) -> {
+				assertThat(context).getBean(LocalGrpcServer.class)
+					.extracting(LocalGrpcServer::getInProcessName)
+					.isEqualTo("foo");
+				assertThat(context).doesNotHaveBean("grpcServerShortCircuitLifecycle");
+			});
+	}
+
+	@Test
+	void whenShortCircuitEnabledWithSslThenNoLocalServerIsRegistered() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.inprocess.short-circuit=true",
+					"spring.grpc.server.ssl.bundle=ssltest",
+					"spring.ssl.bundle.jks.ssltest.keystore.location=classpath:org/springframework/boot/grpc/server/autoconfigure/test.jks",
+					"spring.ssl.bundle.jks.ssltest.keystore.password=secret",
+					"spring.ssl.bundle.jks.ssltest.key.password=password")
+			.run((context) -> assertThat(context).doesNotHaveBean(LocalGrpcServer.class)
+				.doesNotHaveBean("grpcServerShortCircuitLifecycle"));
+	}
+
+	@Test
+	void whenShortCircuitNotEnabledThenNoLocalServerIsRegistered() {
+		this.contextRunner().run((context) -> assertThat(context).doesNotHaveBean(LocalGrpcServer.class));
+	}
+
+	@Test
+	void whenListenerHasNoAddressThenContextFails() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.listeners[0].max-inbound-message-size=1KB")
+			.run((context) -> assertThat(context).hasFailed()
+				.getFailure()
+				.hasMessageContaining("spring.grpc.server.listeners[0].address"));
+	}
+
 	@Test
 	void inProcessServerFactoryAutoConfiguredWithCustomLifecycle() {
 		GrpcServerLifecycle customServerLifecycle = mock(GrpcServerLifecycle.class);
@@ -414,6 +542,28 @@ class GrpcServerAutoConfigurationTests {
 				NettyGrpcServerFactory.class, "myhost:6160", "nettyGrpcServerLifecycle");
 	}
 
+	@Test
+	void nettyServerFactoryUsesUpdatedSslBundle() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.ssl.bundle=ssltest",
+					"spring.ssl.bundle.jks.ssltest.keystore.location=classpath:org/springframework/boot/grpc/server/autoconfigure/test.jks",
+					"spring.ssl.bundle.jks.ssltest.keystore.password=secret",
+					"spring.ssl.bundle.jks.ssltest.key.password=password")
+			.withClassLoader(new FilteredClassLoader(io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder.class))
+			.run((context) -> {
+				NettyGrpcServerFactory factory = context.getBean(NettyGrpcServerFactory.class);
+				Object keyManagerFactory = ReflectionTestUtils.getField(factory, "keyManager");
+				assertThat(keyManagerFactory).isInstanceOf(ReloadableKeyManagerFactory.class);
+				X509KeyManager keyManager = (X509KeyManager) ((KeyManagerFactory) keyManagerFactory)
+					.getKeyManagers()[0];
+				String[] aliases = keyManager.getServerAliases("EC", null);
+				assertThat(aliases).singleElement().asString().endsWith("test-alias");
+				assertThat(keyManager.getPrivateKey(aliases[0])).isNotNull();
+				context.getBean(SslBundleRegistry.class).updateBundle("ssltest", SslBundle.of(SslStoreBundle.NONE));
+				assertThat(keyManager.getServerAliases("EC", null)).isNull();
+			});
+	}
+
 	@Nested
 	class WithCodecConfiguration {
 
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2012-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.server.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.grpc.server.autoconfigure.GrpcServerMetricsAutoConfiguration.InstrumentedDefaultExecutorServerBuilderCustomizer;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.grpc.marshaller.InstrumentedMarshallerDecorator;
+import org.springframework.grpc.netty.InstrumentedEventLoopGroup;
+import org.springframework.grpc.server.InstrumentedServerExecutor;
+import org.springframework.grpc.server.NettyGrpcServerFactory;
+import org.springframework.grpc.server.ServerBuilderCustomizer;
+import org.springframework.grpc.server.ServerTransportMetrics;
+import org.springframework.grpc.server.ShadedNettyGrpcServerFactory;
+import org.springframework.grpc.server.lifecycle.GrpcServerLifecycle;
+import org.springframework.grpc.server.lifecycle.GrpcServerStartedEvent;
+import org.springframework.grpc.server.lifecycle.GrpcServerTerminatedEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.grpc.Attributes;
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerTransportFilter;
+import io.grpc.netty.NettyServerBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.UnpooledByteBufAllocator;
+
+/**
+ * Tests for the {@link GrpcServerMetricsAutoConfiguration}.
+ */
+class GrpcServerMetricsAutoConfigurationTests {
+
+	private ApplicationContextRunner validContextRunner() {
+		return new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(GrpcServerMetricsAutoConfiguration.class))
+			.withBean("meterRegistry", MeterRegistry.class, SimpleMeterRegistry::new)
+			.withBean(BindableService.class, Mockito::mock);
+	}
+
+	@Test
+	void whenMeterRegistryNotOnClasspathAutoConfigSkipped() {
+		this.validContextRunner()
+			.withClassLoader(new FilteredClassLoader(MeterRegistry.class))
+			.run((context) -> assertThat(context).doesNotHaveBean(GrpcServerMetricsAutoConfiguration.class));
+	}
+
+	@Test
+	void whenMeterRegistryNotProvidedThenAutoConfigSkipped() {
+		new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(GrpcServerMetricsAutoConfiguration.class))
+			.withBean(BindableService.class, Mockito::mock)
+			.run((context) -> assertThat(context).doesNotHaveBean(GrpcServerMetricsAutoConfiguration.class));
+	}
+
+	@Test
+	void whenServerEnabledPropertySetFalseThenAutoConfigurationIsSkipped() {
+		this.validContextRunner()
+			.withPropertyValues("spring.grpc.server.enabled=false")
+			.run((context) -> assertThat(context).doesNotHaveBean(GrpcServerMetricsAutoConfiguration.class));
+	}
+
+	@Test
+	void messageMetricsAreDisabledByDefault() {
+		this.validContextRunner()
+			.run((context) -> assertThat(context).hasSingleBean(GrpcServerMetricsAutoConfiguration.class)
+				.doesNotHaveBean(InstrumentedMarshallerDecorator.class));
+	}
+
+	@Test
+	void whenMessageMetricsEnabledThenMarshallerDecoratorIsConfigured() {
+		this.validContextRunner()
+			.withPropertyValues("spring.grpc.server.metrics.messages.enabled=true")
+			.run((context) -> assertThat(context).hasSingleBean(InstrumentedMarshallerDecorator.class));
+	}
+
+	@Test
+	void executorMetricsAreDisabledByDefault() {
+		this.validContextRunner()
+			.run((context) -> assertThat(context).doesNotHaveBean("grpcServerExecutorMetricsCustomizer"));
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void whenExecutorMetricsEnabledThenProvidedExecutorIsInstrumentedOnce() {
+		Executor executor = Runnable::run;
+		AtomicInteger providedExecutors = new AtomicInteger();
+		this.validContextRunner()
+			.withConfiguration(AutoConfigurations.of(GrpcServerAutoConfiguration.class))
+			.withPropertyValues("spring.grpc.server.metrics.executor.enabled=true")
+			.withBean(GrpcServerExecutorProvider.class, () -> () -> {
+				providedExecutors.incrementAndGet();
+				return executor;
+			})
+			.run((context) -> {
+				NettyServerBuilder builder = mock();
+				context.getBean("executorServerConfigurer", ServerBuilderCustomizer.class).customize(builder);
+				context.getBean("grpcServerExecutorMetricsCustomizer", ServerBuilderCustomizer.class)
+					.customize(builder);
+				ArgumentCaptor<Executor> captor = ArgumentCaptor.forClass(Executor.class);
+				verify(builder).executor(captor.capture());
+				assertThat(captor.getValue()).isInstanceOf(InstrumentedServerExecutor.class)
+					.extracting("delegate")
+					.isSameAs(executor);
+				assertThat(providedExecutors).hasValue(1);
+				assertThat(context.getBean(MeterRegistry.class).find("grpc.server.executor.queued").gauge())
+					.isNotNull();
+			});
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void whenExecutorMetricsEnabledWithoutProviderThenOwnExecutorIsInstrumentedAndShutDownWithItsServer() {
+		this.validContextRunner()
+			.withPropertyValues("spring.grpc.server.metrics.executor.enabled=true")
+			.run((context) -> {
+				ServerBuilderCustomizer customizer = context.getBean("grpcServerExecutorMetricsCustomizer",
+						ServerBuilderCustomizer.class);
+				assertThat(customizer).isInstanceOf(InstrumentedDefaultExecutorServerBuilderCustomizer.class);
+				NettyServerBuilder builder = mock();
+				customizer.customize(builder);
+				ArgumentCaptor<Executor> captor = ArgumentCaptor.forClass(Executor.class);
+				verify(builder).executor(captor.capture());
+				assertThat(captor.getValue()).isInstanceOf(InstrumentedServerExecutor.class);
+				ExecutorService executor = (ExecutorService) ReflectionTestUtils.getField(captor.getValue(),
+						"delegate");
+				GrpcServerLifecycle lifecycle = mock();
+				Server server = mock();
+				context.publishEvent(new GrpcServerStartedEvent(lifecycle, server, "localhost:9090", 9090));
+				context.publishEvent(new GrpcServerTerminatedEvent(lifecycle, mock(Server.class)));
+				assertThat(executor.isShutdown()).isFalse();
+				context.publishEvent(new GrpcServerTerminatedEvent(lifecycle, server));
+				assertThat(executor.isShutdown()).isTrue();
+			});
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void whenExecutorMetricsEnabledWithoutProviderThenOwnExecutorIsShutDownWithContext() {
+		AtomicReference<ExecutorService> executor = new AtomicReference<>();
+		this.validContextRunner()
+			.withPropertyValues("spring.grpc.server.metrics.executor.enabled=true")
+			.run((context) -> {
+				NettyServerBuilder builder = mock();
+				context.getBean("grpcServerExecutorMetricsCustomizer", ServerBuilderCustomizer.class)
+					.customize(builder);
+				ArgumentCaptor<Executor> captor = ArgumentCaptor.forClass(Executor.class);
+				verify(builder).executor(captor.capture());
+				executor.set((ExecutorService) ReflectionTestUtils.getField(captor.getValue(), "delegate"));
+				assertThat(executor.get().isShutdown()).isFalse();
+			});
+		assertThat(executor.get().isShutdown()).isTrue();
+	}
+
+	@Test
+	void transportMetricsAreDisabledByDefault() {
+		this.validContextRunner().run((context) -> assertThat(context).doesNotHaveBean(ServerTransportMetrics.class));
+	}
+
+	@Test
+	void whenTransportMetricsEnabledThenTransportMetricsAreConfigured() {
+		this.validContextRunner()
+			.withPropertyValues("spring.grpc.server.metrics.transport.enabled=true")
+			.run((context) -> assertThat(context).hasSingleBean(ServerTransportMetrics.class)
+				.hasBean("grpcServerTransportMetricsCustomizer")
+				.hasBean("grpcServerStreamMetricsInterceptor")
+				.doesNotHaveBean(InstrumentedEventLoopGroup.class));
+	}
+
+	@Test
+	void whenTransportMetricsEnabledThenListenersAreTaggedWithTheirAddress() {
+		this.validContextRunner()
+			.withPropertyValues("spring.grpc.server.metrics.transport.enabled=true")
+			.run((context) -> {
+				ServerBuilderCustomizer<?> customizer = context.getBean("grpcServerTransportMetricsCustomizer",
+						ServerBuilderCustomizer.class);
+				ServerBuilderCustomizers customizers = new ServerBuilderCustomizers(List.of(customizer));
+				NettyServerBuilder primary = mock();
+				NettyServerBuilder listener = mock();
+				customizers.customize(primary, "*:9090");
+				customizers.customize(listener, "unix:/tmp/grpc.sock");
+				ArgumentCaptor<ServerTransportFilter> captor = ArgumentCaptor.forClass(ServerTransportFilter.class);
+				verify(primary).addTransportFilter(captor.capture());
+				verify(listener).addTransportFilter(captor.capture());
+				captor.getAllValues().forEach((filter) -> filter.transportReady(Attributes.EMPTY));
+				MeterRegistry registry = context.getBean(MeterRegistry.class);
+				assertThat(registry.get("grpc.server.connections.opened").counters()).hasSize(2);
+				assertThat(registry.get("grpc.server.connections.opened")
+					.tag("name", "netty")
+					.tag("address", "unix:/tmp/grpc.sock")
+					.counter()
+					.count()).isOne();
+			});
+	}
+
+	@Test
+	void whenTransportMetricsEnabledWithNettyServerThenEventLoopsAreInstrumented() {
+		this.validContextRunner()
+			.withPropertyValues("spring.grpc.server.metrics.transport.enabled=true")
+			.withBean(NettyGrpcServerFactory.class, Mockito::mock)
+			.withBean(GrpcServerProperties.class)
+			.run((context) -> assertThat(context).getBeans(InstrumentedEventLoopGroup.class)
+				.containsOnlyKeys("grpcServerBossEventLoopGroup", "grpcServerWorkerEventLoopGroup"));
+	}
+
+	@Test
+	void whenTransportMetricsEnabledWithReusePortAcceptorsThenBossEventLoopGroupHasOneThreadPerAcceptor() {
+		GrpcServerProperties properties = new GrpcServerProperties();
+		properties.getNetty().setReusePortAcceptors(4);
+		this.validContextRunner()
+			.withPropertyValues("spring.grpc.server.metrics.transport.enabled=true")
+			.withBean(NettyGrpcServerFactory.class, Mockito::mock)
+			.withBean(GrpcServerProperties.class, () -> properties)
+			.run((context) -> {
+				InstrumentedEventLoopGroup bossGroup = context.getBean("grpcServerBossEventLoopGroup",
+						InstrumentedEventLoopGroup.class);
+				assertThat(bossGroup.getGroup()).hasSize(4);
+			});
+	}
+
+	@Test
+	void whenNettyServerUsesConfiguredAllocatorThenAllocatorMetricsAreBound() {
+		NettyGrpcServerFactory factory = new NettyGrpcServerFactory("localhost:0", List.of(), null, null, null);
+		factory.setAllocator(new UnpooledByteBufAllocator(false));
+		this.validContextRunner().withBean(NettyGrpcServerFactory.class, () -> factory).run((context) -> {
+			MeterRegistry registry = new SimpleMeterRegistry();
+			context.getBean("grpcServerNettyAllocatorMetrics", MeterBinder.class).bindTo(registry);
+			assertThat(registry.get("netty.allocator.memory.used")
+				.tag("allocator.type", "UnpooledByteBufAllocator")
+				.gauges()).hasSize(2);
+		});
+	}
+
+	@Test
+	void whenShadedNettyServerUsesConfiguredAllocatorThenAllocatorMetricsAreBound() {
+		ShadedNettyGrpcServerFactory factory = new ShadedNettyGrpcServerFactory("localhost:0", List.of(), null, null,
+				null);
+		factory.setAllocator(new io.grpc.netty.shaded.io.netty.buffer.UnpooledByteBufAllocator(false));
+		this.validContextRunner().withBean(ShadedNettyGrpcServerFactory.class, () -> factory).run((context) -> {
+			MeterRegistry registry = new SimpleMeterRegistry();
+			context.getBean("grpcServerShadedNettyAllocatorMetrics", MeterBinder.class).bindTo(registry);
+			assertThat(registry.get("netty.allocator.memory.used")
+				.tag("allocator.type", "UnpooledByteBufAllocator")
+				.gauges()).hasSize(2);
+		});
+	}
+
+}
@@ -16,19 +16,28 @@
 
 package org.springframework.boot.grpc.server.autoconfigure;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.boot.grpc.server.autoconfigure.GrpcServerProperties.Allocator;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.grpc.netty.TlsOptions;
+import org.springframework.grpc.netty.TlsProvider;
+import org.springframework.grpc.server.NettyGrpcServerFactory;
+import org.springframework.grpc.server.ShadedNettyGrpcServerFactory;
 import org.springframework.util.unit.DataSize;
 
 import io.grpc.ServerBuilder;
+import io.netty.buffer.PooledByteBufAllocator;
 
 /**
  * Tests for {@link DefaultServerFactoryPropertyMapper},
@@ -57,6 +66,76 @@ class ServerFactoryPropertyMappersTests {
 		customizeServerBuilder(DefaultServerFactoryPropertyMapper::new, () -> builder);
 	}
 
+	@Test
+	void customizeNettyServerFactoryWithPooledAllocator() {
+		GrpcServerProperties properties = new GrpcServerProperties();
+		properties.getNetty().getAllocator().setType(Allocator.Type.POOLED);
+		properties.getNetty().getAllocator().setPreferDirect(false);
+		properties.getNetty().getAllocator().setDirectArenas(1);
+		properties.getNetty().getAllocator().setHeapArenas(2);
+		NettyGrpcServerFactory factory = new NettyGrpcServerFactory("localhost:0", List.of(), null, null, null);
+		new NettyServerFactoryPropertyMapper(properties).customizeServerFactory(factory);
+		assertThat(factory.getAllocator()).isInstanceOfSatisfying(PooledByteBufAllocator.class, (allocator) -> {
+			assertThat(allocator.isDirectBufferPooled()).isTrue();
+			assertThat(allocator.metric().numDirectArenas()).isEqualTo(1);
+			assertThat(allocator.metric().numHeapArenas()).isEqualTo(2);
+		});
+	}
+
+	@Test
+	void customizeNettyServerFactoryWithoutAllocatorType() {
+		NettyGrpcServerFactory factory = new NettyGrpcServerFactory("localhost:0", List.of(), null, null, null);
+		new NettyServerFactoryPropertyMapper(new GrpcServerProperties()).customizeServerFactory(factory);
+		assertThat(factory.getAllocator()).isNull();
+	}
+
+	@Test
+	void customizeNettyServerFactoryWithReusePortAcceptors() {
+		GrpcServerProperties properties = new GrpcServerProperties();
+		properties.getNetty().setReusePortAcceptors(4);
+		NettyGrpcServerFactory factory = new NettyGrpcServerFactory("localhost:9090", List.of(), null, null, null);
+		new NettyServerFactoryPropertyMapper(properties).customizeServerFactory(factory);
+		assertThat(factory.getReusePortAcceptors()).isEqualTo(4);
+	}
+
+	@Test
+	void customizeShadedNettyServerFactoryWithUnpooledAllocator() {
+		GrpcServerProperties properties = new GrpcServerProperties();
+		properties.getNetty().getAllocator().setType(Allocator.Type.UNPOOLED);
+		properties.getNetty().getAllocator().setPreferDirect(false);
+		ShadedNettyGrpcServerFactory factory = new ShadedNettyGrpcServerFactory("localhost:0", List.of(), null, null,
+				null);
+		new ShadedNettyServerFactoryPropertyMapper(properties).customizeServerFactory(factory);
+		assertThat(factory.getAllocator()).isInstanceOfSatisfying(
+				io.grpc.netty.shaded.io.netty.buffer.UnpooledByteBufAllocator.class,
+				(allocator) -> assertThat(allocator.isDirectBufferPooled()).isFalse());
+	}
+
+	@Test
+	void customizeNettyServerFactoryWithTlsOptions() {
+		GrpcServerProperties properties = new GrpcServerProperties();
+		properties.getSsl().setProvider(TlsProvider.OPENSSL);
+		properties.getSsl().setSessionCacheSize(1024);
+		properties.getSsl().setSessionTimeout(Duration.ofMinutes(10));
+		properties.getSsl().setSessionTicketKeys(List.of(new ByteArrayResource(new byte[48])));
+		NettyGrpcServerFactory factory = new NettyGrpcServerFactory("localhost:9090", List.of(), null, null, null);
+		new NettyServerFactoryPropertyMapper(properties).customizeServerFactory(factory);
+		TlsOptions tlsOptions = factory.getTlsOptions();
+		assertThat(tlsOptions).isNotNull();
+		assertThat(tlsOptions.provider()).isEqualTo(TlsProvider.OPENSSL);
+		assertThat(tlsOptions.sessionCacheSize()).isEqualTo(1024);
+		assertThat(tlsOptions.sessionTimeout()).isEqualTo(Duration.ofMinutes(10));
+		assertThat(tlsOptions.sessionTicketKeys()).singleElement().satisfies((key) -> assertThat(key).hasSize(48));
+	}
+
+	@Test
+	void customizeShadedNettyServerFactoryWithoutTlsSettings() {
+		ShadedNettyGrpcServerFactory factory = new ShadedNettyGrpcServerFactory("localhost:9090", List.of(), null, null,
+				null);
+		new ShadedNettyServerFactoryPropertyMapper(new GrpcServerProperties()).customizeServerFactory(factory);
+		assertThat(factory.getTlsOptions()).isNull();
+	}
+
 	private <T extends ServerBuilder<T>, X extends DefaultServerFactoryPropertyMapper<T>> void customizeServerBuilder(
 			Function<GrpcServerProperties, X> mapperFactory, Supplier<T> mockBuilderToCustomize) {
 		GrpcServerProperties properties = new GrpcServerProperties();
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.server.autoconfigure.orca;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import io.grpc.BindableService;
+import io.grpc.services.MetricRecorder;
+
+/**
+ * Tests for {@link GrpcServerLoadReportingAutoConfiguration}.
+ */
+class GrpcServerLoadReportingAutoConfigurationTests {
+
+	private ApplicationContextRunner contextRunner() {
+		return new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(GrpcServerLoadReportingAutoConfiguration.class))
+			.withBean(BindableService.class, Mockito::mock);
+	}
+
+	@Test
+	void whenLoadReportingEnabledPropertyNotSetThenAutoConfigurationIsSkipped() {
+		this.contextRunner()
+			.run((context) -> assertThat(context).doesNotHaveBean(GrpcServerLoadReportingAutoConfiguration.class));
+	}
+
+	@Test
+	void whenLoadReportingEnabledPropertySetTrueThenCreatesLoadReportingBeans() {
+		this.contextRunner().withPropertyValues("spring.grpc.server.load-reporting.enabled=true").run((context) -> {
+			assertThat(context).hasSingleBean(MetricRecorder.class);
+			assertThat(context).hasSingleBean(ServerLoadMonitor.class);
+			assertThat(context).hasSingleBean(LoadReportingServerInterceptor.class);
+		});
+	}
+
+	@Test
+	void whenCustomMetricRecorderDefinedThenLoadMonitorUsesIt() {
+		MetricRecorder metricRecorder = MetricRecorder.newInstance();
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.load-reporting.enabled=true")
+			.withBean(MetricRecorder.class, () -> metricRecorder)
+			.run((context) -> assertThat(context).getBean(ServerLoadMonitor.class)
+				.extracting("metricRecorder")
+				.isSameAs(metricRecorder));
+	}
+
+	@Test
+	void whenServerEnabledPropertySetFalseThenAutoConfigurationIsSkipped() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.load-reporting.enabled=true", "spring.grpc.server.enabled=false")
+			.run((context) -> assertThat(context).doesNotHaveBean(GrpcServerLoadReportingAutoConfiguration.class));
+	}
+
+	@Test
+	void whenGrpcServicesNotOnClasspathAutoConfigurationIsSkipped() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.load-reporting.enabled=true")
+			.withClassLoader(new FilteredClassLoader(MetricRecorder.class))
+			.run((context) -> assertThat(context).doesNotHaveBean(GrpcServerLoadReportingAutoConfiguration.class));
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.server.autoconfigure.orca;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerBuilder;
+
+import io.grpc.Context;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import io.grpc.services.CallMetricRecorder;
+import io.grpc.services.InternalCallMetricRecorder;
+import io.grpc.services.MetricRecorder;
+import io.grpc.services.MetricReport;
+
+/**
+ * Tests for {@link LoadReportingServerInterceptor}.
+ */
+class LoadReportingServerInterceptorTests {
+
+	private final ServerLoadMonitor monitor = new ServerLoadMonitor(MetricRecorder.newInstance(), () -> 0.5,
+			new SimpleAsyncTaskSchedulerBuilder(), Duration.ofSeconds(1));
+
+	private final LoadReportingServerInterceptor interceptor = new LoadReportingServerInterceptor(this.monitor);
+
+	@Test
+	void tracksCallsInFlightUntilComplete() {
+		ServerCall.Listener<Object> listener = interceptCall(mock(), new AtomicReference<>());
+		assertThat(this.monitor.getInFlight()).isEqualTo(1);
+		listener.onComplete();
+		assertThat(this.monitor.getInFlight()).isZero();
+	}
+
+	@Test
+	void tracksCallsInFlightUntilCancelled() {
+		ServerCall.Listener<Object> listener = interceptCall(mock(), new AtomicReference<>());
+		assertThat(this.monitor.getInFlight()).isEqualTo(1);
+		listener.onCancel();
+		assertThat(this.monitor.getInFlight()).isZero();
+	}
+
+	@Test
+	void recordsLoadOnCallMetricRecorderWhenCallCloses() throws Exception {
+		CallMetricRecorder recorder = InternalCallMetricRecorder.newCallMetricRecorder();
+		AtomicReference<ServerCall<Object, Object>> interceptedCall = new AtomicReference<>();
+		this.monitor.sample();
+		Context.current()
+			.withValue(InternalCallMetricRecorder.CONTEXT_KEY, recorder)
+			.call(() -> interceptCall(mock(), interceptedCall));
+		interceptedCall.get().close(Status.OK, new Metadata());
+		MetricReport report = InternalCallMetricRecorder.finalizeAndDump2(recorder);
+		assertThat(report.getCpuUtilization()).isEqualTo(0.5);
+		assertThat(report.getNamedMetrics()).containsEntry(ServerLoadMonitor.IN_FLIGHT_METRIC, 1.0);
+	}
+
+	private ServerCall.Listener<Object> interceptCall(ServerCall<Object, Object> call,
+			AtomicReference<ServerCall<Object, Object>> interceptedCall) {
+		ServerCallHandler<Object, Object> next = mock();
+		ServerCall.Listener<Object> listener = mock();
+		given(next.startCall(any(), any())).willAnswer((invocation) -> {
+			interceptedCall.set(invocation.getArgument(0));
+			return listener;
+		});
+		return this.interceptor.interceptCall(call, new Metadata(), next);
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.server.autoconfigure.orca;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.doubleThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerBuilder;
+
+import io.grpc.services.CallMetricRecorder;
+import io.grpc.services.InternalCallMetricRecorder;
+import io.grpc.services.MetricRecorder;
+import io.grpc.services.MetricReport;
+
+/**
+ * Tests for {@link ServerLoadMonitor}.
+ */
+class ServerLoadMonitorTests {
+
+	@Test
+	void sampleUpdatesMetricRecorder() {
+		MetricRecorder metricRecorder = mock();
+		ServerLoadMonitor monitor = new ServerLoadMonitor(metricRecorder, () -> 0.25,
+				new SimpleAsyncTaskSchedulerBuilder(), Duration.ofSeconds(1));
+		monitor.callStarted();
+		monitor.callStarted();
+		monitor.sample();
+		then(metricRecorder).should().setCpuUtilizationMetric(0.25);
+		then(metricRecorder).should().setQpsMetric(doubleThat((qps) -> qps > 0));
+	}
+
+	@Test
+	void sampleDoesNotUpdateCpuWhenUnavailable() {
+		MetricRecorder metricRecorder = mock();
+		ServerLoadMonitor monitor = new ServerLoadMonitor(metricRecorder, () -> -1,
+				new SimpleAsyncTaskSchedulerBuilder(), Duration.ofSeconds(1));
+		monitor.sample();
+		then(metricRecorder).should(never()).setCpuUtilizationMetric(anyDouble());
+	}
+
+	@Test
+	void recordsLoadOnCallMetricRecorder() {
+		ServerLoadMonitor monitor = new ServerLoadMonitor(MetricRecorder.newInstance(), () -> 0.5,
+				new SimpleAsyncTaskSchedulerBuilder(), Duration.ofSeconds(1));
+		monitor.callStarted();
+		monitor.callStarted();
+		monitor.callFinished();
+		monitor.sample();
+		CallMetricRecorder recorder = InternalCallMetricRecorder.newCallMetricRecorder();
+		monitor.record(recorder);
+		MetricReport report = InternalCallMetricRecorder.finalizeAndDump2(recorder);
+		assertThat(report.getCpuUtilization()).isEqualTo(0.5);
+		assertThat(report.getQps()).isPositive();
+		assertThat(report.getNamedMetrics()).containsEntry(ServerLoadMonitor.IN_FLIGHT_METRIC, 1.0);
+	}
+
+}
@@ -56,7 +56,9 @@ class ServerPortInfoApplicationContextInitializer implements
 
 	@Override
 	public void onApplicationEvent(GrpcServerStartedEvent event) {
-		if (event.getSource().getFactory() instanceof InProcessGrpcServerFactory) {
+		// Only the main server provides the port, additional listeners may not even
+		// have one
+		if (event.getSource().isListener() || event.getSource().getFactory() instanceof InProcessGrpcServerFactory) {
 			return;
 		}
 		String propertyName = "local.grpc.port";
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.test.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.grpc.server.GrpcServerFactory;
+import org.springframework.grpc.server.lifecycle.GrpcServerLifecycle;
+import org.springframework.grpc.server.lifecycle.GrpcServerStartedEvent;
+
+import io.grpc.Server;
+
+/**
+ * Tests for {@link ServerPortInfoApplicationContextInitializer}.
+ */
+class ServerPortInfoApplicationContextInitializerTests {
+
+	@Test
+	void whenListenersStartAfterMainServerThenPortIsTheMainServerPort() {
+		GenericApplicationContext context = new GenericApplicationContext();
+		ServerPortInfoApplicationContextInitializer initializer = new ServerPortInfoApplicationContextInitializer();
+		initializer.initialize(context);
+		initializer.onApplicationEvent(started(lifecycle(false), 9091));
+		initializer.onApplicationEvent(started(lifecycle(true), 9092));
+		initializer.onApplicationEvent(started(lifecycle(true), -1));
+		assertThat(context.getEnvironment().getProperty("local.grpc.port", Integer.class)).isEqualTo(9091);
+	}
+
+	@Test
+	void whenListenersStartBeforeMainServerThenPortIsTheMainServerPort() {
+		GenericApplicationContext context = new GenericApplicationContext();
+		ServerPortInfoApplicationContextInitializer initializer = new ServerPortInfoApplicationContextInitializer();
+		initializer.initialize(context);
+		initializer.onApplicationEvent(started(lifecycle(true), 9092));
+		initializer.onApplicationEvent(started(lifecycle(true), -1));
+		assertThat(context.getEnvironment().containsProperty("local.grpc.port")).isFalse();
+		initializer.onApplicationEvent(started(lifecycle(false), 9091));
+		assertThat(context.getEnvironment().getProperty("local.grpc.port", Integer.class)).isEqualTo(9091);
+	}
+
+	private GrpcServerLifecycle lifecycle(boolean listener) {
+		GrpcServerLifecycle lifecycle = new GrpcServerLifecycle(mock(GrpcServerFactory.class), Duration.ZERO,
+				(event) -> {
+				});
+		lifecycle.setListener(listener);
+		return lifecycle;
+	}
+
+	private GrpcServerStartedEvent started(GrpcServerLifecycle lifecycle, int port) {
+		Server server = mock();
+		given(server.getPort()).willReturn(port);
+		String address = (port != -1) ? "0.0.0.0:" + port : "unix:/tmp/grpc.sock";
+		return new GrpcServerStartedEvent(lifecycle, server, address, port);
+	}
+
+}